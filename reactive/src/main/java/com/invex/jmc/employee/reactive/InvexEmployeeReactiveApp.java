@@ -0,0 +1,24 @@
+package com.invex.jmc.employee.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * Entry point of the reactive read API of the employee service.
+ *
+ * <p>Serves the list, get-by-ID and search endpoints on WebFlux, reading the
+ * same {@code employee}/{@code cat_*} schema as the main service through R2DBC.
+ * The DTOs are those of the main service ({@code model/dto}), so both return
+ * the same documents.</p>
+ */
+@SpringBootApplication
+public class InvexEmployeeReactiveApp {
+  /**
+   * Starts the reactive read API.
+   *
+   * @param args command-line arguments passed during JVM startup
+   */
+  public static void main(String[] args) {
+    SpringApplication.run(InvexEmployeeReactiveApp.class, args);
+  }
+}
@@ -0,0 +1,29 @@
+package com.invex.jmc.employee.reactive.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of the reactive read API.
+ *
+ * <p>Rows are fetched from the database in chunks of {@code fetch-size} as
+ * the client consumes the response, so a large list is never held in memory.
+ * Example configuration:</p>
+ *
+ * <pre>
+ * employee:
+ *   reactive:
+ *     fetch-size: 256
+ * </pre>
+ */
+@Configuration
+@ConfigurationProperties(prefix = "employee.reactive")
+@Getter
+@Setter
+public class ConfigReactive {
+
+  /** Rows requested from the database per round trip. */
+  private int fetchSize = 256;
+}
@@ -0,0 +1,76 @@
+package com.invex.jmc.employee.reactive.controllers;
+
+import com.invex.jmc.employee.model.dto.Employee;
+import com.invex.jmc.employee.reactive.services.ReactiveEmployeeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive read endpoints, on the same paths as the main service's
+ * {@code EmployeeController}.
+ *
+ * <p>Lists are written as they are read. With {@code Accept:
+ * application/x-ndjson} (or {@code text/event-stream}) each employee is
+ * flushed as its own line, and a slow client slows down the database reads
+ * instead of growing a buffer. As in the main service the {@code uuid} header
+ * is required.</p>
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/employees")
+public class ReactiveEmployeeController {
+
+  private final ReactiveEmployeeService employeeService;
+
+  /**
+   * Streams every employee.
+   *
+   * @param uuid request identifier
+   * @return the employees
+   */
+  @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE,
+      MediaType.TEXT_EVENT_STREAM_VALUE})
+  public Flux<Employee> getAllEmployees(@RequestHeader("uuid") String uuid) {
+    log.debug("[{}] list employees", uuid);
+    return employeeService.getAllEmployee();
+  }
+
+  /**
+   * Retrieves a specific employee by its ID.
+   *
+   * @param id the employee identifier
+   * @param uuid request identifier
+   * @return the employee details
+   */
+  @GetMapping("/{id}")
+  public Mono<Employee> getEmployeeById(@PathVariable("id") String id,
+                                        @RequestHeader("uuid") String uuid) {
+    log.debug("[{}] get employee {}", uuid, id);
+    return employeeService.getEmployeeById(id);
+  }
+
+  /**
+   * Streams the employees whose full or partial name matches the query.
+   *
+   * @param name the name filter
+   * @param uuid request identifier
+   * @return the matching employees
+   */
+  @GetMapping(value = "/search", produces = {MediaType.APPLICATION_JSON_VALUE,
+      MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+  public Flux<Employee> searchEmployeeByName(@RequestParam String name,
+                                             @RequestHeader("uuid") String uuid) {
+    log.debug("[{}] search employees by name", uuid);
+    return employeeService.searchEmployeeByName(name);
+  }
+}
@@ -0,0 +1,51 @@
+package com.invex.jmc.employee.reactive.exceptions;
+
+import com.invex.jmc.employee.exceptions.EmployeeNotFoundException;
+import com.invex.jmc.employee.model.dto.response.ErrorResponse;
+import java.time.LocalDateTime;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ServerWebInputException;
+
+/**
+ * Maps the errors of the reactive read API to the same {@link ErrorResponse}
+ * bodies returned by the main service.
+ */
+@RestControllerAdvice
+public class ReactiveExceptionHandler {
+
+  /**
+   * Handles {@link EmployeeNotFoundException}.
+   *
+   * @param ex the exception thrown when an employee is not found
+   * @return a {@link ResponseEntity} with HTTP 404 and detailed error information
+   */
+  @ExceptionHandler(EmployeeNotFoundException.class)
+  public ResponseEntity<ErrorResponse> handleEmployeeNotFound(EmployeeNotFoundException ex) {
+    ErrorResponse error = new ErrorResponse();
+    error.setCampo("idEmployee");
+    error.setMensaje("Employee not found");
+    error.setDetalle(ex.getMessage());
+    error.setTimestamp(LocalDateTime.now());
+    return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+  }
+
+  /**
+   * Handles missing headers and malformed parameters.
+   *
+   * @param ex the thrown exception
+   * @return a {@link ResponseEntity} with HTTP 400 describing the invalid input
+   */
+  @ExceptionHandler(ServerWebInputException.class)
+  public ResponseEntity<ErrorResponse> handleBadRequest(ServerWebInputException ex) {
+    ErrorResponse error = new ErrorResponse();
+    error.setCampo(ex.getMethodParameter() == null ? ""
+        : String.valueOf(ex.getMethodParameter().getParameterName()));
+    error.setMensaje("Invalid request parameters");
+    error.setDetalle(ex.getReason());
+    error.setTimestamp(LocalDateTime.now());
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+  }
+}
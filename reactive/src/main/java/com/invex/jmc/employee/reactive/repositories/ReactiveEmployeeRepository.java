@@ -0,0 +1,117 @@
+package com.invex.jmc.employee.reactive.repositories;
+
+import com.invex.jmc.employee.model.dto.Employee;
+import com.invex.jmc.employee.model.dto.JobPosition;
+import com.invex.jmc.employee.model.dto.Sex;
+import com.invex.jmc.employee.reactive.config.ConfigReactive;
+import io.r2dbc.spi.Readable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking reads of employees with their sex and job position.
+ *
+ * <p>Each query joins {@code cat_sex} and {@code cat_job_position} and maps the
+ * rows straight to the {@link Employee} DTO. Results are streamed: rows are
+ * fetched in chunks of {@code employee.reactive.fetch-size} as downstream
+ * demand arrives.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReactiveEmployeeRepository {
+
+  private static final String SELECT = """
+      SELECT e.id_employee, e.first_name, e.middle_name, e.paternal_surname,
+             e.maternal_surname, e.birth_day, e.status, e.ts,
+             s.id_sex, s.code AS sex_code, s.description AS sex_description,
+             j.id_job_position, j.code AS job_code, j.description AS job_description
+      FROM employee e
+      LEFT JOIN cat_sex s ON s.id_sex = e.id_sex
+      LEFT JOIN cat_job_position j ON j.id_job_position = e.id_job_position
+      """;
+
+  private final DatabaseClient databaseClient;
+  private final ConfigReactive configReactive;
+
+  /**
+   * Streams every employee ordered by timestamp and ID.
+   *
+   * @return the employees
+   */
+  public Flux<Employee> findAll() {
+    return databaseClient.sql(SELECT + "ORDER BY e.ts, e.id_employee")
+        .filter(statement -> statement.fetchSize(configReactive.getFetchSize()))
+        .map(ReactiveEmployeeRepository::toEmployee)
+        .all();
+  }
+
+  /**
+   * Retrieves an employee by its identifier.
+   *
+   * @param idEmployee the employee ID
+   * @return the employee, or an empty mono if it does not exist
+   */
+  public Mono<Employee> findById(String idEmployee) {
+    return databaseClient.sql(SELECT + "WHERE e.id_employee = :id")
+        .bind("id", idEmployee)
+        .map(ReactiveEmployeeRepository::toEmployee)
+        .one();
+  }
+
+  /**
+   * Streams the employees whose full name contains the given text, ignoring case.
+   *
+   * @param name the name or partial name to search for
+   * @return the matching employees
+   */
+  public Flux<Employee> searchByFullName(String name) {
+    return databaseClient.sql(SELECT + """
+        WHERE LOWER(CONCAT(
+            COALESCE(e.first_name, ''), ' ',
+            COALESCE(e.middle_name, ''), ' ',
+            COALESCE(e.paternal_surname, ''), ' ',
+            COALESCE(e.maternal_surname, '')
+        )) LIKE LOWER(CONCAT('%', :name, '%'))
+        """)
+        .bind("name", name)
+        .filter(statement -> statement.fetchSize(configReactive.getFetchSize()))
+        .map(ReactiveEmployeeRepository::toEmployee)
+        .all();
+  }
+
+  private static Employee toEmployee(Readable row) {
+    Employee employee = new Employee();
+    employee.setIdEmployee(row.get("id_employee", String.class));
+    employee.setFirstName(row.get("first_name", String.class));
+    employee.setMiddleName(row.get("middle_name", String.class));
+    employee.setPaternalSurname(row.get("paternal_surname", String.class));
+    employee.setMaternalSurname(row.get("maternal_surname", String.class));
+    employee.setBirthDay(row.get("birth_day", LocalDate.class));
+    Integer status = row.get("status", Integer.class);
+    employee.setStatus(status != null && status != 0);
+    employee.setTs(row.get("ts", LocalDateTime.class));
+
+    String idSex = row.get("id_sex", String.class);
+    if (idSex != null) {
+      Sex sex = new Sex();
+      sex.setIdSex(idSex);
+      sex.setCode(row.get("sex_code", String.class));
+      sex.setDescription(row.get("sex_description", String.class));
+      employee.setSex(sex);
+    }
+    String idJobPosition = row.get("id_job_position", String.class);
+    if (idJobPosition != null) {
+      JobPosition jobPosition = new JobPosition();
+      jobPosition.setIdJobPosition(idJobPosition);
+      jobPosition.setCode(row.get("job_code", String.class));
+      jobPosition.setDescription(row.get("job_description", String.class));
+      employee.setJobPosition(jobPosition);
+    }
+    return employee;
+  }
+}
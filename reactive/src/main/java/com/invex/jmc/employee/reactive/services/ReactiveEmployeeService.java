@@ -0,0 +1,36 @@
+package com.invex.jmc.employee.reactive.services;
+
+import com.invex.jmc.employee.model.dto.Employee;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking read operations on employees.
+ */
+public interface ReactiveEmployeeService {
+
+  /**
+   * Streams every employee.
+   *
+   * @return the employees
+   */
+  Flux<Employee> getAllEmployee();
+
+  /**
+   * Retrieves an employee by its identifier.
+   *
+   * @param idEmployee the employee ID
+   * @return the employee
+   * @throws com.invex.jmc.employee.exceptions.EmployeeNotFoundException (signalled)
+   *         if the employee does not exist
+   */
+  Mono<Employee> getEmployeeById(String idEmployee);
+
+  /**
+   * Streams the employees whose name matches the given text.
+   *
+   * @param name the name filter
+   * @return the matching employees
+   */
+  Flux<Employee> searchEmployeeByName(String name);
+}
@@ -0,0 +1,36 @@
+package com.invex.jmc.employee.reactive.services.impl;
+
+import com.invex.jmc.employee.exceptions.EmployeeNotFoundException;
+import com.invex.jmc.employee.model.dto.Employee;
+import com.invex.jmc.employee.reactive.repositories.ReactiveEmployeeRepository;
+import com.invex.jmc.employee.reactive.services.ReactiveEmployeeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Implementation of {@link ReactiveEmployeeService} on R2DBC.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReactiveEmployeeServiceImpl implements ReactiveEmployeeService {
+
+  private final ReactiveEmployeeRepository employeeRepository;
+
+  @Override
+  public Flux<Employee> getAllEmployee() {
+    return employeeRepository.findAll();
+  }
+
+  @Override
+  public Mono<Employee> getEmployeeById(String idEmployee) {
+    return employeeRepository.findById(idEmployee)
+        .switchIfEmpty(Mono.error(() -> new EmployeeNotFoundException(idEmployee)));
+  }
+
+  @Override
+  public Flux<Employee> searchEmployeeByName(String name) {
+    return employeeRepository.searchByFullName(name);
+  }
+}
@@ -0,0 +1,131 @@
+package com.invex.jmc.employee.reactive;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Throughput and p99 latency of the read endpoints of the servlet service
+ * ({@code EmployeeController}) against this reactive API under high concurrency.
+ *
+ * <p>Both services must be running against the same MySQL database; their base
+ * URLs are taken from the {@code mvc.base-url} (default
+ * {@code http://localhost:9080}) and {@code reactive.base-url} (default
+ * {@code http://localhost:9081}) system properties. Skipped when either
+ * service is not reachable.</p>
+ *
+ * <p>Every request sends the {@code X-Client-Id} of the test
+ * ({@code load.client-id}), so that it does not share a quota with other
+ * clients. The servlet service should run with the {@code loadtest} profile,
+ * which lifts the per-client quotas; otherwise a single load client gets
+ * {@code 429} long before the service is saturated. Every request must succeed;
+ * the throughput and p99 of each service are published as report entries
+ * rather than asserted, since they depend on the machine.</p>
+ *
+ * <pre>
+ * mvn -f reactive/pom.xml verify -Dit.test=EmployeeReadLoadIT -Dload.concurrency=2000
+ * </pre>
+ */
+class EmployeeReadLoadIT {
+
+  private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 1000);
+  private static final int REQUESTS = Integer.getInteger("load.requests", 20_000);
+  private static final int WARMUP = 2_000;
+  private static final String CLIENT_ID = System.getProperty("load.client-id",
+      "employee-read-load-it");
+
+  private final HttpClient http = HttpClient.newBuilder()
+    .connectTimeout(Duration.ofSeconds(2))
+    .build();
+
+  @Test
+  void compareReadEndpoints(TestReporter reporter) throws Exception {
+    String mvc = System.getProperty("mvc.base-url", "http://localhost:9080");
+    String reactive = System.getProperty("reactive.base-url", "http://localhost:9081");
+    assumeTrue(reachable(mvc) && reachable(reactive), "Both services must be running");
+
+    for (String path : new String[] {"/api/employees", "/api/employees/search?name=a"}) {
+      for (Result result : new Result[] {
+          run("mvc", URI.create(mvc + path)), run("reactive", URI.create(reactive + path))}) {
+        reporter.publishEntry(result.service() + " " + path, result.toString());
+        assertEquals(0, result.failed(), result.service() + " " + path + " answered "
+          + result.failed() + " requests with another status than 200, last " + result.status());
+        assertTrue(result.throughput() > 0 && result.p99Millis() > 0, result.toString());
+      }
+    }
+  }
+
+  private Result run(String name, URI uri) throws InterruptedException {
+    load(uri, WARMUP);
+    long start = System.nanoTime();
+    Load load = load(uri, REQUESTS);
+    double seconds = (System.nanoTime() - start) / 1e9;
+    Arrays.sort(load.latencies());
+    return new Result(name, REQUESTS / seconds,
+      load.latencies()[(int) (REQUESTS * 0.99)] / 1_000_000.0, load.failed().get(),
+      load.status().get());
+  }
+
+  private Load load(URI uri, int requests) throws InterruptedException {
+    HttpRequest request = HttpRequest.newBuilder(uri)
+        .header("Accept", "application/json")
+        .header("uuid", UUID.randomUUID().toString())
+        .header("X-Client-Id", CLIENT_ID)
+        .build();
+    Semaphore inFlight = new Semaphore(CONCURRENCY);
+    Load load = new Load(new long[requests], new AtomicInteger(), new AtomicInteger(200));
+    CompletableFuture<?>[] futures = new CompletableFuture<?>[requests];
+    for (int i = 0; i < requests; i++) {
+      inFlight.acquire();
+      int index = i;
+      long sent = System.nanoTime();
+      futures[i] = http.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+        .handle((response, error) -> {
+          inFlight.release();
+          load.latencies()[index] = System.nanoTime() - sent;
+          int status = response == null ? -1 : response.statusCode();
+          if (status != 200) {
+            load.failed().incrementAndGet();
+            load.status().set(status);
+          }
+          return status;
+        });
+    }
+    CompletableFuture.allOf(futures).join();
+    return load;
+  }
+
+  private boolean reachable(String baseUrl) throws InterruptedException {
+    try {
+      HttpRequest health = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/health")).build();
+      return http.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
+  private record Load(long[] latencies, AtomicInteger failed, AtomicInteger status) {
+  }
+
+  private record Result(String service, double throughput, double p99Millis, int failed,
+                        int status) {
+    @Override
+    public String toString() {
+      return String.format("  %-8s %8.0f req/s  p99 %7.1f ms", service, throughput, p99Millis);
+    }
+  }
+}
@@ -0,0 +1,98 @@
+package com.invex.jmc.employee.reactive.controllers;
+
+import com.invex.jmc.employee.model.dto.Employee;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+@SpringBootTest
+@AutoConfigureWebTestClient
+@ActiveProfiles("test")
+class ReactiveEmployeeControllerTest {
+
+  private static final String UUID = "7e0d3f5a-1c2b-4d3e-9f8a-6b5c4d3e2f1a";
+
+  @Autowired
+  private WebTestClient webTestClient;
+
+  @Test
+  void listsEmployeesWithTheirCatalogs() {
+    webTestClient.get().uri("/api/employees")
+      .header("uuid", UUID)
+      .accept(MediaType.APPLICATION_JSON)
+      .exchange()
+      .expectStatus().isOk()
+      .expectBody()
+      .jsonPath("$.length()").isEqualTo(2)
+      .jsonPath("$[0].idEmployee").isEqualTo("262815c2-7898-4c9d-abd9-ce394b7d6256")
+      .jsonPath("$[0].sex.code").isEqualTo("M")
+      .jsonPath("$[0].jobPosition.code").isEqualTo("DEV")
+      .jsonPath("$[0].birthDay").isEqualTo("23/04/1971")
+      .jsonPath("$[0].status").isEqualTo(true)
+      .jsonPath("$[1].sex").doesNotExist();
+  }
+
+  @Test
+  void streamsEmployeesAsNdjsonOnDemand() {
+    Flux<Employee> employees = webTestClient.get().uri("/api/employees")
+      .header("uuid", UUID)
+      .accept(MediaType.APPLICATION_NDJSON)
+      .exchange()
+      .expectStatus().isOk()
+      .returnResult(Employee.class)
+      .getResponseBody();
+
+    StepVerifier.create(employees, 1)
+      .expectNextMatches(employee -> "Juan".equals(employee.getFirstName()))
+      .thenRequest(1)
+      .expectNextMatches(employee -> "Ana".equals(employee.getFirstName()))
+      .verifyComplete();
+  }
+
+  @Test
+  void getsAnEmployeeById() {
+    webTestClient.get().uri("/api/employees/{id}", "262815c2-7898-4c9d-abd9-ce394b7d6256")
+      .header("uuid", UUID)
+      .exchange()
+      .expectStatus().isOk()
+      .expectBody()
+      .jsonPath("$.firstName").isEqualTo("Juan")
+      .jsonPath("$.ts").isEqualTo("14/11/2025 09:30:00");
+  }
+
+  @Test
+  void answers404ForAnUnknownEmployee() {
+    webTestClient.get().uri("/api/employees/{id}", "unknown")
+      .header("uuid", UUID)
+      .exchange()
+      .expectStatus().isNotFound()
+      .expectBody()
+      .jsonPath("$.campo").isEqualTo("idEmployee");
+  }
+
+  @Test
+  void searchesByPartialNameIgnoringCase() {
+    webTestClient.get().uri(uri -> uri.path("/api/employees/search").queryParam("name", "lOPEZ")
+        .build())
+      .header("uuid", UUID)
+      .accept(MediaType.APPLICATION_JSON)
+      .exchange()
+      .expectStatus().isOk()
+      .expectBody()
+      .jsonPath("$.length()").isEqualTo(1)
+      .jsonPath("$[0].firstName").isEqualTo("Ana");
+  }
+
+  @Test
+  void requiresTheUuidHeader() {
+    webTestClient.get().uri("/api/employees")
+      .exchange()
+      .expectStatus().isBadRequest();
+  }
+}
@@ -0,0 +1,4 @@
+INSERT INTO cat_job_position (id_job_position, code, description) VALUES ('84d89a55-c0fd-11f0-9884-ae32cdf1c2ae', 'DEV', 'Desarrollador');
+INSERT INTO cat_sex (id_sex, code, description) VALUES ('50284c0c-c0fd-11f0-9884-ae32cdf1c2ae', 'M', 'Masculino');
+INSERT INTO employee (id_employee, first_name, middle_name, paternal_surname, maternal_surname, birth_day, id_job_position, id_sex, ts, status) VALUES ('262815c2-7898-4c9d-abd9-ce394b7d6256', 'Juan', 'Carlos', 'Moreno', 'Garcia', DATE '1971-04-23', '84d89a55-c0fd-11f0-9884-ae32cdf1c2ae', '50284c0c-c0fd-11f0-9884-ae32cdf1c2ae', TIMESTAMP '2025-11-14 09:30:00', 1);
+INSERT INTO employee (id_employee, first_name, middle_name, paternal_surname, maternal_surname, birth_day, id_job_position, id_sex, ts, status) VALUES ('3d1b2c4a-5e6f-4a7b-8c9d-0e1f2a3b4c5d', 'Ana', NULL, 'Lopez', 'Diaz', DATE '1990-05-15', '84d89a55-c0fd-11f0-9884-ae32cdf1c2ae', NULL, TIMESTAMP '2025-11-14 09:31:00', 0);
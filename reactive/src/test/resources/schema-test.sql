@@ -0,0 +1,3 @@
+CREATE TABLE IF NOT EXISTS cat_job_position (id_job_position varchar(36) NOT NULL, code varchar(3) NOT NULL, description varchar(100) NOT NULL, PRIMARY KEY (id_job_position));
+CREATE TABLE IF NOT EXISTS cat_sex (id_sex varchar(36) NOT NULL, code varchar(1) NOT NULL, description varchar(50) NOT NULL, PRIMARY KEY (id_sex));
+CREATE TABLE IF NOT EXISTS employee (id_employee varchar(36) NOT NULL, first_name varchar(100), middle_name varchar(100), paternal_surname varchar(100), maternal_surname varchar(100), birth_day date, id_job_position varchar(36), id_sex varchar(36), ts timestamp DEFAULT CURRENT_TIMESTAMP, status int, PRIMARY KEY (id_employee));
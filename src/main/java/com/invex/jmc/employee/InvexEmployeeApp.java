@@ -3,6 +3,7 @@ package com.invex.jmc.employee;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Main entry point for the Invex Employee Management Application.
@@ -13,6 +14,8 @@ import org.springframework.cloud.openfeign.EnableFeignClients;
  * <p>It uses Spring Boot's auto-configuration mechanism to streamline setup and
  * reduce boilerplate code. Uncomment the {@code @EnableFeignClients} annotation
  * if the application requires Feign-based HTTP clients for inter-service communication.
+ * Scheduling is enabled for background maintenance such as the reconciliation
+ * of the in-memory headcount counters.
  *
  * <h2>Execution</h2>
  *
@@ -24,6 +27,7 @@ import org.springframework.cloud.openfeign.EnableFeignClients;
  */
 @SpringBootApplication
 @EnableFeignClients
+@EnableScheduling
 public class InvexEmployeeApp {
   /**
    * Starts the Invex Employee application.
@@ -0,0 +1,48 @@
+package com.invex.jmc.employee.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the micro-batching of employee lookups by ID.
+ *
+ * <p>When enabled, concurrent calls to
+ * {@link com.invex.jmc.employee.services.EmployeeService#getEmployeeById(String)}
+ * are collected during a short window (or until the batch is full) and resolved
+ * with a single {@code IN} query instead of one round trip per request.</p>
+ *
+ * <h3>Example configuration:</h3>
+ * <pre>
+ * employee:
+ *   batching:
+ *     enabled: true
+ *     window: 2ms
+ *     max-batch-size: 50
+ *     threads: 2
+ *     wait-timeout: 1s
+ * </pre>
+ */
+@Configuration
+@ConfigurationProperties(prefix = "employee.batching")
+@Getter
+@Setter
+public class ConfigBatchLoader {
+
+  /** Whether lookups by ID are micro-batched. Disabled by default (opt-in). */
+  private boolean enabled;
+
+  /** Maximum time a lookup waits for other lookups before the batch is flushed. */
+  private Duration window = Duration.ofMillis(2);
+
+  /** Number of IDs that triggers an immediate flush of the batch. */
+  private int maxBatchSize = 50;
+
+  /** Number of threads resolving batches against the database. */
+  private int threads = 2;
+
+  /** Maximum time a caller waits for its batch before querying on its own. */
+  private Duration waitTimeout = Duration.ofSeconds(1);
+}
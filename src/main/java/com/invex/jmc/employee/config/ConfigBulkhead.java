@@ -0,0 +1,53 @@
+package com.invex.jmc.employee.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the bulk write bulkhead.
+ *
+ * <p>Bulk inserts ({@code POST /api/employees}) run on {@code threads}
+ * dedicated threads instead of Tomcat's. Together they hold at most
+ * {@code connections} pooled connections, so interactive reads always keep the
+ * rest of the pool. A batch holds one connection at a time, so
+ * {@code connections} only binds below {@code threads}: the other threads
+ * validate and map their batches while they wait for a connection. Larger
+ * values are capped to {@code threads}. When {@code queue-capacity} batches are already waiting,
+ * further ones are rejected with 503. When disabled, bulk inserts run on the
+ * request thread as before.</p>
+ *
+ * <h3>Example configuration:</h3>
+ * <pre>
+ * employee:
+ *   bulkhead:
+ *     enabled: true
+ *     threads: 4
+ *     queue-capacity: 20
+ *     connections: 2
+ *     connection-wait: 5s
+ * </pre>
+ */
+@Configuration
+@ConfigurationProperties(prefix = "employee.bulkhead")
+@Getter
+@Setter
+public class ConfigBulkhead {
+
+  /** Whether bulk inserts run on the bulkhead. */
+  private boolean enabled = true;
+
+  /** Threads running bulk inserts. */
+  private int threads = 4;
+
+  /** Bulk inserts that may wait for a thread; further ones get 503. */
+  private int queueCapacity = 20;
+
+  /** Pooled connections the bulk threads may hold at once; at most {@code threads}. */
+  private int connections = 2;
+
+  /** Maximum time a bulk thread waits for one of its connections. */
+  private Duration connectionWait = Duration.ofSeconds(5);
+}
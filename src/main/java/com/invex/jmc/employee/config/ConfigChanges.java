@@ -0,0 +1,48 @@
+package com.invex.jmc.employee.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the employee delta sync endpoint.
+ *
+ * <h3>Example configuration:</h3>
+ * <pre>
+ * employee:
+ *   changes:
+ *     tombstone-retention: 7d
+ *     purge-interval: 1h
+ *     settle-time: 2s
+ *     default-limit: 500
+ *     max-limit: 1000
+ * </pre>
+ */
+@Configuration
+@ConfigurationProperties(prefix = "employee.changes")
+@Getter
+@Setter
+public class ConfigChanges {
+
+  /**
+   * How long deletions are remembered; older cursors are rejected with 410.
+   */
+  private Duration tombstoneRetention = Duration.ofDays(7);
+
+  /** How often expired tombstones are purged. */
+  private Duration purgeInterval = Duration.ofHours(1);
+
+  /**
+   * Changes more recent than this are not returned yet, so that a transaction
+   * that committed late with an older timestamp is not skipped by the cursor.
+   */
+  private Duration settleTime = Duration.ofSeconds(2);
+
+  /** Changes returned when the request does not specify a limit. */
+  private int defaultLimit = 500;
+
+  /** Maximum changes returned by a single request. */
+  private int maxLimit = 1000;
+}
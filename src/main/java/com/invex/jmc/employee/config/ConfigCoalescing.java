@@ -0,0 +1,39 @@
+package com.invex.jmc.employee.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for single-flight coalescing of hot employee reads.
+ *
+ * <p>When enabled, concurrent identical calls to
+ * {@link com.invex.jmc.employee.services.EmployeeService#getEmployeeById(String)} and
+ * {@link com.invex.jmc.employee.services.EmployeeService#searchEmployeeByName(String)}
+ * share one in-flight database query and its mapped result.</p>
+ *
+ * <h3>Example configuration:</h3>
+ * <pre>
+ * employee:
+ *   coalescing:
+ *     enabled: true
+ *     timeout: 2s
+ * </pre>
+ */
+@Configuration
+@ConfigurationProperties(prefix = "employee.coalescing")
+@Getter
+@Setter
+public class ConfigCoalescing {
+
+  /** Whether identical concurrent reads are coalesced. */
+  private boolean enabled = true;
+
+  /**
+   * Maximum time a coalesced caller waits before querying on its own; shorter
+   * when its request deadline has less time left.
+   */
+  private Duration timeout = Duration.ofSeconds(2);
+}
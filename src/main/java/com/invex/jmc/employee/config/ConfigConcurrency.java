@@ -0,0 +1,127 @@
+package com.invex.jmc.employee.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the adaptive concurrency limits of the API.
+ *
+ * <p>Every endpoint belongs to a class: the one configured for it in
+ * {@code endpoints} (keyed by method and path pattern), otherwise
+ * {@code reads} for {@code GET} and {@code writes} for the rest. Each class has
+ * its own limit on requests in flight. The limit moves between
+ * {@code min-limit} and {@code max-limit}, following the latency the class
+ * observes. Endpoints in {@code excluded} are not limited; this is meant for
+ * long-lived connections such as the change feed.</p>
+ *
+ * <h3>Example configuration:</h3>
+ * <pre>
+ * employee:
+ *   concurrency:
+ *     enabled: true
+ *     retry-after: 1s
+ *     classes:
+ *       reads:
+ *         initial-limit: 20
+ *         min-limit: 4
+ *         max-limit: 100
+ *       writes:
+ *         initial-limit: 8
+ *         min-limit: 2
+ *         max-limit: 40
+ *       bulk:
+ *         initial-limit: 2
+ *         min-limit: 1
+ *         max-limit: 8
+ *     endpoints:
+ *       "[POST /api/employees]": bulk
+ *     excluded:
+ *     - GET /api/employees/stream
+ * </pre>
+ */
+@Configuration
+@ConfigurationProperties(prefix = "employee.concurrency")
+@Getter
+@Setter
+public class ConfigConcurrency {
+
+  /** Class of the {@code GET} endpoints not listed in {@code endpoints}. */
+  public static final String READS = "reads";
+
+  /** Class of the other endpoints not listed in {@code endpoints}. */
+  public static final String WRITES = "writes";
+
+  /** Class of the endpoints that handle many employees per request. */
+  public static final String BULK = "bulk";
+
+  /** Whether API requests are limited. */
+  private boolean enabled = true;
+
+  /** Value of the {@code Retry-After} header sent with rejected requests. */
+  private Duration retryAfter = Duration.ofSeconds(1);
+
+  /** Limit settings per endpoint class. */
+  private Map<String, Limit> classes = new LinkedHashMap<>(Map.of(
+      READS, new Limit(20, 4, 100),
+      WRITES, new Limit(8, 2, 40),
+      BULK, new Limit(2, 1, 8)));
+
+  /** Endpoint class by {@code "METHOD /pattern"}. */
+  private Map<String, String> endpoints = new HashMap<>(Map.of("POST /api/employees", BULK));
+
+  /** Endpoints, as {@code "METHOD /pattern"}, that are never limited. */
+  private Set<String> excluded = new HashSet<>(Set.of("GET /api/employees/stream"));
+
+  /**
+   * Limit settings of one endpoint class.
+   */
+  @Getter
+  @Setter
+  public static class Limit {
+
+    /** Limit used until latency samples are available. */
+    private int initialLimit = 10;
+
+    /** Lowest limit, kept even when latency keeps growing. */
+    private int minLimit = 1;
+
+    /** Highest limit, reached only while latency stays flat. */
+    private int maxLimit = 100;
+
+    /**
+     * Latency growth accepted before the limit shrinks; {@code 1.5} tolerates
+     * samples 50% slower than the long-term average.
+     */
+    private double tolerance = 1.5;
+
+    /** Weight of each new estimate in the limit, between 0 and 1. */
+    private double smoothing = 0.2;
+
+    /** Requests whose latencies are combined into one sample. */
+    private int windowSize = 10;
+
+    /** Samples averaged into the long-term latency. */
+    private int longWindow = 600;
+
+    /** Factor applied to the limit when a request times out. */
+    private double backoffRatio = 0.9;
+
+    /** Creates empty settings, filled in by property binding. */
+    public Limit() {
+    }
+
+    Limit(int initialLimit, int minLimit, int maxLimit) {
+      this.initialLimit = initialLimit;
+      this.minLimit = minLimit;
+      this.maxLimit = maxLimit;
+    }
+  }
+}
@@ -0,0 +1,49 @@
+package com.invex.jmc.employee.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for request deadlines.
+ *
+ * <p>Every API request gets a time budget: the timeout configured for its
+ * endpoint in {@code endpoints} (keyed by method and path pattern), or
+ * {@code default-timeout}. A caller may shorten it by sending the milliseconds
+ * it is still willing to wait in the {@code header} header. The remaining
+ * budget bounds the wait for a pooled connection, the JDBC query timeout and
+ * the timeouts of outgoing Feign calls, which receive it in the same header.</p>
+ *
+ * <h3>Example configuration:</h3>
+ * <pre>
+ * employee:
+ *   deadline:
+ *     enabled: true
+ *     header: X-Request-Timeout
+ *     default-timeout: 10s
+ *     endpoints:
+ *       "[GET /api/employees/search]": 2s
+ * </pre>
+ */
+@Configuration
+@ConfigurationProperties(prefix = "employee.deadline")
+@Getter
+@Setter
+public class ConfigDeadline {
+
+  /** Whether API requests are given a deadline. */
+  private boolean enabled = true;
+
+  /** Header carrying the remaining budget of the caller, in milliseconds. */
+  private String header = "X-Request-Timeout";
+
+  /** Budget of the endpoints without a specific timeout. */
+  private Duration defaultTimeout = Duration.ofSeconds(10);
+
+  /** Budget per endpoint, keyed by {@code METHOD /path/pattern}. */
+  private Map<String, Duration> endpoints = new HashMap<>();
+}
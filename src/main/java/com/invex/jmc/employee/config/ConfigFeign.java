@@ -0,0 +1,57 @@
+package com.invex.jmc.employee.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties of the HTTP client shared by the Feign clients.
+ *
+ * <p>Connections are kept alive in a pool of up to {@code max-idle-connections}
+ * idle connections for {@code keep-alive}. With {@code http2} the client
+ * negotiates HTTP/2 through ALPN on TLS connections and falls back to HTTP/1.1;
+ * {@code http2-prior-knowledge} speaks HTTP/2 over cleartext (h2c) and must only
+ * be enabled when every target supports it.</p>
+ *
+ * <p>These timeouts are the defaults of the client. Per-target timeouts are set
+ * with {@code feign.client.config.<name>.connect-timeout} and
+ * {@code read-timeout} and share the same pool.</p>
+ *
+ * <h3>Example configuration:</h3>
+ * <pre>
+ * employee:
+ *   feign:
+ *     max-idle-connections: 50
+ *     keep-alive: 5m
+ *     connect-timeout: 2s
+ *     read-timeout: 5s
+ *     http2: true
+ *     http2-prior-knowledge: false
+ * </pre>
+ */
+@Configuration
+@ConfigurationProperties(prefix = "employee.feign")
+@Getter
+@Setter
+public class ConfigFeign {
+
+  /** Maximum idle connections kept in the pool. */
+  private int maxIdleConnections = 50;
+
+  /** How long an idle connection is kept in the pool. */
+  private Duration keepAlive = Duration.ofMinutes(5);
+
+  /** Default connect timeout. */
+  private Duration connectTimeout = Duration.ofSeconds(2);
+
+  /** Default read and write timeout. */
+  private Duration readTimeout = Duration.ofSeconds(5);
+
+  /** Whether HTTP/2 is negotiated on TLS connections. */
+  private boolean http2 = true;
+
+  /** Whether HTTP/2 is used without negotiation over cleartext connections. */
+  private boolean http2PriorKnowledge = false;
+}
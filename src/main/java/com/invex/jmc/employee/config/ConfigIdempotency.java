@@ -0,0 +1,60 @@
+package com.invex.jmc.employee.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for idempotent employee creation.
+ *
+ * <p>Completed {@code POST /api/employees} responses are kept for {@code ttl},
+ * keyed by the {@code uuid} header and a hash of the request body. {@code store}
+ * selects where they are kept: {@code memory} (bounded to {@code max-entries},
+ * local to the instance) or {@code jdbc} (the {@code employee_idempotency}
+ * table, shared by every instance).</p>
+ *
+ * <h3>Example configuration:</h3>
+ * <pre>
+ * employee:
+ *   idempotency:
+ *     enabled: true
+ *     store: memory
+ *     ttl: 24h
+ *     max-entries: 10000
+ *     lease: 1m
+ *     wait-timeout: 10s
+ *     purge-interval: 10m
+ * </pre>
+ */
+@Configuration
+@ConfigurationProperties(prefix = "employee.idempotency")
+@Getter
+@Setter
+public class ConfigIdempotency {
+
+  /** Whether repeated creation requests are answered from the stored response. */
+  private boolean enabled = true;
+
+  /** Where responses are kept: {@code memory} or {@code jdbc}. */
+  private String store = "memory";
+
+  /** How long a completed response is replayed. */
+  private Duration ttl = Duration.ofHours(24);
+
+  /** Maximum keys, completed or in progress, kept by the {@code memory} store. */
+  private int maxEntries = 10_000;
+
+  /**
+   * How long a request in progress holds its key before another may take it over;
+   * renewed every half lease while the request runs.
+   */
+  private Duration lease = Duration.ofMinutes(1);
+
+  /** Maximum time a concurrent request waits for the first one to complete. */
+  private Duration waitTimeout = Duration.ofSeconds(10);
+
+  /** Delay between two purges of expired rows by the {@code jdbc} store. */
+  private Duration purgeInterval = Duration.ofMinutes(10);
+}
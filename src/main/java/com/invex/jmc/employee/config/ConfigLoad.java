@@ -0,0 +1,70 @@
+package com.invex.jmc.employee.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties of the load signals published in the Eureka
+ * instance metadata and of the load-aware balancer that reads them.
+ *
+ * <p>Every {@code publish-interval} the instance samples its requests in
+ * flight, the average Hikari connection wait and the p99 latency of the last
+ * {@code latency-window}. They are published only when one of them moved by
+ * more than {@code min-change} (relative), or when the last publication is
+ * older than {@code max-age}, so that the registry is not updated on every
+ * sample.</p>
+ *
+ * <p>With {@code balancer-enabled}, the Feign clients choose among the
+ * instances of a service by those signals; signals older than
+ * {@code stale-after} are ignored.</p>
+ *
+ * <h3>Example configuration:</h3>
+ * <pre>
+ * employee:
+ *   load:
+ *     enabled: true
+ *     publish-interval: 15s
+ *     min-change: 0.25
+ *     max-age: 2m
+ *     latency-window: 1m
+ *     excluded:
+ *       - /api/employees/stream
+ *     balancer-enabled: true
+ *     stale-after: 5m
+ * </pre>
+ */
+@Configuration
+@ConfigurationProperties(prefix = "employee.load")
+@Getter
+@Setter
+public class ConfigLoad {
+
+  /** Whether load signals are published in the instance metadata. */
+  private boolean enabled = true;
+
+  /** Interval between samples of the load signals. */
+  private Duration publishInterval = Duration.ofSeconds(15);
+
+  /** Relative change of a signal that triggers a new publication. */
+  private double minChange = 0.25;
+
+  /** Longest time the published signals go without being refreshed. */
+  private Duration maxAge = Duration.ofMinutes(2);
+
+  /** Period over which the p99 latency is estimated. */
+  private Duration latencyWindow = Duration.ofMinutes(1);
+
+  /** Paths left out of the signals, such as long-lived streams. */
+  private List<String> excluded = new ArrayList<>(List.of("/api/employees/stream"));
+
+  /** Whether Feign clients balance on the published load signals. */
+  private boolean balancerEnabled = true;
+
+  /** Age after which a published signal is ignored by the balancer. */
+  private Duration staleAfter = Duration.ofMinutes(5);
+}
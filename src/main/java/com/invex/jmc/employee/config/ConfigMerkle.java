@@ -0,0 +1,36 @@
+package com.invex.jmc.employee.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the Merkle summary used by replica consumers
+ * to reconcile their copy of the employee table.
+ *
+ * <h3>Example configuration:</h3>
+ * <pre>
+ * employee:
+ *   merkle:
+ *     enabled: true
+ *     rebuild-interval: 15m
+ *     max-prefixes: 64
+ * </pre>
+ */
+@Configuration
+@ConfigurationProperties(prefix = "employee.merkle")
+@Getter
+@Setter
+public class ConfigMerkle {
+
+  /** Whether the bucket digests are built and maintained. */
+  private boolean enabled = true;
+
+  /** How often the bucket digests are rebuilt from the database to fix drift. */
+  private Duration rebuildInterval = Duration.ofMinutes(15);
+
+  /** Maximum buckets whose rows can be requested in one call. */
+  private int maxPrefixes = 64;
+}
@@ -0,0 +1,53 @@
+package com.invex.jmc.employee.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the employee change outbox and its relay.
+ *
+ * <p>{@code publisher} selects where relayed changes are sent: {@code log},
+ * {@code file} (JSON lines appended to {@code file-path}) or {@code http}
+ * (JSON array posted to {@code http-url}).</p>
+ *
+ * <h3>Example configuration:</h3>
+ * <pre>
+ * employee:
+ *   outbox:
+ *     enabled: true
+ *     poll-interval: 1s
+ *     batch-size: 100
+ *     max-batches-per-poll: 10
+ *     publisher: log
+ * </pre>
+ */
+@Configuration
+@ConfigurationProperties(prefix = "employee.outbox")
+@Getter
+@Setter
+public class ConfigOutbox {
+
+  /** Whether employee changes are recorded and relayed. */
+  private boolean enabled = true;
+
+  /** Delay between two relay runs. */
+  private Duration pollInterval = Duration.ofSeconds(1);
+
+  /** Maximum records published per batch. */
+  private int batchSize = 100;
+
+  /** Maximum batches drained per relay run. */
+  private int maxBatchesPerPoll = 10;
+
+  /** Publisher used by the relay: {@code log}, {@code file} or {@code http}. */
+  private String publisher = "log";
+
+  /** File the {@code file} publisher appends to. */
+  private String filePath = "employee-changes.jsonl";
+
+  /** Endpoint the {@code http} publisher posts to. */
+  private String httpUrl;
+}
@@ -1,8 +1,8 @@
 package com.invex.jmc.employee.config;
 
 import com.invex.jmc.employee.constants.ConstantsUtil;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 import lombok.Getter;
 import lombok.Setter;
@@ -40,6 +40,8 @@ import org.springframework.http.HttpHeaders;
  *   </li>
  *   <li>The final result is returned as a single-value header map ready to be used
  *       in outgoing HTTP calls (e.g., via {@code RestTemplate} or {@code WebClient}).</li>
+ *   <li>Feign clients do not need it: the headers are added to every call by
+ *       {@link com.invex.jmc.employee.config.headers.interceptor.PropagateHeadersInterceptor}.</li>
  * </ul>
  *
  * <h3>Accept-Language Injection:</h3>
@@ -79,10 +81,10 @@ public class ConfigPropagateHeaders {
    *
    * <p>This method:
    * <ul>
-   *   <li>Ensures the {@code Accept-Language} header is present, injecting a default value
-   *       if necessary.</li>
    *   <li>Extracts from the incoming request only the headers listed in
-   *       {@code propagateHeaders}.</li>
+   *       {@code propagateHeaders}; headers absent from the request are omitted.</li>
+   *   <li>Uses a default value for {@code Accept-Language} when it is listed but was not
+   *       sent. The incoming headers are left unchanged.</li>
    *   <li>Returns a single-value header map, which is typically required by HTTP clients.</li>
    * </ul>
    * </p>
@@ -91,21 +93,19 @@ public class ConfigPropagateHeaders {
    * @return a map of header names and values ready for propagation
    */
   public Map<String, String> fixHeaders(HttpHeaders httpHeaders) {
-    var headers = new HttpHeaders();
-
-    if (httpHeaders.entrySet().stream().noneMatch(
-        header -> header.getKey().trim().equalsIgnoreCase(ConstantsUtil.ACCEPT_LANGUAGE)
-    )) {
-      httpHeaders.add(
-          ConstantsUtil.ACCEPT_LANGUAGE.toLowerCase(Locale.US),
-          ConstantsUtil.DEF_MODALITY
-      );
+    if (propagateHeaders == null) {
+      return Map.of();
     }
-
-    this.propagateHeaders.forEach(header ->
-        headers.add(header, httpHeaders.getFirst(header))
-    );
-
-    return headers.toSingleValueMap();
+    Map<String, String> headers = new LinkedHashMap<>(propagateHeaders.size() * 2);
+    for (String header : propagateHeaders) {
+      String value = httpHeaders.getFirst(header);
+      if (value == null && header.equalsIgnoreCase(ConstantsUtil.ACCEPT_LANGUAGE)) {
+        value = ConstantsUtil.DEF_MODALITY;
+      }
+      if (value != null) {
+        headers.put(header, value);
+      }
+    }
+    return headers;
   }
 }
\ No newline at end of file
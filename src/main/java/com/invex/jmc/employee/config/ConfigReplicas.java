@@ -0,0 +1,104 @@
+package com.invex.jmc.employee.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties of the read replicas.
+ *
+ * <p>When enabled, the employee listings, lookups by ID and searches are sent
+ * to one of the {@code replicas}, in turn, each with its own Hikari pool.
+ * Everything else stays on the primary of {@code spring.datasource}. For
+ * {@code read-your-writes-window} after a committed change, the reads of the
+ * same client stay on the primary too, so that the client does not read a
+ * replica that has not caught up yet; the window should exceed the usual
+ * replication lag. The client is the value of {@code client-header}, or the
+ * authenticated principal without it, or else the remote address. The header
+ * must identify the client itself, not a request: a per-request ID would
+ * never match a later read.</p>
+ *
+ * <p>Every {@code health-check-interval} each replica is validated. A replica
+ * that fails the check, or fails to give a connection, gets no reads until it
+ * passes a check again; with no healthy replica, reads go to the primary.</p>
+ *
+ * <h3>Example configuration:</h3>
+ * <pre>
+ * employee:
+ *   replicas:
+ *     enabled: true
+ *     read-your-writes-window: 5s
+ *     client-header: X-Client-Id
+ *     health-check-interval: 5s
+ *     health-check-timeout: 1s
+ *     replicas:
+ *       - name: replica-1
+ *         url: jdbc:mysql://replica-1:3306/invex
+ *         username: reader
+ *         password: secret
+ *         maximum-pool-size: 10
+ * </pre>
+ */
+@Configuration
+@ConfigurationProperties(prefix = "employee.replicas")
+@Getter
+@Setter
+public class ConfigReplicas {
+
+  /** Whether replica reads are routed to the replicas. */
+  private boolean enabled = false;
+
+  /** Replicas that serve replica reads. */
+  private List<Replica> replicas = new ArrayList<>();
+
+  /** Time after a committed change during which the client reads the primary. */
+  private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+  /**
+   * Request header that identifies the client; without it the principal is
+   * used, and without one either the remote address.
+   */
+  private String clientHeader = "X-Client-Id";
+
+  /** Characters of the header that identify the client; 0 uses the whole value. */
+  private int clientPrefixLength = 0;
+
+  /** Interval between health checks of the replicas. */
+  private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+  /** Time a replica has to pass its health check. */
+  private Duration healthCheckTimeout = Duration.ofSeconds(1);
+
+  /**
+   * Connection settings of one replica.
+   */
+  @Getter
+  @Setter
+  public static class Replica {
+
+    /** Name of the replica, used in its pool name and metrics. */
+    private String name;
+
+    /** JDBC URL of the replica. */
+    private String url;
+
+    /** Database user; a read-only user is enough. */
+    private String username;
+
+    /** Database password. */
+    private String password;
+
+    /** Maximum connections of the replica pool. */
+    private int maximumPoolSize = 10;
+
+    /** Idle connections kept in the replica pool. */
+    private int minimumIdle = 2;
+
+    /** Time a read waits for a replica connection before falling back to the primary. */
+    private Duration connectionTimeout = Duration.ofSeconds(2);
+  }
+}
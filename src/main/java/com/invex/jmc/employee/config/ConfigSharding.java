@@ -0,0 +1,90 @@
+package com.invex.jmc.employee.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties of the hash-sharded employee storage.
+ *
+ * <p>When enabled, employees are stored across the {@code shards} instead of
+ * the primary of {@code spring.datasource}: each employee lives in the shard
+ * chosen by a consistent hash of its {@code idEmployee}, and queries that are
+ * not by ID run on every shard in parallel, on up to {@code scatter-threads}
+ * threads, and are merged. The sex and job position catalogs stay on the
+ * primary and are copied to every shard every {@code catalog-sync-interval}.
+ * The shard schemas are managed with {@code ddl-auto}, like
+ * {@code spring.jpa.hibernate.ddl-auto} for the primary.</p>
+ *
+ * <p>The order of {@code shards} is part of the hash: shards may be appended,
+ * which moves only the employees that hash to the new ones, but never
+ * reordered or removed without moving the data.</p>
+ *
+ * <h3>Example configuration:</h3>
+ * <pre>
+ * employee:
+ *   sharding:
+ *     enabled: true
+ *     scatter-threads: 8
+ *     catalog-sync-interval: 10m
+ *     ddl-auto: update
+ *     shards:
+ *       - name: shard-0
+ *         url: jdbc:mysql://shard-0:3306/invex
+ *         username: invex
+ *         password: secret
+ *       - name: shard-1
+ *         url: jdbc:mysql://shard-1:3306/invex
+ * </pre>
+ */
+@Configuration
+@ConfigurationProperties(prefix = "employee.sharding")
+@Getter
+@Setter
+public class ConfigSharding {
+
+  /** Whether employees are stored across the shards. */
+  private boolean enabled = false;
+
+  /** Shards, in hash order. */
+  private List<Shard> shards = new ArrayList<>();
+
+  /** Threads that run the queries of a scatter-gather. */
+  private int scatterThreads = 8;
+
+  /** Interval between copies of the catalogs to the shards. */
+  private Duration catalogSyncInterval = Duration.ofMinutes(10);
+
+  /** Hibernate schema management of the shards. */
+  private String ddlAuto = "none";
+
+  /**
+   * Connection settings of one shard.
+   */
+  @Getter
+  @Setter
+  public static class Shard {
+
+    /** Name of the shard, used in its pool name and persistence unit. */
+    private String name;
+
+    /** JDBC URL of the shard. */
+    private String url;
+
+    /** Database user. */
+    private String username;
+
+    /** Database password. */
+    private String password;
+
+    /** Maximum connections of the shard pool. */
+    private int maximumPoolSize = 10;
+
+    /** Idle connections kept in the shard pool. */
+    private int minimumIdle = 2;
+  }
+}
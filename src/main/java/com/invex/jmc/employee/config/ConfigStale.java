@@ -0,0 +1,64 @@
+package com.invex.jmc.employee.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for serving stale reads while the database is
+ * degraded.
+ *
+ * <p>Reads by ID, list pages and searches remember their last good result. When
+ * the database does not answer within {@code db-timeout}, fails, or the circuit
+ * is open after {@code failure-threshold} consecutive failures, that result is
+ * served instead, marked with {@code X-Stale}, as long as it is no older than
+ * {@code max-staleness}. The circuit lets a probe through after
+ * {@code open-duration}. Results served stale are refreshed in the background
+ * every {@code refresh-interval} once the database answers again.</p>
+ *
+ * <h3>Example configuration:</h3>
+ * <pre>
+ * employee:
+ *   stale:
+ *     enabled: true
+ *     db-timeout: 2s
+ *     max-staleness: 10m
+ *     max-entries: 10000
+ *     failure-threshold: 5
+ *     open-duration: 10s
+ *     refresh-interval: 5s
+ *     refresh-batch: 100
+ * </pre>
+ */
+@Configuration
+@ConfigurationProperties(prefix = "employee.stale")
+@Getter
+@Setter
+public class ConfigStale {
+
+  /** Whether stale results are served when the database is degraded. */
+  private boolean enabled = true;
+
+  /** Time a read waits for the database before the stale result is served. */
+  private Duration dbTimeout = Duration.ofSeconds(2);
+
+  /** Oldest result that may still be served. */
+  private Duration maxStaleness = Duration.ofMinutes(10);
+
+  /** Results remembered; the least recently refreshed are dropped first. */
+  private int maxEntries = 10_000;
+
+  /** Consecutive database failures that open the circuit. */
+  private int failureThreshold = 5;
+
+  /** Time the circuit stays open before a probe is let through. */
+  private Duration openDuration = Duration.ofSeconds(10);
+
+  /** Interval between background refreshes of results served stale. */
+  private Duration refreshInterval = Duration.ofSeconds(5);
+
+  /** Results refreshed per background run. */
+  private int refreshBatch = 100;
+}
@@ -0,0 +1,43 @@
+package com.invex.jmc.employee.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the employee headcount statistics endpoint.
+ *
+ * <h3>Example configuration:</h3>
+ * <pre>
+ * employee:
+ *   stats:
+ *     ttl: 10s
+ *     counters-enabled: true
+ *     reconcile-interval: 5m
+ * </pre>
+ */
+@Configuration
+@ConfigurationProperties(prefix = "employee.stats")
+@Getter
+@Setter
+public class ConfigStats {
+
+  /**
+   * How long a computed headcount is reused by the service and may be cached
+   * by clients ({@code Cache-Control: max-age}).
+   */
+  private Duration ttl = Duration.ofSeconds(10);
+
+  /**
+   * Whether single-dimension headcounts by status, job position or sex are
+   * served from in-memory counters instead of the database.
+   */
+  private boolean countersEnabled = true;
+
+  /**
+   * How often the in-memory counters are rebuilt from the database.
+   */
+  private Duration reconcileInterval = Duration.ofMinutes(5);
+}
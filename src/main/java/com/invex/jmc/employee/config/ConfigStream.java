@@ -0,0 +1,47 @@
+package com.invex.jmc.employee.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the Server-Sent Events employee change feed.
+ *
+ * <h3>Example configuration:</h3>
+ * <pre>
+ * employee:
+ *   stream:
+ *     max-connections: 200
+ *     buffer-size: 256
+ *     heartbeat: 15s
+ *     timeout: 30m
+ *     threads: 4
+ * </pre>
+ */
+@Configuration
+@ConfigurationProperties(prefix = "employee.stream")
+@Getter
+@Setter
+public class ConfigStream {
+
+  /** Maximum concurrent subscribers; further connections get 503. */
+  private int maxConnections = 200;
+
+  /** Events buffered per subscriber; the oldest are dropped when full. */
+  private int bufferSize = 256;
+
+  /** Interval between heartbeat frames sent to idle subscribers. */
+  private Duration heartbeat = Duration.ofSeconds(15);
+
+  /** Lifetime of a connection; clients reconnect afterwards. */
+  private Duration timeout = Duration.ofMinutes(30);
+
+  /**
+   * Threads kept to write events to the subscribers; one more is started for
+   * each subscriber being written to while they are busy, up to
+   * {@code max-connections}, so a slow client never holds up the others.
+   */
+  private int threads = 4;
+}
@@ -0,0 +1,87 @@
+package com.invex.jmc.employee.config;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.okhttp3.OkHttpConnectionPoolMetrics;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import okhttp3.ConnectionPool;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Pooled OkHttp client used by every Feign client.
+ *
+ * <p>With {@code feign.okhttp.enabled} Spring Cloud OpenFeign wraps this client
+ * (through the load balancer when the target is a service name) instead of the
+ * default {@code HttpURLConnection} client, which neither pools connections
+ * efficiently nor supports HTTP/2. Per-target timeouts configured in
+ * {@code feign.client.config} derive a client from this one that shares its
+ * connection pool. Interceptor beans, such as the one carrying the request
+ * deadline, are added to the client.</p>
+ *
+ * <p>The pool is published as {@code employee.feign.pool.connection.count},
+ * tagged with {@code state} ({@code active} or {@code idle}), and
+ * {@code employee.feign.pool.connection.limit}.</p>
+ */
+@Configuration
+public class FeignClientConfig {
+
+  /**
+   * Creates the connection pool shared by the Feign clients.
+   *
+   * @param config client configuration
+   * @return the connection pool
+   */
+  @Bean(destroyMethod = "evictAll")
+  public ConnectionPool feignConnectionPool(ConfigFeign config) {
+    return new ConnectionPool(config.getMaxIdleConnections(),
+        config.getKeepAlive().toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Creates the HTTP client used by the Feign clients.
+   *
+   * @param feignConnectionPool the shared connection pool
+   * @param config client configuration
+   * @param interceptors application interceptors applied to every call
+   * @return the HTTP client
+   */
+  @Bean
+  public OkHttpClient feignOkHttpClient(ConnectionPool feignConnectionPool, ConfigFeign config,
+                                        List<Interceptor> interceptors) {
+    OkHttpClient.Builder builder = new OkHttpClient.Builder()
+        .connectionPool(feignConnectionPool)
+        .protocols(protocols(config))
+        .connectTimeout(config.getConnectTimeout())
+        .readTimeout(config.getReadTimeout())
+        .writeTimeout(config.getReadTimeout())
+        .retryOnConnectionFailure(true);
+    interceptors.forEach(builder::addInterceptor);
+    return builder.build();
+  }
+
+  /**
+   * Publishes the state of the connection pool.
+   *
+   * @param feignConnectionPool the shared connection pool
+   * @param config client configuration, used for the pool limit
+   * @return the binder registered by Spring Boot in the meter registry
+   */
+  @Bean
+  public OkHttpConnectionPoolMetrics feignConnectionPoolMetrics(ConnectionPool feignConnectionPool,
+                                                                ConfigFeign config) {
+    return new OkHttpConnectionPoolMetrics(feignConnectionPool, "employee.feign.pool",
+        Tags.empty(), config.getMaxIdleConnections());
+  }
+
+  private static List<Protocol> protocols(ConfigFeign config) {
+    if (config.isHttp2PriorKnowledge()) {
+      return List.of(Protocol.H2_PRIOR_KNOWLEDGE);
+    }
+    return config.isHttp2() ? List.of(Protocol.HTTP_2, Protocol.HTTP_1_1)
+        : List.of(Protocol.HTTP_1_1);
+  }
+}
@@ -0,0 +1,67 @@
+package com.invex.jmc.employee.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Startup tuning used by the {@code faststart} profile and the class data
+ * sharing (CDS) training run of the container image.
+ *
+ * <p>With {@code spring.main.lazy-initialization} enabled beans are created on
+ * first use. Beans declaring {@link Scheduled} methods are still created
+ * eagerly, because their tasks are only registered when the bean is
+ * instantiated.</p>
+ *
+ * <p>When {@code employee.startup.exit-on-refresh} is {@code true} the
+ * application exits as soon as the context is refreshed, so a training run can
+ * load every class without serving traffic. Example configuration:</p>
+ *
+ * <pre>
+ * employee:
+ *   startup:
+ *     exit-on-refresh: true
+ * </pre>
+ */
+@Slf4j
+@Configuration
+public class StartupConfig {
+
+  /**
+   * Keeps the beans with scheduled tasks out of lazy initialization.
+   *
+   * @return the exclude filter
+   */
+  @Bean
+  static LazyInitializationExcludeFilter scheduledBeansExcludeFilter() {
+    return (beanName, beanDefinition, beanType) -> !MethodIntrospector.selectMethods(beanType,
+        (MethodIntrospector.MetadataLookup<Boolean>) method ->
+            AnnotatedElementUtils.hasAnnotation(method, Scheduled.class) ? Boolean.TRUE : null)
+        .isEmpty();
+  }
+
+  /**
+   * Exits the application once the context is refreshed.
+   *
+   * @return the listener ending the training run
+   */
+  @Bean
+  @ConditionalOnProperty(prefix = "employee.startup", name = "exit-on-refresh",
+      havingValue = "true")
+  public ApplicationListener<ContextRefreshedEvent> exitOnRefresh() {
+    return event -> {
+      if (event.getApplicationContext().getParent() == null) {
+        log.info("Context refreshed, exiting (employee.startup.exit-on-refresh)");
+        System.exit(SpringApplication.exit(event.getApplicationContext()));
+      }
+    };
+  }
+}
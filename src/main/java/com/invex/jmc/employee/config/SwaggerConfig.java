@@ -2,6 +2,7 @@ package com.invex.jmc.employee.config;
 
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Info;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -12,9 +13,13 @@ import org.springframework.context.annotation.Configuration;
  * <p>This class defines the metadata that will appear in the generated API
  * documentation, such as the API title, version, and description.</p>
  *
+ * <p>Skipped when {@code springdoc.api-docs.enabled} is {@code false}, as in the
+ * {@code faststart} profile.</p>
+ *
  * @see org.springdoc.core for additional customization options
  */
 @Configuration
+@ConditionalOnProperty(name = "springdoc.api-docs.enabled", matchIfMissing = true)
 public class SwaggerConfig {
 
   /**
@@ -0,0 +1,181 @@
+package com.invex.jmc.employee.config.bulkhead;
+
+import com.invex.jmc.employee.config.ConfigBulkhead;
+import com.invex.jmc.employee.config.deadline.DeadlineCounters;
+import com.invex.jmc.employee.exceptions.BulkheadFullException;
+import com.invex.jmc.employee.util.RequestDeadline;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import javax.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Bulkhead that isolates bulk inserts from interactive requests.
+ *
+ * <p>Batches run on a bounded pool of dedicated threads with a bounded queue.
+ * A batch that finds the queue full is rejected with a
+ * {@link BulkheadFullException} rather than taking a Tomcat thread. The
+ * {@link BulkheadDataSource} lets the bulk threads hold only
+ * {@code connections} pooled connections between them, so reads always find a
+ * connection even while an onboarding run saturates the bulkhead.</p>
+ *
+ * <p>The request's deadline and attributes (used to propagate headers to Feign
+ * calls) are carried over to the bulk thread.</p>
+ *
+ * <p>Publishes the executor as {@code employee.bulkhead.executor.*} (active,
+ * queued and completed tasks, pool size), the connections in use as
+ * {@code employee.bulkhead.connections.active} against
+ * {@code employee.bulkhead.connections.limit}, and rejected batches as
+ * {@code employee.bulkhead.rejected}, all tagged {@code name=bulk}.</p>
+ */
+@Component
+public class BulkWriteBulkhead {
+
+  private static final String NAME = "bulk";
+  private static final ThreadLocal<Boolean> BULK_THREAD = new ThreadLocal<>();
+
+  private final ConfigBulkhead configBulkhead;
+  private final DeadlineCounters deadlineCounters;
+  private final ThreadPoolExecutor executor;
+  private final int connectionLimit;
+  private final Semaphore connections;
+  private final Counter rejected;
+
+  /**
+   * Creates the bulkhead and its threads.
+   *
+   * @param configBulkhead bulkhead configuration
+   * @param deadlineCounters counters of exceeded deadlines
+   * @param meterRegistry registry where the bulkhead metrics are published
+   */
+  public BulkWriteBulkhead(ConfigBulkhead configBulkhead, DeadlineCounters deadlineCounters,
+                           MeterRegistry meterRegistry) {
+    this.configBulkhead = configBulkhead;
+    this.deadlineCounters = deadlineCounters;
+    int threads = Math.max(1, configBulkhead.getThreads());
+    this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(Math.max(1, configBulkhead.getQueueCapacity())),
+        runnable -> {
+          Thread thread = new Thread(() -> {
+            BULK_THREAD.set(Boolean.TRUE);
+            runnable.run();
+          }, "employee-bulk");
+          thread.setDaemon(true);
+          return thread;
+        });
+    this.connectionLimit = Math.max(1, Math.min(threads, configBulkhead.getConnections()));
+    this.connections = new Semaphore(connectionLimit);
+    new ExecutorServiceMetrics(executor, NAME, "employee.bulkhead", Tags.empty())
+        .bindTo(meterRegistry);
+    Gauge.builder("employee.bulkhead.connections.active", this,
+            bulkhead -> bulkhead.connectionLimit - bulkhead.connections.availablePermits())
+        .description("Pooled connections held by bulk inserts")
+        .tag("name", NAME)
+        .register(meterRegistry);
+    Gauge.builder("employee.bulkhead.connections.limit", this, bulkhead -> bulkhead.connectionLimit)
+        .description("Pooled connections bulk inserts may hold at once")
+        .tag("name", NAME)
+        .register(meterRegistry);
+    this.rejected = Counter.builder("employee.bulkhead.rejected")
+        .description("Bulk inserts rejected because the bulkhead was full")
+        .tag("name", NAME)
+        .register(meterRegistry);
+  }
+
+  /**
+   * Runs a bulk task on the bulkhead.
+   *
+   * <p>When the bulkhead is disabled the task runs on the calling thread.</p>
+   *
+   * @param task the work to run
+   * @param <T> type of the result
+   * @return the result, completed on a bulk thread
+   * @throws BulkheadFullException if no thread or queue slot is free
+   */
+  public <T> CompletableFuture<T> submit(Supplier<T> task) {
+    if (!configBulkhead.isEnabled()) {
+      return CompletableFuture.completedFuture(task.get());
+    }
+    Optional<RequestDeadline> deadline = RequestDeadline.current();
+    RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+    CompletableFuture<T> future = new CompletableFuture<>();
+    try {
+      executor.execute(() -> {
+        deadline.ifPresent(RequestDeadline::attach);
+        RequestContextHolder.setRequestAttributes(attributes);
+        try {
+          future.complete(task.get());
+        } catch (RuntimeException | Error e) {
+          future.completeExceptionally(e);
+        } finally {
+          RequestContextHolder.resetRequestAttributes();
+          RequestDeadline.clear();
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      rejected.increment();
+      throw new BulkheadFullException(configBulkhead.getQueueCapacity());
+    }
+    return future;
+  }
+
+  /**
+   * Indicates whether the current thread is one of the bulk threads.
+   *
+   * @return {@code true} on a bulk thread
+   */
+  public static boolean isBulkThread() {
+    return BULK_THREAD.get() != null;
+  }
+
+  /**
+   * Waits for one of the bulk connections, at most {@code connection-wait} or
+   * the time left before the request deadline.
+   *
+   * @return {@code true} if a connection may be taken from the pool; it must
+   *     then be given back with {@link #releaseConnection()}
+   * @throws InterruptedException if the thread is interrupted while waiting
+   */
+  boolean acquireConnection() throws InterruptedException {
+    long wait = configBulkhead.getConnectionWait().toMillis();
+    Optional<RequestDeadline> deadline = RequestDeadline.current();
+    if (deadline.isPresent()) {
+      wait = Math.min(wait, deadline.get().remainingMillis());
+    }
+    if (connections.tryAcquire(Math.max(0, wait), TimeUnit.MILLISECONDS)) {
+      return true;
+    }
+    if (deadline.isPresent() && deadline.get().isExpired()) {
+      throw deadlineCounters.exceeded("connection", deadline.get().getBudget());
+    }
+    return false;
+  }
+
+  /**
+   * Gives back a bulk connection.
+   */
+  void releaseConnection() {
+    connections.release();
+  }
+
+  /**
+   * Stops the bulk threads once the queued batches have run.
+   */
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdown();
+  }
+}
@@ -0,0 +1,43 @@
+package com.invex.jmc.employee.config.bulkhead;
+
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Gives the bulk write bulkhead its own connection budget.
+ *
+ * <p>Every {@link DataSource} bean is wrapped in a {@link BulkheadDataSource},
+ * outside the {@link com.invex.jmc.employee.config.deadline.DeadlineDataSource},
+ * so that a bulk thread takes its connection permit before it starts waiting on
+ * the pool.</p>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "employee.bulkhead", name = "enabled", matchIfMissing = true)
+public class BulkheadConfig {
+
+  /**
+   * Wraps the data sources once they are initialized.
+   *
+   * <p>Declared {@code static} so that the post-processor is registered without
+   * initializing this configuration; the bulkhead is resolved on first use.</p>
+   *
+   * @param bulkhead the bulk write bulkhead
+   * @return the post-processor
+   */
+  @Bean
+  public static BeanPostProcessor bulkheadDataSourcePostProcessor(
+      ObjectProvider<BulkWriteBulkhead> bulkhead) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        return bean instanceof DataSource dataSource && !(bean instanceof BulkheadDataSource)
+            ? new BulkheadDataSource(dataSource, bulkhead::getObject)
+            : bean;
+      }
+    };
+  }
+}
@@ -0,0 +1,81 @@
+package com.invex.jmc.employee.config.bulkhead;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * {@link DataSource} that limits the connections held by the bulk threads of
+ * {@link BulkWriteBulkhead}.
+ *
+ * <p>Other threads get their connections from the wrapped pool as usual. A bulk
+ * thread first takes one of the bulkhead's connection permits and gives it back
+ * when it closes the connection. The bulk threads therefore never hold more
+ * than their share of the pool, and the rest stays available to interactive
+ * requests.</p>
+ */
+public class BulkheadDataSource extends DelegatingDataSource {
+
+  private final Supplier<BulkWriteBulkhead> bulkhead;
+
+  /**
+   * Creates the data source.
+   *
+   * @param target the connection pool
+   * @param bulkhead the bulkhead holding the connection budget, resolved on first use
+   */
+  public BulkheadDataSource(DataSource target, Supplier<BulkWriteBulkhead> bulkhead) {
+    super(target);
+    this.bulkhead = bulkhead;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    if (!BulkWriteBulkhead.isBulkThread()) {
+      return super.getConnection();
+    }
+    BulkWriteBulkhead budget = bulkhead.get();
+    try {
+      if (!budget.acquireConnection()) {
+        throw new SQLTransientConnectionException("Bulk insert connection budget exhausted");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SQLTransientConnectionException("Interrupted waiting for a bulk connection", e);
+    }
+    Connection connection;
+    try {
+      connection = super.getConnection();
+    } catch (SQLException | RuntimeException e) {
+      budget.releaseConnection();
+      throw e;
+    }
+    AtomicBoolean released = new AtomicBoolean();
+    return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(),
+        new Class<?>[] {Connection.class},
+        (proxy, method, args) -> {
+          switch (method.getName()) {
+            case "equals":
+              return proxy == args[0];
+            case "hashCode":
+              return System.identityHashCode(proxy);
+            default:
+              try {
+                return method.invoke(connection, args);
+              } catch (InvocationTargetException e) {
+                throw e.getCause();
+              } finally {
+                if ("close".equals(method.getName()) && released.compareAndSet(false, true)) {
+                  budget.releaseConnection();
+                }
+              }
+          }
+        });
+  }
+}
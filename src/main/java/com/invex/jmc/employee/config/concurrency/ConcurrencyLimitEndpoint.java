@@ -0,0 +1,40 @@
+package com.invex.jmc.employee.config.concurrency;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint, {@code /actuator/concurrency}, showing the live state of
+ * every endpoint class: its current limit, requests in flight, requests
+ * rejected so far and the latency the limit was last computed from.
+ */
+@Component
+@Endpoint(id = "concurrency")
+@RequiredArgsConstructor
+public class ConcurrencyLimitEndpoint {
+
+  private final ConcurrencyLimiters concurrencyLimiters;
+
+  /**
+   * Returns the state of the limiters.
+   *
+   * @return the state of each endpoint class, by class name
+   */
+  @ReadOperation
+  public Map<String, Map<String, Object>> limits() {
+    Map<String, Map<String, Object>> limits = new LinkedHashMap<>();
+    for (GradientLimiter limiter : concurrencyLimiters.all()) {
+      Map<String, Object> state = new LinkedHashMap<>();
+      state.put("limit", limiter.getLimit());
+      state.put("inFlight", limiter.getInFlight());
+      state.put("rejected", limiter.getRejected());
+      state.put("latencyMillis", limiter.getLatencyMillis());
+      limits.put(limiter.getName(), state);
+    }
+    return limits;
+  }
+}
@@ -0,0 +1,71 @@
+package com.invex.jmc.employee.config.concurrency;
+
+import com.invex.jmc.employee.config.ConfigConcurrency;
+import com.invex.jmc.employee.config.deadline.DeadlineInterceptor;
+import com.invex.jmc.employee.exceptions.ConcurrencyLimitExceededException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Admits API requests only while their endpoint class is under its concurrency
+ * limit.
+ *
+ * <p>Excess requests are rejected at once with a
+ * {@link ConcurrencyLimitExceededException} (503 with {@code Retry-After}).
+ * They are not queued behind the busy connection pool. Admitted requests
+ * report their latency to the limiter when they complete. A {@code 504}, meaning
+ * the request ran out of its deadline, counts as a drop, unless the caller
+ * chose that deadline with the deadline header: such a request only gives its
+ * slot back, since a client asking for a tiny budget says nothing about the
+ * load. An asynchronous request keeps its slot until its asynchronous dispatch
+ * completes.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ConcurrencyLimitInterceptor implements AsyncHandlerInterceptor {
+
+  private static final String LIMITER = ConcurrencyLimitInterceptor.class.getName() + ".limiter";
+  private static final String START = ConcurrencyLimitInterceptor.class.getName() + ".start";
+
+  private final ConfigConcurrency configConcurrency;
+  private final ConcurrencyLimiters concurrencyLimiters;
+
+  @Override
+  public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
+                           Object handler) {
+    if (!configConcurrency.isEnabled() || request.getAttribute(LIMITER) != null) {
+      return true;
+    }
+    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    concurrencyLimiters.forEndpoint(request.getMethod(), String.valueOf(pattern))
+        .ifPresent(limiter -> {
+          if (!limiter.tryAcquire()) {
+            throw new ConcurrencyLimitExceededException(limiter.getName(), limiter.getLimit(),
+                configConcurrency.getRetryAfter());
+          }
+          request.setAttribute(LIMITER, limiter);
+          request.setAttribute(START, System.nanoTime());
+        });
+    return true;
+  }
+
+  @Override
+  public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                              Object handler, Exception ex) {
+    if (request.getAttribute(LIMITER) instanceof GradientLimiter limiter) {
+      request.removeAttribute(LIMITER);
+      boolean timedOut = response.getStatus() == HttpStatus.GATEWAY_TIMEOUT.value();
+      if (timedOut && Boolean.TRUE.equals(
+          request.getAttribute(DeadlineInterceptor.CLIENT_BUDGET))) {
+        limiter.abandon();
+        return;
+      }
+      limiter.release(System.nanoTime() - (Long) request.getAttribute(START), timedOut);
+    }
+  }
+}
@@ -0,0 +1,59 @@
+package com.invex.jmc.employee.config.concurrency;
+
+import com.invex.jmc.employee.config.ConfigConcurrency;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+
+/**
+ * The {@link GradientLimiter} of every endpoint class, and the rules that
+ * assign endpoints to classes.
+ */
+@Component
+public class ConcurrencyLimiters {
+
+  private final ConfigConcurrency configConcurrency;
+  private final Map<String, GradientLimiter> limiters = new LinkedHashMap<>();
+
+  /**
+   * Creates a limiter for every configured class.
+   *
+   * @param configConcurrency limit configuration
+   * @param meterRegistry registry where the limiters are published
+   */
+  public ConcurrencyLimiters(ConfigConcurrency configConcurrency, MeterRegistry meterRegistry) {
+    this.configConcurrency = configConcurrency;
+    configConcurrency.getClasses().forEach((name, settings) ->
+        limiters.put(name, new GradientLimiter(name, settings, meterRegistry)));
+  }
+
+  /**
+   * Returns the limiter of an endpoint.
+   *
+   * @param method the HTTP method
+   * @param pattern the path pattern of the endpoint
+   * @return the limiter, or an empty optional if the endpoint is excluded or its
+   *     class has no limit configured
+   */
+  public Optional<GradientLimiter> forEndpoint(String method, String pattern) {
+    String endpoint = method + " " + pattern;
+    if (configConcurrency.getExcluded().contains(endpoint)) {
+      return Optional.empty();
+    }
+    String endpointClass = configConcurrency.getEndpoints().getOrDefault(endpoint,
+        "GET".equals(method) ? ConfigConcurrency.READS : ConfigConcurrency.WRITES);
+    return Optional.ofNullable(limiters.get(endpointClass));
+  }
+
+  /**
+   * Returns every limiter, in configuration order.
+   *
+   * @return the limiters
+   */
+  public Collection<GradientLimiter> all() {
+    return limiters.values();
+  }
+}
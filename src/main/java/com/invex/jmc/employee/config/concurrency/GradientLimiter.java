@@ -0,0 +1,203 @@
+package com.invex.jmc.employee.config.concurrency;
+
+import com.invex.jmc.employee.config.ConfigConcurrency;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit of one endpoint class, adjusted from the latency of the
+ * requests it lets through.
+ *
+ * <p>Latencies are averaged over windows of {@code window-size} requests.
+ * Each window is compared with the long-term average of previous windows.
+ * While the window is no slower than {@code tolerance} times that average, the
+ * limit grows by about its square root. When the window is slower, the limit
+ * shrinks in proportion, by at most half. Each new estimate is smoothed into
+ * the current one. This gradient rule (as in TCP Vegas) finds the concurrency
+ * at which the database starts queueing, without a fixed pool size. A request
+ * that times out shrinks the limit by {@code backoff-ratio} at once.</p>
+ *
+ * <p>Windows in which fewer than half the allowed requests were in flight do
+ * not change the limit, since the latency they show does not reflect the
+ * current limit. If the long-term average drifts to more than twice the
+ * current latency, for example after a slow period has ended, it decays
+ * toward the current latency.</p>
+ *
+ * <p>Publishes {@code employee.concurrency.limit}, {@code employee.concurrency.inflight}
+ * and {@code employee.concurrency.rejected}, tagged with the endpoint
+ * {@code class}.</p>
+ */
+public class GradientLimiter {
+
+  private final String name;
+  private final ConfigConcurrency.Limit settings;
+  private final int minLimit;
+  private final int maxLimit;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final Counter rejected;
+
+  private volatile int limit;
+  private double estimatedLimit;
+  private double longRttNanos;
+  private volatile double lastRttNanos;
+  private long samples;
+  private long windowRttNanos;
+  private int windowCount;
+  private int windowMaxInFlight;
+
+  /**
+   * Creates the limiter of an endpoint class.
+   *
+   * @param name the endpoint class
+   * @param settings limit settings of the class
+   * @param meterRegistry registry where the limiter is published
+   */
+  public GradientLimiter(String name, ConfigConcurrency.Limit settings,
+                         MeterRegistry meterRegistry) {
+    this.name = name;
+    this.settings = settings;
+    this.minLimit = Math.max(1, settings.getMinLimit());
+    this.maxLimit = Math.max(minLimit, settings.getMaxLimit());
+    this.estimatedLimit = clamp(settings.getInitialLimit());
+    this.limit = (int) estimatedLimit;
+    this.rejected = Counter.builder("employee.concurrency.rejected")
+        .description("Requests rejected by the concurrency limit")
+        .tag("class", name)
+        .register(meterRegistry);
+    Gauge.builder("employee.concurrency.limit", this, GradientLimiter::getLimit)
+        .description("Current concurrency limit")
+        .tag("class", name)
+        .register(meterRegistry);
+    Gauge.builder("employee.concurrency.inflight", this, GradientLimiter::getInFlight)
+        .description("Requests in flight")
+        .tag("class", name)
+        .register(meterRegistry);
+  }
+
+  /**
+   * Takes a slot for a request, unless the limit is reached.
+   *
+   * @return {@code true} if the request may proceed; it must then be released
+   */
+  public boolean tryAcquire() {
+    while (true) {
+      int current = inFlight.get();
+      if (current >= limit) {
+        rejected.increment();
+        return false;
+      }
+      if (inFlight.compareAndSet(current, current + 1)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Releases the slot of a completed request and records its latency.
+   *
+   * @param rttNanos time the request took
+   * @param dropped whether the request timed out, which shrinks the limit at once
+   */
+  public void release(long rttNanos, boolean dropped) {
+    int current = inFlight.getAndDecrement();
+    synchronized (this) {
+      if (dropped) {
+        estimatedLimit = clamp(estimatedLimit * settings.getBackoffRatio());
+        limit = (int) estimatedLimit;
+        return;
+      }
+      windowRttNanos += rttNanos;
+      windowMaxInFlight = Math.max(windowMaxInFlight, current);
+      if (++windowCount >= Math.max(1, settings.getWindowSize())) {
+        update((double) windowRttNanos / windowCount, windowMaxInFlight);
+        windowRttNanos = 0;
+        windowCount = 0;
+        windowMaxInFlight = 0;
+      }
+    }
+  }
+
+  /**
+   * Releases the slot of a request without recording it, for a request whose
+   * outcome says nothing about the load, such as one that ran out of a budget
+   * its caller chose.
+   */
+  public void abandon() {
+    inFlight.decrementAndGet();
+  }
+
+  private void update(double shortRtt, int maxInFlight) {
+    lastRttNanos = shortRtt;
+    samples++;
+    if (samples == 1) {
+      longRttNanos = shortRtt;
+    } else {
+      double factor = 2.0 / (Math.min(samples, Math.max(1, settings.getLongWindow())) + 1);
+      longRttNanos = longRttNanos * (1 - factor) + shortRtt * factor;
+    }
+    if (longRttNanos / shortRtt > 2) {
+      longRttNanos *= 0.95;
+    }
+    if (maxInFlight < estimatedLimit / 2) {
+      return;
+    }
+    double gradient = Math.max(0.5, Math.min(1.0,
+        settings.getTolerance() * longRttNanos / shortRtt));
+    double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+    estimatedLimit = clamp(estimatedLimit * (1 - settings.getSmoothing())
+        + newLimit * settings.getSmoothing());
+    limit = (int) estimatedLimit;
+  }
+
+  private double clamp(double value) {
+    return Math.max(minLimit, Math.min(maxLimit, value));
+  }
+
+  /**
+   * Returns the endpoint class.
+   *
+   * @return the class name
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Returns the current limit.
+   *
+   * @return requests allowed in flight
+   */
+  public int getLimit() {
+    return limit;
+  }
+
+  /**
+   * Returns the requests in flight.
+   *
+   * @return requests holding a slot
+   */
+  public int getInFlight() {
+    return inFlight.get();
+  }
+
+  /**
+   * Returns the requests rejected so far.
+   *
+   * @return rejected requests
+   */
+  public long getRejected() {
+    return (long) rejected.count();
+  }
+
+  /**
+   * Returns the average latency of the last complete window.
+   *
+   * @return milliseconds, zero before the first window
+   */
+  public double getLatencyMillis() {
+    return lastRttNanos / TimeUnit.MILLISECONDS.toNanos(1);
+  }
+}
@@ -0,0 +1,58 @@
+package com.invex.jmc.employee.config.deadline;
+
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Bounds the database work of API requests by their deadline.
+ *
+ * <p>Every {@link DataSource} bean is wrapped in a {@link DeadlineDataSource}.
+ * The wrapper unwraps to the original pool, so pool metrics and health checks
+ * keep reporting the Hikari pool. It is applied before any other wrapper, so
+ * that it sits directly on the pool and can bound the Hikari wait.</p>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "employee.deadline", name = "enabled", matchIfMissing = true)
+public class DeadlineConfig {
+
+  /**
+   * Wraps the data sources once they are initialized.
+   *
+   * <p>Declared {@code static} so that the post-processor is registered without
+   * initializing this configuration; the counters are resolved on first use.</p>
+   *
+   * @param deadlineCounters counters of exceeded deadlines
+   * @return the post-processor
+   */
+  @Bean
+  public static BeanPostProcessor deadlineDataSourcePostProcessor(
+      ObjectProvider<DeadlineCounters> deadlineCounters) {
+    return new DataSourcePostProcessor(deadlineCounters);
+  }
+
+  private static final class DataSourcePostProcessor implements BeanPostProcessor, Ordered {
+
+    private final ObjectProvider<DeadlineCounters> deadlineCounters;
+
+    private DataSourcePostProcessor(ObjectProvider<DeadlineCounters> deadlineCounters) {
+      this.deadlineCounters = deadlineCounters;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+      return bean instanceof DataSource dataSource && !(bean instanceof DeadlineDataSource)
+          ? new DeadlineDataSource(dataSource, deadlineCounters::getObject)
+          : bean;
+    }
+
+    @Override
+    public int getOrder() {
+      return Ordered.HIGHEST_PRECEDENCE;
+    }
+  }
+}
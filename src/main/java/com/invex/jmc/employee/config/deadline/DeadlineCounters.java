@@ -0,0 +1,56 @@
+package com.invex.jmc.employee.config.deadline;
+
+import com.invex.jmc.employee.exceptions.DeadlineExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts the requests that run out of their deadline.
+ *
+ * <p>Published as {@code employee.deadline.exceeded}, tagged with the
+ * {@code stage} where the budget ran out: {@code request} (already spent on
+ * arrival), {@code connection}, {@code query} or {@code feign}.</p>
+ */
+@Component
+public class DeadlineCounters {
+
+  private final MeterRegistry meterRegistry;
+  private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+  /**
+   * Creates the counters.
+   *
+   * @param meterRegistry registry where the counters are published
+   */
+  public DeadlineCounters(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * Counts a request that ran out of budget at the given stage.
+   *
+   * @param stage where the budget ran out
+   */
+  public void count(String stage) {
+    counters.computeIfAbsent(stage, tag -> Counter.builder("employee.deadline.exceeded")
+        .description("Requests that ran out of their deadline")
+        .tag("stage", tag)
+        .register(meterRegistry)).increment();
+  }
+
+  /**
+   * Counts a request that ran out of budget and builds the exception to throw.
+   *
+   * @param stage where the budget ran out
+   * @param budget the budget the request started with
+   * @return the exception reporting the exceeded deadline
+   */
+  public DeadlineExceededException exceeded(String stage, Duration budget) {
+    count(stage);
+    return new DeadlineExceededException(stage, budget);
+  }
+}
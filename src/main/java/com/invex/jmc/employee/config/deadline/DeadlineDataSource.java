@@ -0,0 +1,139 @@
+package com.invex.jmc.employee.config.deadline;
+
+import com.invex.jmc.employee.util.RequestDeadline;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.pool.HikariPool;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.util.Optional;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * {@link DataSource} that bounds database work by the {@link RequestDeadline}
+ * of the calling thread.
+ *
+ * <p>Outside a request it behaves exactly like the wrapped pool. Within a
+ * request:</p>
+ * <ul>
+ *   <li>A Hikari connection is waited for at most the remaining budget (or the
+ *       pool's {@code connection-timeout}, if shorter), instead of the pool-wide
+ *       timeout.</li>
+ *   <li>Every statement executed on the connection gets a JDBC query timeout of
+ *       the budget left at that moment, rounded up to whole seconds as JDBC
+ *       requires, unless a shorter one is already set. This is the same
+ *       timeout JPA applies for {@code javax.persistence.query.timeout}, so it
+ *       covers repository, JPQL and native queries alike, with or without a
+ *       transaction.</li>
+ *   <li>Once the budget is spent, acquiring a connection or executing a
+ *       statement fails immediately with a
+ *       {@link com.invex.jmc.employee.exceptions.DeadlineExceededException}.</li>
+ * </ul>
+ */
+public class DeadlineDataSource extends DelegatingDataSource {
+
+  private final Supplier<DeadlineCounters> deadlineCounters;
+
+  /**
+   * Creates the data source.
+   *
+   * @param target the connection pool
+   * @param deadlineCounters counters of exceeded deadlines, resolved on first use
+   */
+  public DeadlineDataSource(DataSource target, Supplier<DeadlineCounters> deadlineCounters) {
+    super(target);
+    this.deadlineCounters = deadlineCounters;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    Optional<RequestDeadline> current = RequestDeadline.current();
+    if (current.isEmpty()) {
+      return super.getConnection();
+    }
+    RequestDeadline deadline = current.get();
+    long remaining = deadline.remainingMillis();
+    if (remaining <= 0) {
+      throw deadlineCounters.get().exceeded("connection", deadline.getBudget());
+    }
+    Connection connection;
+    try {
+      connection = acquire(remaining);
+    } catch (SQLTransientConnectionException e) {
+      if (deadline.isExpired()) {
+        throw deadlineCounters.get().exceeded("connection", deadline.getBudget());
+      }
+      throw e;
+    }
+    return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(),
+        new Class<?>[] {Connection.class},
+        (proxy, method, args) -> {
+          Object result = invoke(connection, method, args, proxy);
+          return result instanceof Statement statement
+              ? statementProxy(statement, method.getReturnType(), deadline)
+              : result;
+        });
+  }
+
+  private Connection acquire(long remainingMillis) throws SQLException {
+    DataSource target = obtainTargetDataSource();
+    if (target instanceof HikariDataSource hikari
+        && hikari.getHikariPoolMXBean() instanceof HikariPool pool) {
+      return pool.getConnection(Math.min(remainingMillis, hikari.getConnectionTimeout()));
+    }
+    return target.getConnection();
+  }
+
+  private Object statementProxy(Statement statement, Class<?> type, RequestDeadline deadline) {
+    return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {type},
+        (proxy, method, args) -> {
+          if (!method.getName().startsWith("execute")) {
+            return invoke(statement, method, args, proxy);
+          }
+          long remaining = deadline.remainingMillis();
+          if (remaining <= 0) {
+            throw deadlineCounters.get().exceeded("query", deadline.getBudget());
+          }
+          int previous = statement.getQueryTimeout();
+          int seconds = (int) Math.min(Integer.MAX_VALUE, Math.max(1, (remaining + 999) / 1000));
+          if (previous == 0 || seconds < previous) {
+            statement.setQueryTimeout(seconds);
+          }
+          try {
+            return invoke(statement, method, args, proxy);
+          } catch (SQLTimeoutException e) {
+            if (deadline.isExpired()) {
+              deadlineCounters.get().count("query");
+            }
+            throw e;
+          } finally {
+            if (!statement.isClosed()) {
+              statement.setQueryTimeout(previous);
+            }
+          }
+        });
+  }
+
+  private static Object invoke(Object target, Method method, Object[] args, Object proxy)
+      throws Throwable {
+    switch (method.getName()) {
+      case "equals":
+        return proxy == args[0];
+      case "hashCode":
+        return System.identityHashCode(proxy);
+      default:
+        try {
+          return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+          throw e.getCause();
+        }
+    }
+  }
+}
@@ -0,0 +1,85 @@
+package com.invex.jmc.employee.config.deadline;
+
+import com.invex.jmc.employee.config.ConfigDeadline;
+import com.invex.jmc.employee.util.RequestDeadline;
+import java.time.Duration;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Starts the {@link RequestDeadline} of every API request.
+ *
+ * <p>The budget is the timeout configured for the endpoint (its method and
+ * path pattern, e.g. {@code GET /api/employees/search}) or the default one,
+ * shortened to the value of the deadline header when the caller sends a
+ * smaller one. A request that arrives with no budget left is rejected before
+ * reaching the controller. The deadline is cleared when the request completes
+ * or is handed over to an asynchronous thread.</p>
+ *
+ * <p>A request whose budget the caller chose marks itself with
+ * {@link #CLIENT_BUDGET}, so that running out of it is not taken as a sign of
+ * overload.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class DeadlineInterceptor implements AsyncHandlerInterceptor {
+
+  /**
+   * Request attribute set to {@code true} when the deadline header shortened
+   * the budget of the endpoint.
+   */
+  public static final String CLIENT_BUDGET = DeadlineInterceptor.class.getName() + ".clientBudget";
+
+  private final ConfigDeadline configDeadline;
+  private final DeadlineCounters deadlineCounters;
+
+  @Override
+  public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
+                           Object handler) {
+    if (!configDeadline.isEnabled()) {
+      return true;
+    }
+    Duration budget = configDeadline.getEndpoints().getOrDefault(
+        request.getMethod() + " " + request.getAttribute(
+            HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE),
+        configDeadline.getDefaultTimeout());
+    String header = request.getHeader(configDeadline.getHeader());
+    if (header != null && !header.isBlank()) {
+      Duration requested = parse(header);
+      if (requested.compareTo(budget) < 0) {
+        request.setAttribute(CLIENT_BUDGET, Boolean.TRUE);
+        budget = requested;
+      }
+      if (requested.isNegative() || requested.isZero()) {
+        throw deadlineCounters.exceeded("request", requested);
+      }
+    }
+    RequestDeadline.start(budget);
+    return true;
+  }
+
+  @Override
+  public void afterConcurrentHandlingStarted(HttpServletRequest request,
+                                             HttpServletResponse response, Object handler) {
+    RequestDeadline.clear();
+  }
+
+  @Override
+  public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                              Object handler, Exception ex) {
+    RequestDeadline.clear();
+  }
+
+  private Duration parse(String header) {
+    try {
+      return Duration.ofMillis(Long.parseLong(header.trim()));
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException(configDeadline.getHeader()
+          + " must be a number of milliseconds: " + header);
+    }
+  }
+}
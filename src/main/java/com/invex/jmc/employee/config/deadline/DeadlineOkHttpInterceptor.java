@@ -0,0 +1,63 @@
+package com.invex.jmc.employee.config.deadline;
+
+import com.invex.jmc.employee.config.ConfigDeadline;
+import com.invex.jmc.employee.util.RequestDeadline;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.springframework.stereotype.Component;
+
+/**
+ * OkHttp interceptor that carries the {@link RequestDeadline} of the calling
+ * thread to outgoing Feign calls.
+ *
+ * <p>The remaining budget is sent in the deadline header, so the downstream
+ * service can stop when the caller has given up, and it bounds the connect,
+ * read and write timeouts of the call. A call made with no budget left fails
+ * before anything is sent.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class DeadlineOkHttpInterceptor implements Interceptor {
+
+  private final ConfigDeadline configDeadline;
+  private final DeadlineCounters deadlineCounters;
+
+  @Override
+  public Response intercept(Chain chain) throws IOException {
+    Optional<RequestDeadline> current = RequestDeadline.current();
+    if (current.isEmpty()) {
+      return chain.proceed(chain.request());
+    }
+    RequestDeadline deadline = current.get();
+    long remaining = deadline.remainingMillis();
+    if (remaining <= 0) {
+      throw deadlineCounters.exceeded("feign", deadline.getBudget());
+    }
+    Request request = chain.request().newBuilder()
+        .header(configDeadline.getHeader(), Long.toString(remaining))
+        .build();
+    try {
+      return chain
+          .withConnectTimeout(bound(chain.connectTimeoutMillis(), remaining), TimeUnit.MILLISECONDS)
+          .withReadTimeout(bound(chain.readTimeoutMillis(), remaining), TimeUnit.MILLISECONDS)
+          .withWriteTimeout(bound(chain.writeTimeoutMillis(), remaining), TimeUnit.MILLISECONDS)
+          .proceed(request);
+    } catch (InterruptedIOException e) {
+      if (deadline.isExpired()) {
+        throw deadlineCounters.exceeded("feign", deadline.getBudget());
+      }
+      throw e;
+    }
+  }
+
+  private static int bound(int timeoutMillis, long remainingMillis) {
+    long bounded = timeoutMillis == 0 ? remainingMillis : Math.min(timeoutMillis, remainingMillis);
+    return (int) Math.min(Integer.MAX_VALUE, bounded);
+  }
+}
@@ -1,6 +1,9 @@
 package com.invex.jmc.employee.config.headers;
 
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -28,6 +31,27 @@ import org.springframework.context.annotation.Configuration;
  *
  * <p>Each API entry defines a unique name and the list of mandatory
  * HTTP headers that must be present on the request.</p>
+ *
+ * <p>Next to them, {@code quotas} defines per-client token-bucket quotas. Each
+ * client is identified by the value of a request header that stays the same
+ * across its requests, such as a client ID, or by the authenticated principal
+ * when the header is absent. Per-request values such as the {@code uuid}
+ * idempotency key must not be used, since every request would get a bucket of
+ * its own. At most {@code quota-max-buckets} buckets are held:</p>
+ *
+ * <pre>{@code
+ * headers:
+ *   quota-max-buckets: 10000
+ *   quotas:
+ *     - name: per-client
+ *       header: X-Client-Id
+ *       capacity: 200
+ *       refill-per-second: 50
+ *       clients:
+ *         batch-loader:
+ *           capacity: 20
+ *           refill-per-second: 5
+ * }</pre>
  */
 @Configuration
 @ConfigurationProperties(prefix = "headers")
@@ -44,6 +68,20 @@ public class ConfigHeaders {
    */
   private List<ApiHeaderRule> apis;
 
+  /**
+   * Per-client request quotas, checked in order on every API request.
+   */
+  private List<QuotaRule> quotas;
+
+  /** Interval between sweeps that drop the buckets of idle clients. */
+  private Duration quotaSweepInterval = Duration.ofMinutes(1);
+
+  /**
+   * Buckets held across all rules. Once reached, clients without a bucket
+   * share the overflow bucket of their rule until idle buckets are dropped.
+   */
+  private int quotaMaxBuckets = 10_000;
+
   /**
    * Represents a single header validation rule for a given API.
    *
@@ -62,6 +100,58 @@ public class ConfigHeaders {
     private List<String> required;
   }
 
+  /**
+   * Token-bucket quota applied to each client of an API.
+   *
+   * <p>A client may send {@code capacity} requests in a burst. Its bucket then
+   * refills at {@code refill-per-second} requests per second. Requests without
+   * the header are keyed by their principal, and anonymous ones share one
+   * bucket. A client listed in {@code clients} gets its own capacity and
+   * refill rate.</p>
+   */
+  @Getter
+  @Setter
+  public static class QuotaRule {
+
+    /** Name of the rule, used in metrics and error responses. */
+    private String name;
+
+    /** API the rule applies to, as in {@link ApiHeaderRule}; all APIs if empty. */
+    private String api;
+
+    /** Header whose value identifies the client; must be stable across its requests. */
+    private String header;
+
+    /** Characters of the header value that identify the client; 0 uses all of it. */
+    private int prefixLength;
+
+    /** Largest burst of requests a client may send. */
+    private long capacity = 100;
+
+    /** Requests per second added back to a client's bucket. */
+    private double refillPerSecond = 20;
+
+    /** Time a full bucket is kept after the client's last request. */
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    /** Capacity and refill rate of specific clients, by client key. */
+    private Map<String, ClientQuota> clients = new HashMap<>();
+  }
+
+  /**
+   * Quota of one specific client, overriding the one of its rule.
+   */
+  @Getter
+  @Setter
+  public static class ClientQuota {
+
+    /** Largest burst of requests the client may send. */
+    private long capacity;
+
+    /** Requests per second added back to the client's bucket. */
+    private double refillPerSecond;
+  }
+
   /**
    * Returns the list of required HTTP headers for the given API name.
    *
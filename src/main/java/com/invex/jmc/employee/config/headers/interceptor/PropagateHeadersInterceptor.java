@@ -0,0 +1,73 @@
+package com.invex.jmc.employee.config.headers.interceptor;
+
+import com.invex.jmc.employee.config.ConfigPropagateHeaders;
+import com.invex.jmc.employee.constants.ConstantsUtil;
+import feign.RequestInterceptor;
+import feign.RequestTemplate;
+import java.util.List;
+import javax.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Feign interceptor that forwards the headers listed in
+ * {@link ConfigPropagateHeaders} from the request being served to every
+ * downstream call.
+ *
+ * <p>The header names are resolved once, when the interceptor is created. Each
+ * call then reads those headers straight from the current servlet request, so
+ * nothing is copied and the incoming headers are never modified. Headers absent
+ * from the request are not sent, except {@code Accept-Language}, which defaults
+ * to {@link ConstantsUtil#DEF_MODALITY} when it is listed.</p>
+ *
+ * <p>Outside a request thread (scheduled tasks, asynchronous executors) only the
+ * {@code Accept-Language} default is added.</p>
+ */
+@Component
+public class PropagateHeadersInterceptor implements RequestInterceptor {
+
+  private final String[] headerNames;
+  private final int acceptLanguageIndex;
+
+  /**
+   * Creates the interceptor from the configured header names.
+   *
+   * @param configPropagateHeaders headers to propagate
+   */
+  public PropagateHeadersInterceptor(ConfigPropagateHeaders configPropagateHeaders) {
+    List<String> configured = configPropagateHeaders.getPropagateHeaders();
+    this.headerNames = configured == null ? new String[0] : configured.stream()
+        .map(String::trim)
+        .filter(name -> !name.isEmpty())
+        .distinct()
+        .toArray(String[]::new);
+    int index = -1;
+    for (int i = 0; i < headerNames.length; i++) {
+      if (headerNames[i].equalsIgnoreCase(ConstantsUtil.ACCEPT_LANGUAGE)) {
+        index = i;
+      }
+    }
+    this.acceptLanguageIndex = index;
+  }
+
+  @Override
+  public void apply(RequestTemplate template) {
+    HttpServletRequest request = currentRequest();
+    for (int i = 0; i < headerNames.length; i++) {
+      String value = request == null ? null : request.getHeader(headerNames[i]);
+      if (value == null && i == acceptLanguageIndex) {
+        value = ConstantsUtil.DEF_MODALITY;
+      }
+      if (value != null) {
+        template.header(headerNames[i], value);
+      }
+    }
+  }
+
+  private static HttpServletRequest currentRequest() {
+    RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+    return attributes instanceof ServletRequestAttributes servlet ? servlet.getRequest() : null;
+  }
+}
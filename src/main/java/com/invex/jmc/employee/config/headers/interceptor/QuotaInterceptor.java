@@ -0,0 +1,112 @@
+package com.invex.jmc.employee.config.headers.interceptor;
+
+import com.invex.jmc.employee.config.headers.ConfigHeaders;
+import com.invex.jmc.employee.config.headers.quota.QuotaBuckets;
+import com.invex.jmc.employee.config.headers.quota.TokenBucket;
+import com.invex.jmc.employee.exceptions.QuotaExceededException;
+import java.security.Principal;
+import java.time.Duration;
+import java.util.Locale;
+import javax.servlet.DispatcherType;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Interceptor that enforces the per-client quotas defined in
+ * {@link ConfigHeaders#getQuotas()}.
+ *
+ * <p>For every rule that applies to the API, the client is identified by the
+ * configured header (or its first {@code prefix-length} characters), by the
+ * principal when the header is absent, or else by its remote address, and a
+ * token is taken from its bucket. Unidentified clients therefore never share a
+ * bucket. A client without tokens left gets a
+ * {@link QuotaExceededException}, answered with 429 and the time to wait. So a
+ * single batch client cannot take the Tomcat threads and database connections
+ * from everyone else.</p>
+ *
+ * <p>Admitted requests get {@code RateLimit-Limit}, {@code RateLimit-Remaining}
+ * and {@code RateLimit-Reset} headers for the most restrictive rule, so that
+ * well-behaved clients can pace themselves.</p>
+ *
+ * <p>A token is taken only on the initial dispatch. The asynchronous dispatch
+ * of the same request (bulk inserts, the change stream) is not charged again,
+ * since by then the request has already run.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class QuotaInterceptor implements HandlerInterceptor {
+
+  /** Largest burst of requests the client may send. */
+  public static final String RATE_LIMIT_LIMIT = "RateLimit-Limit";
+
+  /** Requests left in the client's quota. */
+  public static final String RATE_LIMIT_REMAINING = "RateLimit-Remaining";
+
+  /** Seconds until the client's quota is full again. */
+  public static final String RATE_LIMIT_RESET = "RateLimit-Reset";
+
+  private final ConfigHeaders configHeaders;
+  private final QuotaBuckets quotaBuckets;
+
+  @Override
+  public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
+                           Object handler) {
+    if (configHeaders.getQuotas() == null
+        || request.getDispatcherType() == DispatcherType.ASYNC) {
+      return true;
+    }
+    String apiName = extractApiName(request);
+    TokenBucket.Consumption tightest = null;
+    for (ConfigHeaders.QuotaRule rule : configHeaders.getQuotas()) {
+      if (rule.getApi() != null && !rule.getApi().isBlank()
+          && !rule.getApi().equalsIgnoreCase(apiName)) {
+        continue;
+      }
+      TokenBucket.Consumption consumption = quotaBuckets.consume(rule, clientKey(rule, request));
+      if (!consumption.isAllowed()) {
+        throw new QuotaExceededException(rule.getName(), consumption.getLimit(),
+            Duration.ofNanos(consumption.getRetryAfterNanos()),
+            Duration.ofNanos(consumption.getResetNanos()));
+      }
+      if (tightest == null || consumption.getRemaining() < tightest.getRemaining()) {
+        tightest = consumption;
+      }
+    }
+    if (tightest != null) {
+      response.setHeader(RATE_LIMIT_LIMIT, Long.toString(tightest.getLimit()));
+      response.setHeader(RATE_LIMIT_REMAINING, Long.toString(tightest.getRemaining()));
+      response.setHeader(RATE_LIMIT_RESET,
+          Long.toString(toSeconds(Duration.ofNanos(tightest.getResetNanos()))));
+    }
+    return true;
+  }
+
+  /**
+   * Rounds a wait up to whole seconds, as HTTP headers express it.
+   *
+   * @param wait the time to wait
+   * @return seconds, at least 1 for any positive wait
+   */
+  public static long toSeconds(Duration wait) {
+    return (wait.toMillis() + 999) / 1000;
+  }
+
+  private static String clientKey(ConfigHeaders.QuotaRule rule, HttpServletRequest request) {
+    String value = rule.getHeader() == null ? null : request.getHeader(rule.getHeader());
+    if (value == null) {
+      Principal principal = request.getUserPrincipal();
+      return principal == null ? request.getRemoteAddr() : principal.getName();
+    }
+    value = value.trim();
+    return rule.getPrefixLength() > 0 && value.length() > rule.getPrefixLength()
+        ? value.substring(0, rule.getPrefixLength()) : value;
+  }
+
+  private static String extractApiName(HttpServletRequest request) {
+    String[] parts = request.getRequestURI().toLowerCase(Locale.ROOT).split("/");
+    return parts.length > 2 ? parts[2] : "";
+  }
+}
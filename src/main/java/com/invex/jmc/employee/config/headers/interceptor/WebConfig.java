@@ -1,5 +1,9 @@
 package com.invex.jmc.employee.config.headers.interceptor;
 
+import com.invex.jmc.employee.config.ConfigLoad;
+import com.invex.jmc.employee.config.concurrency.ConcurrencyLimitInterceptor;
+import com.invex.jmc.employee.config.deadline.DeadlineInterceptor;
+import com.invex.jmc.employee.config.load.LoadInterceptor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
@@ -27,6 +31,28 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 @RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
+  /**
+   * Interceptor that enforces the per-client request quotas.
+   */
+  private final QuotaInterceptor quotaInterceptor;
+
+  /**
+   * Interceptor that rejects API requests over the concurrency limit of
+   * their endpoint class.
+   */
+  private final ConcurrencyLimitInterceptor concurrencyLimitInterceptor;
+
+  /**
+   * Interceptor that reports the admitted API requests to the load signals
+   * published in the registry.
+   */
+  private final LoadInterceptor loadInterceptor;
+
+  /**
+   * Load signal configuration, with the paths left out of the signals.
+   */
+  private final ConfigLoad configLoad;
+
   /**
    * Interceptor responsible for validating required or prohibited
    * HTTP headers for incoming API requests.
@@ -36,11 +62,20 @@ public class WebConfig implements WebMvcConfigurer {
    */
   private final HeaderValidationInterceptor headerValidationInterceptor;
 
+  /**
+   * Interceptor that starts the deadline of every API request.
+   */
+  private final DeadlineInterceptor deadlineInterceptor;
+
   /**
    * Registers application interceptors.
    *
-   * <p>This method adds the {@link HeaderValidationInterceptor} to the
-   * Spring MVC interceptor chain and restricts its applicability to
+   * <p>This method adds the {@link QuotaInterceptor} and the
+   * {@link ConcurrencyLimitInterceptor}, first so that excess load is rejected
+   * before any other work, the {@link LoadInterceptor}, which only sees the
+   * admitted requests, the
+   * {@link HeaderValidationInterceptor} and the {@link DeadlineInterceptor} to the
+   * Spring MVC interceptor chain and restricts their applicability to
    * URL paths under {@code /api/**}. This prevents header validation
    * from being applied to non-API endpoints (e.g., actuator, static
    * files, documentation paths).</p>
@@ -49,7 +84,16 @@ public class WebConfig implements WebMvcConfigurer {
    */
   @Override
   public void addInterceptors(InterceptorRegistry registry) {
+    registry.addInterceptor(quotaInterceptor)
+        .addPathPatterns("/api/**");
+    registry.addInterceptor(concurrencyLimitInterceptor)
+        .addPathPatterns("/api/**");
+    registry.addInterceptor(loadInterceptor)
+        .addPathPatterns("/api/**")
+        .excludePathPatterns(configLoad.getExcluded());
     registry.addInterceptor(headerValidationInterceptor)
         .addPathPatterns("/api/**"); // o tus rutas personalizadas
+    registry.addInterceptor(deadlineInterceptor)
+        .addPathPatterns("/api/**");
   }
 }
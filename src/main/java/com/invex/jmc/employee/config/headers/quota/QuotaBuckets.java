@@ -0,0 +1,130 @@
+package com.invex.jmc.employee.config.headers.quota;
+
+import com.invex.jmc.employee.config.headers.ConfigHeaders;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Token buckets of every client, per quota rule.
+ *
+ * <p>Buckets are spread over {@value #STRIPES} independent maps by the hash of
+ * their key. A burst of new clients then grows one stripe, not a single shared
+ * table. Each idle-bucket sweep also walks the stripes one at a time. Taking a
+ * token never locks: finding the bucket is a concurrent map read, and taking
+ * the token is a compare-and-set on the bucket.</p>
+ *
+ * <p>Buckets that have been full for the {@code idle-timeout} of their rule are
+ * dropped, so memory follows the set of active clients. A dropped bucket is
+ * recreated full, which is the state it was in. At most
+ * {@code quota-max-buckets} buckets are held: once reached, new clients share
+ * one overflow bucket per rule until the sweep makes room.</p>
+ *
+ * <p>Publishes {@code employee.quota.buckets} and
+ * {@code employee.quota.throttled}, tagged with the {@code rule}.</p>
+ */
+@Component
+public class QuotaBuckets {
+
+  static final int STRIPES = 16;
+
+  /** Client key of the bucket shared by new clients once the buckets are capped. */
+  static final String OVERFLOW = "\u0000overflow";
+
+  private final ConfigHeaders configHeaders;
+  private final MeterRegistry meterRegistry;
+  @SuppressWarnings("unchecked")
+  private final Map<String, TokenBucket>[] stripes = new Map[STRIPES];
+  private final Map<String, Counter> throttled = new ConcurrentHashMap<>();
+
+  /**
+   * Creates empty buckets.
+   *
+   * @param configHeaders header configuration holding the quota rules
+   * @param meterRegistry registry where the buckets are published
+   */
+  public QuotaBuckets(ConfigHeaders configHeaders, MeterRegistry meterRegistry) {
+    this.configHeaders = configHeaders;
+    this.meterRegistry = meterRegistry;
+    for (int i = 0; i < STRIPES; i++) {
+      stripes[i] = new ConcurrentHashMap<>();
+    }
+    Gauge.builder("employee.quota.buckets", this, QuotaBuckets::size)
+        .description("Client token buckets held in memory")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Takes a token from the bucket of a client.
+   *
+   * @param rule the quota rule
+   * @param client the client key
+   * @return the outcome
+   */
+  public TokenBucket.Consumption consume(ConfigHeaders.QuotaRule rule, String client) {
+    long now = System.nanoTime();
+    String key = rule.getName() + '\u0000' + client;
+    TokenBucket bucket = stripe(key).get(key);
+    if (bucket == null) {
+      String owner = size() < configHeaders.getQuotaMaxBuckets() ? client : OVERFLOW;
+      String ownerKey = rule.getName() + '\u0000' + owner;
+      bucket = stripe(ownerKey).computeIfAbsent(ownerKey, k -> newBucket(rule, owner, now));
+    }
+    TokenBucket.Consumption consumption = bucket.tryConsume(now);
+    if (!consumption.isAllowed()) {
+      throttled.computeIfAbsent(rule.getName(), name -> Counter.builder("employee.quota.throttled")
+          .description("Requests refused by a client quota")
+          .tag("rule", name)
+          .register(meterRegistry)).increment();
+    }
+    return consumption;
+  }
+
+  /**
+   * Drops the buckets of clients that have been idle for the timeout of their rule.
+   */
+  @Scheduled(fixedDelayString = "#{@configHeaders.quotaSweepInterval.toMillis()}")
+  public void evictIdle() {
+    if (configHeaders.getQuotas() == null) {
+      return;
+    }
+    for (ConfigHeaders.QuotaRule rule : configHeaders.getQuotas()) {
+      String prefix = rule.getName() + '\u0000';
+      long idleNanos = rule.getIdleTimeout().toNanos();
+      for (Map<String, TokenBucket> stripe : stripes) {
+        long now = System.nanoTime();
+        stripe.entrySet().removeIf(entry -> entry.getKey().startsWith(prefix)
+            && entry.getValue().isIdle(now, idleNanos));
+      }
+    }
+  }
+
+  /**
+   * Returns the number of buckets held.
+   *
+   * @return buckets across every stripe
+   */
+  public int size() {
+    int size = 0;
+    for (Map<String, TokenBucket> stripe : stripes) {
+      size += stripe.size();
+    }
+    return size;
+  }
+
+  private Map<String, TokenBucket> stripe(String key) {
+    int hash = key.hashCode();
+    return stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+  }
+
+  private static TokenBucket newBucket(ConfigHeaders.QuotaRule rule, String client, long now) {
+    ConfigHeaders.ClientQuota override = rule.getClients().get(client);
+    return override == null
+        ? new TokenBucket(rule.getCapacity(), rule.getRefillPerSecond(), now)
+        : new TokenBucket(override.getCapacity(), override.getRefillPerSecond(), now);
+  }
+}
@@ -0,0 +1,134 @@
+package com.invex.jmc.employee.config.headers.quota;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket of one client.
+ *
+ * <p>The bucket is kept as a single timestamp, the theoretical arrival time of
+ * the next request (the generic cell rate algorithm). Each admitted request
+ * pushes it one refill interval forward. A request is refused when that would
+ * put it more than {@code capacity} intervals ahead of now. Taking a token is
+ * therefore a single compare-and-set. A bucket whose timestamp is in the past
+ * is full, and is equivalent to no bucket at all, which makes evicting idle
+ * buckets safe.</p>
+ */
+public class TokenBucket {
+
+  private final long capacity;
+  private final long intervalNanos;
+  private final long burstNanos;
+  private final AtomicLong arrival;
+
+  /**
+   * Creates a full bucket.
+   *
+   * @param capacity largest burst of requests
+   * @param refillPerSecond tokens added back per second
+   * @param nowNanos current time
+   */
+  public TokenBucket(long capacity, double refillPerSecond, long nowNanos) {
+    this.capacity = Math.max(1, capacity);
+    this.intervalNanos = Math.max(1, (long) (1_000_000_000L / refillPerSecond));
+    this.burstNanos = this.capacity * intervalNanos;
+    this.arrival = new AtomicLong(nowNanos);
+  }
+
+  /**
+   * Takes a token if one is available.
+   *
+   * @param nowNanos current time
+   * @return the outcome, with the tokens left or the time to wait
+   */
+  public Consumption tryConsume(long nowNanos) {
+    while (true) {
+      long current = arrival.get();
+      long next = Math.max(current, nowNanos) + intervalNanos;
+      long ahead = next - nowNanos;
+      if (ahead > burstNanos) {
+        return new Consumption(false, capacity, 0, ahead - burstNanos,
+            Math.max(0, current - nowNanos));
+      }
+      if (arrival.compareAndSet(current, next)) {
+        return new Consumption(true, capacity, (burstNanos - ahead) / intervalNanos, 0, ahead);
+      }
+    }
+  }
+
+  /**
+   * Indicates whether the bucket has been full for at least the given time.
+   *
+   * @param nowNanos current time
+   * @param idleNanos time the bucket must have been full
+   * @return {@code true} if the bucket can be dropped
+   */
+  public boolean isIdle(long nowNanos, long idleNanos) {
+    return nowNanos - arrival.get() >= idleNanos;
+  }
+
+  /**
+   * Outcome of taking a token.
+   */
+  public static final class Consumption {
+
+    private final boolean allowed;
+    private final long limit;
+    private final long remaining;
+    private final long retryAfterNanos;
+    private final long resetNanos;
+
+    Consumption(boolean allowed, long limit, long remaining, long retryAfterNanos,
+                long resetNanos) {
+      this.allowed = allowed;
+      this.limit = limit;
+      this.remaining = remaining;
+      this.retryAfterNanos = retryAfterNanos;
+      this.resetNanos = resetNanos;
+    }
+
+    /**
+     * Indicates whether the request may proceed.
+     *
+     * @return {@code true} if a token was taken
+     */
+    public boolean isAllowed() {
+      return allowed;
+    }
+
+    /**
+     * Returns the capacity of the bucket.
+     *
+     * @return largest burst of requests
+     */
+    public long getLimit() {
+      return limit;
+    }
+
+    /**
+     * Returns the tokens left after this request.
+     *
+     * @return requests that may still be sent at once
+     */
+    public long getRemaining() {
+      return remaining;
+    }
+
+    /**
+     * Returns the time until the next token is available.
+     *
+     * @return nanoseconds, zero if the request was allowed
+     */
+    public long getRetryAfterNanos() {
+      return retryAfterNanos;
+    }
+
+    /**
+     * Returns the time until the bucket is full again.
+     *
+     * @return nanoseconds
+     */
+    public long getResetNanos() {
+      return resetNanos;
+    }
+  }
+}
@@ -0,0 +1,102 @@
+package com.invex.jmc.employee.config.load;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Percentile estimate of recent latencies, in logarithmic buckets.
+ *
+ * <p>Each bucket is 10% wider than the previous one, from 1 ms up to about
+ * 90 s, so a percentile is exact within 10%. Latencies go into the current
+ * half of the window; every half window the halves rotate, so an estimate
+ * covers between half and all of the window. Recording takes no lock.</p>
+ */
+public class LatencyHistogram {
+
+  private static final double GROWTH = 1.1;
+  private static final int BUCKETS = 121;
+  private static final double LOG_GROWTH = Math.log(GROWTH);
+
+  private final long halfWindowNanos;
+  private volatile AtomicLongArray current = new AtomicLongArray(BUCKETS);
+  private volatile AtomicLongArray previous = new AtomicLongArray(BUCKETS);
+  private volatile long rotatedAt;
+
+  /**
+   * Creates an empty histogram.
+   *
+   * @param window period covered by the estimates
+   * @param now current {@link System#nanoTime()}
+   */
+  public LatencyHistogram(Duration window, long now) {
+    this.halfWindowNanos = Math.max(1, window.toNanos() / 2);
+    this.rotatedAt = now;
+  }
+
+  /**
+   * Records a latency.
+   *
+   * @param nanos the latency
+   * @param now current {@link System#nanoTime()}
+   */
+  public void record(long nanos, long now) {
+    rotateIfDue(now);
+    current.incrementAndGet(bucket(nanos));
+  }
+
+  /**
+   * Estimates a percentile of the latencies recorded in the window.
+   *
+   * @param quantile the percentile, between 0 and 1
+   * @param now current {@link System#nanoTime()}
+   * @return upper bound of the bucket of the percentile, in milliseconds; zero
+   *     when nothing was recorded
+   */
+  public double percentileMillis(double quantile, long now) {
+    rotateIfDue(now);
+    AtomicLongArray latest = current;
+    AtomicLongArray older = previous;
+    long[] counts = new long[BUCKETS];
+    long total = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      counts[i] = latest.get(i) + older.get(i);
+      total += counts[i];
+    }
+    if (total == 0) {
+      return 0;
+    }
+    long rank = (long) Math.ceil(quantile * total);
+    long seen = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      seen += counts[i];
+      if (seen >= rank) {
+        return Math.pow(GROWTH, i);
+      }
+    }
+    return Math.pow(GROWTH, BUCKETS - 1);
+  }
+
+  private void rotateIfDue(long now) {
+    if (now - rotatedAt < halfWindowNanos) {
+      return;
+    }
+    synchronized (this) {
+      long elapsed = now - rotatedAt;
+      if (elapsed < halfWindowNanos) {
+        return;
+      }
+      previous = elapsed < 2 * halfWindowNanos ? current : new AtomicLongArray(BUCKETS);
+      current = new AtomicLongArray(BUCKETS);
+      rotatedAt = now;
+    }
+  }
+
+  private static int bucket(long nanos) {
+    double millis = (double) nanos / TimeUnit.MILLISECONDS.toNanos(1);
+    if (millis <= 1) {
+      return 0;
+    }
+    return (int) Math.min(BUCKETS - 1, Math.ceil(Math.log(millis) / LOG_GROWTH));
+  }
+}
@@ -0,0 +1,117 @@
+package com.invex.jmc.employee.config.load;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Mono;
+
+/**
+ * Load balancer that prefers the instances publishing the lowest load.
+ *
+ * <p>Each instance is scored by the signals of its
+ * {@link LoadMetadataPublisher} metadata, as the time a new request is expected
+ * to take there: {@code (p99 + pool wait) * (in flight + 1)}. Since the
+ * metadata reaches callers with a delay, always sending to the best instance
+ * would pile every caller onto it until the next update. Instead, two
+ * instances are picked at random and the better scored one is chosen (power of
+ * two choices). Instances without signals, or with signals older than
+ * {@code employee.load.stale-after}, win such a comparison half the time.</p>
+ */
+public class LoadAwareLoadBalancer implements ReactorServiceInstanceLoadBalancer {
+
+  private final ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplier;
+  private final String serviceId;
+  private final long staleAfterMillis;
+
+  /**
+   * Creates the balancer of a service.
+   *
+   * @param serviceInstanceListSupplier the instances of the service
+   * @param serviceId the service name
+   * @param staleAfter age after which the signals of an instance are ignored
+   */
+  public LoadAwareLoadBalancer(
+      ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplier,
+      String serviceId, Duration staleAfter) {
+    this.serviceInstanceListSupplier = serviceInstanceListSupplier;
+    this.serviceId = serviceId;
+    this.staleAfterMillis = staleAfter.toMillis();
+  }
+
+  @Override
+  public Mono<Response<ServiceInstance>> choose(Request request) {
+    ServiceInstanceListSupplier supplier = serviceInstanceListSupplier
+        .getIfAvailable(() -> new NoopServiceInstanceListSupplier(serviceId));
+    return supplier.get(request).next()
+        .map(instances -> choose(instances, System.currentTimeMillis()));
+  }
+
+  /**
+   * Chooses among the instances of the service.
+   *
+   * @param instances the available instances
+   * @param now current time, in epoch milliseconds
+   * @return the chosen instance, or an empty response without instances
+   */
+  Response<ServiceInstance> choose(List<ServiceInstance> instances, long now) {
+    if (instances.isEmpty()) {
+      return new EmptyResponse();
+    }
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    ServiceInstance first = instances.get(random.nextInt(instances.size()));
+    if (instances.size() == 1) {
+      return new DefaultResponse(first);
+    }
+    int other = random.nextInt(instances.size() - 1);
+    ServiceInstance second = instances.get(
+        other >= instances.indexOf(first) ? other + 1 : other);
+    double firstScore = score(first, now);
+    double secondScore = score(second, now);
+    if (Double.isNaN(firstScore) || Double.isNaN(secondScore)) {
+      return new DefaultResponse(first);
+    }
+    return new DefaultResponse(secondScore < firstScore ? second : first);
+  }
+
+  /**
+   * Scores an instance by its published load.
+   *
+   * @param instance the instance
+   * @param now current time, in epoch milliseconds
+   * @return expected time of a new request, in milliseconds, or {@code NaN}
+   *     when the instance has no recent signals
+   */
+  double score(ServiceInstance instance, long now) {
+    Map<String, String> metadata = instance.getMetadata();
+    double updated = number(metadata, LoadMetadataPublisher.UPDATED);
+    if (Double.isNaN(updated) || now - updated > staleAfterMillis) {
+      return Double.NaN;
+    }
+    double inFlight = number(metadata, LoadMetadataPublisher.IN_FLIGHT);
+    double poolWait = number(metadata, LoadMetadataPublisher.POOL_WAIT);
+    double p99 = number(metadata, LoadMetadataPublisher.P99);
+    return (Math.max(1, p99) + poolWait) * (inFlight + 1);
+  }
+
+  private static double number(Map<String, String> metadata, String key) {
+    String value = metadata.get(key);
+    if (value == null) {
+      return Double.NaN;
+    }
+    try {
+      return Double.parseDouble(value);
+    } catch (NumberFormatException e) {
+      return Double.NaN;
+    }
+  }
+}
@@ -0,0 +1,48 @@
+package com.invex.jmc.employee.config.load;
+
+import com.invex.jmc.employee.config.ConfigLoad;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.cloud.loadbalancer.core.ReactorLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Makes the {@link LoadAwareLoadBalancer} the default balancer of every
+ * service called through Feign, in place of round robin.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "employee.load", name = "balancer-enabled", matchIfMissing = true)
+@LoadBalancerClients(defaultConfiguration = LoadBalancingConfig.LoadAwareConfiguration.class)
+public class LoadBalancingConfig {
+
+  /**
+   * Balancer configuration of each service, created in its load balancer
+   * context. Not annotated with {@code @Configuration}, so that it is not
+   * picked up by the application context itself.
+   */
+  static class LoadAwareConfiguration {
+
+    /**
+     * Creates the balancer of a service.
+     *
+     * @param environment environment of the service context, naming the service
+     * @param loadBalancerClientFactory factory of the service contexts
+     * @param configLoad load signal configuration
+     * @return the balancer
+     */
+    @Bean
+    public ReactorLoadBalancer<ServiceInstance> loadAwareLoadBalancer(
+        Environment environment, LoadBalancerClientFactory loadBalancerClientFactory,
+        ConfigLoad configLoad) {
+      String name = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+      return new LoadAwareLoadBalancer(
+          loadBalancerClientFactory.getLazyProvider(name, ServiceInstanceListSupplier.class),
+          name, configLoad.getStaleAfter());
+    }
+  }
+}
@@ -0,0 +1,41 @@
+package com.invex.jmc.employee.config.load;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * Reports every admitted API request to the {@link LoadSignals}.
+ *
+ * <p>An asynchronous request counts as in flight until its asynchronous
+ * dispatch completes.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class LoadInterceptor implements AsyncHandlerInterceptor {
+
+  private static final String START = LoadInterceptor.class.getName() + ".start";
+
+  private final LoadSignals loadSignals;
+
+  @Override
+  public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
+                           Object handler) {
+    if (request.getAttribute(START) == null) {
+      request.setAttribute(START, System.nanoTime());
+      loadSignals.started();
+    }
+    return true;
+  }
+
+  @Override
+  public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                              Object handler, Exception ex) {
+    if (request.getAttribute(START) instanceof Long start) {
+      request.removeAttribute(START);
+      loadSignals.completed(System.nanoTime() - start);
+    }
+  }
+}
@@ -0,0 +1,109 @@
+package com.invex.jmc.employee.config.load;
+
+import com.invex.jmc.employee.config.ConfigLoad;
+import com.netflix.appinfo.ApplicationInfoManager;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the {@link LoadSignals} of this instance in its Eureka metadata.
+ *
+ * <p>Signals are sampled every {@code employee.load.publish-interval} but only
+ * written to the instance metadata when one of them moved by more than
+ * {@code min-change}, or after {@code max-age}. The Eureka client then sends
+ * the updated instance on its next replication, so callers see the signals
+ * with a delay of up to a minute; the {@link LoadAwareLoadBalancer} is built
+ * to tolerate that. Nothing is published when the Eureka client is
+ * disabled.</p>
+ */
+@Slf4j
+@Component
+public class LoadMetadataPublisher {
+
+  /** Metadata key of the requests in flight. */
+  public static final String IN_FLIGHT = "load.inflight";
+
+  /** Metadata key of the average connection wait, in milliseconds. */
+  public static final String POOL_WAIT = "load.pool-wait-ms";
+
+  /** Metadata key of the p99 latency, in milliseconds. */
+  public static final String P99 = "load.p99-ms";
+
+  /** Metadata key of the publication time, in epoch milliseconds. */
+  public static final String UPDATED = "load.updated";
+
+  private final ConfigLoad configLoad;
+  private final LoadSignals loadSignals;
+  private final ObjectProvider<ApplicationInfoManager> applicationInfoManager;
+  private Map<String, Double> published = Map.of();
+  private long publishedAt;
+
+  /**
+   * Creates the publisher.
+   *
+   * @param configLoad load signal configuration
+   * @param loadSignals the signals to publish
+   * @param applicationInfoManager the Eureka instance, absent when Eureka is disabled
+   */
+  public LoadMetadataPublisher(ConfigLoad configLoad, LoadSignals loadSignals,
+                               ObjectProvider<ApplicationInfoManager> applicationInfoManager) {
+    this.configLoad = configLoad;
+    this.loadSignals = loadSignals;
+    this.applicationInfoManager = applicationInfoManager;
+  }
+
+  /**
+   * Samples the signals and publishes them if they changed enough.
+   */
+  @Scheduled(fixedDelayString = "#{@configLoad.publishInterval.toMillis()}")
+  public void publish() {
+    publish(System.currentTimeMillis());
+  }
+
+  /**
+   * Samples the signals and publishes them if they changed enough.
+   *
+   * @param now current time, in epoch milliseconds
+   * @return {@code true} if the metadata was updated
+   */
+  synchronized boolean publish(long now) {
+    ApplicationInfoManager manager = applicationInfoManager.getIfAvailable();
+    if (!configLoad.isEnabled() || manager == null) {
+      return false;
+    }
+    Map<String, Double> signals = Map.of(
+        IN_FLIGHT, (double) loadSignals.getInFlight(),
+        POOL_WAIT, loadSignals.samplePoolWaitMillis(),
+        P99, loadSignals.p99Millis());
+    if (now - publishedAt < configLoad.getMaxAge().toMillis() && !changed(signals)) {
+      return false;
+    }
+    Map<String, String> metadata = new HashMap<>();
+    signals.forEach((key, value) -> metadata.put(key, format(value)));
+    metadata.put(UPDATED, Long.toString(now));
+    manager.registerAppMetadata(metadata);
+    published = signals;
+    publishedAt = now;
+    log.debug("Published load metadata {}", metadata);
+    return true;
+  }
+
+  private boolean changed(Map<String, Double> signals) {
+    for (Map.Entry<String, Double> signal : signals.entrySet()) {
+      double before = published.getOrDefault(signal.getKey(), 0.0);
+      double threshold = Math.max(1, before * configLoad.getMinChange());
+      if (Math.abs(signal.getValue() - before) >= threshold) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static String format(double value) {
+    return Long.toString(Math.round(value));
+  }
+}
@@ -0,0 +1,97 @@
+package com.invex.jmc.employee.config.load;
+
+import com.invex.jmc.employee.config.ConfigLoad;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.stereotype.Component;
+
+/**
+ * Live load of this instance: API requests in flight, recent p99 latency and
+ * Hikari connection wait.
+ *
+ * <p>The requests are reported by the {@link LoadInterceptor}. The connection
+ * wait is the average of {@code hikaricp.connections.acquire} since the previous
+ * sample, across every pool.</p>
+ *
+ * <p>Publishes {@code employee.load.inflight}.</p>
+ */
+@Component
+public class LoadSignals {
+
+  private final MeterRegistry meterRegistry;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final LatencyHistogram latencies;
+  private long sampledAcquires;
+  private double sampledAcquireNanos;
+
+  /**
+   * Creates the signals.
+   *
+   * @param configLoad load signal configuration
+   * @param meterRegistry registry where the pool metrics are read
+   */
+  public LoadSignals(ConfigLoad configLoad, MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+    this.latencies = new LatencyHistogram(configLoad.getLatencyWindow(), System.nanoTime());
+    Gauge.builder("employee.load.inflight", inFlight, AtomicInteger::get)
+        .description("API requests in flight, as published to the registry")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Records the start of a request.
+   */
+  public void started() {
+    inFlight.incrementAndGet();
+  }
+
+  /**
+   * Records the end of a request.
+   *
+   * @param elapsedNanos time the request took
+   */
+  public void completed(long elapsedNanos) {
+    inFlight.decrementAndGet();
+    latencies.record(elapsedNanos, System.nanoTime());
+  }
+
+  /**
+   * Returns the requests in flight.
+   *
+   * @return requests started and not completed
+   */
+  public int getInFlight() {
+    return inFlight.get();
+  }
+
+  /**
+   * Estimates the p99 latency over the latency window.
+   *
+   * @return milliseconds, zero without requests
+   */
+  public double p99Millis() {
+    return latencies.percentileMillis(0.99, System.nanoTime());
+  }
+
+  /**
+   * Returns the average connection wait since the previous call.
+   *
+   * @return milliseconds, zero without acquisitions in between
+   */
+  public synchronized double samplePoolWaitMillis() {
+    long acquires = 0;
+    double acquireNanos = 0;
+    for (Timer timer : meterRegistry.find("hikaricp.connections.acquire").timers()) {
+      acquires += timer.count();
+      acquireNanos += timer.totalTime(TimeUnit.NANOSECONDS);
+    }
+    long count = acquires - sampledAcquires;
+    double nanos = acquireNanos - sampledAcquireNanos;
+    sampledAcquires = acquires;
+    sampledAcquireNanos = acquireNanos;
+    return count > 0 ? nanos / count / TimeUnit.MILLISECONDS.toNanos(1) : 0;
+  }
+}
@@ -0,0 +1,82 @@
+package com.invex.jmc.employee.config.replicas;
+
+import com.invex.jmc.employee.util.ReplicaRead;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * {@link DataSource} that sends replica reads to a healthy replica and
+ * everything else to the primary it wraps.
+ *
+ * <p>A connection goes to a replica only within {@link ReplicaRead#run}, outside
+ * any read-write transaction, and only when the client has not written within
+ * the read-your-writes window. If the replica fails to give a connection, it is
+ * taken out of rotation and the primary serves the read instead.</p>
+ *
+ * <p>The repositories take their connection when their own read-only
+ * transaction begins, so this data source must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy},
+ * which defers the choice to the first statement. With open-in-view, the
+ * connection is held for the rest of the request; the API never writes after
+ * a replica read within one request.</p>
+ */
+public class ReadWriteRoutingDataSource extends DelegatingDataSource {
+
+  private static final String PRIMARY = "primary";
+
+  private final Supplier<ReplicaPools> replicaPools;
+  private final Supplier<ReadYourWrites> readYourWrites;
+
+  /**
+   * Creates the data source.
+   *
+   * @param primary the primary pool
+   * @param replicaPools the replica pools, resolved on the first replica read
+   * @param readYourWrites the clients that have just written, resolved likewise
+   */
+  public ReadWriteRoutingDataSource(DataSource primary, Supplier<ReplicaPools> replicaPools,
+                                    Supplier<ReadYourWrites> readYourWrites) {
+    super(primary);
+    this.replicaPools = replicaPools;
+    this.readYourWrites = readYourWrites;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    if (!ReplicaRead.isActive()
+        || TransactionSynchronizationManager.isActualTransactionActive()
+        && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      return super.getConnection();
+    }
+    ReplicaPools pools = replicaPools.get();
+    if (readYourWrites.get().requiresPrimary()) {
+      pools.fallback(ReplicaPools.READ_YOUR_WRITES);
+      return primary(pools);
+    }
+    Optional<ReplicaPools.ReplicaPool> replica = pools.next();
+    if (replica.isEmpty()) {
+      pools.fallback(ReplicaPools.NO_REPLICA);
+      return primary(pools);
+    }
+    try {
+      Connection connection = replica.get().getDataSource().getConnection();
+      pools.routed(replica.get().getName());
+      return connection;
+    } catch (SQLException e) {
+      pools.markDown(replica.get(), e);
+      pools.fallback(ReplicaPools.REPLICA_ERROR);
+      return primary(pools);
+    }
+  }
+
+  private Connection primary(ReplicaPools pools) throws SQLException {
+    Connection connection = super.getConnection();
+    pools.routed(PRIMARY);
+    return connection;
+  }
+}
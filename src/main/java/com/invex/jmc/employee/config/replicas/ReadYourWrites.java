@@ -0,0 +1,82 @@
+package com.invex.jmc.employee.config.replicas;
+
+import com.invex.jmc.employee.config.ConfigReplicas;
+import com.invex.jmc.employee.services.events.EmployeeChangeEvent;
+import java.security.Principal;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Remembers which clients have just written, so that their reads stay on the
+ * primary for {@code employee.replicas.read-your-writes-window}.
+ *
+ * <p>The client is identified by the configured header of the current request
+ * or, without it, by the authenticated principal, and failing both by the
+ * remote address, so that anonymous clients do not send each other to the
+ * primary. Writes made outside a request share one client.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ReadYourWrites {
+
+  private static final int PRUNE_THRESHOLD = 10_000;
+
+  private final ConfigReplicas configReplicas;
+  private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+
+  /**
+   * Starts the window of the writing client once its change is committed.
+   *
+   * @param event the change published by the employee service
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onEmployeeChange(EmployeeChangeEvent event) {
+    recordWrite(System.nanoTime());
+  }
+
+  /**
+   * Starts the window of the current client.
+   *
+   * @param now current {@link System#nanoTime()}
+   */
+  void recordWrite(long now) {
+    lastWrites.put(clientKey(), now);
+    if (lastWrites.size() > PRUNE_THRESHOLD) {
+      long window = configReplicas.getReadYourWritesWindow().toNanos();
+      lastWrites.values().removeIf(written -> now - written >= window);
+    }
+  }
+
+  /**
+   * Indicates whether the current client wrote within the window.
+   *
+   * @return {@code true} if its reads must go to the primary
+   */
+  public boolean requiresPrimary() {
+    Long written = lastWrites.get(clientKey());
+    return written != null
+        && System.nanoTime() - written < configReplicas.getReadYourWritesWindow().toNanos();
+  }
+
+  private String clientKey() {
+    if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attrs)) {
+      return "";
+    }
+    HttpServletRequest request = attrs.getRequest();
+    String value = request.getHeader(configReplicas.getClientHeader());
+    if (value == null) {
+      Principal principal = request.getUserPrincipal();
+      return principal == null ? request.getRemoteAddr() : principal.getName();
+    }
+    value = value.trim();
+    int prefix = configReplicas.getClientPrefixLength();
+    return prefix > 0 && value.length() > prefix ? value.substring(0, prefix) : value;
+  }
+}
@@ -0,0 +1,236 @@
+package com.invex.jmc.employee.config.replicas;
+
+import com.invex.jmc.employee.config.ConfigDeadline;
+import com.invex.jmc.employee.config.ConfigReplicas;
+import com.invex.jmc.employee.config.deadline.DeadlineCounters;
+import com.invex.jmc.employee.config.deadline.DeadlineDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Connection pools of the read replicas and their health.
+ *
+ * <p>Each replica gets its own Hikari pool, named {@code replica-<name>}, which
+ * starts on first use so that an unreachable replica does not prevent startup.
+ * When request deadlines are enabled the pool is wrapped in a
+ * {@link DeadlineDataSource}, like the primary.</p>
+ *
+ * <p>Publishes {@code employee.replicas.up}, tagged with the {@code replica},
+ * {@code employee.replicas.routed}, tagged with the {@code target} (a replica
+ * or {@code primary}), and {@code employee.replicas.fallback}, tagged with the
+ * {@code reason} a replica read went to the primary.</p>
+ */
+@Slf4j
+@Component
+public class ReplicaPools {
+
+  /** Fallback reason when no replica is healthy. */
+  public static final String NO_REPLICA = "no-replica";
+
+  /** Fallback reason when the chosen replica failed to give a connection. */
+  public static final String REPLICA_ERROR = "replica-error";
+
+  /** Fallback reason when the client has just written. */
+  public static final String READ_YOUR_WRITES = "read-your-writes";
+
+  private final ConfigReplicas configReplicas;
+  private final MeterRegistry meterRegistry;
+  private final List<ReplicaPool> pools = new ArrayList<>();
+  private final AtomicInteger next = new AtomicInteger();
+  private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+  /**
+   * Creates the replica pools.
+   *
+   * @param configReplicas replica configuration
+   * @param configDeadline deadline configuration, deciding whether pools are bounded by it
+   * @param deadlineCounters counters of exceeded deadlines
+   * @param meterRegistry registry where the pools and routing are published
+   */
+  public ReplicaPools(ConfigReplicas configReplicas, ConfigDeadline configDeadline,
+                      ObjectProvider<DeadlineCounters> deadlineCounters,
+                      MeterRegistry meterRegistry) {
+    this.configReplicas = configReplicas;
+    this.meterRegistry = meterRegistry;
+    if (!configReplicas.isEnabled()) {
+      return;
+    }
+    for (ConfigReplicas.Replica replica : configReplicas.getReplicas()) {
+      HikariDataSource hikari = new HikariDataSource();
+      hikari.setPoolName("replica-" + replica.getName());
+      hikari.setJdbcUrl(replica.getUrl());
+      hikari.setUsername(replica.getUsername());
+      hikari.setPassword(replica.getPassword());
+      hikari.setMaximumPoolSize(replica.getMaximumPoolSize());
+      hikari.setMinimumIdle(replica.getMinimumIdle());
+      hikari.setConnectionTimeout(replica.getConnectionTimeout().toMillis());
+      hikari.setReadOnly(true);
+      hikari.setInitializationFailTimeout(-1);
+      hikari.setMetricRegistry(meterRegistry);
+      DataSource dataSource = configDeadline.isEnabled()
+          ? new DeadlineDataSource(hikari, deadlineCounters::getObject)
+          : hikari;
+      ReplicaPool pool = new ReplicaPool(replica.getName(), hikari, dataSource);
+      pools.add(pool);
+      Gauge.builder("employee.replicas.up", pool, p -> p.isUp() ? 1 : 0)
+          .description("Whether the replica receives replica reads")
+          .tag("replica", replica.getName())
+          .register(meterRegistry);
+    }
+  }
+
+  /**
+   * Chooses the next healthy replica, in turn.
+   *
+   * @return the replica, or empty when none is healthy
+   */
+  public Optional<ReplicaPool> next() {
+    int size = pools.size();
+    int start = Math.floorMod(next.getAndIncrement(), Math.max(1, size));
+    for (int i = 0; i < size; i++) {
+      ReplicaPool pool = pools.get((start + i) % size);
+      if (pool.isUp()) {
+        return Optional.of(pool);
+      }
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Takes a replica out of rotation until it passes a health check.
+   *
+   * @param pool the replica
+   * @param cause why it failed
+   */
+  public void markDown(ReplicaPool pool, SQLException cause) {
+    if (pool.up) {
+      pool.up = false;
+      log.warn("Replica {} is down: {}", pool.getName(), cause.getMessage());
+    }
+  }
+
+  /**
+   * Validates every replica and updates whether it receives reads.
+   */
+  @Scheduled(fixedDelayString = "#{@configReplicas.healthCheckInterval.toMillis()}")
+  public void checkHealth() {
+    int timeout = (int) Math.max(1, configReplicas.getHealthCheckTimeout().toSeconds());
+    for (ReplicaPool pool : pools) {
+      try (Connection connection = pool.hikari.getConnection()) {
+        if (!connection.isValid(timeout)) {
+          throw new SQLException("Connection validation failed");
+        }
+        if (!pool.up) {
+          pool.up = true;
+          log.info("Replica {} is back up", pool.getName());
+        }
+      } catch (SQLException e) {
+        markDown(pool, e);
+      }
+    }
+  }
+
+  /**
+   * Counts a replica read sent to a replica or to the primary.
+   *
+   * @param target name of the replica, or {@code primary}
+   */
+  void routed(String target) {
+    counter("employee.replicas.routed", "target", target,
+        "Read-only transactions by the data source that served them").increment();
+  }
+
+  /**
+   * Counts a replica read sent to the primary instead of a replica.
+   *
+   * @param reason {@link #NO_REPLICA}, {@link #REPLICA_ERROR} or {@link #READ_YOUR_WRITES}
+   */
+  void fallback(String reason) {
+    counter("employee.replicas.fallback", "reason", reason,
+        "Read-only transactions sent to the primary instead of a replica").increment();
+  }
+
+  private Counter counter(String name, String tag, String value, String description) {
+    return counters.computeIfAbsent(name + ' ' + value, key -> Counter.builder(name)
+        .description(description)
+        .tag(tag, value)
+        .register(meterRegistry));
+  }
+
+  /**
+   * Returns the replicas.
+   *
+   * @return every configured replica, healthy or not
+   */
+  public List<ReplicaPool> getPools() {
+    return pools;
+  }
+
+  /**
+   * Closes the replica pools.
+   */
+  @PreDestroy
+  public void close() {
+    pools.forEach(pool -> pool.hikari.close());
+  }
+
+  /**
+   * Pool of one replica.
+   */
+  public static final class ReplicaPool {
+
+    private final String name;
+    private final HikariDataSource hikari;
+    private final DataSource dataSource;
+    private volatile boolean up = true;
+
+    private ReplicaPool(String name, HikariDataSource hikari, DataSource dataSource) {
+      this.name = name;
+      this.hikari = hikari;
+      this.dataSource = dataSource;
+    }
+
+    /**
+     * Returns the name of the replica.
+     *
+     * @return the configured name
+     */
+    public String getName() {
+      return name;
+    }
+
+    /**
+     * Returns the data source of the replica.
+     *
+     * @return the pool, bounded by the request deadline when enabled
+     */
+    public DataSource getDataSource() {
+      return dataSource;
+    }
+
+    /**
+     * Indicates whether the replica receives reads.
+     *
+     * @return {@code false} after a failure, until the next passed health check
+     */
+    public boolean isUp() {
+      return up;
+    }
+  }
+}
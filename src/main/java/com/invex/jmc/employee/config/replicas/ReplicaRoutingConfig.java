@@ -0,0 +1,70 @@
+package com.invex.jmc.employee.config.replicas;
+
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Sends the reads marked with {@link com.invex.jmc.employee.util.ReplicaRead}
+ * to the read replicas.
+ *
+ * <p>Every {@link DataSource} bean is wrapped in a
+ * {@link ReadWriteRoutingDataSource} behind a
+ * {@link LazyConnectionDataSourceProxy}. The wrapper goes outside the
+ * {@link com.invex.jmc.employee.config.deadline.DeadlineDataSource} of the
+ * primary and inside the
+ * {@link com.invex.jmc.employee.config.bulkhead.BulkheadDataSource}, so bulk
+ * inserts keep their connection budget and each pool keeps its deadline.</p>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "employee.replicas", name = "enabled")
+public class ReplicaRoutingConfig {
+
+  /**
+   * Wraps the data sources once they are initialized.
+   *
+   * <p>Declared {@code static} so that the post-processor is registered without
+   * initializing this configuration; the replica pools are resolved on the
+   * first replica read.</p>
+   *
+   * @param replicaPools the replica pools
+   * @param readYourWrites the clients that have just written
+   * @return the post-processor
+   */
+  @Bean
+  public static BeanPostProcessor replicaRoutingDataSourcePostProcessor(
+      ObjectProvider<ReplicaPools> replicaPools, ObjectProvider<ReadYourWrites> readYourWrites) {
+    return new DataSourcePostProcessor(replicaPools, readYourWrites);
+  }
+
+  private static final class DataSourcePostProcessor implements BeanPostProcessor, Ordered {
+
+    private final ObjectProvider<ReplicaPools> replicaPools;
+    private final ObjectProvider<ReadYourWrites> readYourWrites;
+
+    private DataSourcePostProcessor(ObjectProvider<ReplicaPools> replicaPools,
+                                    ObjectProvider<ReadYourWrites> readYourWrites) {
+      this.replicaPools = replicaPools;
+      this.readYourWrites = readYourWrites;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+      return bean instanceof DataSource dataSource
+          && !(bean instanceof LazyConnectionDataSourceProxy)
+          ? new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(dataSource,
+              replicaPools::getObject, readYourWrites::getObject))
+          : bean;
+    }
+
+    @Override
+    public int getOrder() {
+      return Ordered.HIGHEST_PRECEDENCE + 1;
+    }
+  }
+}
@@ -0,0 +1,205 @@
+package com.invex.jmc.employee.config.sharding;
+
+import com.invex.jmc.employee.config.ConfigSharding;
+import com.invex.jmc.employee.model.entities.EmployeeEntity;
+import com.invex.jmc.employee.model.entities.JobPositionEntity;
+import com.invex.jmc.employee.model.entities.SexEntity;
+import com.invex.jmc.employee.model.repositories.EmployeeRepository;
+import com.invex.jmc.employee.model.repositories.EmployeeStatsRepositoryImpl;
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * One shard of the employee storage: its pool, persistence unit, transaction
+ * manager and {@link EmployeeRepository}.
+ *
+ * <p>The persistence unit holds only the employees and copies of the
+ * catalogs they reference. Work on the shard runs through
+ * {@link #execute(boolean, Supplier)}: inside a transaction of the primary,
+ * the shard joins with a transaction of its own that commits just before the
+ * primary one and rolls back with it, whatever the number of shards joined;
+ * outside, the work gets a transaction of its own.</p>
+ */
+public class EmployeeShard implements AutoCloseable {
+
+  private static final List<String> MANAGED_CLASSES = List.of(EmployeeEntity.class.getName(),
+      SexEntity.class.getName(), JobPositionEntity.class.getName());
+
+  private final String name;
+  private final HikariDataSource pool;
+  private final LocalContainerEntityManagerFactoryBean factory;
+  private final EntityManagerFactory entityManagerFactory;
+  private final EntityManager entityManager;
+  private final TransactionTemplate readOnly;
+  private final TransactionTemplate readWrite;
+  private final EmployeeRepository repository;
+
+  /**
+   * Creates the shard and its persistence unit.
+   *
+   * @param settings connection settings of the shard
+   * @param jpaProperties Hibernate properties of the persistence unit
+   * @param wrapper applied to the pool, such as the request deadline and the bulkhead
+   */
+  public EmployeeShard(ConfigSharding.Shard settings, Map<String, Object> jpaProperties,
+                       UnaryOperator<DataSource> wrapper) {
+    this.name = settings.getName();
+    this.pool = new HikariDataSource();
+    pool.setPoolName("shard-" + name);
+    pool.setJdbcUrl(settings.getUrl());
+    pool.setUsername(settings.getUsername());
+    pool.setPassword(settings.getPassword());
+    pool.setMaximumPoolSize(settings.getMaximumPoolSize());
+    pool.setMinimumIdle(settings.getMinimumIdle());
+
+    this.factory = new LocalContainerEntityManagerFactoryBean();
+    factory.setPersistenceUnitName("shard-" + name);
+    factory.setDataSource(wrapper.apply(pool));
+    factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+    factory.setPackagesToScan(EmployeeEntity.class.getPackageName());
+    factory.setPersistenceUnitPostProcessors(
+        unit -> unit.getManagedClassNames().retainAll(MANAGED_CLASSES));
+    factory.setJpaPropertyMap(jpaProperties);
+    factory.afterPropertiesSet();
+    this.entityManagerFactory = factory.getObject();
+    this.entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+
+    JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+    this.readWrite = new TransactionTemplate(transactionManager);
+    this.readOnly = new TransactionTemplate(transactionManager);
+    readOnly.setReadOnly(true);
+    this.repository = new JpaRepositoryFactory(entityManager).getRepository(
+        EmployeeRepository.class,
+        RepositoryFragments.just(new EmployeeStatsRepositoryImpl(entityManager)));
+  }
+
+  /**
+   * Runs work on the shard within a transaction.
+   *
+   * @param readOnlyWork whether the work only reads, when it gets a transaction of its own
+   * @param work the work, using {@link #getRepository()} or {@link #getEntityManager()}
+   * @param <T> type of the result
+   * @return the result of the work
+   */
+  public <T> T execute(boolean readOnlyWork, Supplier<T> work) {
+    if (TransactionSynchronizationManager.isActualTransactionActive()
+        && TransactionSynchronizationManager.isSynchronizationActive()) {
+      join();
+      return work.get();
+    }
+    return (readOnlyWork ? readOnly : readWrite).execute(status -> work.get());
+  }
+
+  /**
+   * Begins a shard transaction on this thread, completed with the primary one.
+   *
+   * <p>The shard's entity manager is bound as a resource and its completion is
+   * registered with the synchronizations of the primary transaction. No shard
+   * transaction is begun through the transaction manager, since that would
+   * suspend the synchronizations of the primary: the commit of a shard joined
+   * earlier, and the after-commit listeners, would then run with the wrong
+   * transaction.</p>
+   */
+  private void join() {
+    if (TransactionSynchronizationManager.hasResource(entityManagerFactory)) {
+      return;
+    }
+    EntityManager joined = entityManagerFactory.createEntityManager();
+    try {
+      if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+        Session session = joined.unwrap(Session.class);
+        session.setDefaultReadOnly(true);
+        session.setHibernateFlushMode(FlushMode.MANUAL);
+      }
+      joined.getTransaction().begin();
+    } catch (RuntimeException e) {
+      EntityManagerFactoryUtils.closeEntityManager(joined);
+      throw translate(e);
+    }
+    EntityManagerHolder holder = new EntityManagerHolder(joined);
+    holder.setSynchronizedWithTransaction(true);
+    TransactionSynchronizationManager.bindResource(entityManagerFactory, holder);
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void beforeCommit(boolean readOnlyTransaction) {
+        try {
+          joined.getTransaction().commit();
+        } catch (RuntimeException e) {
+          throw translate(e);
+        }
+      }
+
+      @Override
+      public void afterCompletion(int outcome) {
+        TransactionSynchronizationManager.unbindResourceIfPossible(entityManagerFactory);
+        try {
+          if (joined.getTransaction().isActive()) {
+            joined.getTransaction().rollback();
+          }
+        } finally {
+          EntityManagerFactoryUtils.closeEntityManager(joined);
+        }
+      }
+    });
+  }
+
+  private static RuntimeException translate(RuntimeException e) {
+    RuntimeException translated = EntityManagerFactoryUtils.convertJpaAccessExceptionIfPossible(e);
+    return translated != null ? translated : e;
+  }
+
+  /**
+   * Returns the name of the shard.
+   *
+   * @return the configured name
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Returns the employee repository of the shard.
+   *
+   * @return the repository; to be used within {@link #execute(boolean, Supplier)}
+   */
+  public EmployeeRepository getRepository() {
+    return repository;
+  }
+
+  /**
+   * Returns the shared entity manager of the shard.
+   *
+   * @return the entity manager; to be used within {@link #execute(boolean, Supplier)}
+   */
+  public EntityManager getEntityManager() {
+    return entityManager;
+  }
+
+  /**
+   * Closes the persistence unit and the pool.
+   */
+  @Override
+  public void close() {
+    factory.destroy();
+    pool.close();
+  }
+}
@@ -0,0 +1,146 @@
+package com.invex.jmc.employee.config.sharding;
+
+import com.invex.jmc.employee.util.RequestDeadline;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * The shards of the employee storage and the threads that query them.
+ *
+ * <p>An employee lives in the shard given by {@link #shardOf(String)}: the
+ * 64-bit FNV-1a hash of its identifier, mapped with jump consistent hashing.
+ * Jump hashing needs no ring or table, and appending a shard moves only the
+ * {@code 1/n} of the employees that now belong to it.</p>
+ *
+ * <p>{@link #scatter(Function)} runs a read on every shard in parallel, each in
+ * a read-only transaction of its own, carrying over the request deadline.
+ * Reads on the scatter threads do not see writes of a transaction still open
+ * on the calling thread.</p>
+ */
+public class EmployeeShards implements AutoCloseable {
+
+  private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+  private static final long JUMP_MULTIPLIER = 2862933555777941757L;
+
+  private final List<EmployeeShard> shards;
+  private final ThreadPoolExecutor executor;
+
+  /**
+   * Creates the shard set and its scatter threads.
+   *
+   * @param shards the shards, in hash order
+   * @param scatterThreads threads that run the queries of a scatter-gather
+   */
+  public EmployeeShards(List<EmployeeShard> shards, int scatterThreads) {
+    if (shards.isEmpty()) {
+      throw new IllegalArgumentException("At least one shard is required");
+    }
+    this.shards = List.copyOf(shards);
+    int threads = Math.max(1, scatterThreads);
+    this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+        new LinkedBlockingQueue<>(), runnable -> {
+          Thread thread = new Thread(runnable, "employee-shard");
+          thread.setDaemon(true);
+          return thread;
+        });
+  }
+
+  /**
+   * Returns the shard of an employee.
+   *
+   * @param idEmployee the employee ID
+   * @return the shard where the employee is stored
+   */
+  public EmployeeShard shardOf(String idEmployee) {
+    return shards.get(indexOf(idEmployee, shards.size()));
+  }
+
+  /**
+   * Returns the shard index of an identifier.
+   *
+   * @param idEmployee the employee ID
+   * @param buckets number of shards
+   * @return index in {@code [0, buckets)}
+   */
+  static int indexOf(String idEmployee, int buckets) {
+    long key = FNV_OFFSET;
+    for (byte b : idEmployee.getBytes(StandardCharsets.UTF_8)) {
+      key ^= b & 0xff;
+      key *= FNV_PRIME;
+    }
+    long bucket = -1;
+    long next = 0;
+    while (next < buckets) {
+      bucket = next;
+      key = key * JUMP_MULTIPLIER + 1;
+      next = (long) ((bucket + 1) * ((double) (1L << 31) / ((key >>> 33) + 1)));
+    }
+    return (int) bucket;
+  }
+
+  /**
+   * Runs a read on every shard in parallel.
+   *
+   * @param read the read to run, given each shard
+   * @param <T> type of the result of one shard
+   * @return the results, in shard order
+   */
+  public <T> List<T> scatter(Function<EmployeeShard, T> read) {
+    if (shards.size() == 1) {
+      EmployeeShard shard = shards.get(0);
+      return List.of(shard.execute(true, () -> read.apply(shard)));
+    }
+    Optional<RequestDeadline> deadline = RequestDeadline.current();
+    List<CompletableFuture<T>> futures = new ArrayList<>(shards.size());
+    for (EmployeeShard shard : shards) {
+      futures.add(CompletableFuture.supplyAsync(() -> {
+        deadline.ifPresent(RequestDeadline::attach);
+        try {
+          return shard.execute(true, () -> read.apply(shard));
+        } finally {
+          RequestDeadline.clear();
+        }
+      }, executor));
+    }
+    List<T> results = new ArrayList<>(futures.size());
+    try {
+      for (CompletableFuture<T> future : futures) {
+        results.add(future.join());
+      }
+    } catch (CompletionException e) {
+      futures.forEach(future -> future.cancel(false));
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+    return results;
+  }
+
+  /**
+   * Returns the shards.
+   *
+   * @return the shards, in hash order
+   */
+  public List<EmployeeShard> getShards() {
+    return shards;
+  }
+
+  /**
+   * Stops the scatter threads and closes every shard.
+   */
+  @Override
+  public void close() {
+    executor.shutdownNow();
+    shards.forEach(EmployeeShard::close);
+  }
+}
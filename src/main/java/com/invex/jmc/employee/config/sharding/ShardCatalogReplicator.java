@@ -0,0 +1,75 @@
+package com.invex.jmc.employee.config.sharding;
+
+import com.invex.jmc.employee.model.entities.JobPositionEntity;
+import com.invex.jmc.employee.model.entities.SexEntity;
+import com.invex.jmc.employee.model.repositories.JobPositionRepository;
+import com.invex.jmc.employee.model.repositories.SexRepository;
+import java.util.List;
+import javax.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Copies the sex and job position catalogs from the primary to every shard.
+ *
+ * <p>Employees reference the catalogs by foreign key, so each shard keeps its
+ * own copy. The primary stays the place where the catalogs are maintained;
+ * rows are merged into the shards when the application starts and then every
+ * {@code catalog-sync-interval}. Rows removed from the primary are kept on the
+ * shards, since employees may still reference them.</p>
+ */
+@Slf4j
+public class ShardCatalogReplicator {
+
+  private final EmployeeShards shards;
+  private final SexRepository sexRepository;
+  private final JobPositionRepository jobPositionRepository;
+
+  /**
+   * Creates the replicator.
+   *
+   * @param shards the shards to copy the catalogs to
+   * @param sexRepository sex catalog of the primary
+   * @param jobPositionRepository job position catalog of the primary
+   */
+  public ShardCatalogReplicator(EmployeeShards shards, SexRepository sexRepository,
+                                JobPositionRepository jobPositionRepository) {
+    this.shards = shards;
+    this.sexRepository = sexRepository;
+    this.jobPositionRepository = jobPositionRepository;
+  }
+
+  /**
+   * Copies the catalogs when the application starts.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void initialize() {
+    replicate();
+  }
+
+  /**
+   * Copies the catalogs to pick up changes made on the primary.
+   */
+  @Scheduled(fixedDelayString = "#{@configSharding.catalogSyncInterval.toMillis()}",
+      initialDelayString = "#{@configSharding.catalogSyncInterval.toMillis()}")
+  public void replicate() {
+    List<SexEntity> sexes = sexRepository.findAll();
+    List<JobPositionEntity> jobPositions = jobPositionRepository.findAll();
+    for (EmployeeShard shard : shards.getShards()) {
+      try {
+        shard.execute(false, () -> {
+          EntityManager entityManager = shard.getEntityManager();
+          sexes.forEach(entityManager::merge);
+          jobPositions.forEach(entityManager::merge);
+          return null;
+        });
+      } catch (RuntimeException e) {
+        log.warn("Could not copy the catalogs to shard {}: {}", shard.getName(), e.getMessage());
+      }
+    }
+    log.debug("Copied {} sexes and {} job positions to {} shards",
+        sexes.size(), jobPositions.size(), shards.getShards().size());
+  }
+}
@@ -0,0 +1,196 @@
+package com.invex.jmc.employee.config.sharding;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Merging of the results that the shards return for one query.
+ */
+final class ShardMerge {
+
+  private ShardMerge() {
+  }
+
+  /**
+   * Builds a comparator that orders entities like the database does for a sort.
+   *
+   * <p>Properties may be nested paths. Null values go first in ascending order
+   * unless the sort says otherwise, as in H2 and MySQL.</p>
+   *
+   * @param sort the sort order; must be sorted
+   * @return comparator of the sort keys of two entities
+   */
+  static Comparator<Object[]> keyComparator(Sort sort) {
+    List<Sort.Order> orders = sort.toList();
+    return (left, right) -> {
+      for (int i = 0; i < orders.size(); i++) {
+        int result = compareValues(orders.get(i), left[i], right[i]);
+        if (result != 0) {
+          return result;
+        }
+      }
+      return 0;
+    };
+  }
+
+  /**
+   * Extracts the sort keys of an entity.
+   *
+   * @param sort the sort order
+   * @param entity the entity
+   * @return the value of each sorted property, in sort order
+   */
+  static Object[] keys(Sort sort, Object entity) {
+    BeanWrapperImpl wrapper = new BeanWrapperImpl(entity);
+    return sort.stream()
+        .map(order -> wrapper.getPropertyValue(order.getProperty()))
+        .toArray();
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static int compareValues(Sort.Order order, Object left, Object right) {
+    if (left == null || right == null) {
+      if (left == right) {
+        return 0;
+      }
+      boolean nullsFirst = order.getNullHandling() == Sort.NullHandling.NATIVE
+          ? order.isAscending()
+          : order.getNullHandling() == Sort.NullHandling.NULLS_FIRST;
+      return (left == null) == nullsFirst ? -1 : 1;
+    }
+    int result = order.isIgnoreCase() && left instanceof String l && right instanceof String r
+        ? l.compareToIgnoreCase(r)
+        : ((Comparable) left).compareTo(right);
+    return order.isAscending() ? result : -result;
+  }
+
+  /**
+   * Merges lists that are each sorted into one sorted list.
+   *
+   * <p>Keeps one cursor per list in a heap, so merging {@code n} elements from
+   * {@code k} lists takes {@code n log k} comparisons. Equal elements keep the
+   * order of the lists they come from.</p>
+   *
+   * @param lists the sorted lists, one per shard
+   * @param sort the order of every list
+   * @param skip elements to drop from the start of the merged result
+   * @param limit maximum elements to return after those skipped
+   * @param <T> type of the elements
+   * @return the merged elements
+   */
+  static <T> List<T> merge(List<? extends List<T>> lists, Sort sort, long skip, int limit) {
+    List<Object[][]> sortKeys = new ArrayList<>(lists.size());
+    for (List<T> list : lists) {
+      sortKeys.add(list.stream().map(entity -> keys(sort, entity)).toArray(Object[][]::new));
+    }
+    Comparator<Object[]> byKeys = keyComparator(sort);
+    PriorityQueue<int[]> heads = new PriorityQueue<>((left, right) -> {
+      int result = byKeys.compare(sortKeys.get(left[0])[left[1]],
+          sortKeys.get(right[0])[right[1]]);
+      return result != 0 ? result : Integer.compare(left[0], right[0]);
+    });
+    for (int i = 0; i < lists.size(); i++) {
+      if (!lists.get(i).isEmpty()) {
+        heads.add(new int[] {i, 0});
+      }
+    }
+    List<T> merged = new ArrayList<>(Math.min(limit, lists.stream().mapToInt(List::size).sum()));
+    long skipped = 0;
+    while (!heads.isEmpty() && merged.size() < limit) {
+      int[] head = heads.poll();
+      List<T> list = lists.get(head[0]);
+      if (skipped < skip) {
+        skipped++;
+      } else {
+        merged.add(list.get(head[1]));
+      }
+      if (++head[1] < list.size()) {
+        heads.add(head);
+      }
+    }
+    return merged;
+  }
+
+  /**
+   * Combines the lists of every shard: merged when sorted, concatenated otherwise.
+   *
+   * @param lists the lists, one per shard, each in the given order
+   * @param sort the order of every list
+   * @param skip elements to drop from the start of the combined result
+   * @param limit maximum elements to return after those skipped
+   * @param <T> type of the elements
+   * @return the combined elements
+   */
+  static <T> List<T> combine(List<? extends List<T>> lists, Sort sort, long skip, int limit) {
+    if (sort.isSorted()) {
+      return merge(lists, sort, skip, limit);
+    }
+    return lists.stream().flatMap(List::stream).skip(skip).limit(limit).toList();
+  }
+
+  /**
+   * Combines the pages of every shard into the requested page.
+   *
+   * @param pages first {@code offset + size} rows of each shard, with its total
+   * @param pageable the page requested by the caller
+   * @param sort the order of the rows
+   * @param <T> type of the rows
+   * @return the requested page, with the total of every shard
+   */
+  static <T> Page<T> page(List<? extends Page<T>> pages, Pageable pageable, Sort sort) {
+    List<List<T>> contents = pages.stream().map(Page::getContent).toList();
+    long total = pages.stream().mapToLong(Page::getTotalElements).sum();
+    List<T> content = pageable.isPaged()
+        ? combine(contents, sort, pageable.getOffset(), pageable.getPageSize())
+        : combine(contents, sort, 0, Integer.MAX_VALUE);
+    return new PageImpl<>(content, pageable, total);
+  }
+
+  /**
+   * Returns the request each shard runs for a page: its first
+   * {@code offset + size} rows, which are enough to find the rows of the page.
+   *
+   * @param pageable the page requested by the caller
+   * @return the page to request from each shard
+   */
+  static Pageable shardPage(Pageable pageable) {
+    return pageable.isPaged()
+        ? PageRequest.of(0, Math.toIntExact(pageable.getOffset() + pageable.getPageSize()),
+            pageable.getSort())
+        : pageable;
+  }
+
+  /**
+   * Adds up the grouped counts of every shard.
+   *
+   * @param results rows of each shard: the dimension values followed by the count
+   * @return one row per group with the total count, in order of first appearance
+   */
+  static List<Object[]> sumGroups(List<List<Object[]>> results) {
+    Map<List<Object>, Long> totals = new LinkedHashMap<>();
+    for (List<Object[]> rows : results) {
+      for (Object[] row : rows) {
+        List<Object> group = Arrays.asList(Arrays.copyOf(row, row.length - 1));
+        totals.merge(group, ((Number) row[row.length - 1]).longValue(), Long::sum);
+      }
+    }
+    List<Object[]> rows = new ArrayList<>(totals.size());
+    totals.forEach((group, count) -> {
+      Object[] row = Arrays.copyOf(group.toArray(), group.size() + 1);
+      row[group.size()] = count;
+      rows.add(row);
+    });
+    return rows;
+  }
+}
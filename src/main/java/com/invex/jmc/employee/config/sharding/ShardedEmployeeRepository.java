@@ -0,0 +1,294 @@
+package com.invex.jmc.employee.config.sharding;
+
+import com.invex.jmc.employee.model.entities.EmployeeEntity;
+import com.invex.jmc.employee.model.repositories.EmployeeRepository;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * {@link EmployeeRepository} that spreads the employees across the shards.
+ *
+ * <p>Each method is resolved by its signature when the repository is created:</p>
+ * <ul>
+ *   <li>by ID, or saving or deleting an employee, it runs on the shard of that
+ *       employee;</li>
+ *   <li>with a collection of IDs or employees, it runs once per shard with the
+ *       elements of that shard; {@code saveAll} returns the saved employees in
+ *       the order they were given;</li>
+ *   <li>anything else is a scatter-gather: reads run on every shard in
+ *       parallel, and writes run on every shard in turn.</li>
+ * </ul>
+ *
+ * <p>Gathered results are combined by type. Counts are added and existence
+ * checks are or-ed; an optional result may be found on one shard at most.
+ * Sorted lists and pages are merged with {@link ShardMerge#merge}: for page
+ * {@code p} of size {@code s}, each shard returns its first {@code (p + 1) * s}
+ * rows, which are enough to find the rows of the page; totals are added.
+ * Unsorted lists are concatenated and grouped counts are added per group.
+ * Streams are chained lazily, each shard joining the caller's transaction as it
+ * is reached, so they must be opened and consumed within a transaction; without
+ * one they fail at once rather than when consumed. Fluent queries, by example
+ * or by specification, are combined by {@link ShardedFluentQuery}. Methods
+ * whose order is fixed by their query, rather than by a {@link Sort}, are
+ * listed in {@link #ORDERED}.</p>
+ *
+ * <p>A method whose result cannot be combined across shards makes
+ * {@link #create(EmployeeShards)} fail, so that it is found at startup rather
+ * than when it is first called.</p>
+ */
+public final class ShardedEmployeeRepository implements InvocationHandler {
+
+  private static final Set<String> BY_ID = Set.of("findById", "existsById", "deleteById",
+      "getById", "getOne", "getReferenceById", "findEmployeeByIdEmployee");
+
+  private static final Map<String, Sort> ORDERED = Map.of(
+      "findChangedSince", Sort.by("ts", "idEmployee"),
+      "findByIdEmployeeStartingWithOrderByIdEmployee", Sort.by("idEmployee"));
+
+  private final EmployeeShards shards;
+  private final Map<Method, Handler> handlers = new HashMap<>();
+
+  private ShardedEmployeeRepository(EmployeeShards shards) {
+    this.shards = shards;
+    List<String> unsupported = new ArrayList<>();
+    for (Method method : EmployeeRepository.class.getMethods()) {
+      if (method.isDefault() || Modifier.isStatic(method.getModifiers())) {
+        continue;
+      }
+      Handler handler = resolve(method);
+      if (handler == null) {
+        unsupported.add(method.toGenericString());
+      } else {
+        handlers.put(method, handler);
+      }
+    }
+    if (!unsupported.isEmpty()) {
+      throw new IllegalStateException("Not supported across shards: " + unsupported);
+    }
+  }
+
+  /**
+   * Creates the repository over the shards.
+   *
+   * @param shards the shards
+   * @return a repository that runs each call on the shards it concerns
+   * @throws IllegalStateException if a method of the repository cannot be run
+   *         across shards
+   */
+  public static EmployeeRepository create(EmployeeShards shards) {
+    return (EmployeeRepository) Proxy.newProxyInstance(EmployeeRepository.class.getClassLoader(),
+        new Class<?>[] {EmployeeRepository.class}, new ShardedEmployeeRepository(shards));
+  }
+
+  @Override
+  public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+    if (method.getDeclaringClass() == Object.class) {
+      return switch (method.getName()) {
+        case "equals" -> proxy == args[0];
+        case "hashCode" -> System.identityHashCode(proxy);
+        default -> "ShardedEmployeeRepository" + shards.getShards().stream()
+            .map(EmployeeShard::getName).toList();
+      };
+    }
+    if (method.isDefault()) {
+      return InvocationHandler.invokeDefault(proxy, method, args);
+    }
+    return handlers.get(method).handle(method, args == null ? new Object[0] : args);
+  }
+
+  /**
+   * Runs one call of a method on the shards.
+   */
+  @FunctionalInterface
+  private interface Handler {
+
+    Object handle(Method method, Object[] arguments);
+  }
+
+  @SuppressWarnings("unchecked")
+  private Handler resolve(Method method) {
+    String name = method.getName();
+    Class<?>[] parameters = method.getParameterTypes();
+    Class<?> type = method.getReturnType();
+    if (BY_ID.contains(name) && parameters.length == 1) {
+      return (target, arguments) -> on(shards.shardOf((String) arguments[0]), target, arguments);
+    }
+    if (parameters.length == 1 && Iterable.class.isAssignableFrom(parameters[0])
+        && isKeyed(method)) {
+      return type == void.class || type.isAssignableFrom(ArrayList.class) ? this::grouped : null;
+    }
+    if (isWrite(method) && parameters.length == 1
+        && parameters[0].isAssignableFrom(EmployeeEntity.class)) {
+      return (target, arguments) -> on(
+          shards.shardOf(((EmployeeEntity) arguments[0]).getIdEmployee()), target, arguments);
+    }
+    if (Stream.class.isAssignableFrom(type)) {
+      return this::streamed;
+    }
+    if (name.equals("findBy") && parameters.length == 2 && parameters[1] == Function.class) {
+      return (target, arguments) -> ((Function<Object, Object>) arguments[1]).apply(
+          new ShardedFluentQuery<>(shards, target, arguments[0]));
+    }
+    if (type == void.class || isWrite(method)) {
+      return type == void.class || isCount(type) ? this::broadcast : null;
+    }
+    if (type == boolean.class || type == Boolean.class || isCount(type) || type == Optional.class
+        || type == Page.class || type.isAssignableFrom(ArrayList.class)) {
+      return this::gathered;
+    }
+    return null;
+  }
+
+  private Object grouped(Method method, Object[] arguments) {
+    Map<EmployeeShard, List<Object>> groups = new LinkedHashMap<>();
+    List<EmployeeShard> order = new ArrayList<>();
+    for (Object element : (Iterable<?>) arguments[0]) {
+      EmployeeShard shard = shards.shardOf(element instanceof EmployeeEntity employee
+          ? employee.getIdEmployee() : (String) element);
+      groups.computeIfAbsent(shard, key -> new ArrayList<>()).add(element);
+      order.add(shard);
+    }
+    Map<EmployeeShard, Iterator<?>> results = new LinkedHashMap<>();
+    groups.forEach((shard, group) -> {
+      Object result = on(shard, method, new Object[] {group});
+      if (result instanceof Iterable<?> iterable) {
+        results.put(shard, iterable.iterator());
+      }
+    });
+    if (method.getReturnType() == void.class) {
+      return null;
+    }
+    List<Object> combined = new ArrayList<>();
+    if (method.getName().startsWith("saveAll")) {
+      order.forEach(shard -> combined.add(results.get(shard).next()));
+    } else {
+      results.values().forEach(iterator -> iterator.forEachRemaining(combined::add));
+    }
+    return combined;
+  }
+
+  private Object streamed(Method method, Object[] arguments) {
+    if (!TransactionSynchronizationManager.isActualTransactionActive()
+        || !TransactionSynchronizationManager.isSynchronizationActive()) {
+      throw new InvalidDataAccessApiUsageException("Streams of the sharded employee"
+          + " repository must be opened and consumed within a transaction");
+    }
+    return shards.getShards().stream()
+        .flatMap(shard -> shard.execute(true, () -> (Stream<?>) call(shard, method, arguments)));
+  }
+
+  private Object broadcast(Method method, Object[] arguments) {
+    long count = 0;
+    for (EmployeeShard shard : shards.getShards()) {
+      Object result = on(shard, method, arguments);
+      count += result instanceof Number number ? number.longValue() : 0;
+    }
+    return method.getReturnType() == void.class ? null : sum(method.getReturnType(), count);
+  }
+
+  @SuppressWarnings("unchecked")
+  private Object gathered(Method method, Object[] arguments) {
+    Pageable pageable = Pageable.unpaged();
+    Sort sort = ORDERED.getOrDefault(method.getName(), Sort.unsorted());
+    Object[] shardArguments = arguments.clone();
+    for (int i = 0; i < arguments.length; i++) {
+      if (arguments[i] instanceof Pageable page) {
+        pageable = page;
+        sort = page.getSort().isSorted() ? page.getSort() : sort;
+        shardArguments[i] = ShardMerge.shardPage(page);
+      } else if (arguments[i] instanceof Sort order && order.isSorted()) {
+        sort = order;
+      }
+    }
+    List<Object> results = shards.scatter(shard -> call(shard, method, shardArguments));
+
+    Class<?> type = method.getReturnType();
+    if (type == boolean.class || type == Boolean.class) {
+      return results.stream().anyMatch(Boolean.TRUE::equals);
+    }
+    if (isCount(type)) {
+      return sum(type, results.stream().mapToLong(result -> ((Number) result).longValue()).sum());
+    }
+    if (type == Optional.class) {
+      List<?> found = results.stream().map(result -> (Optional<?>) result)
+          .flatMap(Optional::stream).toList();
+      if (found.size() > 1) {
+        throw new IncorrectResultSizeDataAccessException(1, found.size());
+      }
+      return found.stream().findFirst();
+    }
+    if (type == Page.class) {
+      return ShardMerge.page(results.stream().map(result -> (Page<Object>) result).toList(),
+          pageable, sort);
+    }
+    if (method.getName().equals("countGroupedBy")) {
+      return ShardMerge.sumGroups(results.stream().map(result -> (List<Object[]>) result).toList());
+    }
+    List<List<Object>> lists = results.stream().map(result -> (List<Object>) result).toList();
+    return pageable.isPaged()
+        ? ShardMerge.combine(lists, sort, pageable.getOffset(), pageable.getPageSize())
+        : ShardMerge.combine(lists, sort, 0, Integer.MAX_VALUE);
+  }
+
+  private static boolean isKeyed(Method method) {
+    if (method.getGenericParameterTypes()[0] instanceof ParameterizedType parameterized) {
+      Type element = parameterized.getActualTypeArguments()[0];
+      return !(element instanceof Class<?> elementClass)
+          || elementClass == String.class || elementClass == EmployeeEntity.class;
+    }
+    return true;
+  }
+
+  private static boolean isCount(Class<?> type) {
+    return type == long.class || type == Long.class || type == int.class || type == Integer.class;
+  }
+
+  private static Object sum(Class<?> type, long count) {
+    return type == int.class || type == Integer.class ? Math.toIntExact(count) : count;
+  }
+
+  private static boolean isWrite(Method method) {
+    String name = method.getName();
+    return name.startsWith("save") || name.startsWith("delete") || name.startsWith("flush")
+        || method.isAnnotationPresent(Modifying.class);
+  }
+
+  private static Object on(EmployeeShard shard, Method method, Object[] arguments) {
+    return shard.execute(!isWrite(method), () -> call(shard, method, arguments));
+  }
+
+  static Object call(EmployeeShard shard, Method method, Object[] arguments) {
+    try {
+      return method.invoke(shard.getRepository(), arguments);
+    } catch (InvocationTargetException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new IllegalStateException(e.getCause());
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,145 @@
+package com.invex.jmc.employee.config.sharding;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.query.FluentQuery.FetchableFluentQuery;
+
+/**
+ * Fluent query over every shard, given to the function passed to a
+ * {@code findBy} method of the {@link ShardedEmployeeRepository}.
+ *
+ * <p>Each terminal operation runs the query, with the sort, result type and
+ * projection set so far, on every shard in parallel and combines the results
+ * like the repository does: rows are merged by the sort, counts are added and
+ * existence checks are or-ed. {@link #oneValue()} fails if more than one shard
+ * has a match. {@link #stream()} reads the rows like {@link #all()}, since the
+ * rows of the shards have to be merged.</p>
+ *
+ * @param <T> type of the results
+ */
+final class ShardedFluentQuery<T> implements FetchableFluentQuery<T> {
+
+  private final EmployeeShards shards;
+  private final Method findBy;
+  private final Object criteria;
+  private final Sort sort;
+  private final Class<?> resultType;
+  private final Collection<String> properties;
+
+  /**
+   * Creates the query for one call of a {@code findBy} method.
+   *
+   * @param shards the shards
+   * @param findBy the method, taking the criteria and the query function
+   * @param criteria the example or specification the employees must match
+   */
+  ShardedFluentQuery(EmployeeShards shards, Method findBy, Object criteria) {
+    this(shards, findBy, criteria, Sort.unsorted(), null, null);
+  }
+
+  private ShardedFluentQuery(EmployeeShards shards, Method findBy, Object criteria, Sort sort,
+                             Class<?> resultType, Collection<String> properties) {
+    this.shards = shards;
+    this.findBy = findBy;
+    this.criteria = criteria;
+    this.sort = sort;
+    this.resultType = resultType;
+    this.properties = properties;
+  }
+
+  @Override
+  public FetchableFluentQuery<T> sortBy(Sort sort) {
+    return new ShardedFluentQuery<>(shards, findBy, criteria, this.sort.and(sort), resultType,
+        properties);
+  }
+
+  @Override
+  public <R> FetchableFluentQuery<R> as(Class<R> resultType) {
+    return new ShardedFluentQuery<>(shards, findBy, criteria, sort, resultType, properties);
+  }
+
+  @Override
+  public FetchableFluentQuery<T> project(Collection<String> properties) {
+    return new ShardedFluentQuery<>(shards, findBy, criteria, sort, resultType,
+        List.copyOf(properties));
+  }
+
+  @Override
+  public T oneValue() {
+    List<T> found = values(FetchableFluentQuery::oneValue);
+    if (found.size() > 1) {
+      throw new IncorrectResultSizeDataAccessException(1, found.size());
+    }
+    return found.isEmpty() ? null : found.get(0);
+  }
+
+  @Override
+  public T firstValue() {
+    List<List<T>> firsts = values(FetchableFluentQuery::firstValue).stream()
+        .map(List::of).toList();
+    List<T> first = ShardMerge.combine(firsts, sort, 0, 1);
+    return first.isEmpty() ? null : first.get(0);
+  }
+
+  @Override
+  public List<T> all() {
+    return ShardMerge.combine(shards.scatter(shard -> fetch(shard, FetchableFluentQuery::all)),
+        sort, 0, Integer.MAX_VALUE);
+  }
+
+  @Override
+  public Page<T> page(Pageable pageable) {
+    Pageable shardPage = pageable.isPaged()
+        ? PageRequest.of(0, Math.toIntExact(pageable.getOffset() + pageable.getPageSize()))
+        : Pageable.unpaged();
+    List<Page<T>> pages = shards.scatter(shard -> fetch(shard,
+        query -> query.sortBy(pageable.getSort()).page(shardPage)));
+    return ShardMerge.page(pages, pageable, sort.and(pageable.getSort()));
+  }
+
+  @Override
+  public Stream<T> stream() {
+    return all().stream();
+  }
+
+  @Override
+  public long count() {
+    return shards.scatter(shard -> fetch(shard, FetchableFluentQuery::count)).stream()
+        .mapToLong(Long::longValue).sum();
+  }
+
+  @Override
+  public boolean exists() {
+    return shards.scatter(shard -> fetch(shard, FetchableFluentQuery::exists)).stream()
+        .anyMatch(Boolean.TRUE::equals);
+  }
+
+  private List<T> values(Function<FetchableFluentQuery<T>, T> terminal) {
+    return shards.scatter(shard -> Optional.ofNullable(fetch(shard, terminal))).stream()
+        .flatMap(Optional::stream).toList();
+  }
+
+  @SuppressWarnings("unchecked")
+  private <R> R fetch(EmployeeShard shard, Function<FetchableFluentQuery<T>, R> terminal) {
+    Function<FetchableFluentQuery<?>, R> query = shardQuery -> {
+      FetchableFluentQuery<?> configured = shardQuery.sortBy(sort);
+      if (resultType != null) {
+        configured = configured.as(resultType);
+      }
+      if (properties != null) {
+        configured = configured.project(properties);
+      }
+      return terminal.apply((FetchableFluentQuery<T>) configured);
+    };
+    return (R) ShardedEmployeeRepository.call(shard, findBy, new Object[] {criteria, query});
+  }
+}
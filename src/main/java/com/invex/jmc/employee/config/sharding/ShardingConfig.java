@@ -0,0 +1,103 @@
+package com.invex.jmc.employee.config.sharding;
+
+import com.invex.jmc.employee.config.ConfigBulkhead;
+import com.invex.jmc.employee.config.ConfigDeadline;
+import com.invex.jmc.employee.config.bulkhead.BulkWriteBulkhead;
+import com.invex.jmc.employee.config.bulkhead.BulkheadDataSource;
+import com.invex.jmc.employee.config.ConfigSharding;
+import com.invex.jmc.employee.config.deadline.DeadlineCounters;
+import com.invex.jmc.employee.config.deadline.DeadlineDataSource;
+import com.invex.jmc.employee.model.repositories.EmployeeRepository;
+import com.invex.jmc.employee.model.repositories.JobPositionRepository;
+import com.invex.jmc.employee.model.repositories.SexRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Stores employees across the shards of {@link ConfigSharding}.
+ *
+ * <p>The {@link ShardedEmployeeRepository} replaces the repository of the
+ * primary wherever an {@link EmployeeRepository} is injected. Each shard gets
+ * the JPA settings of the primary, with its own {@code ddl-auto}. Its pool is
+ * bounded by the request deadline and, outside it, by the connection budget of
+ * the bulk write bulkhead, like the primary, when each is enabled. Writes on a
+ * shard join the transaction of the primary: every shard written commits just
+ * before the primary does and rolls back with it. This is not a distributed transaction; if the
+ * primary fails to commit after a shard has, the shard keeps the change.</p>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "employee.sharding", name = "enabled")
+public class ShardingConfig {
+
+  /**
+   * Opens the shards.
+   *
+   * @param configSharding sharding configuration
+   * @param jpaProperties JPA settings of the primary
+   * @param hibernateProperties Hibernate settings of the primary
+   * @param configDeadline deadline configuration, deciding whether shards are bounded by it
+   * @param deadlineCounters counters of exceeded deadlines
+   * @param configBulkhead bulkhead configuration, deciding whether shards are bounded by it
+   * @param bulkhead the bulk write bulkhead, resolved on first use
+   * @return the shards, closed with the context
+   */
+  @Bean(destroyMethod = "close")
+  public EmployeeShards employeeShards(ConfigSharding configSharding,
+                                       JpaProperties jpaProperties,
+                                       HibernateProperties hibernateProperties,
+                                       ConfigDeadline configDeadline,
+                                       ObjectProvider<DeadlineCounters> deadlineCounters,
+                                       ConfigBulkhead configBulkhead,
+                                       ObjectProvider<BulkWriteBulkhead> bulkhead) {
+    Map<String, Object> properties = hibernateProperties.determineHibernateProperties(
+        jpaProperties.getProperties(),
+        new HibernateSettings().ddlAuto(configSharding::getDdlAuto));
+    UnaryOperator<DataSource> deadline = configDeadline.isEnabled()
+        ? dataSource -> new DeadlineDataSource(dataSource, deadlineCounters::getObject)
+        : UnaryOperator.identity();
+    UnaryOperator<DataSource> wrapper = configBulkhead.isEnabled()
+        ? dataSource -> new BulkheadDataSource(deadline.apply(dataSource), bulkhead::getObject)
+        : deadline;
+    List<EmployeeShard> shards = configSharding.getShards().stream()
+        .map(shard -> new EmployeeShard(shard, properties, wrapper))
+        .toList();
+    return new EmployeeShards(shards, configSharding.getScatterThreads());
+  }
+
+  /**
+   * Exposes the sharded repository in place of the one of the primary.
+   *
+   * @param employeeShards the shards
+   * @return the sharded repository
+   */
+  @Bean
+  @Primary
+  public EmployeeRepository shardedEmployeeRepository(EmployeeShards employeeShards) {
+    return ShardedEmployeeRepository.create(employeeShards);
+  }
+
+  /**
+   * Keeps the catalogs of the shards in step with the primary.
+   *
+   * @param employeeShards the shards
+   * @param sexRepository sex catalog of the primary
+   * @param jobPositionRepository job position catalog of the primary
+   * @return the replicator
+   */
+  @Bean
+  public ShardCatalogReplicator shardCatalogReplicator(EmployeeShards employeeShards,
+                                                       SexRepository sexRepository,
+                                                       JobPositionRepository jobPositionRepository) {
+    return new ShardCatalogReplicator(employeeShards, sexRepository, jobPositionRepository);
+  }
+}
@@ -51,4 +51,28 @@ public class ConstantsUtil {
    */
   public static final String APPLICATION_JSON = "application/json";
   public static final String ACCEPT = "Accept";
+
+  /**
+   * Response header carrying the total number of employees matching a paginated
+   * list request.
+   */
+  public static final String TOTAL_COUNT = "X-Total-Count";
+
+  /**
+   * Request header identifying a client operation; used as the idempotency key
+   * of employee creation requests.
+   */
+  public static final String UUID = "uuid";
+
+  /**
+   * Response header set to {@code true} when the response is the stored result
+   * of an earlier request with the same idempotency key.
+   */
+  public static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+
+  /**
+   * Response header set to {@code true} when the response is the last known good
+   * result, served because the database is degraded.
+   */
+  public static final String STALE = "X-Stale";
 }
@@ -1,22 +1,41 @@
 package com.invex.jmc.employee.controllers;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.invex.jmc.employee.config.ConfigStats;
+import com.invex.jmc.employee.config.bulkhead.BulkWriteBulkhead;
 import com.invex.jmc.employee.config.headers.HeaderConstraint;
 import com.invex.jmc.employee.constants.ConstantsUtil;
 import com.invex.jmc.employee.constants.LoggerConstantsUtil;
 import com.invex.jmc.employee.model.dto.Employee;
+import com.invex.jmc.employee.model.dto.request.EmployeeFilter;
 import com.invex.jmc.employee.model.dto.request.EmployeeRequest;
 import com.invex.jmc.employee.model.dto.request.EmployeesRequest;
+import com.invex.jmc.employee.model.dto.response.EmployeeChanges;
+import com.invex.jmc.employee.model.dto.response.EmployeeStats;
+import com.invex.jmc.employee.model.dto.response.MerkleSummary;
+import com.invex.jmc.employee.services.EmployeeChangesService;
+import com.invex.jmc.employee.services.EmployeeMerkleService;
 import com.invex.jmc.employee.services.EmployeeService;
+import com.invex.jmc.employee.services.EmployeeStatsService;
+import com.invex.jmc.employee.services.idempotency.IdempotencyGuard;
+import com.invex.jmc.employee.services.stale.StaleReadGuard;
+import com.invex.jmc.employee.services.stale.StaleResult;
+import com.invex.jmc.employee.services.stream.EmployeeChangeStream;
 import com.invex.jmc.employee.util.LoggerUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import javax.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
+import org.springdoc.api.annotations.ParameterObject;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -29,6 +48,7 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * REST controller that exposes operations related to employees.
@@ -43,42 +63,222 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/api/employees")
 @Tag(name = "Employees", description = "Operations related to employees")
 public class EmployeeController {
+  private static final TypeReference<List<Employee>> EMPLOYEE_LIST = new TypeReference<>() { };
+
   private final EmployeeService employeeService;
+  private final EmployeeStatsService employeeStatsService;
+  private final EmployeeChangesService employeeChangesService;
+  private final EmployeeMerkleService employeeMerkleService;
+  private final EmployeeChangeStream employeeChangeStream;
+  private final IdempotencyGuard idempotencyGuard;
+  private final BulkWriteBulkhead bulkWriteBulkhead;
+  private final StaleReadGuard staleReadGuard;
+  private final ConfigStats configStats;
 
   /**
    * Constructor method.
    *
    * @param employeeService The eployee service.
+   * @param employeeStatsService The employee headcount statistics service.
+   * @param configStats The statistics configuration, used for the cache lifetime.
+   * @param employeeChangesService The employee delta sync service.
+   * @param employeeMerkleService The employee Merkle summary service.
+   * @param employeeChangeStream The Server-Sent Events change feed.
+   * @param idempotencyGuard The idempotency layer of employee creation.
+   * @param bulkWriteBulkhead The bulkhead running employee creation.
+   * @param staleReadGuard The stale read fallback of the reads.
    */
   @Autowired
-  public EmployeeController(EmployeeService employeeService) {
+  public EmployeeController(EmployeeService employeeService,
+                            EmployeeStatsService employeeStatsService,
+                            ConfigStats configStats,
+                            EmployeeChangesService employeeChangesService,
+                            EmployeeMerkleService employeeMerkleService,
+                            EmployeeChangeStream employeeChangeStream,
+                            IdempotencyGuard idempotencyGuard,
+                            BulkWriteBulkhead bulkWriteBulkhead,
+                            StaleReadGuard staleReadGuard) {
     this.employeeService = employeeService;
+    this.employeeStatsService = employeeStatsService;
+    this.configStats = configStats;
+    this.employeeChangesService = employeeChangesService;
+    this.employeeMerkleService = employeeMerkleService;
+    this.employeeChangeStream = employeeChangeStream;
+    this.idempotencyGuard = idempotencyGuard;
+    this.bulkWriteBulkhead = bulkWriteBulkhead;
+    this.staleReadGuard = staleReadGuard;
   }
 
   /**
-   * Retrieves all employees.
+   * Retrieves all employees, optionally filtered, sorted and paginated.
+   *
+   * <p>Without query parameters the complete list is returned. When a page or
+   * size is requested, the total number of matches is returned in the
+   * {@code X-Total-Count} header.</p>
+   *
+   * <p>While the database is degraded, the last good result is served with the
+   * {@code X-Stale} header.</p>
    *
-   * @return a list of all registered employees
+   * @param filter optional filters, sort order and pagination
+   * @return a list of the matching employees
    */
   @GetMapping()
   @Operation(
       summary = "List all employees",
-      description = "Returns the complete list of employees",
+      description = "Returns the list of employees, optionally filtered by status, job position,"
+        + " sex or birth date range, sorted by ts or birthDay and paginated",
       responses = {
         @ApiResponse(responseCode = "200", description = "Employees retrieved successfully"),
-        @ApiResponse(responseCode = "500", description = "Internal server error")
+        @ApiResponse(responseCode = "400", description = "Invalid filter or sort order"),
+        @ApiResponse(responseCode = "500", description = "Internal server error"),
+        @ApiResponse(responseCode = "503", description = "Database unavailable, no stale result")
       }
   )
-  public ResponseEntity<List<Employee>> getAllEmployees(@RequestHeader @HeaderConstraint(api =
+  public ResponseEntity<List<Employee>> getAllEmployees(@Valid @ParameterObject
+                                                        EmployeeFilter filter,
+                                                        @RequestHeader @HeaderConstraint(api =
       ConstantsUtil.HEADERS_CONSTRAINT
   ) HttpHeaders headers) {
     LoggerUtils.logInfoJson(log, LoggerConstantsUtil.EMPLOYEE_PERFORMANCE_HEADERS, headers);
-    return ResponseEntity.ok().body(employeeService.getAllEmployee());
+    if (filter == null || filter.isEmpty()) {
+      StaleResult<List<Employee>> all = staleReadGuard.read(StaleReadGuard.LIST, "all",
+        employeeService::getAllEmployee);
+      return all.headers(ResponseEntity.ok()).body(all.getValue());
+    }
+    StaleResult<Page<Employee>> page = staleReadGuard.read(StaleReadGuard.LIST,
+      filter.toString(), () -> employeeService.findEmployees(filter));
+    return page.headers(ResponseEntity.ok())
+      .header(ConstantsUtil.TOTAL_COUNT, String.valueOf(page.getValue().getTotalElements()))
+      .body(page.getValue().getContent());
+  }
+
+  /**
+   * Retrieves the employee headcount grouped by the requested dimensions.
+   *
+   * <p>The aggregation runs in the database and the response may be cached by
+   * clients for {@code employee.stats.ttl}.</p>
+   *
+   * @param groupBy the dimensions to group by
+   * @return the headcount per group
+   */
+  @GetMapping("/stats")
+  @Operation(
+      summary = "Employee headcount",
+      description = "Counts employees grouped by jobPosition, sex, status and/or ageBand",
+      responses = {
+        @ApiResponse(responseCode = "200", description = "Headcount computed successfully"),
+        @ApiResponse(responseCode = "400", description = "Unsupported groupBy dimension")
+      }
+  )
+  public ResponseEntity<EmployeeStats> getEmployeeStats(
+      @RequestParam(defaultValue = "status") List<String> groupBy,
+      @RequestHeader @HeaderConstraint(api = ConstantsUtil.HEADERS_CONSTRAINT
+    ) HttpHeaders headers) {
+    LoggerUtils.logInfoJson(log, LoggerConstantsUtil.EMPLOYEE_PERFORMANCE_HEADERS, headers);
+    return ResponseEntity.ok()
+      .cacheControl(CacheControl.maxAge(configStats.getTtl()).cachePrivate())
+      .body(employeeStatsService.getStats(groupBy));
+  }
+
+  /**
+   * Retrieves the employees created, updated or deleted after a cursor.
+   *
+   * @param since the cursor returned by the previous call; omit it for a full sync
+   * @param limit maximum number of changes to return
+   * @return the changes in order and the cursor for the next call
+   */
+  @GetMapping("/changes")
+  @Operation(
+      summary = "Employee changes",
+      description = "Returns upserts and deletions after the given cursor, in change order",
+      responses = {
+        @ApiResponse(responseCode = "200", description = "Changes retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Malformed cursor or limit"),
+        @ApiResponse(responseCode = "410", description = "Cursor expired, full resync required")
+      }
+  )
+  public ResponseEntity<EmployeeChanges> getEmployeeChanges(
+      @RequestParam(required = false) String since,
+      @RequestParam(required = false) Integer limit,
+      @RequestHeader @HeaderConstraint(api = ConstantsUtil.HEADERS_CONSTRAINT
+    ) HttpHeaders headers) {
+    LoggerUtils.logInfoJson(log, LoggerConstantsUtil.EMPLOYEE_PERFORMANCE_HEADERS, headers);
+    return ResponseEntity.ok(employeeChangesService.getChangesSince(since, limit));
+  }
+
+  /**
+   * Retrieves the Merkle summary digests at the given depth.
+   *
+   * @param depth tree depth, from 0 (root) to 3 (4096 leaf buckets)
+   * @return the digest and row count of every node at that depth
+   */
+  @GetMapping("/merkle")
+  @Operation(
+      summary = "Employee Merkle summary",
+      description = "Returns the digest of every ID-prefix bucket at the requested depth",
+      responses = {
+        @ApiResponse(responseCode = "200", description = "Summary retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Depth out of range")
+      }
+  )
+  public ResponseEntity<MerkleSummary> getEmployeeMerkle(
+      @RequestParam(defaultValue = "1") int depth,
+      @RequestHeader @HeaderConstraint(api = ConstantsUtil.HEADERS_CONSTRAINT
+    ) HttpHeaders headers) {
+    LoggerUtils.logInfoJson(log, LoggerConstantsUtil.EMPLOYEE_PERFORMANCE_HEADERS, headers);
+    return ResponseEntity.ok(employeeMerkleService.getSummary(depth));
+  }
+
+  /**
+   * Retrieves the employees of the given Merkle buckets.
+   *
+   * @param prefix hexadecimal ID prefixes of the buckets that differ
+   * @return the employees of those buckets
+   */
+  @GetMapping("/merkle/buckets")
+  @Operation(
+      summary = "Employees of Merkle buckets",
+      description = "Returns the employees whose ID starts with any of the given prefixes",
+      responses = {
+        @ApiResponse(responseCode = "200", description = "Rows retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid prefix or too many prefixes")
+      }
+  )
+  public ResponseEntity<List<Employee>> getEmployeeMerkleBuckets(
+      @RequestParam List<String> prefix,
+      @RequestHeader @HeaderConstraint(api = ConstantsUtil.HEADERS_CONSTRAINT
+    ) HttpHeaders headers) {
+    LoggerUtils.logInfoJson(log, LoggerConstantsUtil.EMPLOYEE_PERFORMANCE_HEADERS, headers);
+    return ResponseEntity.ok(employeeMerkleService.getBucketRows(prefix));
+  }
+
+  /**
+   * Subscribes to the live feed of employee changes.
+   *
+   * @return the Server-Sent Events emitter of the subscription
+   */
+  @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  @Operation(
+      summary = "Employee change feed",
+      description = "Pushes employee creations, updates and deletions as Server-Sent Events",
+      responses = {
+        @ApiResponse(responseCode = "200", description = "Subscribed"),
+        @ApiResponse(responseCode = "503", description = "Too many subscribers")
+      }
+  )
+  public SseEmitter streamEmployeeChanges(
+      @RequestHeader @HeaderConstraint(api = ConstantsUtil.HEADERS_CONSTRAINT
+    ) HttpHeaders headers) {
+    LoggerUtils.logInfoJson(log, LoggerConstantsUtil.EMPLOYEE_PERFORMANCE_HEADERS, headers);
+    return employeeChangeStream.subscribe();
   }
 
   /**
    * Retrieves a specific employee by its ID.
    *
+   * <p>While the database is degraded, the last good result is served with the
+   * {@code X-Stale} header.</p>
+   *
    * @param id the employee identifier
    * @return the employee details
    */
@@ -88,7 +288,8 @@ public class EmployeeController {
       description = "Fetches employee details for the given ID",
       responses = {
         @ApiResponse(responseCode = "200", description = "Employee found"),
-        @ApiResponse(responseCode = "404", description = "Employee not found")
+        @ApiResponse(responseCode = "404", description = "Employee not found"),
+        @ApiResponse(responseCode = "503", description = "Database unavailable, no stale result")
       }
   )
   public ResponseEntity<Employee> getEmployeeById(@PathVariable("id") String id,
@@ -96,28 +297,48 @@ public class EmployeeController {
       ConstantsUtil.HEADERS_CONSTRAINT
   ) HttpHeaders headers) {
     LoggerUtils.logInfoJson(log, LoggerConstantsUtil.EMPLOYEE_PERFORMANCE_HEADERS, headers);
-    return ResponseEntity.ok().body(employeeService.getEmployeeById(id));
+    StaleResult<Employee> employee = staleReadGuard.read(StaleReadGuard.BY_ID, id,
+      () -> employeeService.getEmployeeById(id));
+    return employee.headers(ResponseEntity.ok()).body(employee.getValue());
   }
 
   /**
    * Inserts one or more employees.
    *
+   * <p>The request is idempotent on the {@code uuid} header: repeating it with the
+   * same body returns the original response, with the {@code Idempotent-Replayed}
+   * header, instead of creating the employees again.</p>
+   *
+   * <p>The idempotency key is resolved on the request thread, so replays and
+   * repeated requests never take a bulk thread. Only the insert itself runs on
+   * the bulk write bulkhead, with its own threads and connection budget, so
+   * that large batches do not slow down reads. The request thread is released
+   * while the batch runs.</p>
+   *
    * @param employeesRequest the request containing a list of employees
-   * @return the created employees
+   * @return the created employees, once the batch completes
    */
   @PostMapping()
   @Operation(
       summary = "Crear empleado",
-      description = "Inserta uno o varios empleados"
+      description = "Inserta uno o varios empleados",
+      responses = {
+        @ApiResponse(responseCode = "201", description = "Employees created, or replayed"),
+        @ApiResponse(responseCode = "409", description = "Same uuid still in progress"),
+        @ApiResponse(responseCode = "422", description = "Same uuid with another body"),
+        @ApiResponse(responseCode = "503", description = "Bulk inserts saturated")
+      }
   )
-  public ResponseEntity<List<Employee>> addEmployees(@Valid @RequestBody
+  public CompletableFuture<ResponseEntity<List<Employee>>> addEmployees(@Valid @RequestBody
                                                       EmployeesRequest employeesRequest,
                                                      @RequestHeader @HeaderConstraint(api =
       ConstantsUtil.HEADERS_CONSTRAINT
   ) HttpHeaders headers) {
     LoggerUtils.logInfoJson(log, LoggerConstantsUtil.EMPLOYEE_PERFORMANCE_HEADERS, headers);
-    return ResponseEntity.status(HttpStatus.CREATED).body(
-      employeeService.addEmployees(employeesRequest));
+    return idempotencyGuard.executeAsync(
+      headers.getFirst(ConstantsUtil.UUID), employeesRequest, EMPLOYEE_LIST,
+      () -> bulkWriteBulkhead.submit(() -> ResponseEntity.status(HttpStatus.CREATED).body(
+        employeeService.addEmployees(employeesRequest))));
   }
 
   /**
@@ -162,6 +383,9 @@ public class EmployeeController {
   /**
    * Searches employees by full or partial name.
    *
+   * <p>While the database is degraded, the last good result is served with the
+   * {@code X-Stale} header.</p>
+   *
    * @param name the name filter
    * @return a list of employees whose name matches the query
    */
@@ -175,6 +399,8 @@ public class EmployeeController {
       ConstantsUtil.HEADERS_CONSTRAINT
     ) HttpHeaders headers) {
     LoggerUtils.logInfoJson(log, LoggerConstantsUtil.EMPLOYEE_PERFORMANCE_HEADERS, headers);
-    return ResponseEntity.ok(employeeService.searchEmployeeByName(name));
+    StaleResult<List<Employee>> employees = staleReadGuard.read(StaleReadGuard.SEARCH, name,
+      () -> employeeService.searchEmployeeByName(name));
+    return employees.headers(ResponseEntity.ok()).body(employees.getValue());
   }
 }
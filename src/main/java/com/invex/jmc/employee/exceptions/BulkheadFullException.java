@@ -0,0 +1,17 @@
+package com.invex.jmc.employee.exceptions;
+
+/**
+ * Exception thrown when the bulk write bulkhead has no thread or queue slot
+ * left for another batch.
+ */
+public class BulkheadFullException extends RuntimeException {
+
+  /**
+   * Constructs a new {@code BulkheadFullException}.
+   *
+   * @param queueCapacity the configured queue capacity
+   */
+  public BulkheadFullException(int queueCapacity) {
+    super("Bulk write bulkhead is full; " + queueCapacity + " batches already waiting");
+  }
+}
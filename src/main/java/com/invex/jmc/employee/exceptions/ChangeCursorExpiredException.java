@@ -0,0 +1,21 @@
+package com.invex.jmc.employee.exceptions;
+
+/**
+ * Exception thrown when a delta sync cursor is older than the tombstone
+ * retention.
+ *
+ * <p>Deletions recorded after the cursor may already have been purged, so the
+ * client must download the full employee list and restart from a new
+ * cursor.</p>
+ */
+public class ChangeCursorExpiredException extends RuntimeException {
+
+  /**
+   * Constructs a new {@code ChangeCursorExpiredException} for the given cursor.
+   *
+   * @param cursor the expired cursor
+   */
+  public ChangeCursorExpiredException(String cursor) {
+    super("Change cursor expired, a full resync is required: " + cursor);
+  }
+}
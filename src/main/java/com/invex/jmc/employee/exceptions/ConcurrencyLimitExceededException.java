@@ -0,0 +1,32 @@
+package com.invex.jmc.employee.exceptions;
+
+import java.time.Duration;
+import lombok.Getter;
+
+/**
+ * Exception thrown when an endpoint class already has as many requests in
+ * flight as its current concurrency limit allows.
+ */
+@Getter
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+  /** Class of the rejected endpoint: {@code reads}, {@code writes} or {@code bulk}. */
+  private final String endpointClass;
+
+  /** Time after which the client may retry. */
+  private final Duration retryAfter;
+
+  /**
+   * Constructs a new {@code ConcurrencyLimitExceededException}.
+   *
+   * @param endpointClass class of the rejected endpoint
+   * @param limit the limit in force when the request was rejected
+   * @param retryAfter time after which the client may retry
+   */
+  public ConcurrencyLimitExceededException(String endpointClass, int limit,
+                                           Duration retryAfter) {
+    super("Concurrency limit of " + limit + " requests reached for " + endpointClass);
+    this.endpointClass = endpointClass;
+    this.retryAfter = retryAfter;
+  }
+}
@@ -0,0 +1,26 @@
+package com.invex.jmc.employee.exceptions;
+
+import java.time.Duration;
+import lombok.Getter;
+
+/**
+ * Exception thrown when the database circuit is open and no recent enough
+ * result is available to serve instead.
+ */
+@Getter
+public class DatabaseUnavailableException extends RuntimeException {
+
+  /** Time until the circuit lets the next probe through. */
+  private final Duration retryAfter;
+
+  /**
+   * Constructs a new {@code DatabaseUnavailableException}.
+   *
+   * @param retryAfter time until the circuit lets the next probe through
+   */
+  public DatabaseUnavailableException(Duration retryAfter) {
+    super("Database unavailable and no recent result to serve; retry in "
+        + retryAfter.toSeconds() + " s");
+    this.retryAfter = retryAfter;
+  }
+}
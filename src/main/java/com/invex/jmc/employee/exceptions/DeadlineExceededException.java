@@ -0,0 +1,40 @@
+package com.invex.jmc.employee.exceptions;
+
+import java.time.Duration;
+import lombok.Getter;
+
+/**
+ * Exception thrown when a request runs out of its time budget.
+ */
+@Getter
+public class DeadlineExceededException extends RuntimeException {
+
+  /**
+   * What the request was doing when the budget ran out: {@code request},
+   * {@code connection}, {@code query} or {@code feign}.
+   */
+  private final String stage;
+
+  /**
+   * Constructs a new {@code DeadlineExceededException}.
+   *
+   * @param stage what the request was doing when the budget ran out
+   * @param budget the budget the request started with
+   */
+  public DeadlineExceededException(String stage, Duration budget) {
+    super("Request deadline of " + budget.toMillis() + " ms exceeded (" + stage + ")");
+    this.stage = stage;
+  }
+
+  /**
+   * Constructs a new {@code DeadlineExceededException} from the timeout that
+   * interrupted the request.
+   *
+   * @param stage what the request was doing when the budget ran out
+   * @param cause the timeout raised by the interrupted operation
+   */
+  public DeadlineExceededException(String stage, Throwable cause) {
+    super("Request deadline exceeded (" + stage + ")", cause);
+    this.stage = stage;
+  }
+}
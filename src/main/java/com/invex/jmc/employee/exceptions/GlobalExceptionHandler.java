@@ -1,10 +1,18 @@
 package com.invex.jmc.employee.exceptions;
 
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.invex.jmc.employee.config.headers.interceptor.QuotaInterceptor;
 import com.invex.jmc.employee.model.dto.response.ErrorResponse;
 import java.time.LocalDateTime;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.data.crossstore.ChangeSetPersister;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.validation.BindException;
+import org.springframework.validation.FieldError;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
@@ -123,6 +131,45 @@ public class GlobalExceptionHandler {
     return new ResponseEntity<>(error, HttpStatus.INTERNAL_SERVER_ERROR);
   }
 
+  /**
+   * Handles {@link BindException} raised when query parameters bound to an object,
+   * such as the employee list filters, are malformed or fail validation.
+   *
+   * @param ex the thrown exception
+   * @return a {@link ResponseEntity} with HTTP 400 describing the first invalid field
+   */
+  @ExceptionHandler(BindException.class)
+  public ResponseEntity<ErrorResponse> handleBindException(BindException ex) {
+    ErrorResponse error = new ErrorResponse();
+    FieldError fieldError = ex.getFieldError();
+    error.setCampo(fieldError == null ? "" : fieldError.getField());
+    error.setMensaje("Invalid request parameters");
+    error.setDetalle(fieldError == null ? ex.getMessage() : fieldError.getDefaultMessage());
+    error.setTimestamp(LocalDateTime.now());
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+  }
+
+  /**
+   * Handles {@link HttpMessageNotReadableException} raised when a request body
+   * cannot be read, such as a birth date that is not in {@code dd/MM/yyyy} format.
+   *
+   * @param ex the thrown exception
+   * @return a {@link ResponseEntity} with HTTP 400 describing the invalid field
+   */
+  @ExceptionHandler(HttpMessageNotReadableException.class)
+  public ResponseEntity<ErrorResponse> handleNotReadable(HttpMessageNotReadableException ex) {
+    ErrorResponse error = new ErrorResponse();
+    String field = "";
+    if (ex.getCause() instanceof JsonMappingException mapping && !mapping.getPath().isEmpty()) {
+      field = mapping.getPath().get(mapping.getPath().size() - 1).getFieldName();
+    }
+    error.setCampo(field == null ? "" : field);
+    error.setMensaje("Invalid request body");
+    error.setDetalle(ex.getMostSpecificCause().getMessage());
+    error.setTimestamp(LocalDateTime.now());
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+  }
+
   /**
    * Handles {@link IllegalArgumentException} for invalid request parameters.
    *
@@ -133,4 +180,252 @@ public class GlobalExceptionHandler {
   public ResponseEntity<String> handleBadRequest(IllegalArgumentException ex) {
     return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
   }
+
+  /**
+   * Handles {@link ChangeCursorExpiredException}.
+   *
+   * <p>Returned when a delta sync cursor is older than the tombstone retention;
+   * the client must perform a full resync.</p>
+   *
+   * @param ex the thrown exception
+   * @return a {@link ResponseEntity} with HTTP 410 and detailed error information
+   */
+  @ExceptionHandler(ChangeCursorExpiredException.class)
+  public ResponseEntity<ErrorResponse> handleCursorExpired(ChangeCursorExpiredException ex) {
+    ErrorResponse error = new ErrorResponse();
+    error.setCampo("since");
+    error.setMensaje("Change cursor expired");
+    error.setDetalle(ex.getMessage());
+    error.setTimestamp(LocalDateTime.now());
+    return ResponseEntity.status(HttpStatus.GONE).body(error);
+  }
+
+  /**
+   * Handles {@link StreamCapacityExceededException}.
+   *
+   * <p>Returned when the change feed already serves the maximum number of
+   * subscribers; clients should retry later.</p>
+   *
+   * @param ex the thrown exception
+   * @return a {@link ResponseEntity} with HTTP 503 and detailed error information
+   */
+  @ExceptionHandler(StreamCapacityExceededException.class)
+  public ResponseEntity<ErrorResponse> handleStreamCapacity(StreamCapacityExceededException ex) {
+    ErrorResponse error = new ErrorResponse();
+    error.setCampo("");
+    error.setMensaje("Too many subscribers");
+    error.setDetalle(ex.getMessage());
+    error.setTimestamp(LocalDateTime.now());
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+      .header(HttpHeaders.RETRY_AFTER, "5")
+      .body(error);
+  }
+
+  /**
+   * Handles {@link ConcurrencyLimitExceededException}.
+   *
+   * <p>Returned when the endpoint class already has as many requests in flight
+   * as its adaptive limit allows; the request is rejected instead of queued.</p>
+   *
+   * @param ex the thrown exception
+   * @return a {@link ResponseEntity} with HTTP 503 and detailed error information
+   */
+  @ExceptionHandler(ConcurrencyLimitExceededException.class)
+  public ResponseEntity<ErrorResponse> handleConcurrencyLimit(
+      ConcurrencyLimitExceededException ex) {
+    ErrorResponse error = new ErrorResponse();
+    error.setCampo(ex.getEndpointClass());
+    error.setMensaje("Too many concurrent requests");
+    error.setDetalle(ex.getMessage());
+    error.setTimestamp(LocalDateTime.now());
+    long retryAfter = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+      .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfter))
+      .body(error);
+  }
+
+  /**
+   * Handles {@link BulkheadFullException}.
+   *
+   * <p>Returned when the bulk write bulkhead has every thread busy and its queue
+   * full; the batch should be retried later.</p>
+   *
+   * @param ex the thrown exception
+   * @return a {@link ResponseEntity} with HTTP 503 and detailed error information
+   */
+  @ExceptionHandler(BulkheadFullException.class)
+  public ResponseEntity<ErrorResponse> handleBulkheadFull(BulkheadFullException ex) {
+    ErrorResponse error = new ErrorResponse();
+    error.setCampo("");
+    error.setMensaje("Too many bulk inserts");
+    error.setDetalle(ex.getMessage());
+    error.setTimestamp(LocalDateTime.now());
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+      .header(HttpHeaders.RETRY_AFTER, "5")
+      .body(error);
+  }
+
+  /**
+   * Handles {@link DatabaseUnavailableException}.
+   *
+   * <p>Returned when the database circuit is open and the read has no recent
+   * enough result to serve stale; the header tells when the database is tried
+   * again.</p>
+   *
+   * @param ex the thrown exception
+   * @return a {@link ResponseEntity} with HTTP 503 and detailed error information
+   */
+  @ExceptionHandler(DatabaseUnavailableException.class)
+  public ResponseEntity<ErrorResponse> handleDatabaseUnavailable(DatabaseUnavailableException ex) {
+    ErrorResponse error = new ErrorResponse();
+    error.setCampo("");
+    error.setMensaje("Database unavailable");
+    error.setDetalle(ex.getMessage());
+    error.setTimestamp(LocalDateTime.now());
+    long retryAfter = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+      .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfter))
+      .body(error);
+  }
+
+  /**
+   * Handles {@link QuotaExceededException}.
+   *
+   * <p>Returned when the client has used up its request quota; the headers tell
+   * it when to retry and when its quota is full again.</p>
+   *
+   * @param ex the thrown exception
+   * @return a {@link ResponseEntity} with HTTP 429 and detailed error information
+   */
+  @ExceptionHandler(QuotaExceededException.class)
+  public ResponseEntity<ErrorResponse> handleQuotaExceeded(QuotaExceededException ex) {
+    ErrorResponse error = new ErrorResponse();
+    error.setCampo(ex.getRule());
+    error.setMensaje("Request quota exceeded");
+    error.setDetalle(ex.getMessage());
+    error.setTimestamp(LocalDateTime.now());
+    return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+      .header(HttpHeaders.RETRY_AFTER,
+        Long.toString(QuotaInterceptor.toSeconds(ex.getRetryAfter())))
+      .header(QuotaInterceptor.RATE_LIMIT_LIMIT, Long.toString(ex.getLimit()))
+      .header(QuotaInterceptor.RATE_LIMIT_REMAINING, "0")
+      .header(QuotaInterceptor.RATE_LIMIT_RESET,
+        Long.toString(QuotaInterceptor.toSeconds(ex.getReset())))
+      .body(error);
+  }
+
+  /**
+   * Handles {@link IdempotencyKeyReusedException}.
+   *
+   * <p>Returned when a {@code uuid} already used to create employees is sent
+   * with a different body; the client must use a new {@code uuid}.</p>
+   *
+   * @param ex the thrown exception
+   * @return a {@link ResponseEntity} with HTTP 422 and detailed error information
+   */
+  @ExceptionHandler(IdempotencyKeyReusedException.class)
+  public ResponseEntity<ErrorResponse> handleKeyReused(IdempotencyKeyReusedException ex) {
+    ErrorResponse error = new ErrorResponse();
+    error.setCampo("uuid");
+    error.setMensaje("Idempotency key reused");
+    error.setDetalle(ex.getMessage());
+    error.setTimestamp(LocalDateTime.now());
+    return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(error);
+  }
+
+  /**
+   * Handles {@link IdempotencyRequestInProgressException}.
+   *
+   * <p>Returned when the first request with the same {@code uuid} is still
+   * running; retrying later returns its response.</p>
+   *
+   * @param ex the thrown exception
+   * @return a {@link ResponseEntity} with HTTP 409 and detailed error information
+   */
+  @ExceptionHandler(IdempotencyRequestInProgressException.class)
+  public ResponseEntity<ErrorResponse> handleInProgress(IdempotencyRequestInProgressException ex) {
+    ErrorResponse error = new ErrorResponse();
+    error.setCampo("uuid");
+    error.setMensaje("Request in progress");
+    error.setDetalle(ex.getMessage());
+    error.setTimestamp(LocalDateTime.now());
+    return ResponseEntity.status(HttpStatus.CONFLICT)
+      .header(HttpHeaders.RETRY_AFTER, "1")
+      .body(error);
+  }
+
+  /**
+   * Handles {@link IdempotencyStoreFullException}.
+   *
+   * <p>Returned when the in-memory idempotency store holds only requests still
+   * in progress; the request should be retried once some of them complete.</p>
+   *
+   * @param ex the thrown exception
+   * @return a {@link ResponseEntity} with HTTP 503 and detailed error information
+   */
+  @ExceptionHandler(IdempotencyStoreFullException.class)
+  public ResponseEntity<ErrorResponse> handleIdempotencyStoreFull(
+      IdempotencyStoreFullException ex) {
+    ErrorResponse error = new ErrorResponse();
+    error.setCampo("uuid");
+    error.setMensaje("Too many requests in progress");
+    error.setDetalle(ex.getMessage());
+    error.setTimestamp(LocalDateTime.now());
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+      .header(HttpHeaders.RETRY_AFTER, "1")
+      .body(error);
+  }
+
+  /**
+   * Handles {@link DeadlineExceededException}.
+   *
+   * <p>Returned when the request runs out of the time budget given by the
+   * {@code X-Request-Timeout} header or its endpoint default.</p>
+   *
+   * @param ex the thrown exception
+   * @return a {@link ResponseEntity} with HTTP 504 and detailed error information
+   */
+  @ExceptionHandler(DeadlineExceededException.class)
+  public ResponseEntity<ErrorResponse> handleDeadlineExceeded(DeadlineExceededException ex) {
+    ErrorResponse error = new ErrorResponse();
+    error.setCampo(ex.getStage());
+    error.setMensaje("Request deadline exceeded");
+    error.setDetalle(ex.getMessage());
+    error.setTimestamp(LocalDateTime.now());
+    return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body(error);
+  }
+
+  /**
+   * Handles {@link QueryTimeoutException}, raised when a statement is cancelled
+   * by its query timeout (bounded by the request deadline).
+   *
+   * @param ex the thrown exception
+   * @return a {@link ResponseEntity} with HTTP 504 and detailed error information
+   */
+  @ExceptionHandler(QueryTimeoutException.class)
+  public ResponseEntity<ErrorResponse> handleQueryTimeout(QueryTimeoutException ex) {
+    return handleDeadlineExceeded(new DeadlineExceededException("query", ex));
+  }
+
+  /**
+   * Handles {@link CannotCreateTransactionException}.
+   *
+   * <p>When no connection could be obtained within the request deadline the
+   * response is the same as for {@link DeadlineExceededException}; any other
+   * cause is an internal error.</p>
+   *
+   * @param ex the thrown exception
+   * @return a {@link ResponseEntity} with HTTP 504 or 500 and detailed error information
+   */
+  @ExceptionHandler(CannotCreateTransactionException.class)
+  public ResponseEntity<ErrorResponse> handleCannotCreateTransaction(
+      CannotCreateTransactionException ex) {
+    Throwable cause = ex.getCause();
+    while (cause != null && !(cause instanceof DeadlineExceededException)) {
+      cause = cause.getCause();
+    }
+    return cause == null
+      ? handleGenericException(ex)
+      : handleDeadlineExceeded((DeadlineExceededException) cause);
+  }
 }
@@ -0,0 +1,17 @@
+package com.invex.jmc.employee.exceptions;
+
+/**
+ * Exception thrown when an idempotency key is sent again with a different
+ * request body.
+ */
+public class IdempotencyKeyReusedException extends RuntimeException {
+
+  /**
+   * Constructs a new {@code IdempotencyKeyReusedException}.
+   *
+   * @param key the reused idempotency key
+   */
+  public IdempotencyKeyReusedException(String key) {
+    super("Idempotency key " + key + " was already used with a different request body");
+  }
+}
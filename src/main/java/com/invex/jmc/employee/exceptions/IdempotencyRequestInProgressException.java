@@ -0,0 +1,17 @@
+package com.invex.jmc.employee.exceptions;
+
+/**
+ * Exception thrown when a request with the same idempotency key is still
+ * running after {@code employee.idempotency.wait-timeout}.
+ */
+public class IdempotencyRequestInProgressException extends RuntimeException {
+
+  /**
+   * Constructs a new {@code IdempotencyRequestInProgressException}.
+   *
+   * @param key the idempotency key being processed
+   */
+  public IdempotencyRequestInProgressException(String key) {
+    super("A request with idempotency key " + key + " is still in progress");
+  }
+}
@@ -0,0 +1,17 @@
+package com.invex.jmc.employee.exceptions;
+
+/**
+ * Exception thrown when the in-memory idempotency store is full of keys whose
+ * first request is still running, so no new key can be claimed.
+ */
+public class IdempotencyStoreFullException extends RuntimeException {
+
+  /**
+   * Constructs a new {@code IdempotencyStoreFullException}.
+   *
+   * @param maxEntries the configured maximum number of keys
+   */
+  public IdempotencyStoreFullException(int maxEntries) {
+    super("Idempotency store is full; " + maxEntries + " requests are still in progress");
+  }
+}
@@ -0,0 +1,40 @@
+package com.invex.jmc.employee.exceptions;
+
+import java.time.Duration;
+import lombok.Getter;
+
+/**
+ * Exception thrown when a client has used up its request quota.
+ */
+@Getter
+public class QuotaExceededException extends RuntimeException {
+
+  /** Name of the quota rule that refused the request. */
+  private final String rule;
+
+  /** Largest burst of requests the client may send. */
+  private final long limit;
+
+  /** Time until the client may send its next request. */
+  private final Duration retryAfter;
+
+  /** Time until the client's quota is full again. */
+  private final Duration reset;
+
+  /**
+   * Constructs a new {@code QuotaExceededException}.
+   *
+   * @param rule name of the quota rule that refused the request
+   * @param limit largest burst of requests the client may send
+   * @param retryAfter time until the client may send its next request
+   * @param reset time until the client's quota is full again
+   */
+  public QuotaExceededException(String rule, long limit, Duration retryAfter, Duration reset) {
+    super("Request quota '" + rule + "' of " + limit + " requests exhausted; retry in "
+        + retryAfter.toMillis() + " ms");
+    this.rule = rule;
+    this.limit = limit;
+    this.retryAfter = retryAfter;
+    this.reset = reset;
+  }
+}
@@ -0,0 +1,17 @@
+package com.invex.jmc.employee.exceptions;
+
+/**
+ * Exception thrown when the employee change feed already serves the maximum
+ * number of subscribers.
+ */
+public class StreamCapacityExceededException extends RuntimeException {
+
+  /**
+   * Constructs a new {@code StreamCapacityExceededException}.
+   *
+   * @param maxConnections the configured connection cap
+   */
+  public StreamCapacityExceededException(int maxConnections) {
+    super("Employee change feed is at its limit of " + maxConnections + " connections");
+  }
+}
@@ -1,8 +1,10 @@
 package com.invex.jmc.employee.model.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.invex.jmc.employee.constants.ApiDescriptionsConstant;
 import com.invex.jmc.employee.constants.ValidationMessagesConstant;
+import com.invex.jmc.employee.model.dto.codec.EmployeeSerializer;
 import com.invex.jmc.employee.util.CalculatesUtil;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.time.LocalDate;
@@ -28,12 +30,15 @@ import lombok.Setter;
  *
  * <p>Bean Validation annotations are used to enforce data integrity,
  * and Jackson annotations are used to format dates when serializing to JSON.
+ * Responses are written by {@link EmployeeSerializer}, which produces the same
+ * document without reflection.
  * </p>
  */
 @Setter
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonSerialize(using = EmployeeSerializer.class)
 @Schema(description = "Represents an employee with personal and job information")
 public class Employee {
   /**
@@ -0,0 +1,135 @@
+package com.invex.jmc.employee.model.dto.codec;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.invex.jmc.employee.model.dto.request.EmployeeRequest;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Hand-written streaming deserializer of {@link EmployeeRequest}.
+ *
+ * <p>Reads the tokens directly into the request without reflective property
+ * lookup, and parses {@code birthDay} ({@code dd/MM/yyyy}) to a
+ * {@link LocalDate} with a shared formatter, so an invalid date is rejected
+ * while the body is read. An object or array where a scalar is expected is
+ * rejected too. Unknown properties are skipped.</p>
+ */
+public class EmployeeRequestDeserializer extends StdDeserializer<EmployeeRequest> {
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Creates the deserializer.
+   */
+  public EmployeeRequestDeserializer() {
+    super(EmployeeRequest.class);
+  }
+
+  @Override
+  public EmployeeRequest deserialize(JsonParser p, DeserializationContext ctxt)
+      throws IOException {
+    JsonToken token = p.currentToken();
+    if (token == JsonToken.START_OBJECT) {
+      token = p.nextToken();
+    }
+    if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+      return (EmployeeRequest) ctxt.handleUnexpectedToken(EmployeeRequest.class, p);
+    }
+    EmployeeRequest request = new EmployeeRequest();
+    for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+      String field = p.currentName();
+      p.nextToken();
+      try {
+        switch (field) {
+          case "idEmployee":
+            request.setIdEmployee(parseString(p, ctxt));
+            break;
+          case "firstName":
+            request.setFirstName(parseString(p, ctxt));
+            break;
+          case "middleName":
+            request.setMiddleName(parseString(p, ctxt));
+            break;
+          case "paternalSurname":
+            request.setPaternalSurname(parseString(p, ctxt));
+            break;
+          case "maternalSurname":
+            request.setMaternalSurname(parseString(p, ctxt));
+            break;
+          case "idSex":
+            request.setIdSex(parseString(p, ctxt));
+            break;
+          case "idJobPosition":
+            request.setIdJobPosition(parseString(p, ctxt));
+            break;
+          case "birthDay":
+            request.setBirthDay(parseDate(p, ctxt));
+            break;
+          case "status":
+            request.setStatus(parseStatus(p, ctxt));
+            break;
+          default:
+            p.skipChildren();
+        }
+      } catch (JsonMappingException e) {
+        throw JsonMappingException.wrapWithPath(e, request, field);
+      }
+    }
+    return request;
+  }
+
+  /**
+   * Reads a scalar value as text. An object or an array is rejected rather
+   * than read as {@code null}, which would leave the parser inside it and
+   * misread the rest of the document.
+   */
+  private static String parseString(JsonParser p, DeserializationContext ctxt)
+      throws IOException {
+    if (p.currentToken().isStructStart()) {
+      throw ctxt.wrongTokenException(p, String.class, JsonToken.VALUE_STRING,
+          "expected a string, number or boolean");
+    }
+    return p.getValueAsString();
+  }
+
+  private static LocalDate parseDate(JsonParser p, DeserializationContext ctxt)
+      throws IOException {
+    if (p.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    String text = parseString(p, ctxt);
+    if (text == null || text.isBlank()) {
+      return null;
+    }
+    try {
+      return LocalDate.parse(text.trim(), EmployeeSerializer.DATE);
+    } catch (DateTimeParseException e) {
+      throw ctxt.weirdStringException(text, LocalDate.class, "expected dd/MM/yyyy");
+    }
+  }
+
+  private static int parseStatus(JsonParser p, DeserializationContext ctxt) throws IOException {
+    switch (p.currentToken()) {
+      case VALUE_NUMBER_INT:
+        return p.getIntValue();
+      case VALUE_TRUE:
+        return 1;
+      case VALUE_FALSE:
+      case VALUE_NULL:
+        return 0;
+      case VALUE_STRING:
+        try {
+          return Integer.parseInt(p.getText().trim());
+        } catch (NumberFormatException e) {
+          throw ctxt.weirdStringException(p.getText(), int.class, "expected 0 or 1");
+        }
+      default:
+        return (Integer) ctxt.handleUnexpectedToken(int.class, p);
+    }
+  }
+}
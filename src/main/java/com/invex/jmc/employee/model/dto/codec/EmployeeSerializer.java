@@ -0,0 +1,127 @@
+package com.invex.jmc.employee.model.dto.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.invex.jmc.employee.model.dto.Employee;
+import com.invex.jmc.employee.model.dto.JobPosition;
+import com.invex.jmc.employee.model.dto.Sex;
+import com.invex.jmc.employee.util.CalculatesUtil;
+import java.io.IOException;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Hand-written serializer of {@link Employee}.
+ *
+ * <p>Produces exactly the same document as the reflective bean serializer
+ * (same properties, order and date patterns) but writes straight to the
+ * generator: property names are pre-encoded once and the date formatters are
+ * shared constants. The nested sex and job position are written inline.</p>
+ *
+ * <p>When the birth date is unknown the computed {@code age} is written as
+ * {@code null} instead of failing.</p>
+ */
+public class EmployeeSerializer extends StdSerializer<Employee> {
+
+  private static final long serialVersionUID = 1L;
+
+  /** Pattern of {@code birthDay}. */
+  public static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+  /** Pattern of {@code ts}. */
+  public static final DateTimeFormatter TIMESTAMP =
+      DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss");
+
+  private static final SerializedString ID_EMPLOYEE = new SerializedString("idEmployee");
+  private static final SerializedString FIRST_NAME = new SerializedString("firstName");
+  private static final SerializedString MIDDLE_NAME = new SerializedString("middleName");
+  private static final SerializedString PATERNAL_SURNAME =
+      new SerializedString("paternalSurname");
+  private static final SerializedString MATERNAL_SURNAME =
+      new SerializedString("maternalSurname");
+  private static final SerializedString SEX = new SerializedString("sex");
+  private static final SerializedString ID_SEX = new SerializedString("idSex");
+  private static final SerializedString JOB_POSITION = new SerializedString("jobPosition");
+  private static final SerializedString ID_JOB_POSITION = new SerializedString("idJobPosition");
+  private static final SerializedString CODE = new SerializedString("code");
+  private static final SerializedString DESCRIPTION = new SerializedString("description");
+  private static final SerializedString BIRTH_DAY = new SerializedString("birthDay");
+  private static final SerializedString AGE = new SerializedString("age");
+  private static final SerializedString STATUS = new SerializedString("status");
+  private static final SerializedString TS = new SerializedString("ts");
+
+  /**
+   * Creates the serializer.
+   */
+  public EmployeeSerializer() {
+    super(Employee.class);
+  }
+
+  @Override
+  public void serialize(Employee employee, JsonGenerator gen, SerializerProvider provider)
+      throws IOException {
+    gen.writeStartObject(employee);
+    writeString(gen, ID_EMPLOYEE, employee.getIdEmployee());
+    writeString(gen, FIRST_NAME, employee.getFirstName());
+    writeString(gen, MIDDLE_NAME, employee.getMiddleName());
+    writeString(gen, PATERNAL_SURNAME, employee.getPaternalSurname());
+    writeString(gen, MATERNAL_SURNAME, employee.getMaternalSurname());
+
+    gen.writeFieldName(SEX);
+    Sex sex = employee.getSex();
+    if (sex == null) {
+      gen.writeNull();
+    } else {
+      gen.writeStartObject(sex);
+      writeString(gen, ID_SEX, sex.getIdSex());
+      writeString(gen, CODE, sex.getCode());
+      writeString(gen, DESCRIPTION, sex.getDescription());
+      gen.writeEndObject();
+    }
+
+    gen.writeFieldName(JOB_POSITION);
+    JobPosition jobPosition = employee.getJobPosition();
+    if (jobPosition == null) {
+      gen.writeNull();
+    } else {
+      gen.writeStartObject(jobPosition);
+      writeString(gen, ID_JOB_POSITION, jobPosition.getIdJobPosition());
+      writeString(gen, CODE, jobPosition.getCode());
+      writeString(gen, DESCRIPTION, jobPosition.getDescription());
+      gen.writeEndObject();
+    }
+
+    gen.writeFieldName(BIRTH_DAY);
+    if (employee.getBirthDay() == null) {
+      gen.writeNull();
+      gen.writeFieldName(AGE);
+      gen.writeNull();
+    } else {
+      gen.writeString(DATE.format(employee.getBirthDay()));
+      gen.writeFieldName(AGE);
+      gen.writeNumber(CalculatesUtil.calculateAge(employee.getBirthDay()));
+    }
+
+    gen.writeFieldName(STATUS);
+    gen.writeBoolean(employee.isStatus());
+
+    gen.writeFieldName(TS);
+    if (employee.getTs() == null) {
+      gen.writeNull();
+    } else {
+      gen.writeString(TIMESTAMP.format(employee.getTs()));
+    }
+    gen.writeEndObject();
+  }
+
+  private static void writeString(JsonGenerator gen, SerializedString name, String value)
+      throws IOException {
+    gen.writeFieldName(name);
+    if (value == null) {
+      gen.writeNull();
+    } else {
+      gen.writeString(value);
+    }
+  }
+}
@@ -0,0 +1,110 @@
+package com.invex.jmc.employee.model.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.Pattern;
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+
+/**
+ * Query parameters accepted by the employee list endpoint.
+ *
+ * <p>All filters are optional and combined with {@code AND}. Results can be
+ * sorted by creation/update timestamp or birth date and paginated. When no
+ * parameter is provided the endpoint returns the complete list, as before.</p>
+ *
+ * <p>Every supported filter and sort combination is backed by one of the
+ * composite indexes declared on
+ * {@link com.invex.jmc.employee.model.entities.EmployeeEntity}.</p>
+ */
+@Data
+@Schema(
+    name = "EmployeeFilter",
+    description = "Optional filters, sort order and pagination for the employee list."
+)
+public class EmployeeFilter {
+
+  /**
+   * Employee status to match ({@code 1} active, {@code 0} inactive).
+   */
+  @Schema(description = "Employee status (1 = active, 0 = inactive).", example = "1")
+  private Integer status;
+
+  /**
+   * Job position identifier to match.
+   */
+  @Schema(description = "Job position identifier.",
+      example = "84d89fe9-c0fd-11f0-9884-ae32cdf1c2ae")
+  private String idJobPosition;
+
+  /**
+   * Sex identifier to match.
+   */
+  @Schema(description = "Sex identifier.", example = "50284c0c-c0fd-11f0-9884-ae32cdf1c2ae")
+  private String idSex;
+
+  /**
+   * Lower bound (inclusive) of the birth date, formatted as {@code dd/MM/yyyy}.
+   */
+  @DateTimeFormat(pattern = "dd/MM/yyyy")
+  @Schema(description = "Birth date from (inclusive) in dd/MM/yyyy format.",
+      example = "01/01/1970")
+  private LocalDate birthDayFrom;
+
+  /**
+   * Upper bound (inclusive) of the birth date, formatted as {@code dd/MM/yyyy}.
+   */
+  @DateTimeFormat(pattern = "dd/MM/yyyy")
+  @Schema(description = "Birth date to (inclusive) in dd/MM/yyyy format.",
+      example = "31/12/1999")
+  private LocalDate birthDayTo;
+
+  /**
+   * Sort order as {@code field[,asc|desc]}; supported fields are {@code ts}
+   * and {@code birthDay}.
+   */
+  @Pattern(regexp = "(ts|birthDay)(,(asc|desc))?",
+      message = "sort must be ts or birthDay, optionally followed by ,asc or ,desc")
+  @Schema(description = "Sort order: ts or birthDay, optionally followed by ,asc or ,desc.",
+      example = "ts,desc")
+  private String sort;
+
+  /**
+   * Zero-based page number. When absent (and no size is given) the list is not
+   * paginated.
+   */
+  @Min(0)
+  @Schema(description = "Zero-based page number.", example = "0")
+  private Integer page;
+
+  /**
+   * Page size.
+   */
+  @Min(1)
+  @Max(500)
+  @Schema(description = "Page size (1-500).", example = "50")
+  private Integer size;
+
+  /**
+   * Indicates whether no filter, sort or pagination parameter was provided.
+   *
+   * @return {@code true} if the request asks for the complete, unsorted list
+   */
+  public boolean isEmpty() {
+    return status == null && idJobPosition == null && idSex == null
+        && birthDayFrom == null && birthDayTo == null && sort == null
+        && page == null && size == null;
+  }
+
+  /**
+   * Indicates whether pagination was requested.
+   *
+   * @return {@code true} if a page or a size was provided
+   */
+  public boolean isPaged() {
+    return page != null || size != null;
+  }
+}
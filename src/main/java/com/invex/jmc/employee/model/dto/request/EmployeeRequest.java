@@ -1,9 +1,12 @@
 package com.invex.jmc.employee.model.dto.request;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.invex.jmc.employee.constants.ApiDescriptionsConstant;
 import com.invex.jmc.employee.constants.ValidationMessagesConstant;
+import com.invex.jmc.employee.model.dto.codec.EmployeeRequestDeserializer;
 import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Size;
 import lombok.Data;
@@ -18,8 +21,11 @@ import lombok.Data;
  *
  * <p>The DTO includes validation constraints using Jakarta Validation and
  * schema annotations for OpenAPI documentation.</p>
+ *
+ * <p>Request bodies are read by {@link EmployeeRequestDeserializer}.</p>
  */
 @Data
+@JsonDeserialize(using = EmployeeRequestDeserializer.class)
 @Schema(
     name = "EmployeeRequest",
     description = "Request object for creating or updating employee information."
@@ -116,14 +122,15 @@ public class EmployeeRequest {
   /**
    * Employee's birth date.
    *
-   * <p>Formatted as <code>dd/MM/yyyy</code> when sent via JSON.</p>
+   * <p>Formatted as <code>dd/MM/yyyy</code> when sent via JSON and parsed
+   * while the request is read.</p>
    */
   @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "dd/MM/yyyy")
   @Schema(
       description = "Birth date of the employee in dd/MM/yyyy format.",
       example = "25/12/1990"
   )
-  private String birthDay;
+  private LocalDate birthDay;
 
   /**
    * Status of the employee.
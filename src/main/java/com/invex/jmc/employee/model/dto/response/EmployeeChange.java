@@ -0,0 +1,52 @@
+package com.invex.jmc.employee.model.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.invex.jmc.employee.model.dto.Employee;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+
+/**
+ * A single entry of the employee delta sync feed.
+ *
+ * <p>An {@code UPSERT} carries the current state of a created or updated
+ * employee; a {@code DELETE} (tombstone) only carries its identifier.</p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(
+    name = "EmployeeChange",
+    description = "Employee created/updated (UPSERT) or deleted (DELETE)."
+)
+public class EmployeeChange {
+
+  /**
+   * Kind of change.
+   */
+  public enum Type {
+    UPSERT, DELETE
+  }
+
+  /**
+   * Kind of change.
+   */
+  @Schema(description = "Kind of change.", example = "UPSERT")
+  private Type type;
+
+  /**
+   * Identifier of the changed employee.
+   */
+  @Schema(description = "Identifier of the changed employee.",
+      example = "262815c2-7898-4c9d-abd9-ce394b7d6256")
+  private String idEmployee;
+
+  /**
+   * Current state of the employee; absent for deletions.
+   */
+  @Schema(description = "Current state of the employee; absent for deletions.")
+  private Employee employee;
+}
@@ -0,0 +1,44 @@
+package com.invex.jmc.employee.model.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+
+/**
+ * Page of the employee delta sync feed.
+ *
+ * <p>Clients store {@code cursor} and send it back as {@code since} to receive
+ * only the changes that happened afterwards.</p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(
+    name = "EmployeeChanges",
+    description = "Employee changes after a cursor, in change order."
+)
+public class EmployeeChanges {
+
+  /**
+   * Changes in the order they happened.
+   */
+  @Schema(description = "Changes in the order they happened.")
+  private List<EmployeeChange> changes;
+
+  /**
+   * Cursor positioned after the last returned change.
+   */
+  @Schema(description = "Cursor to send as since in the next request.",
+      example = "MjAyNS0xMS0xNFQwOTowMDoxOXwyNjI4MTVjMg")
+  private String cursor;
+
+  /**
+   * Whether more changes are immediately available after {@code cursor}.
+   */
+  @Schema(description = "Whether more changes are available after the cursor.",
+      example = "false")
+  private boolean hasMore;
+}
@@ -0,0 +1,44 @@
+package com.invex.jmc.employee.model.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+
+/**
+ * Aggregated employee headcount returned by the statistics endpoint.
+ *
+ * <p>Contains the dimensions the headcount was grouped by, the total number of
+ * employees and one {@link EmployeeStatsBucket} per combination of dimension
+ * values present in the data.</p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(
+    name = "EmployeeStats",
+    description = "Employee headcount grouped by the requested dimensions."
+)
+public class EmployeeStats {
+
+  /**
+   * Dimensions used to group the headcount, in the requested order.
+   */
+  @Schema(description = "Dimensions used to group the headcount.",
+      example = "[\"jobPosition\", \"status\"]")
+  private List<String> groupBy;
+
+  /**
+   * Total number of employees across all buckets.
+   */
+  @Schema(description = "Total number of employees.", example = "120")
+  private long total;
+
+  /**
+   * Headcount per combination of dimension values.
+   */
+  @Schema(description = "Headcount per combination of dimension values.")
+  private List<EmployeeStatsBucket> buckets;
+}
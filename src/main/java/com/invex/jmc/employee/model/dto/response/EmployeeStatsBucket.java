@@ -0,0 +1,38 @@
+package com.invex.jmc.employee.model.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+
+/**
+ * Headcount of a single group within {@link EmployeeStats}.
+ *
+ * <p>The {@code keys} map holds, for every grouping dimension, the value shared
+ * by the employees counted in this bucket (for example
+ * {@code {"jobPosition": "CTO", "status": "1"}}).</p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(
+    name = "EmployeeStatsBucket",
+    description = "Headcount for one combination of dimension values."
+)
+public class EmployeeStatsBucket {
+
+  /**
+   * Dimension values identifying the group.
+   */
+  @Schema(description = "Dimension values identifying the group.",
+      example = "{\"jobPosition\": \"CTO\", \"status\": \"1\"}")
+  private Map<String, String> keys;
+
+  /**
+   * Number of employees in the group.
+   */
+  @Schema(description = "Number of employees in the group.", example = "7")
+  private long count;
+}
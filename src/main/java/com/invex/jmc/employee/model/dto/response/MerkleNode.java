@@ -0,0 +1,39 @@
+package com.invex.jmc.employee.model.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+
+/**
+ * Digest of the employees whose ID starts with a given prefix.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(
+    name = "MerkleNode",
+    description = "Digest and row count of the employees whose ID starts with the prefix."
+)
+public class MerkleNode {
+
+  /**
+   * Lowercase hexadecimal ID prefix covered by the node; empty for the root.
+   */
+  @Schema(description = "Hexadecimal ID prefix covered by the node.", example = "2a")
+  private String prefix;
+
+  /**
+   * Number of employees in the node.
+   */
+  @Schema(description = "Number of employees in the node.", example = "244")
+  private long count;
+
+  /**
+   * XOR of the row hashes, as 16 hexadecimal characters.
+   */
+  @Schema(description = "XOR of the row hashes as 16 hexadecimal characters.",
+      example = "9f3c01a2b4d5e6f7")
+  private String digest;
+}
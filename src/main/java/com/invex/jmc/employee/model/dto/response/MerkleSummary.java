@@ -0,0 +1,43 @@
+package com.invex.jmc.employee.model.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+
+/**
+ * Level of the employee Merkle summary.
+ *
+ * <p>Consumers compare the node digests with the ones computed over their own
+ * copy, descend into the nodes that differ and finally request the rows of
+ * the differing leaf buckets.</p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(
+    name = "MerkleSummary",
+    description = "Digests of every node of the employee Merkle summary at a depth."
+)
+public class MerkleSummary {
+
+  /**
+   * Depth of the returned nodes; also the length of their prefixes.
+   */
+  @Schema(description = "Depth of the returned nodes.", example = "2")
+  private int depth;
+
+  /**
+   * Total number of employees.
+   */
+  @Schema(description = "Total number of employees.", example = "1000000")
+  private long total;
+
+  /**
+   * Nodes in prefix order.
+   */
+  @Schema(description = "Nodes in prefix order.")
+  private List<MerkleNode> nodes;
+}
@@ -5,6 +5,7 @@ import java.time.LocalDateTime;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
@@ -20,13 +21,34 @@ import lombok.Setter;
  * demographic, and job-related information. It is used for persistence
  * operations through JPA/Hibernate.
  * </p>
+ *
+ * <p>The composite indexes let the employee list read its rows already in sort
+ * order: equality filters lead, followed by the sort column. Sorted by
+ * {@code ts}, they cover no equality filter, any one of {@code status},
+ * {@code id_job_position} and {@code id_sex}, and any two of them. Sorted by
+ * {@code birth_day}, they cover no equality filter and {@code status}, with the
+ * birth day range resolved by the same index. Other combinations, such as all
+ * three equality filters, a birth day sort with a job position or sex, or a
+ * birth day range with a {@code ts} sort, use the index of their leading
+ * filters and then filter or sort the matching rows. {@code idx_employee_ts}
+ * also serves the {@code (ts, id)} keyset of the delta sync endpoint.</p>
  */
 @Setter
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "employee")
+@Table(name = "employee", indexes = {
+    @Index(name = "idx_employee_ts", columnList = "ts, id_employee"),
+    @Index(name = "idx_employee_status_ts", columnList = "status, ts"),
+    @Index(name = "idx_employee_status_job_ts", columnList = "status, id_job_position, ts"),
+    @Index(name = "idx_employee_status_sex_ts", columnList = "status, id_sex, ts"),
+    @Index(name = "idx_employee_job_ts", columnList = "id_job_position, ts"),
+    @Index(name = "idx_employee_sex_ts", columnList = "id_sex, ts"),
+    @Index(name = "idx_employee_job_sex_ts", columnList = "id_job_position, id_sex, ts"),
+    @Index(name = "idx_employee_birth_day", columnList = "birth_day"),
+    @Index(name = "idx_employee_status_birth_day", columnList = "status, birth_day")
+})
 public class EmployeeEntity {
 
   /**
@@ -0,0 +1,76 @@
+package com.invex.jmc.employee.model.entities;
+
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Lob;
+import javax.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Idempotency key of an employee creation request, stored in the
+ * {@code employee_idempotency} table.
+ *
+ * <p>The row is inserted when the first request with the key starts, updated
+ * with its response when it completes, and purged once {@code expires_at}
+ * is reached.</p>
+ */
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "employee_idempotency", indexes = {
+    @Index(name = "idx_employee_idempotency_expires", columnList = "expires_at")
+})
+public class EmployeeIdempotencyEntity {
+
+  /**
+   * Value of the {@code uuid} header.
+   */
+  @Id
+  @Column(name = "idempotency_key", length = 100)
+  private String idempotencyKey;
+
+  /**
+   * SHA-256 of the request body, in hexadecimal.
+   */
+  @Column(name = "request_hash", length = 64, nullable = false)
+  private String requestHash;
+
+  /**
+   * Token of the request that claimed the key; later changes must present it.
+   */
+  @Column(name = "claim_token", length = 36)
+  private String claimToken;
+
+  /**
+   * {@code IN_PROGRESS} or {@code COMPLETED}.
+   */
+  @Column(name = "state", length = 12, nullable = false)
+  private String state;
+
+  /**
+   * Status code of the stored response.
+   */
+  @Column(name = "response_status")
+  private Integer responseStatus;
+
+  /**
+   * JSON body of the stored response.
+   */
+  @Lob
+  @Column(name = "response_body")
+  private String responseBody;
+
+  /**
+   * End of the lease while in progress, or of the replay window once completed.
+   */
+  @Column(name = "expires_at", nullable = false)
+  private LocalDateTime expiresAt;
+}
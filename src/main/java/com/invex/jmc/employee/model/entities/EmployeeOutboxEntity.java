@@ -0,0 +1,60 @@
+package com.invex.jmc.employee.model.entities;
+
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Pending employee change record stored in the {@code employee_outbox} table.
+ *
+ * <p>Rows are written in the same transaction as the employee change they
+ * describe, relayed in insertion order and deleted once published.</p>
+ */
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "employee_outbox")
+public class EmployeeOutboxEntity {
+
+  /**
+   * Sequential identifier; defines the publishing order.
+   */
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "id_outbox")
+  private Long idOutbox;
+
+  /**
+   * Identifier of the changed employee.
+   */
+  @Column(name = "id_employee", length = 36, nullable = false)
+  private String idEmployee;
+
+  /**
+   * Kind of change: {@code CREATED}, {@code UPDATED} or {@code DELETED}.
+   */
+  @Column(name = "event_type", length = 10, nullable = false)
+  private String eventType;
+
+  /**
+   * Compact JSON description of the change.
+   */
+  @Column(name = "payload", length = 1000, nullable = false)
+  private String payload;
+
+  /**
+   * Instant the change was recorded.
+   */
+  @Column(name = "created_at", nullable = false)
+  private LocalDateTime createdAt;
+}
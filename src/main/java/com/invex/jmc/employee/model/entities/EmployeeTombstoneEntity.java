@@ -0,0 +1,42 @@
+package com.invex.jmc.employee.model.entities;
+
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Record of a deleted employee, stored in the {@code employee_tombstone} table.
+ *
+ * <p>Tombstones let delta sync clients learn about deletions. They are kept
+ * for {@code employee.changes.tombstone-retention} and then purged.</p>
+ */
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "employee_tombstone", indexes = {
+    @Index(name = "idx_employee_tombstone_deleted", columnList = "deleted_at, id_employee")
+})
+public class EmployeeTombstoneEntity {
+
+  /**
+   * Identifier of the deleted employee.
+   */
+  @Id
+  @Column(name = "id_employee", length = 36)
+  private String idEmployee;
+
+  /**
+   * Instant the employee was deleted.
+   */
+  @Column(name = "deleted_at", nullable = false)
+  private LocalDateTime deletedAt;
+}
@@ -4,8 +4,6 @@ import com.invex.jmc.employee.model.dto.request.EmployeeRequest;
 import com.invex.jmc.employee.model.entities.EmployeeEntity;
 import com.invex.jmc.employee.model.entities.JobPositionEntity;
 import com.invex.jmc.employee.model.entities.SexEntity;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.Optional;
 import org.springframework.stereotype.Component;
 
@@ -26,26 +24,23 @@ public class EmployeeMapper {
    * are applied to the entity.
    *
    * <p>The method also sets the related {@link SexEntity} and
-   * {@link JobPositionEntity} references. The birth date is parsed from
-   * a string using the format <strong>dd/MM/yyyy</strong>.</p>
+   * {@link JobPositionEntity} references. The birth date arrives already
+   * parsed from the <strong>dd/MM/yyyy</strong> format.</p>
    *
    * @param e    the existing employee entity to update (must not be null)
    * @param r    the request object containing the new values (must not be null)
    * @param sex  the resolved sex entity associated with the employee
    * @param job  the resolved job position entity associated with the employee
-   *
-   * @throws java.time.format.DateTimeParseException if the birth date format is invalid
    */
   public void updateEntityFromRequest(EmployeeEntity e,
                                       EmployeeRequest r,
                                       SexEntity sex,
                                       JobPositionEntity job) {
-    DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
     Optional.ofNullable(r.getFirstName()).ifPresent(e::setFirstName);
     Optional.ofNullable(r.getMiddleName()).ifPresent(e::setMiddleName);
     Optional.ofNullable(r.getPaternalSurname()).ifPresent(e::setPaternalSurname);
     Optional.ofNullable(r.getMaternalSurname()).ifPresent(e::setMaternalSurname);
-    Optional.of(LocalDate.parse(r.getBirthDay(), formatter)).ifPresent(e::setBirthDay);
+    Optional.ofNullable(r.getBirthDay()).ifPresent(e::setBirthDay);
     Optional.of(r.getStatus()).ifPresent(e::setStatus);
     e.setSex(sex);
     e.setJobPosition(job);
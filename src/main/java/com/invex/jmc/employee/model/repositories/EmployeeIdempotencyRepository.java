@@ -0,0 +1,115 @@
+package com.invex.jmc.employee.model.repositories;
+
+import com.invex.jmc.employee.model.entities.EmployeeIdempotencyEntity;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Repository for the {@link EmployeeIdempotencyEntity} keys of employee creation requests.
+ *
+ * <p>Claims are written without reading the row first: a free key is taken by
+ * inserting it, and an expired one by an update conditional on its expiration.
+ * No locking read is needed, so two first claims of the same key never
+ * deadlock on the gap lock of the missing row; the second one fails on the
+ * primary key instead.</p>
+ */
+@Repository
+public interface EmployeeIdempotencyRepository
+    extends JpaRepository<EmployeeIdempotencyEntity, String> {
+
+  /**
+   * Inserts the claim of a free key.
+   *
+   * @param key the idempotency key
+   * @param requestHash hash of the request body
+   * @param token token of the claim
+   * @param expiresAt end of the lease
+   * @return the number of rows inserted
+   * @throws org.springframework.dao.DataIntegrityViolationException if the key is stored
+   */
+  @Modifying
+  @Query(value = "INSERT INTO employee_idempotency"
+      + " (idempotency_key, request_hash, claim_token, state, expires_at)"
+      + " VALUES (:key, :requestHash, :token, 'IN_PROGRESS', :expiresAt)", nativeQuery = true)
+  int insertClaim(@Param("key") String key, @Param("requestHash") String requestHash,
+                  @Param("token") String token, @Param("expiresAt") LocalDateTime expiresAt);
+
+  /**
+   * Takes over a key whose lease or replay window has ended.
+   *
+   * @param key the idempotency key
+   * @param requestHash hash of the request body
+   * @param token token of the new claim
+   * @param now the current instant
+   * @param expiresAt end of the new lease
+   * @return 1 if the key was taken over, 0 if it is still held
+   */
+  @Modifying
+  @Query("UPDATE EmployeeIdempotencyEntity i SET i.requestHash = :requestHash,"
+      + " i.claimToken = :token, i.state = 'IN_PROGRESS', i.responseStatus = NULL,"
+      + " i.responseBody = NULL, i.expiresAt = :expiresAt"
+      + " WHERE i.idempotencyKey = :key AND i.expiresAt <= :now")
+  int takeOverExpired(@Param("key") String key, @Param("requestHash") String requestHash,
+                      @Param("token") String token, @Param("now") LocalDateTime now,
+                      @Param("expiresAt") LocalDateTime expiresAt);
+
+  /**
+   * Extends the lease of a claim still in progress.
+   *
+   * @param key the idempotency key
+   * @param token token of the claim
+   * @param expiresAt end of the new lease
+   * @return 1 if the claim is still held, otherwise 0
+   */
+  @Modifying
+  @Query("UPDATE EmployeeIdempotencyEntity i SET i.expiresAt = :expiresAt"
+      + " WHERE i.idempotencyKey = :key AND i.claimToken = :token AND i.state = 'IN_PROGRESS'")
+  int renewClaim(@Param("key") String key, @Param("token") String token,
+                 @Param("expiresAt") LocalDateTime expiresAt);
+
+  /**
+   * Stores the response of a claim still in progress.
+   *
+   * @param key the idempotency key
+   * @param token token of the claim
+   * @param status the response status code
+   * @param body the response body as JSON
+   * @param expiresAt end of the replay window
+   * @return 1 if the claim was still held, otherwise 0
+   */
+  @Modifying
+  @Query("UPDATE EmployeeIdempotencyEntity i SET i.state = 'COMPLETED',"
+      + " i.responseStatus = :status, i.responseBody = :body, i.expiresAt = :expiresAt"
+      + " WHERE i.idempotencyKey = :key AND i.claimToken = :token AND i.state = 'IN_PROGRESS'")
+  int completeClaim(@Param("key") String key, @Param("token") String token,
+                    @Param("status") int status, @Param("body") String body,
+                    @Param("expiresAt") LocalDateTime expiresAt);
+
+  /**
+   * Deletes a claim still in progress.
+   *
+   * @param key the idempotency key
+   * @param token token of the claim
+   * @return 1 if the claim was still held, otherwise 0
+   */
+  @Modifying
+  @Query("DELETE FROM EmployeeIdempotencyEntity i"
+      + " WHERE i.idempotencyKey = :key AND i.claimToken = :token AND i.state = 'IN_PROGRESS'")
+  int releaseClaim(@Param("key") String key, @Param("token") String token);
+
+  /**
+   * Purges the keys whose lease or replay window ended before the given instant.
+   *
+   * @param before the expiration limit
+   * @return the number of keys removed
+   */
+  @Transactional
+  @Modifying
+  @Query("DELETE FROM EmployeeIdempotencyEntity i WHERE i.expiresAt < :before")
+  int deleteExpiredBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,41 @@
+package com.invex.jmc.employee.model.repositories;
+
+import com.invex.jmc.employee.model.entities.EmployeeOutboxEntity;
+import java.util.List;
+import java.util.Optional;
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for the pending change records of {@link EmployeeOutboxEntity}.
+ */
+@Repository
+public interface EmployeeOutboxRepository extends JpaRepository<EmployeeOutboxEntity, Long> {
+
+  /**
+   * Locks and returns the oldest pending records.
+   *
+   * <p>Rows already locked by another relay are skipped
+   * ({@code FOR UPDATE SKIP LOCKED}), so several instances can drain the
+   * outbox concurrently without publishing a record twice. Must be called
+   * within a transaction.</p>
+   *
+   * @param pageable the maximum number of records to lock
+   * @return the locked records in insertion order
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
+  List<EmployeeOutboxEntity> findByOrderByIdOutboxAsc(Pageable pageable);
+
+  /**
+   * Returns the oldest pending record, used to measure the relay lag.
+   *
+   * @return the oldest record, or an empty optional if the outbox is empty
+   */
+  Optional<EmployeeOutboxEntity> findFirstByOrderByIdOutboxAsc();
+}
@@ -1,11 +1,22 @@
 package com.invex.jmc.employee.model.repositories;
 
 import com.invex.jmc.employee.model.entities.EmployeeEntity;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
 import javax.validation.constraints.Size;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -17,10 +28,39 @@ import org.springframework.stereotype.Repository;
  * pagination, and query support for employee records.</p>
  *
  * <p>Additional custom query methods are defined to support lookups
- * based on employee identifiers and full-name searches.</p>
+ * based on employee identifiers and full-name searches. Filtered listings are
+ * built with {@link EmployeeSpecifications} through {@link JpaSpecificationExecutor},
+ * and headcount aggregations are provided by {@link EmployeeStatsRepository}.</p>
  */
 @Repository
-public interface EmployeeRepository extends JpaRepository<EmployeeEntity, String> {
+public interface EmployeeRepository extends JpaRepository<EmployeeEntity, String>,
+    JpaSpecificationExecutor<EmployeeEntity>, EmployeeStatsRepository {
+
+  /**
+   * Retrieves a page of employees matching the given specification.
+   *
+   * <p>The sex and job position catalogs are fetched in the same statement to
+   * avoid one additional query per row.</p>
+   *
+   * @param spec the filters to apply
+   * @param pageable the page and sort order to retrieve
+   * @return the requested page of employees
+   */
+  @Override
+  @EntityGraph(attributePaths = {"sex", "jobPosition"})
+  Page<EmployeeEntity> findAll(Specification<EmployeeEntity> spec, Pageable pageable);
+
+  /**
+   * Retrieves every employee matching the given specification in the given order.
+   *
+   * @param spec the filters to apply
+   * @param sort the sort order
+   * @return the matching employees
+   */
+  @Override
+  @EntityGraph(attributePaths = {"sex", "jobPosition"})
+  List<EmployeeEntity> findAll(Specification<EmployeeEntity> spec, Sort sort);
+
   /**
    * Retrieves an employee by its unique identifier.
    *
@@ -30,6 +70,73 @@ public interface EmployeeRepository extends JpaRepository<EmployeeEntity, String
    */
   Optional<EmployeeEntity> findEmployeeByIdEmployee(String idEmployee);
 
+  /**
+   * Retrieves every employee whose identifier is contained in the given collection.
+   *
+   * <p>The sex and job position catalogs are fetched in the same statement so that
+   * a whole batch of lookups is resolved with a single round trip.</p>
+   *
+   * @param idsEmployee the employee IDs to search for
+   * @return the employees found; identifiers without a match are simply absent
+   */
+  @Query("""
+      SELECT e FROM EmployeeEntity e
+      LEFT JOIN FETCH e.sex
+      LEFT JOIN FETCH e.jobPosition
+      WHERE e.idEmployee IN :ids
+      """)
+  List<EmployeeEntity> findEmployeesByIdEmployeeIn(@Param("ids") Collection<String> idsEmployee);
+
+  /**
+   * Retrieves the employees created or updated after the given {@code (ts, id)}
+   * position, in that order, up to {@code upTo} inclusive.
+   *
+   * <p>The keyset condition is resolved through {@code idx_employee_ts}, so the
+   * cost depends on the number of changes returned, not on the table size.</p>
+   *
+   * @param since timestamp of the last employee already seen
+   * @param idEmployee identifier of the last employee already seen
+   * @param upTo most recent timestamp to return
+   * @param pageable the maximum number of employees to return
+   * @return the changed employees with their sex and job position
+   */
+  @Query("""
+      SELECT e FROM EmployeeEntity e
+      LEFT JOIN FETCH e.sex
+      LEFT JOIN FETCH e.jobPosition
+      WHERE (e.ts > :since OR (e.ts = :since AND e.idEmployee > :id))
+        AND e.ts <= :upTo
+      ORDER BY e.ts, e.idEmployee
+      """)
+  List<EmployeeEntity> findChangedSince(@Param("since") LocalDateTime since,
+                                        @Param("id") String idEmployee,
+                                        @Param("upTo") LocalDateTime upTo,
+                                        Pageable pageable);
+
+  /**
+   * Streams the identifier and timestamp of every employee.
+   *
+   * <p>Used to build the Merkle summary without loading whole entities. Must be
+   * consumed within a transaction and closed afterwards.</p>
+   *
+   * @return a stream of {@code [idEmployee, ts]} pairs
+   */
+  @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+  @Query("SELECT e.idEmployee, e.ts FROM EmployeeEntity e")
+  Stream<Object[]> streamIdAndTs();
+
+  /**
+   * Retrieves the employees whose identifier starts with the given prefix.
+   *
+   * <p>Resolved as a primary key range scan; used to return the rows of a
+   * Merkle bucket.</p>
+   *
+   * @param prefix the identifier prefix
+   * @return the matching employees with their sex and job position
+   */
+  @EntityGraph(attributePaths = {"sex", "jobPosition"})
+  List<EmployeeEntity> findByIdEmployeeStartingWithOrderByIdEmployee(String prefix);
+
   /**
    * Searches for employees by matching the provided name against a full
    * concatenation of first name, middle name, paternal surname, and maternal surname.
@@ -0,0 +1,89 @@
+package com.invex.jmc.employee.model.repositories;
+
+import com.invex.jmc.employee.model.dto.request.EmployeeFilter;
+import com.invex.jmc.employee.model.entities.EmployeeEntity;
+import java.time.LocalDate;
+import java.util.Locale;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Factory of JPA {@link Specification}s and sort orders for the employee list.
+ *
+ * <p>Filters on the job position and sex compare the foreign key columns of
+ * {@code employee} directly, so no join is needed and the composite indexes
+ * declared on {@link EmployeeEntity} can be used. Only the sort fields that are
+ * backed by an index are accepted.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class EmployeeSpecifications {
+
+  /** Sort field used when the request does not specify one. */
+  public static final String DEFAULT_SORT_FIELD = "ts";
+
+  /**
+   * Builds the specification matching every filter present in the request.
+   *
+   * @param filter the requested filters; {@code null} fields are ignored
+   * @return a specification combining all the filters with {@code AND}
+   */
+  public static Specification<EmployeeEntity> fromFilter(EmployeeFilter filter) {
+    return Specification.where(hasStatus(filter.getStatus()))
+        .and(hasJobPosition(filter.getIdJobPosition()))
+        .and(hasSex(filter.getIdSex()))
+        .and(bornFrom(filter))
+        .and(bornTo(filter));
+  }
+
+  /**
+   * Builds the sort order requested as {@code field[,asc|desc]}.
+   *
+   * <p>The employee ID is appended as a tie-breaker so that pages are stable.
+   * Defaults to {@code ts} ascending.</p>
+   *
+   * @param sort the requested sort order, may be {@code null}
+   * @return the sort order to apply
+   * @throws IllegalArgumentException if the field is not backed by an index
+   */
+  public static Sort sortOf(String sort) {
+    String field = DEFAULT_SORT_FIELD;
+    Sort.Direction direction = Sort.Direction.ASC;
+    if (sort != null && !sort.isBlank()) {
+      String[] parts = sort.split(",");
+      field = parts[0].trim();
+      if (parts.length > 1) {
+        direction = Sort.Direction.fromString(parts[1].trim().toUpperCase(Locale.ROOT));
+      }
+    }
+    if (!"ts".equals(field) && !"birthDay".equals(field)) {
+      throw new IllegalArgumentException("Unsupported sort field: " + field);
+    }
+    return Sort.by(direction, field).and(Sort.by(direction, "idEmployee"));
+  }
+
+  private static Specification<EmployeeEntity> hasStatus(Integer status) {
+    return status == null ? null : (root, query, cb) -> cb.equal(root.get("status"), status);
+  }
+
+  private static Specification<EmployeeEntity> hasJobPosition(String idJobPosition) {
+    return idJobPosition == null ? null : (root, query, cb) ->
+      cb.equal(root.get("jobPosition").get("idJobPosition"), idJobPosition);
+  }
+
+  private static Specification<EmployeeEntity> hasSex(String idSex) {
+    return idSex == null ? null : (root, query, cb) ->
+      cb.equal(root.get("sex").get("idSex"), idSex);
+  }
+
+  private static Specification<EmployeeEntity> bornFrom(EmployeeFilter filter) {
+    return filter.getBirthDayFrom() == null ? null : (root, query, cb) ->
+      cb.greaterThanOrEqualTo(root.<LocalDate>get("birthDay"), filter.getBirthDayFrom());
+  }
+
+  private static Specification<EmployeeEntity> bornTo(EmployeeFilter filter) {
+    return filter.getBirthDayTo() == null ? null : (root, query, cb) ->
+      cb.lessThanOrEqualTo(root.<LocalDate>get("birthDay"), filter.getBirthDayTo());
+  }
+}
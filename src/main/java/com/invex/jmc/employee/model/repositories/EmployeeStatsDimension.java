@@ -0,0 +1,53 @@
+package com.invex.jmc.employee.model.repositories;
+
+import java.util.Arrays;
+import lombok.Getter;
+
+/**
+ * Dimensions by which the employee headcount can be grouped.
+ *
+ * <p>Each dimension knows the name used in the API ({@code groupBy} parameter)
+ * and the SQL expression evaluated by the database. The age band is computed
+ * in SQL by comparing {@code birth_day} against cut-off dates, so it can be
+ * resolved from the {@code birth_day} index without reading every row into
+ * memory.</p>
+ */
+@Getter
+public enum EmployeeStatsDimension {
+  JOB_POSITION("jobPosition", "jp.code"),
+  SEX("sex", "s.code"),
+  STATUS("status", "e.status"),
+  AGE_BAND("ageBand", "CASE"
+      + " WHEN e.birth_day IS NULL THEN 'UNKNOWN'"
+      + " WHEN e.birth_day > :cut25 THEN '<25'"
+      + " WHEN e.birth_day > :cut35 THEN '25-34'"
+      + " WHEN e.birth_day > :cut45 THEN '35-44'"
+      + " WHEN e.birth_day > :cut55 THEN '45-54'"
+      + " ELSE '55+' END");
+
+  /** Name of the dimension in the API. */
+  private final String apiName;
+
+  /** SQL expression over {@code employee e}, {@code cat_job_position jp} and {@code cat_sex s}. */
+  private final String sqlExpression;
+
+  EmployeeStatsDimension(String apiName, String sqlExpression) {
+    this.apiName = apiName;
+    this.sqlExpression = sqlExpression;
+  }
+
+  /**
+   * Resolves a dimension from its API name, ignoring case.
+   *
+   * @param apiName the name used in the {@code groupBy} parameter
+   * @return the matching dimension
+   * @throws IllegalArgumentException if the name is not a supported dimension
+   */
+  public static EmployeeStatsDimension fromApiName(String apiName) {
+    return Arrays.stream(values())
+        .filter(dimension -> dimension.apiName.equalsIgnoreCase(apiName.trim()))
+        .findFirst()
+        .orElseThrow(() -> new IllegalArgumentException("Unsupported groupBy dimension: "
+            + apiName + ". Supported: jobPosition, sex, status, ageBand"));
+  }
+}
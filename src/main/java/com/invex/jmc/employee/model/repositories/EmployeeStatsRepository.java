@@ -0,0 +1,21 @@
+package com.invex.jmc.employee.model.repositories;
+
+import java.util.List;
+
+/**
+ * Custom repository fragment that computes the employee headcount in the database.
+ *
+ * <p>Implemented by {@link EmployeeStatsRepositoryImpl} and exposed through
+ * {@link EmployeeRepository}.</p>
+ */
+public interface EmployeeStatsRepository {
+
+  /**
+   * Counts employees grouped by the given dimensions.
+   *
+   * @param dimensions the dimensions to group by, in order; must not be empty
+   * @return one row per group: the dimension values (as strings, in the same
+   *         order as {@code dimensions}) followed by the count
+   */
+  List<Object[]> countGroupedBy(List<EmployeeStatsDimension> dimensions);
+}
@@ -0,0 +1,64 @@
+package com.invex.jmc.employee.model.repositories;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Query;
+
+/**
+ * Native SQL implementation of {@link EmployeeStatsRepository}.
+ *
+ * <p>Builds a single {@code GROUP BY} query over {@code employee} joined to
+ * {@code cat_job_position} and {@code cat_sex}. Only the SQL expressions
+ * defined by {@link EmployeeStatsDimension} are concatenated into the
+ * statement, never user input.</p>
+ */
+public class EmployeeStatsRepositoryImpl implements EmployeeStatsRepository {
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  /**
+   * Creates the fragment with the entity manager injected by the container.
+   */
+  public EmployeeStatsRepositoryImpl() {
+  }
+
+  /**
+   * Creates the fragment over the given entity manager, for repositories built
+   * outside the container.
+   *
+   * @param entityManager the entity manager to query
+   */
+  public EmployeeStatsRepositoryImpl(EntityManager entityManager) {
+    this.entityManager = entityManager;
+  }
+
+  @Override
+  public List<Object[]> countGroupedBy(List<EmployeeStatsDimension> dimensions) {
+    String columns = IntStream.range(0, dimensions.size())
+        .mapToObj(i -> dimensions.get(i).getSqlExpression() + " AS d" + i)
+        .collect(Collectors.joining(", "));
+    String groupBy = IntStream.range(0, dimensions.size())
+        .mapToObj(i -> "d" + i)
+        .collect(Collectors.joining(", "));
+    Query query = entityManager.createNativeQuery("SELECT " + columns + ", COUNT(*)"
+        + " FROM employee e"
+        + " LEFT JOIN cat_job_position jp ON jp.id_job_position = e.id_job_position"
+        + " LEFT JOIN cat_sex s ON s.id_sex = e.id_sex"
+        + " GROUP BY " + groupBy);
+    if (dimensions.contains(EmployeeStatsDimension.AGE_BAND)) {
+      LocalDate today = LocalDate.now();
+      query.setParameter("cut25", today.minusYears(25));
+      query.setParameter("cut35", today.minusYears(35));
+      query.setParameter("cut45", today.minusYears(45));
+      query.setParameter("cut55", today.minusYears(55));
+    }
+    @SuppressWarnings("unchecked")
+    List<Object[]> rows = query.getResultList();
+    return rows;
+  }
+}
@@ -0,0 +1,52 @@
+package com.invex.jmc.employee.model.repositories;
+
+import com.invex.jmc.employee.model.entities.EmployeeTombstoneEntity;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Repository for the {@link EmployeeTombstoneEntity} records of deleted employees.
+ */
+@Repository
+public interface EmployeeTombstoneRepository
+    extends JpaRepository<EmployeeTombstoneEntity, String> {
+
+  /**
+   * Retrieves the tombstones recorded after the given {@code (deletedAt, id)}
+   * position, in that order, up to {@code upTo} inclusive.
+   *
+   * @param since deletion instant of the last tombstone already seen
+   * @param idEmployee identifier of the last tombstone already seen
+   * @param upTo most recent deletion instant to return
+   * @param pageable the maximum number of tombstones to return
+   * @return the tombstones, resolved through {@code idx_employee_tombstone_deleted}
+   */
+  @Query("""
+      SELECT t FROM EmployeeTombstoneEntity t
+      WHERE (t.deletedAt > :since OR (t.deletedAt = :since AND t.idEmployee > :id))
+        AND t.deletedAt <= :upTo
+      ORDER BY t.deletedAt, t.idEmployee
+      """)
+  List<EmployeeTombstoneEntity> findDeletedSince(@Param("since") LocalDateTime since,
+                                                 @Param("id") String idEmployee,
+                                                 @Param("upTo") LocalDateTime upTo,
+                                                 Pageable pageable);
+
+  /**
+   * Purges the tombstones older than the given instant.
+   *
+   * @param before the retention limit
+   * @return the number of tombstones removed
+   */
+  @Transactional
+  @Modifying
+  @Query("DELETE FROM EmployeeTombstoneEntity t WHERE t.deletedAt < :before")
+  int deleteDeletedBefore(@Param("before") LocalDateTime before);
+}
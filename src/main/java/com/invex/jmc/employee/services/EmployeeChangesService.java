@@ -0,0 +1,21 @@
+package com.invex.jmc.employee.services;
+
+import com.invex.jmc.employee.exceptions.ChangeCursorExpiredException;
+import com.invex.jmc.employee.model.dto.response.EmployeeChanges;
+
+/**
+ * Service interface for the employee delta sync feed.
+ */
+public interface EmployeeChangesService {
+
+  /**
+   * Retrieves the employees created, updated or deleted after a cursor.
+   *
+   * @param since the cursor returned by a previous call, or {@code null} for a full sync
+   * @param limit maximum number of changes, or {@code null} for the default
+   * @return the changes and the cursor to use in the next call
+   * @throws ChangeCursorExpiredException if the cursor is older than the tombstone retention
+   * @throws IllegalArgumentException if the cursor is malformed
+   */
+  EmployeeChanges getChangesSince(String since, Integer limit);
+}
@@ -0,0 +1,30 @@
+package com.invex.jmc.employee.services;
+
+import com.invex.jmc.employee.model.dto.Employee;
+import com.invex.jmc.employee.model.dto.response.MerkleSummary;
+import java.util.List;
+
+/**
+ * Service interface for the Merkle summary used by replica consumers to
+ * reconcile their copy of the employees.
+ */
+public interface EmployeeMerkleService {
+
+  /**
+   * Retrieves the digests of every node at the given depth.
+   *
+   * @param depth from {@code 0} (root) to the leaf depth
+   * @return the nodes at that depth
+   * @throws IllegalArgumentException if the depth is out of range
+   */
+  MerkleSummary getSummary(int depth);
+
+  /**
+   * Retrieves the employees of the given buckets.
+   *
+   * @param prefixes hexadecimal ID prefixes, typically leaf buckets that differ
+   * @return the employees whose ID starts with any of the prefixes
+   * @throws IllegalArgumentException if a prefix is invalid or too many are requested
+   */
+  List<Employee> getBucketRows(List<String> prefixes);
+}
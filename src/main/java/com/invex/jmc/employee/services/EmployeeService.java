@@ -1,10 +1,12 @@
 package com.invex.jmc.employee.services;
 
 import com.invex.jmc.employee.model.dto.Employee;
+import com.invex.jmc.employee.model.dto.request.EmployeeFilter;
 import com.invex.jmc.employee.model.dto.request.EmployeeRequest;
 import com.invex.jmc.employee.model.dto.request.EmployeesRequest;
 import java.util.List;
 import javax.validation.Valid;
+import org.springframework.data.domain.Page;
 
 /**
  * Service interface that defines business operations related to employees.
@@ -23,6 +25,17 @@ public interface EmployeeService {
    */
   List<Employee> getAllEmployee();
 
+  /**
+   * Retrieves the employees matching the given filters, sorted and optionally
+   * paginated.
+   *
+   * @param filter the filters, sort order and pagination to apply
+   * @return the requested page; a single page with every match when the filter
+   *         does not ask for pagination
+   * @throws IllegalArgumentException if the sort order is not supported
+   */
+  Page<Employee> findEmployees(EmployeeFilter filter);
+
   /**
    * Retrieves an employee by its unique identifier.
    *
@@ -0,0 +1,23 @@
+package com.invex.jmc.employee.services;
+
+import com.invex.jmc.employee.model.dto.response.EmployeeStats;
+import java.util.List;
+
+/**
+ * Service interface that computes aggregated employee headcounts.
+ *
+ * <p>Aggregations are computed by the database so that clients no longer need
+ * to download the complete employee list to count it.</p>
+ */
+public interface EmployeeStatsService {
+
+  /**
+   * Counts employees grouped by the given dimensions.
+   *
+   * @param groupBy dimension names: {@code jobPosition}, {@code sex}, {@code status}
+   *                and/or {@code ageBand}
+   * @return the headcount per group
+   * @throws IllegalArgumentException if a dimension is not supported
+   */
+  EmployeeStats getStats(List<String> groupBy);
+}
@@ -0,0 +1,223 @@
+package com.invex.jmc.employee.services.batch;
+
+import com.invex.jmc.employee.config.ConfigBatchLoader;
+import com.invex.jmc.employee.model.entities.EmployeeEntity;
+import com.invex.jmc.employee.model.repositories.EmployeeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * DataLoader-style micro-batcher for employee lookups by ID.
+ *
+ * <p>Concurrent calls to {@link #load(String)} are queued and resolved together
+ * with a single {@code IN} query. A batch is flushed when the configured
+ * window elapses after the first queued lookup, or immediately once the queue
+ * reaches the maximum batch size, whichever comes first.</p>
+ *
+ * <p>The following metrics are published:</p>
+ * <ul>
+ *   <li>{@code employee.batch.size}: number of distinct IDs resolved per query.</li>
+ *   <li>{@code employee.batch.wait}: time a lookup spends waiting for its batch.</li>
+ *   <li>{@code employee.batch.queries}: number of {@code IN} queries executed.</li>
+ * </ul>
+ *
+ * <p>The loader is opt-in through {@code employee.batching.enabled}; when
+ * disabled no threads are started and callers should query the repository
+ * directly.</p>
+ */
+@Slf4j
+@Component
+public class EmployeeBatchLoader {
+
+  private final EmployeeRepository employeeRepository;
+  private final ConfigBatchLoader config;
+  private final Queue<PendingLookup> queue = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger queued = new AtomicInteger();
+  private final AtomicBoolean flushScheduled = new AtomicBoolean();
+  private final ScheduledExecutorService executor;
+  private final DistributionSummary batchSize;
+  private final Timer batchWait;
+  private final Counter batchQueries;
+
+  /**
+   * Creates the loader and, when batching is enabled, its flushing threads.
+   *
+   * @param employeeRepository repository used to resolve the batches
+   * @param config batching configuration
+   * @param meterRegistry registry where the batching metrics are published
+   */
+  public EmployeeBatchLoader(EmployeeRepository employeeRepository, ConfigBatchLoader config,
+                             MeterRegistry meterRegistry) {
+    this.employeeRepository = employeeRepository;
+    this.config = config;
+    this.batchSize = DistributionSummary.builder("employee.batch.size")
+        .description("Distinct employee IDs resolved per IN query")
+        .register(meterRegistry);
+    this.batchWait = Timer.builder("employee.batch.wait")
+        .description("Time a lookup by ID waits for its batch to be resolved")
+        .register(meterRegistry);
+    this.batchQueries = Counter.builder("employee.batch.queries")
+        .description("IN queries executed by the batch loader")
+        .register(meterRegistry);
+    this.executor = config.isEnabled()
+        ? new ScheduledThreadPoolExecutor(Math.max(1, config.getThreads()), runnable -> {
+          Thread thread = new Thread(runnable, "employee-batch-loader");
+          thread.setDaemon(true);
+          return thread;
+        })
+        : null;
+  }
+
+  /**
+   * Indicates whether lookups should go through this loader.
+   *
+   * @return {@code true} if batching is enabled
+   */
+  public boolean isEnabled() {
+    return executor != null;
+  }
+
+  /**
+   * Queues a lookup and returns a future completed when its batch is resolved.
+   *
+   * @param idEmployee the employee identifier to resolve
+   * @return a future holding the employee, or an empty optional if it does not exist
+   */
+  public CompletableFuture<Optional<EmployeeEntity>> load(String idEmployee) {
+    PendingLookup lookup = new PendingLookup(idEmployee);
+    queue.add(lookup);
+    if (queued.incrementAndGet() >= config.getMaxBatchSize()) {
+      executor.execute(this::flush);
+    } else if (flushScheduled.compareAndSet(false, true)) {
+      executor.schedule(this::flush, config.getWindow().toNanos(), TimeUnit.NANOSECONDS);
+    }
+    return lookup.future;
+  }
+
+  /**
+   * Resolves an employee through its batch, blocking the caller until the batch
+   * completes.
+   *
+   * <p>If the batch does not complete within {@code employee.batching.wait-timeout}
+   * the employee is queried directly so that a stuck batch never blocks a request
+   * indefinitely.</p>
+   *
+   * @param idEmployee the employee identifier to resolve
+   * @return the employee, or an empty optional if it does not exist
+   */
+  public Optional<EmployeeEntity> loadBlocking(String idEmployee) {
+    CompletableFuture<Optional<EmployeeEntity>> future = load(idEmployee);
+    try {
+      return future.get(config.getWaitTimeout().toNanos(), TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      log.warn("Batch lookup for employee {} timed out, querying directly", idEmployee);
+      return employeeRepository.findEmployeeByIdEmployee(idEmployee);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IllegalStateException(e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for employee " + idEmployee, e);
+    }
+  }
+
+  /**
+   * Drains the queue in chunks of at most {@code max-batch-size} lookups and
+   * resolves each chunk with one query.
+   */
+  private void flush() {
+    flushScheduled.set(false);
+    List<PendingLookup> batch = drain();
+    while (!batch.isEmpty()) {
+      resolve(batch);
+      batch = drain();
+    }
+  }
+
+  private List<PendingLookup> drain() {
+    List<PendingLookup> batch = new ArrayList<>();
+    PendingLookup lookup;
+    while (batch.size() < config.getMaxBatchSize() && (lookup = queue.poll()) != null) {
+      queued.decrementAndGet();
+      batch.add(lookup);
+    }
+    return batch;
+  }
+
+  private void resolve(List<PendingLookup> batch) {
+    Map<String, List<PendingLookup>> byId = new HashMap<>();
+    for (PendingLookup lookup : batch) {
+      byId.computeIfAbsent(lookup.idEmployee, id -> new ArrayList<>()).add(lookup);
+    }
+    try {
+      batchQueries.increment();
+      batchSize.record(byId.size());
+      Map<String, EmployeeEntity> found = new HashMap<>();
+      for (EmployeeEntity entity : employeeRepository.findEmployeesByIdEmployeeIn(byId.keySet())) {
+        found.put(entity.getIdEmployee(), entity);
+      }
+      byId.forEach((id, lookups) -> {
+        Optional<EmployeeEntity> result = Optional.ofNullable(found.get(id));
+        lookups.forEach(lookup -> lookup.complete(result));
+      });
+    } catch (RuntimeException e) {
+      log.error("Batch lookup of {} employees failed", byId.size(), e);
+      batch.forEach(lookup -> lookup.fail(e));
+    }
+  }
+
+  /**
+   * Stops the flushing threads when the application context closes.
+   */
+  @PreDestroy
+  public void shutdown() {
+    if (executor != null) {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * A lookup waiting for its batch, with the instant it was queued.
+   */
+  private final class PendingLookup {
+    private final String idEmployee;
+    private final long queuedAt = System.nanoTime();
+    private final CompletableFuture<Optional<EmployeeEntity>> future = new CompletableFuture<>();
+
+    private PendingLookup(String idEmployee) {
+      this.idEmployee = idEmployee;
+    }
+
+    private void complete(Optional<EmployeeEntity> result) {
+      batchWait.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+      future.complete(result);
+    }
+
+    private void fail(RuntimeException e) {
+      batchWait.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+      future.completeExceptionally(e);
+    }
+  }
+}
@@ -0,0 +1,110 @@
+package com.invex.jmc.employee.services.batch;
+
+import com.invex.jmc.employee.config.ConfigCoalescing;
+import com.invex.jmc.employee.config.ConfigReplicas;
+import com.invex.jmc.employee.config.replicas.ReadYourWrites;
+import com.invex.jmc.employee.model.dto.Employee;
+import com.invex.jmc.employee.util.MapperUtil;
+import com.invex.jmc.employee.util.SingleFlight;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Component;
+
+/**
+ * Single-flight coalescing of hot employee reads.
+ *
+ * <p>Concurrent lookups of the same employee ID, and concurrent searches for the
+ * same term, share one in-flight query and its mapped result. Search terms are
+ * lower-cased before being compared because the underlying query is
+ * case-insensitive. Each caller receives its own copy of the employees, made
+ * with {@link MapperUtil} so that it follows the fields of the DTOs, and
+ * mapping or modifying one response never changes another.</p>
+ *
+ * <p>With read replicas enabled, a client within its read-your-writes window
+ * is not coalesced: its read must reach the primary, and a shared result may
+ * come from a replica that has not seen its write yet.</p>
+ *
+ * <p>Every call is counted in {@code employee.coalescing.calls}, tagged with the
+ * {@code operation} ({@code byId} or {@code search}) and the {@code outcome}
+ * ({@code leader}, {@code coalesced} or {@code timeout}).</p>
+ */
+@Component
+public class EmployeeReadCoalescer {
+
+  private final boolean enabled;
+  private final ConfigReplicas configReplicas;
+  private final ReadYourWrites readYourWrites;
+  private final SingleFlight<String, Employee> byId;
+  private final SingleFlight<String, List<Employee>> search;
+
+  /**
+   * Creates the coalescer and registers its counters.
+   *
+   * @param config coalescing configuration
+   * @param configReplicas read replica configuration
+   * @param readYourWrites the clients that have just written
+   * @param mapperUtil mapper used to copy the shared employees
+   * @param meterRegistry registry where the counters are published
+   */
+  public EmployeeReadCoalescer(ConfigCoalescing config, ConfigReplicas configReplicas,
+                               ReadYourWrites readYourWrites, MapperUtil mapperUtil,
+                               MeterRegistry meterRegistry) {
+    this.enabled = config.isEnabled();
+    this.configReplicas = configReplicas;
+    this.readYourWrites = readYourWrites;
+    UnaryOperator<Employee> copy = employee -> employee == null
+        ? null
+        : mapperUtil.map(employee, Employee.class);
+    this.byId = new SingleFlight<>(config.getTimeout(), listener(meterRegistry, "byId"), copy);
+    this.search = new SingleFlight<>(config.getTimeout(), listener(meterRegistry, "search"),
+        employees -> employees.stream().map(copy).collect(Collectors.toList()));
+  }
+
+  /**
+   * Runs a lookup by ID, joining an identical lookup already in flight.
+   *
+   * @param idEmployee the employee identifier
+   * @param query the lookup to run when none is in flight
+   * @return the employee
+   */
+  public Employee byId(String idEmployee, Supplier<Employee> query) {
+    return coalesces() ? byId.execute(idEmployee, query) : query.get();
+  }
+
+  /**
+   * Runs a search by name, joining an identical search already in flight.
+   *
+   * @param name the search term
+   * @param query the search to run when none is in flight
+   * @return the matching employees
+   */
+  public List<Employee> search(String name, Supplier<List<Employee>> query) {
+    if (!coalesces() || name == null) {
+      return query.get();
+    }
+    return search.execute(name.toLowerCase(Locale.ROOT), query);
+  }
+
+  private boolean coalesces() {
+    return enabled && !(configReplicas.isEnabled() && readYourWrites.requiresPrimary());
+  }
+
+  private static SingleFlight.Listener listener(MeterRegistry meterRegistry, String operation) {
+    Map<SingleFlight.Outcome, Counter> counters = new EnumMap<>(SingleFlight.Outcome.class);
+    for (SingleFlight.Outcome outcome : SingleFlight.Outcome.values()) {
+      counters.put(outcome, Counter.builder("employee.coalescing.calls")
+          .description("Employee reads by single-flight outcome")
+          .tag("operation", operation)
+          .tag("outcome", outcome.name().toLowerCase(Locale.ROOT))
+          .register(meterRegistry));
+    }
+    return outcome -> counters.get(outcome).increment();
+  }
+}
@@ -0,0 +1,73 @@
+package com.invex.jmc.employee.services.changes;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Position in the employee delta sync feed: the {@code (time, id)} of the last
+ * change a client has seen.
+ *
+ * <p>Changes are ordered by time and then by employee ID, so the pair is a
+ * strictly increasing keyset. It is sent to clients as an opaque URL-safe
+ * Base64 string.</p>
+ */
+@Getter
+@AllArgsConstructor
+public final class ChangeCursor {
+
+  /** Cursor placed before every change. */
+  public static final ChangeCursor START = new ChangeCursor(LocalDateTime.of(1970, 1, 1, 0, 0), "");
+
+  private final LocalDateTime time;
+  private final String idEmployee;
+
+  /**
+   * Creates the cursor placed after every change up to the given instant.
+   *
+   * <p>Change times are stored in whole seconds, so the cursor is placed at the
+   * start of the next second: changes within the second of {@code time} are not
+   * returned again.</p>
+   *
+   * @param time the instant up to which every change was returned
+   * @return the cursor
+   */
+  public static ChangeCursor after(LocalDateTime time) {
+    return new ChangeCursor(time.truncatedTo(ChronoUnit.SECONDS).plusSeconds(1), "");
+  }
+
+  /**
+   * Decodes a cursor received from a client.
+   *
+   * @param value the encoded cursor
+   * @return the decoded cursor
+   * @throws IllegalArgumentException if the value is not a valid cursor
+   */
+  public static ChangeCursor decode(String value) {
+    try {
+      String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+      int separator = decoded.indexOf('|');
+      if (separator < 0) {
+        throw new IllegalArgumentException("Invalid change cursor: " + value);
+      }
+      return new ChangeCursor(LocalDateTime.parse(decoded.substring(0, separator)),
+          decoded.substring(separator + 1));
+    } catch (DateTimeParseException e) {
+      throw new IllegalArgumentException("Invalid change cursor: " + value, e);
+    }
+  }
+
+  /**
+   * Encodes the cursor for a client.
+   *
+   * @return the URL-safe Base64 representation
+   */
+  public String encode() {
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString((time + "|" + idEmployee).getBytes(StandardCharsets.UTF_8));
+  }
+}
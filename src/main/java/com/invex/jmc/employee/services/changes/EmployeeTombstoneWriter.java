@@ -0,0 +1,65 @@
+package com.invex.jmc.employee.services.changes;
+
+import com.invex.jmc.employee.config.ConfigChanges;
+import com.invex.jmc.employee.model.entities.EmployeeTombstoneEntity;
+import com.invex.jmc.employee.model.repositories.EmployeeTombstoneRepository;
+import com.invex.jmc.employee.services.events.EmployeeChangeEvent;
+import com.invex.jmc.employee.util.CommitTime;
+import java.time.LocalDateTime;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records a tombstone for every deleted employee and purges the tombstones
+ * older than {@code employee.changes.tombstone-retention}.
+ *
+ * <p>Like the change outbox, the tombstone is written synchronously in the
+ * transaction of the deletion, as it commits: the employee service publishes
+ * the deletion through {@link CommitTime}.</p>
+ */
+@Slf4j
+@Component
+public class EmployeeTombstoneWriter {
+
+  private final EmployeeTombstoneRepository tombstoneRepository;
+  private final ConfigChanges configChanges;
+
+  /**
+   * Creates the writer.
+   *
+   * @param tombstoneRepository repository of the tombstones
+   * @param configChanges delta sync configuration
+   */
+  public EmployeeTombstoneWriter(EmployeeTombstoneRepository tombstoneRepository,
+                                 ConfigChanges configChanges) {
+    this.tombstoneRepository = tombstoneRepository;
+    this.configChanges = configChanges;
+  }
+
+  /**
+   * Records the tombstone of a deleted employee.
+   *
+   * @param event the change published by the employee service
+   */
+  @EventListener
+  public void onEmployeeChange(EmployeeChangeEvent event) {
+    if (event.getType() == EmployeeChangeEvent.Type.DELETED) {
+      tombstoneRepository.save(
+          new EmployeeTombstoneEntity(event.getIdEmployee(), CommitTime.now()));
+    }
+  }
+
+  /**
+   * Removes the tombstones that are past their retention.
+   */
+  @Scheduled(fixedDelayString = "#{@configChanges.purgeInterval.toMillis()}")
+  public void purge() {
+    int purged = tombstoneRepository.deleteDeletedBefore(
+        LocalDateTime.now().minus(configChanges.getTombstoneRetention()));
+    if (purged > 0) {
+      log.info("Purged {} employee tombstones", purged);
+    }
+  }
+}
@@ -0,0 +1,97 @@
+package com.invex.jmc.employee.services.events;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Application event published by the write paths of the employee service.
+ *
+ * <p>Holds the state of the employee before and after the change:
+ * {@code before} is {@code null} for a creation and {@code after} is
+ * {@code null} for a deletion. Listeners that must only react to committed
+ * data should use
+ * {@link org.springframework.transaction.event.TransactionalEventListener}.</p>
+ */
+@Getter
+@ToString
+public final class EmployeeChangeEvent {
+
+  /**
+   * Kind of change applied to the employee.
+   */
+  public enum Type {
+    CREATED, UPDATED, DELETED
+  }
+
+  private final Type type;
+  private final EmployeeSnapshot before;
+  private final EmployeeSnapshot after;
+
+  private EmployeeChangeEvent(Type type, EmployeeSnapshot before, EmployeeSnapshot after) {
+    this.type = type;
+    this.before = before;
+    this.after = after;
+  }
+
+  /**
+   * Creates the event for a newly created employee.
+   *
+   * @param after the state of the created employee
+   * @return the event
+   */
+  public static EmployeeChangeEvent created(EmployeeSnapshot after) {
+    return new EmployeeChangeEvent(Type.CREATED, null, after);
+  }
+
+  /**
+   * Creates the event for an updated employee.
+   *
+   * @param before the state before the update
+   * @param after the state after the update
+   * @return the event
+   */
+  public static EmployeeChangeEvent updated(EmployeeSnapshot before, EmployeeSnapshot after) {
+    return new EmployeeChangeEvent(Type.UPDATED, before, after);
+  }
+
+  /**
+   * Creates the event for a deleted employee.
+   *
+   * @param before the state of the employee when it was deleted
+   * @return the event
+   */
+  public static EmployeeChangeEvent deleted(EmployeeSnapshot before) {
+    return new EmployeeChangeEvent(Type.DELETED, before, null);
+  }
+
+  /**
+   * Returns the identifier of the changed employee.
+   *
+   * @return the employee ID
+   */
+  public String getIdEmployee() {
+    return after != null ? after.getIdEmployee() : before.getIdEmployee();
+  }
+
+  /**
+   * Describes the change for external consumers: its type, the employee ID and,
+   * unless it is a deletion, the new status, job position code, sex code and
+   * timestamp.
+   *
+   * @return an ordered map ready to be serialized as JSON
+   */
+  public Map<String, Object> toPayload() {
+    Map<String, Object> payload = new LinkedHashMap<>();
+    payload.put("type", type);
+    payload.put("idEmployee", getIdEmployee());
+    if (after != null) {
+      payload.put("status", after.getStatus());
+      payload.put("jobPosition", after.getJobPositionCode());
+      payload.put("sex", after.getSexCode());
+      payload.put("ts", after.getTs());
+    }
+    return payload;
+  }
+}
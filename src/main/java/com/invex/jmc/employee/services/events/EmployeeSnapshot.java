@@ -0,0 +1,49 @@
+package com.invex.jmc.employee.services.events;
+
+import com.invex.jmc.employee.model.entities.EmployeeEntity;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Immutable copy of the employee attributes that change listeners care about.
+ *
+ * <p>Captured from the entity at the moment of the change, so it is not
+ * affected by later modifications of the managed entity.</p>
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public final class EmployeeSnapshot {
+
+  /** Employee identifier. */
+  private final String idEmployee;
+
+  /** Employee status ({@code 1} active, {@code 0} inactive). */
+  private final int status;
+
+  /** Code of the job position, or {@code null} if none is assigned. */
+  private final String jobPositionCode;
+
+  /** Code of the sex, or {@code null} if none is assigned. */
+  private final String sexCode;
+
+  /** Creation/update timestamp of the employee. */
+  private final LocalDateTime ts;
+
+  /**
+   * Captures the current state of an employee entity.
+   *
+   * @param entity the entity to copy
+   * @return a snapshot of the entity
+   */
+  public static EmployeeSnapshot of(EmployeeEntity entity) {
+    return new EmployeeSnapshot(
+        entity.getIdEmployee(),
+        entity.getStatus(),
+        entity.getJobPosition() == null ? null : entity.getJobPosition().getCode(),
+        entity.getSex() == null ? null : entity.getSex().getCode(),
+        entity.getTs());
+  }
+}
@@ -0,0 +1,290 @@
+package com.invex.jmc.employee.services.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.invex.jmc.employee.config.ConfigIdempotency;
+import com.invex.jmc.employee.constants.ConstantsUtil;
+import com.invex.jmc.employee.exceptions.IdempotencyKeyReusedException;
+import com.invex.jmc.employee.exceptions.IdempotencyRequestInProgressException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs a request at most once per idempotency key.
+ *
+ * <p>The key is the {@code uuid} header, bound to the SHA-256 of the request
+ * body as serialized by the application {@link ObjectMapper}, so formatting
+ * differences do not matter. The first request claims the key in the
+ * {@link IdempotencyStore} and runs; if it succeeds its status and JSON body are
+ * stored, otherwise the key is released so the client can retry. The claim
+ * carries a token of its own, and its lease is renewed every half lease while
+ * the request runs, including while it waits for a bulk thread; should the
+ * lease still end and another request take the key over, the first request can
+ * no longer store a response for it or release it. Later requests
+ * with the same key and body receive the stored response, marked with the
+ * {@code Idempotent-Replayed} header. Requests arriving while the first one is
+ * still running poll the store until it completes, for at most
+ * {@code employee.idempotency.wait-timeout}. Reusing a key with a different
+ * body is rejected.</p>
+ *
+ * <p>Every request is counted in {@code employee.idempotency.requests}, tagged
+ * with the {@code outcome}: {@code executed}, {@code replayed}, {@code reused}
+ * or {@code timeout}.</p>
+ */
+@Slf4j
+@Component
+public class IdempotencyGuard {
+
+  private static final long MIN_POLL_MILLIS = 10;
+  private static final long MAX_POLL_MILLIS = 250;
+
+  private final IdempotencyStore store;
+  private final ConfigIdempotency config;
+  private final ObjectMapper objectMapper;
+  private final Counter executed;
+  private final Counter replayed;
+  private final Counter reused;
+  private final Counter timeout;
+  private final ScheduledThreadPoolExecutor renewals;
+
+  /**
+   * Creates the guard and registers its counters.
+   *
+   * @param store store of the idempotency keys
+   * @param config idempotency configuration
+   * @param objectMapper mapper used to hash requests and store responses
+   * @param meterRegistry registry where the counters are published
+   */
+  public IdempotencyGuard(IdempotencyStore store, ConfigIdempotency config,
+                          ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+    this.store = store;
+    this.config = config;
+    this.objectMapper = objectMapper;
+    this.executed = counter(meterRegistry, "executed");
+    this.replayed = counter(meterRegistry, "replayed");
+    this.reused = counter(meterRegistry, "reused");
+    this.timeout = counter(meterRegistry, "timeout");
+    this.renewals = new ScheduledThreadPoolExecutor(1, runnable -> {
+      Thread thread = new Thread(runnable, "employee-idempotency-lease");
+      thread.setDaemon(true);
+      return thread;
+    });
+    renewals.setRemoveOnCancelPolicy(true);
+  }
+
+  /**
+   * Runs the action once for the given key and request, or returns the response
+   * it already produced.
+   *
+   * @param key the idempotency key; when blank the action simply runs
+   * @param request the request body
+   * @param bodyType type of the response body, used to read a stored response
+   * @param action the request handling
+   * @param <T> the response body type
+   * @return the response of the action, or the stored one for a repeated request
+   * @throws IdempotencyKeyReusedException if the key was used with another body
+   * @throws IdempotencyRequestInProgressException if the first request is still running
+   */
+  public <T> ResponseEntity<T> execute(String key, Object request, TypeReference<T> bodyType,
+                                       Supplier<ResponseEntity<T>> action) {
+    if (!config.isEnabled() || key == null || key.isBlank()) {
+      return action.get();
+    }
+    String token = UUID.randomUUID().toString();
+    Optional<ResponseEntity<T>> stored = claim(key, hash(request), token, bodyType);
+    if (stored.isPresent()) {
+      return stored.get();
+    }
+    ScheduledFuture<?> renewal = renewLease(key, token);
+    ResponseEntity<T> response;
+    try {
+      response = action.get();
+    } catch (RuntimeException e) {
+      renewal.cancel(false);
+      store.release(key, token);
+      throw e;
+    }
+    renewal.cancel(false);
+    record(key, token, response);
+    return response;
+  }
+
+  /**
+   * Like {@link #execute(String, Object, TypeReference, Supplier)}, for an action
+   * that completes on another thread.
+   *
+   * <p>The key is claimed, replayed or rejected on the calling thread, so that
+   * repeated requests never reach the executor the action runs on; the
+   * response is stored when the action completes.</p>
+   *
+   * @param key the idempotency key; when blank the action simply runs
+   * @param request the request body
+   * @param bodyType type of the response body, used to read a stored response
+   * @param action starts the request handling
+   * @param <T> the response body type
+   * @return the response of the action, or the stored one for a repeated request
+   * @throws IdempotencyKeyReusedException if the key was used with another body
+   * @throws IdempotencyRequestInProgressException if the first request is still running
+   */
+  public <T> CompletableFuture<ResponseEntity<T>> executeAsync(
+      String key, Object request, TypeReference<T> bodyType,
+      Supplier<CompletableFuture<ResponseEntity<T>>> action) {
+    if (!config.isEnabled() || key == null || key.isBlank()) {
+      return action.get();
+    }
+    String token = UUID.randomUUID().toString();
+    Optional<ResponseEntity<T>> stored = claim(key, hash(request), token, bodyType);
+    if (stored.isPresent()) {
+      return CompletableFuture.completedFuture(stored.get());
+    }
+    ScheduledFuture<?> renewal = renewLease(key, token);
+    CompletableFuture<ResponseEntity<T>> response;
+    try {
+      response = action.get();
+    } catch (RuntimeException e) {
+      renewal.cancel(false);
+      store.release(key, token);
+      throw e;
+    }
+    return response.whenComplete((completed, error) -> {
+      renewal.cancel(false);
+      if (error != null) {
+        store.release(key, token);
+      } else {
+        record(key, token, completed);
+      }
+    });
+  }
+
+  /**
+   * Claims the key, waiting while another request holds it.
+   *
+   * @return the stored response to replay, or an empty optional once the key is claimed
+   */
+  private <T> Optional<ResponseEntity<T>> claim(String key, String requestHash, String token,
+                                                TypeReference<T> bodyType) {
+    long deadline = System.nanoTime() + config.getWaitTimeout().toNanos();
+    long pollMillis = MIN_POLL_MILLIS;
+    while (true) {
+      Optional<IdempotencyRecord> existing = store.claim(key, requestHash, token,
+          config.getLease());
+      if (existing.isEmpty()) {
+        return Optional.empty();
+      }
+      IdempotencyRecord record = existing.get();
+      if (!record.getRequestHash().equals(requestHash)) {
+        reused.increment();
+        throw new IdempotencyKeyReusedException(key);
+      }
+      if (record.getState() == IdempotencyRecord.State.COMPLETED) {
+        replayed.increment();
+        return Optional.of(replay(record, bodyType));
+      }
+      if (System.nanoTime() - deadline >= 0) {
+        timeout.increment();
+        throw new IdempotencyRequestInProgressException(key);
+      }
+      sleep(pollMillis);
+      pollMillis = Math.min(pollMillis * 2, MAX_POLL_MILLIS);
+    }
+  }
+
+  /**
+   * Renews the lease of a claim every half lease until the returned task is cancelled.
+   */
+  private ScheduledFuture<?> renewLease(String key, String token) {
+    long period = Math.max(1, config.getLease().toMillis() / 2);
+    return renewals.scheduleAtFixedRate(() -> {
+      boolean held;
+      try {
+        held = store.renew(key, token, config.getLease());
+      } catch (RuntimeException e) {
+        log.warn("Could not renew the lease of idempotency key {}", key, e);
+        return;
+      }
+      if (!held) {
+        // Failing the task stops its later runs.
+        throw new IllegalStateException("Idempotency key " + key + " was taken over");
+      }
+    }, period, period, TimeUnit.MILLISECONDS);
+  }
+
+  private void record(String key, String token, ResponseEntity<?> response) {
+    if (!response.getStatusCode().is2xxSuccessful()) {
+      store.release(key, token);
+      return;
+    }
+    try {
+      if (!store.complete(key, token, response.getStatusCode().value(),
+          objectMapper.writeValueAsString(response.getBody()), config.getTtl())) {
+        log.warn("Response of idempotency key {} not stored: the key was taken over", key);
+      }
+    } catch (JsonProcessingException | RuntimeException e) {
+      log.warn("Could not store the response of idempotency key {}", key, e);
+      store.release(key, token);
+    }
+    executed.increment();
+  }
+
+  private <T> ResponseEntity<T> replay(IdempotencyRecord record, TypeReference<T> bodyType) {
+    try {
+      T body = record.getBody() == null
+          ? null
+          : objectMapper.readValue(record.getBody(), bodyType);
+      return ResponseEntity.status(record.getStatus())
+          .header(ConstantsUtil.IDEMPOTENT_REPLAYED, "true")
+          .body(body);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Stored response of key " + record.getKey()
+          + " cannot be read", e);
+    }
+  }
+
+  private String hash(Object request) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(objectMapper.writeValueAsBytes(request)));
+    } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+      throw new IllegalStateException("Cannot hash the request", e);
+    }
+  }
+
+  private static void sleep(long millis) {
+    try {
+      TimeUnit.MILLISECONDS.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for an idempotent request", e);
+    }
+  }
+
+  /**
+   * Stops renewing leases when the application context closes.
+   */
+  @PreDestroy
+  public void shutdown() {
+    renewals.shutdownNow();
+  }
+
+  private static Counter counter(MeterRegistry meterRegistry, String outcome) {
+    return Counter.builder("employee.idempotency.requests")
+        .description("Employee creation requests by idempotency outcome")
+        .tag("outcome", outcome)
+        .register(meterRegistry);
+  }
+}
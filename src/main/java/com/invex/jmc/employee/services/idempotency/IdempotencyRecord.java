@@ -0,0 +1,70 @@
+package com.invex.jmc.employee.services.idempotency;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * State of an idempotency key held by an {@link IdempotencyStore}.
+ *
+ * <p>A record is {@link State#IN_PROGRESS} while the first request runs, until
+ * {@code expiresAt} (its lease), and holds the {@code token} of that request's
+ * claim. Once completed it holds the response status and JSON body, and
+ * {@code expiresAt} marks the end of its replay window.</p>
+ */
+@Getter
+@AllArgsConstructor
+public class IdempotencyRecord {
+
+  /**
+   * Lifecycle of a key.
+   */
+  public enum State {
+    /** The first request with this key is still running. */
+    IN_PROGRESS,
+    /** The response is stored and will be replayed. */
+    COMPLETED
+  }
+
+  private final String key;
+  private final String requestHash;
+  private final String token;
+  private final State state;
+  private final int status;
+  private final String body;
+  private final LocalDateTime expiresAt;
+
+  /**
+   * Creates the record of a key claimed by a request that is about to run.
+   *
+   * @param key the idempotency key
+   * @param requestHash hash of the request body
+   * @param token identifies the claim of the request
+   * @param expiresAt end of the lease
+   * @return an in-progress record
+   */
+  public static IdempotencyRecord inProgress(String key, String requestHash, String token,
+                                             LocalDateTime expiresAt) {
+    return new IdempotencyRecord(key, requestHash, token, State.IN_PROGRESS, 0, null, expiresAt);
+  }
+
+  /**
+   * Indicates whether the record is the claim identified by the token, still in progress.
+   *
+   * @param claimToken token returned to the request that claimed the key
+   * @return {@code true} if that request still holds the key
+   */
+  public boolean isClaimedBy(String claimToken) {
+    return state == State.IN_PROGRESS && token != null && token.equals(claimToken);
+  }
+
+  /**
+   * Indicates whether the record is past its lease or replay window.
+   *
+   * @param now the current instant
+   * @return {@code true} if the record must be ignored
+   */
+  public boolean isExpired(LocalDateTime now) {
+    return !expiresAt.isAfter(now);
+  }
+}
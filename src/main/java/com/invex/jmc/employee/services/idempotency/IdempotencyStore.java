@@ -0,0 +1,63 @@
+package com.invex.jmc.employee.services.idempotency;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Storage of idempotency keys and the responses they produced.
+ *
+ * <p>The implementation is selected with {@code employee.idempotency.store}.
+ * {@link #claim(String, String, String, Duration)} must be atomic: of several
+ * requests claiming the same free key, exactly one gets an empty result. Every
+ * later change of the key is conditional on the token of that claim, so a
+ * request whose lease ended and whose key was taken over can no longer
+ * overwrite or release the new claim.</p>
+ */
+public interface IdempotencyStore {
+
+  /**
+   * Claims a key for a request that is about to run.
+   *
+   * <p>Expired records are treated as absent, so a key whose holder died is
+   * taken over once its lease ends.</p>
+   *
+   * @param key the idempotency key
+   * @param requestHash hash of the request body
+   * @param token identifies this claim, unique to the request
+   * @param lease how long the claim is held if it is not renewed
+   * @return an empty optional if the key was claimed, otherwise its current record
+   */
+  Optional<IdempotencyRecord> claim(String key, String requestHash, String token,
+                                    Duration lease);
+
+  /**
+   * Extends the lease of a claim still held.
+   *
+   * @param key the idempotency key
+   * @param token the token of the claim
+   * @param lease how long the claim is held from now
+   * @return {@code false} if the claim is no longer held
+   */
+  boolean renew(String key, String token, Duration lease);
+
+  /**
+   * Stores the response of a claimed key.
+   *
+   * @param key the idempotency key
+   * @param token the token of the claim
+   * @param status the response status code
+   * @param body the response body as JSON
+   * @param ttl how long the response is replayed
+   * @return {@code false} if the claim is no longer held and nothing was stored
+   */
+  boolean complete(String key, String token, int status, String body, Duration ttl);
+
+  /**
+   * Releases a claimed key without storing a response, so the request can be
+   * retried; does nothing if the claim is no longer held.
+   *
+   * @param key the idempotency key
+   * @param token the token of the claim
+   */
+  void release(String key, String token);
+}
@@ -0,0 +1,119 @@
+package com.invex.jmc.employee.services.idempotency;
+
+import com.invex.jmc.employee.config.ConfigIdempotency;
+import com.invex.jmc.employee.exceptions.IdempotencyStoreFullException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link IdempotencyStore} kept in the memory of the instance.
+ *
+ * <p>Records are held in insertion order and re-inserted when completed, so the
+ * oldest responses are at the head of the map: expired records are dropped from
+ * the head on every access, and once {@code employee.idempotency.max-entries}
+ * is reached the oldest completed or expired record is evicted. Claims of
+ * requests still in progress are never evicted, since a retry would then run
+ * the request twice; when every entry is one, new claims are rejected with
+ * {@link IdempotencyStoreFullException}. Keys are not shared between
+ * instances; use the {@code jdbc} store when several instances serve the API.</p>
+ */
+@Component
+@ConditionalOnProperty(prefix = "employee.idempotency", name = "store", havingValue = "memory",
+    matchIfMissing = true)
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+  private final Map<String, IdempotencyRecord> records = new LinkedHashMap<>();
+  private final int maxEntries;
+
+  /**
+   * Creates the store.
+   *
+   * @param config idempotency configuration, used for the maximum size
+   */
+  public InMemoryIdempotencyStore(ConfigIdempotency config) {
+    this.maxEntries = Math.max(1, config.getMaxEntries());
+  }
+
+  @Override
+  public synchronized Optional<IdempotencyRecord> claim(String key, String requestHash,
+                                                        String token, Duration lease) {
+    LocalDateTime now = LocalDateTime.now();
+    expire(now);
+    IdempotencyRecord existing = records.get(key);
+    if (existing != null && !existing.isExpired(now)) {
+      return Optional.of(existing);
+    }
+    records.remove(key);
+    if (records.size() >= maxEntries && !evictOldest(now)) {
+      throw new IdempotencyStoreFullException(maxEntries);
+    }
+    records.put(key, IdempotencyRecord.inProgress(key, requestHash, token, now.plus(lease)));
+    return Optional.empty();
+  }
+
+  @Override
+  public synchronized boolean renew(String key, String token, Duration lease) {
+    IdempotencyRecord claimed = records.get(key);
+    if (claimed == null || !claimed.isClaimedBy(token)) {
+      return false;
+    }
+    records.put(key, IdempotencyRecord.inProgress(key, claimed.getRequestHash(), token,
+        LocalDateTime.now().plus(lease)));
+    return true;
+  }
+
+  @Override
+  public synchronized boolean complete(String key, String token, int status, String body,
+                                       Duration ttl) {
+    IdempotencyRecord claimed = records.get(key);
+    if (claimed == null || !claimed.isClaimedBy(token)) {
+      return false;
+    }
+    records.remove(key);
+    records.put(key, new IdempotencyRecord(key, claimed.getRequestHash(), token,
+        IdempotencyRecord.State.COMPLETED, status, body, LocalDateTime.now().plus(ttl)));
+    return true;
+  }
+
+  @Override
+  public synchronized void release(String key, String token) {
+    IdempotencyRecord claimed = records.get(key);
+    if (claimed != null && claimed.isClaimedBy(token)) {
+      records.remove(key);
+    }
+  }
+
+  /**
+   * Returns the number of records currently held.
+   *
+   * @return the store size
+   */
+  public synchronized int size() {
+    return records.size();
+  }
+
+  private boolean evictOldest(LocalDateTime now) {
+    Iterator<IdempotencyRecord> it = records.values().iterator();
+    while (it.hasNext()) {
+      IdempotencyRecord record = it.next();
+      if (record.getState() == IdempotencyRecord.State.COMPLETED || record.isExpired(now)) {
+        it.remove();
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void expire(LocalDateTime now) {
+    Iterator<IdempotencyRecord> it = records.values().iterator();
+    while (it.hasNext() && it.next().isExpired(now)) {
+      it.remove();
+    }
+  }
+}
@@ -0,0 +1,107 @@
+package com.invex.jmc.employee.services.idempotency;
+
+import com.invex.jmc.employee.config.ConfigIdempotency;
+import com.invex.jmc.employee.model.entities.EmployeeIdempotencyEntity;
+import com.invex.jmc.employee.model.repositories.EmployeeIdempotencyRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * {@link IdempotencyStore} backed by the {@code employee_idempotency} table, so
+ * that every instance of the service sees the same keys.
+ *
+ * <p>Each operation runs and commits in its own transaction, independent of the
+ * request being protected: a claim is visible to the other instances before the
+ * employees are created. A free key is claimed with a plain insert: of two
+ * instances claiming it, the loser fails on the primary key and reads the
+ * winner's row instead. An expired key is taken over with an update conditional
+ * on its expiration, so only one claimer succeeds. Renewing, completing and
+ * releasing a key are updates conditional on the token of its claim.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "employee.idempotency", name = "store", havingValue = "jdbc")
+public class JdbcIdempotencyStore implements IdempotencyStore {
+
+  private final EmployeeIdempotencyRepository repository;
+  private final TransactionTemplate transactionTemplate;
+
+  /**
+   * Creates the store.
+   *
+   * @param repository repository of the idempotency keys
+   * @param transactionManager transaction manager of the employee database
+   */
+  public JdbcIdempotencyStore(EmployeeIdempotencyRepository repository,
+                              PlatformTransactionManager transactionManager) {
+    this.repository = repository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setPropagationBehavior(
+        TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
+
+  @Override
+  public Optional<IdempotencyRecord> claim(String key, String requestHash, String token,
+                                           Duration lease) {
+    try {
+      transactionTemplate.executeWithoutResult(status -> repository.insertClaim(key,
+          requestHash, token, LocalDateTime.now().plus(lease)));
+      return Optional.empty();
+    } catch (DataIntegrityViolationException e) {
+      log.debug("Idempotency key {} is already stored", key);
+    }
+    return transactionTemplate.execute(status -> {
+      LocalDateTime now = LocalDateTime.now();
+      if (repository.takeOverExpired(key, requestHash, token, now, now.plus(lease)) > 0) {
+        return Optional.<IdempotencyRecord>empty();
+      }
+      return Optional.of(repository.findById(key)
+          .map(JdbcIdempotencyStore::toRecord)
+          .orElseGet(() -> IdempotencyRecord.inProgress(key, requestHash, null, now)));
+    });
+  }
+
+  @Override
+  public boolean renew(String key, String token, Duration lease) {
+    return Boolean.TRUE.equals(transactionTemplate.execute(status ->
+        repository.renewClaim(key, token, LocalDateTime.now().plus(lease)) > 0));
+  }
+
+  @Override
+  public boolean complete(String key, String token, int status, String body, Duration ttl) {
+    return Boolean.TRUE.equals(transactionTemplate.execute(tx ->
+        repository.completeClaim(key, token, status, body, LocalDateTime.now().plus(ttl)) > 0));
+  }
+
+  @Override
+  public void release(String key, String token) {
+    transactionTemplate.executeWithoutResult(tx -> repository.releaseClaim(key, token));
+  }
+
+  /**
+   * Removes the keys whose lease or replay window has ended.
+   */
+  @Scheduled(fixedDelayString = "#{@configIdempotency.purgeInterval.toMillis()}")
+  public void purge() {
+    int purged = repository.deleteExpiredBefore(LocalDateTime.now());
+    if (purged > 0) {
+      log.info("Purged {} expired idempotency keys", purged);
+    }
+  }
+
+  private static IdempotencyRecord toRecord(EmployeeIdempotencyEntity row) {
+    return new IdempotencyRecord(row.getIdempotencyKey(), row.getRequestHash(),
+        row.getClaimToken(), IdempotencyRecord.State.valueOf(row.getState()),
+        row.getResponseStatus() == null ? 0 : row.getResponseStatus(),
+        row.getResponseBody(), row.getExpiresAt());
+  }
+}
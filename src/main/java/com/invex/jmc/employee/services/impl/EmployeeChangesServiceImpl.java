@@ -0,0 +1,129 @@
+package com.invex.jmc.employee.services.impl;
+
+import com.invex.jmc.employee.config.ConfigChanges;
+import com.invex.jmc.employee.exceptions.ChangeCursorExpiredException;
+import com.invex.jmc.employee.model.dto.Employee;
+import com.invex.jmc.employee.model.dto.response.EmployeeChange;
+import com.invex.jmc.employee.model.dto.response.EmployeeChanges;
+import com.invex.jmc.employee.model.entities.EmployeeEntity;
+import com.invex.jmc.employee.model.entities.EmployeeTombstoneEntity;
+import com.invex.jmc.employee.model.repositories.EmployeeRepository;
+import com.invex.jmc.employee.model.repositories.EmployeeTombstoneRepository;
+import com.invex.jmc.employee.services.EmployeeChangesService;
+import com.invex.jmc.employee.services.changes.ChangeCursor;
+import com.invex.jmc.employee.util.MapperUtil;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Implementation of {@link EmployeeChangesService}.
+ *
+ * <p>Upserts are read from {@code employee} by {@code (ts, id_employee)} and
+ * deletions from {@code employee_tombstone} by {@code (deleted_at, id_employee)},
+ * both with keyset conditions backed by an index, and merged in order. Each
+ * call therefore costs in proportion to the number of changes returned.</p>
+ */
+@Service
+public class EmployeeChangesServiceImpl implements EmployeeChangesService {
+
+  private final EmployeeRepository employeeRepository;
+  private final EmployeeTombstoneRepository tombstoneRepository;
+  private final MapperUtil mapperUtil;
+  private final ConfigChanges configChanges;
+
+  /**
+   * Constructs a new instance of {@code EmployeeChangesServiceImpl}.
+   *
+   * @param employeeRepository the repository of the employees
+   * @param tombstoneRepository the repository of the deleted employees
+   * @param mapperUtil utility for object-to-object mapping
+   * @param configChanges delta sync configuration
+   */
+  @Autowired
+  public EmployeeChangesServiceImpl(EmployeeRepository employeeRepository,
+                                    EmployeeTombstoneRepository tombstoneRepository,
+                                    MapperUtil mapperUtil,
+                                    ConfigChanges configChanges) {
+    this.employeeRepository = employeeRepository;
+    this.tombstoneRepository = tombstoneRepository;
+    this.mapperUtil = mapperUtil;
+    this.configChanges = configChanges;
+  }
+
+  /**
+   * Retrieves the employees created, updated or deleted after a cursor.
+   *
+   * <p>Changes are stamped with the second their transaction commits, see
+   * {@link com.invex.jmc.employee.util.CommitTime}. Changes newer than
+   * {@code employee.changes.settle-time}, rounded down to the second, are held
+   * back so that a commit still in progress at that second cannot be skipped.
+   * When every pending change is returned the cursor moves up to that limit, so
+   * that idle clients keep a recent cursor.</p>
+   *
+   * @param since the cursor returned by a previous call, or {@code null} for a full sync
+   * @param limit maximum number of changes, or {@code null} for the default
+   * @return the changes and the cursor to use in the next call
+   * @throws ChangeCursorExpiredException if the cursor is older than the tombstone retention
+   * @throws IllegalArgumentException if the cursor or the limit are invalid
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public EmployeeChanges getChangesSince(String since, Integer limit) {
+    int size = limit == null ? configChanges.getDefaultLimit() : limit;
+    if (size < 1 || size > configChanges.getMaxLimit()) {
+      throw new IllegalArgumentException(
+          "limit must be between 1 and " + configChanges.getMaxLimit());
+    }
+    LocalDateTime now = LocalDateTime.now();
+    ChangeCursor cursor = ChangeCursor.START;
+    if (since != null && !since.isBlank()) {
+      cursor = ChangeCursor.decode(since);
+      if (cursor.getTime().isBefore(now.minus(configChanges.getTombstoneRetention()))) {
+        throw new ChangeCursorExpiredException(since);
+      }
+    }
+    LocalDateTime upTo = now.minus(configChanges.getSettleTime()).truncatedTo(ChronoUnit.SECONDS);
+    PageRequest page = PageRequest.of(0, size + 1);
+    List<EmployeeEntity> upserts = employeeRepository.findChangedSince(
+        cursor.getTime(), cursor.getIdEmployee(), upTo, page);
+    List<EmployeeTombstoneEntity> deletes = tombstoneRepository.findDeletedSince(
+        cursor.getTime(), cursor.getIdEmployee(), upTo, page);
+
+    List<EmployeeChange> changes = new ArrayList<>();
+    ChangeCursor last = cursor;
+    int u = 0;
+    int d = 0;
+    while (changes.size() < size && (u < upserts.size() || d < deletes.size())) {
+      boolean takeUpsert = d >= deletes.size() || (u < upserts.size()
+          && compare(upserts.get(u).getTs(), upserts.get(u).getIdEmployee(),
+              deletes.get(d).getDeletedAt(), deletes.get(d).getIdEmployee()) <= 0);
+      if (takeUpsert) {
+        EmployeeEntity entity = upserts.get(u++);
+        changes.add(new EmployeeChange(EmployeeChange.Type.UPSERT, entity.getIdEmployee(),
+            mapperUtil.map(entity, Employee.class)));
+        last = new ChangeCursor(entity.getTs(), entity.getIdEmployee());
+      } else {
+        EmployeeTombstoneEntity tombstone = deletes.get(d++);
+        changes.add(new EmployeeChange(EmployeeChange.Type.DELETE, tombstone.getIdEmployee(),
+            null));
+        last = new ChangeCursor(tombstone.getDeletedAt(), tombstone.getIdEmployee());
+      }
+    }
+    boolean hasMore = u < upserts.size() || d < deletes.size();
+    if (!hasMore && upTo.isAfter(last.getTime())) {
+      last = ChangeCursor.after(upTo);
+    }
+    return new EmployeeChanges(changes, last.encode(), hasMore);
+  }
+
+  private static int compare(LocalDateTime timeA, String idA, LocalDateTime timeB, String idB) {
+    int byTime = timeA.compareTo(timeB);
+    return byTime != 0 ? byTime : idA.compareTo(idB);
+  }
+}
@@ -0,0 +1,94 @@
+package com.invex.jmc.employee.services.impl;
+
+import com.invex.jmc.employee.config.ConfigMerkle;
+import com.invex.jmc.employee.model.dto.Employee;
+import com.invex.jmc.employee.model.dto.response.MerkleNode;
+import com.invex.jmc.employee.model.dto.response.MerkleSummary;
+import com.invex.jmc.employee.model.repositories.EmployeeRepository;
+import com.invex.jmc.employee.services.EmployeeMerkleService;
+import com.invex.jmc.employee.services.merkle.EmployeeMerkleTree;
+import com.invex.jmc.employee.util.MapperUtil;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * Implementation of {@link EmployeeMerkleService} backed by
+ * {@link EmployeeMerkleTree}.
+ *
+ * <p>Summaries are served from memory; only the rows of the requested buckets
+ * are read from the database, with one primary key range scan per prefix.</p>
+ */
+@Service
+public class EmployeeMerkleServiceImpl implements EmployeeMerkleService {
+
+  private final EmployeeMerkleTree merkleTree;
+  private final EmployeeRepository employeeRepository;
+  private final MapperUtil mapperUtil;
+  private final ConfigMerkle configMerkle;
+
+  /**
+   * Constructs a new instance of {@code EmployeeMerkleServiceImpl}.
+   *
+   * @param merkleTree the in-memory bucket digests
+   * @param employeeRepository the repository used to read bucket rows
+   * @param mapperUtil utility for object-to-object mapping
+   * @param configMerkle Merkle summary configuration
+   */
+  @Autowired
+  public EmployeeMerkleServiceImpl(EmployeeMerkleTree merkleTree,
+                                   EmployeeRepository employeeRepository,
+                                   MapperUtil mapperUtil,
+                                   ConfigMerkle configMerkle) {
+    this.merkleTree = merkleTree;
+    this.employeeRepository = employeeRepository;
+    this.mapperUtil = mapperUtil;
+    this.configMerkle = configMerkle;
+  }
+
+  @Override
+  public MerkleSummary getSummary(int depth) {
+    if (depth < 0 || depth > EmployeeMerkleTree.LEAF_DEPTH) {
+      throw new IllegalArgumentException(
+          "depth must be between 0 and " + EmployeeMerkleTree.LEAF_DEPTH);
+    }
+    long[] level = merkleTree.level(depth);
+    int nodes = level.length / 2;
+    List<MerkleNode> summary = new ArrayList<>(nodes);
+    long total = 0;
+    for (int node = 0; node < nodes; node++) {
+      String prefix = depth == 0 ? "" : String.format("%0" + depth + "x", node);
+      summary.add(new MerkleNode(prefix, level[nodes + node],
+          String.format("%016x", level[node])));
+      total += level[nodes + node];
+    }
+    return new MerkleSummary(depth, total, summary);
+  }
+
+  @Override
+  public List<Employee> getBucketRows(List<String> prefixes) {
+    if (prefixes.size() > configMerkle.getMaxPrefixes()) {
+      throw new IllegalArgumentException(
+          "At most " + configMerkle.getMaxPrefixes() + " prefixes can be requested");
+    }
+    List<String> normalized = prefixes.stream()
+        .map(prefix -> prefix.trim().toLowerCase(Locale.ROOT))
+        .distinct()
+        .collect(Collectors.toList());
+    normalized.removeIf(prefix -> normalized.stream()
+        .anyMatch(other -> !other.equals(prefix) && prefix.startsWith(other)));
+    List<Employee> rows = new ArrayList<>();
+    for (String prefix : normalized) {
+      if (!prefix.matches("[0-9a-f]{1," + EmployeeMerkleTree.LEAF_DEPTH + "}")) {
+        throw new IllegalArgumentException("Invalid bucket prefix: " + prefix);
+      }
+      rows.addAll(mapperUtil.mapList(
+          employeeRepository.findByIdEmployeeStartingWithOrderByIdEmployee(prefix),
+          Employee.class));
+    }
+    return rows;
+  }
+}
@@ -5,6 +5,7 @@ import com.invex.jmc.employee.exceptions.EmployeeNotFoundException;
 import com.invex.jmc.employee.exceptions.JobPositionNotFoundException;
 import com.invex.jmc.employee.exceptions.SexNotFoundException;
 import com.invex.jmc.employee.model.dto.Employee;
+import com.invex.jmc.employee.model.dto.request.EmployeeFilter;
 import com.invex.jmc.employee.model.dto.request.EmployeeRequest;
 import com.invex.jmc.employee.model.dto.request.EmployeesRequest;
 import com.invex.jmc.employee.model.entities.EmployeeEntity;
@@ -12,19 +13,31 @@ import com.invex.jmc.employee.model.entities.JobPositionEntity;
 import com.invex.jmc.employee.model.entities.SexEntity;
 import com.invex.jmc.employee.model.mapper.EmployeeMapper;
 import com.invex.jmc.employee.model.repositories.EmployeeRepository;
+import com.invex.jmc.employee.model.repositories.EmployeeSpecifications;
 import com.invex.jmc.employee.model.repositories.JobPositionRepository;
 import com.invex.jmc.employee.model.repositories.SexRepository;
 import com.invex.jmc.employee.services.EmployeeService;
+import com.invex.jmc.employee.services.batch.EmployeeBatchLoader;
+import com.invex.jmc.employee.services.batch.EmployeeReadCoalescer;
+import com.invex.jmc.employee.services.events.EmployeeChangeEvent;
+import com.invex.jmc.employee.services.events.EmployeeSnapshot;
+import com.invex.jmc.employee.util.CommitTime;
 import com.invex.jmc.employee.util.MapperUtil;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import com.invex.jmc.employee.util.ReplicaRead;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Implementation of {@link EmployeeService} that provides business logic
@@ -34,15 +47,26 @@ import org.springframework.stereotype.Service;
  * perform CRUD operations and name-based searches. It validates the existence
  * of related entities such as job positions and sex categories before
  * processing requests.</p>
+ *
+ * <p>Every write runs in a transaction and publishes an {@link EmployeeChangeEvent}
+ * with the state of the employee before and after the change, so listeners
+ * such as the change outbox take part in the same transaction. Reads run
+ * without a transaction of their own and are marked with {@link ReplicaRead},
+ * so that a read replica may serve them when replica routing is enabled.</p>
  */
 @Service
 public class EmployeeServiceImpl implements EmployeeService {
 
+  private static final int DEFAULT_PAGE_SIZE = 50;
+
   private final EmployeeRepository employeeRepository;
   private final JobPositionRepository jobPositionRepository;
   private final SexRepository sexRepository;
   private final MapperUtil mapperUtil;
   private final EmployeeMapper employeeMapper;
+  private final EmployeeBatchLoader employeeBatchLoader;
+  private final EmployeeReadCoalescer employeeReadCoalescer;
+  private final ApplicationEventPublisher eventPublisher;
 
   /**
    * Constructs a new instance of {@code EmployeeServiceImpl}.
@@ -52,18 +76,27 @@ public class EmployeeServiceImpl implements EmployeeService {
    * @param sexRepository the repository for sex entities
    * @param mapperUtil utility for object-to-object mapping
    * @param employeeMapper mapper for updating employee entities from request data
+   * @param employeeBatchLoader micro-batcher used for lookups by ID when enabled
+   * @param employeeReadCoalescer single-flight coalescer for hot reads
+   * @param eventPublisher publisher of the employee change events
    */
   @Autowired
   public EmployeeServiceImpl(EmployeeRepository employeeRepository,
                              JobPositionRepository jobPositionRepository,
                              SexRepository sexRepository,
                              MapperUtil mapperUtil,
-                             EmployeeMapper employeeMapper) {
+                             EmployeeMapper employeeMapper,
+                             EmployeeBatchLoader employeeBatchLoader,
+                             EmployeeReadCoalescer employeeReadCoalescer,
+                             ApplicationEventPublisher eventPublisher) {
     this.employeeRepository = employeeRepository;
     this.jobPositionRepository = jobPositionRepository;
     this.sexRepository = sexRepository;
     this.mapperUtil = mapperUtil;
     this.employeeMapper = employeeMapper;
+    this.employeeBatchLoader = employeeBatchLoader;
+    this.employeeReadCoalescer = employeeReadCoalescer;
+    this.eventPublisher = eventPublisher;
   }
 
   /**
@@ -73,23 +106,60 @@ public class EmployeeServiceImpl implements EmployeeService {
    */
   @Override
   public List<Employee> getAllEmployee() {
-    return mapperUtil.mapList(employeeRepository.findAll(), Employee.class);
+    return ReplicaRead.run(
+      () -> mapperUtil.mapList(employeeRepository.findAll(), Employee.class));
+  }
+
+  /**
+   * Retrieves the employees matching the given filters.
+   *
+   * <p>Filters are translated into a JPA {@link Specification}; the sort order
+   * defaults to {@code ts} ascending with the employee ID as tie-breaker. When
+   * neither page nor size is requested every match is returned in one page.</p>
+   *
+   * @param filter the filters, sort order and pagination to apply
+   * @return the requested page of {@link Employee} DTOs
+   * @throws IllegalArgumentException if the sort order is not supported
+   */
+  @Override
+  public Page<Employee> findEmployees(EmployeeFilter filter) {
+    Specification<EmployeeEntity> spec = EmployeeSpecifications.fromFilter(filter);
+    Sort sort = EmployeeSpecifications.sortOf(filter.getSort());
+    if (!filter.isPaged()) {
+      return new PageImpl<>(mapperUtil.mapList(
+        ReplicaRead.run(() -> employeeRepository.findAll(spec, sort)), Employee.class));
+    }
+    PageRequest pageRequest = PageRequest.of(
+        filter.getPage() == null ? 0 : filter.getPage(),
+        filter.getSize() == null ? DEFAULT_PAGE_SIZE : filter.getSize(),
+        sort);
+    return ReplicaRead.run(() -> employeeRepository.findAll(spec, pageRequest))
+      .map(employeeEntity -> mapperUtil.map(employeeEntity, Employee.class));
   }
 
   /**
    * Retrieves an employee by its ID.
    *
+   * <p>Concurrent lookups of the same ID share one query through
+   * {@link EmployeeReadCoalescer}. When micro-batching is enabled the lookup is
+   * also resolved together with lookups of other IDs through
+   * {@link EmployeeBatchLoader}.</p>
+   *
    * @param idEmployee the employee identifier
    * @return an {@link Employee} DTO
    * @throws EmployeeNotFoundException if the employee does not exist
    */
   @Override
   public Employee getEmployeeById(String idEmployee) {
-    return mapperUtil.map(
-      employeeRepository.findEmployeeByIdEmployee(idEmployee)
-        .orElseThrow(() -> new EmployeeNotFoundException(idEmployee)),
-      Employee.class
-    );
+    return employeeReadCoalescer.byId(idEmployee, () -> {
+      Optional<EmployeeEntity> employeeEntity = employeeBatchLoader.isEnabled()
+          ? employeeBatchLoader.loadBlocking(idEmployee)
+          : ReplicaRead.run(() -> employeeRepository.findEmployeeByIdEmployee(idEmployee));
+      return mapperUtil.map(
+        employeeEntity.orElseThrow(() -> new EmployeeNotFoundException(idEmployee)),
+        Employee.class
+      );
+    });
   }
 
   /**
@@ -105,6 +175,7 @@ public class EmployeeServiceImpl implements EmployeeService {
    * @throws JobPositionNotFoundException if the referenced job position ID does not exist
    */
   @Override
+  @Transactional
   public List<Employee> addEmployees(EmployeesRequest employeesRequest) {
     List<EmployeeRequest> employeeRequestList = employeesRequest.getEmployees();
     List<EmployeeEntity> employeeEntityList = new ArrayList<>();
@@ -127,23 +198,32 @@ public class EmployeeServiceImpl implements EmployeeService {
           employeeRequest.getIdJobPosition())
           .orElseThrow(() -> new JobPositionNotFoundException(employeeRequest.getIdJobPosition()));
 
-      DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
       EmployeeEntity employeeEntity = mapperUtil.map(employeeRequest, EmployeeEntity.class);
-      employeeEntity.setBirthDay(LocalDate.parse(employeeRequest.getBirthDay(), formatter));
+      employeeEntity.setBirthDay(employeeRequest.getBirthDay());
       employeeEntity.setSex(sexEntity);
       employeeEntity.setJobPosition(jobPositionEntity);
       employeeEntity.setIdEmployee(UUID.randomUUID().toString());
-      employeeEntity.setTs(LocalDateTime.now());
       employeeEntityList.add(employeeEntity);
     }
 
-    employeeEntityList = employeeRepository.saveAll(employeeEntityList);
-    return mapperUtil.mapList(employeeEntityList, Employee.class);
+    List<EmployeeEntity> saved = employeeRepository.saveAll(employeeEntityList);
+    List<Employee> employees = mapperUtil.mapList(saved, Employee.class);
+    CommitTime.stamp(ts -> {
+      for (int i = 0; i < saved.size(); i++) {
+        saved.get(i).setTs(ts);
+        employees.get(i).setTs(ts);
+        eventPublisher.publishEvent(EmployeeChangeEvent.created(EmployeeSnapshot.of(saved.get(i))));
+      }
+    });
+    return employees;
   }
 
   /**
    * Updates an existing employee using the provided request data.
    *
+   * <p>The timestamp is refreshed with the commit time, see {@link CommitTime},
+   * so that the change is reported by the delta sync feed.</p>
+   *
    * @param idEmployee the ID of the employee to update
    * @param employeeRequest a DTO containing updated employee information
    * @return the updated {@link Employee} DTO
@@ -153,6 +233,7 @@ public class EmployeeServiceImpl implements EmployeeService {
    * @throws SexNotFoundException if the sex ID does not exist
    */
   @Override
+  @Transactional
   public Employee updateEmployee(String idEmployee, EmployeeRequest employeeRequest) {
     if (Objects.equals(Boolean.TRUE,
         employeeRepository
@@ -166,6 +247,7 @@ public class EmployeeServiceImpl implements EmployeeService {
 
     EmployeeEntity employeeEntity = employeeRepository.findById(idEmployee)
         .orElseThrow(() -> new EmployeeNotFoundException(idEmployee));
+    EmployeeSnapshot before = EmployeeSnapshot.of(employeeEntity);
 
     JobPositionEntity jobPositionEntity = jobPositionRepository.findById(
         employeeRequest.getIdJobPosition())
@@ -177,8 +259,14 @@ public class EmployeeServiceImpl implements EmployeeService {
     employeeMapper.updateEntityFromRequest(employeeEntity, employeeRequest, sexEntity,
         jobPositionEntity);
 
-    employeeRepository.save(employeeEntity);
-    return mapperUtil.map(employeeEntity, Employee.class);
+    EmployeeEntity saved = employeeRepository.save(employeeEntity);
+    Employee employee = mapperUtil.map(saved, Employee.class);
+    CommitTime.stamp(ts -> {
+      saved.setTs(ts);
+      employee.setTs(ts);
+      eventPublisher.publishEvent(EmployeeChangeEvent.updated(before, EmployeeSnapshot.of(saved)));
+    });
+    return employee;
   }
 
   /**
@@ -188,23 +276,28 @@ public class EmployeeServiceImpl implements EmployeeService {
    * @throws EmployeeNotFoundException if the employee does not exist
    */
   @Override
+  @Transactional
   public void deleteEmployee(String idEmployee) {
     EmployeeEntity employeeEntity = employeeRepository.findById(idEmployee)
         .orElseThrow(() -> new EmployeeNotFoundException(idEmployee));
     employeeRepository.delete(employeeEntity);
+    EmployeeSnapshot deleted = EmployeeSnapshot.of(employeeEntity);
+    CommitTime.stamp(ts -> eventPublisher.publishEvent(EmployeeChangeEvent.deleted(deleted)));
   }
 
   /**
    * Searches employees whose full name contains the given term.
    *
    * <p>The search is case-insensitive and combines first name, middle name,
-   * paternal surname, and maternal surname.</p>
+   * paternal surname, and maternal surname. Concurrent searches for the same
+   * term share one query through {@link EmployeeReadCoalescer}.</p>
    *
    * @param name the search term
    * @return a list of matching {@link Employee} DTOs
    */
   @Override
   public List<Employee> searchEmployeeByName(String name) {
-    return mapperUtil.mapList(employeeRepository.searchByFullName(name), Employee.class);
+    return employeeReadCoalescer.search(name, () -> mapperUtil.mapList(
+      ReplicaRead.run(() -> employeeRepository.searchByFullName(name)), Employee.class));
   }
 }
@@ -0,0 +1,138 @@
+package com.invex.jmc.employee.services.impl;
+
+import com.invex.jmc.employee.config.ConfigStats;
+import com.invex.jmc.employee.model.dto.response.EmployeeStats;
+import com.invex.jmc.employee.model.dto.response.EmployeeStatsBucket;
+import com.invex.jmc.employee.model.repositories.EmployeeRepository;
+import com.invex.jmc.employee.model.repositories.EmployeeStatsDimension;
+import com.invex.jmc.employee.services.EmployeeStatsService;
+import com.invex.jmc.employee.services.stats.EmployeeHeadcountCounters;
+import com.invex.jmc.employee.util.SingleFlight;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * Implementation of {@link EmployeeStatsService} backed by {@code GROUP BY}
+ * queries.
+ *
+ * <p>Headcounts by a single dimension among status, job position and sex are
+ * read from {@link EmployeeHeadcountCounters} without querying the database.
+ * Any other grouping is computed with SQL.</p>
+ *
+ * <p>Each distinct SQL grouping is cached for {@code employee.stats.ttl}. When an
+ * entry expires, concurrent requests for the same grouping share a single
+ * recomputation. Every request receives its own copy of the cached headcount,
+ * so a caller modifying its result cannot change what later requests get.</p>
+ */
+@Service
+public class EmployeeStatsServiceImpl implements EmployeeStatsService {
+
+  private final EmployeeRepository employeeRepository;
+  private final ConfigStats configStats;
+  private final EmployeeHeadcountCounters headcountCounters;
+  private final Map<List<EmployeeStatsDimension>, CachedStats> cache = new ConcurrentHashMap<>();
+  private final SingleFlight<List<EmployeeStatsDimension>, EmployeeStats> recompute;
+
+  /**
+   * Constructs a new instance of {@code EmployeeStatsServiceImpl}.
+   *
+   * @param employeeRepository the repository that runs the aggregation queries
+   * @param configStats statistics configuration
+   * @param headcountCounters in-memory headcount by status, job position and sex
+   */
+  @Autowired
+  public EmployeeStatsServiceImpl(EmployeeRepository employeeRepository,
+                                  ConfigStats configStats,
+                                  EmployeeHeadcountCounters headcountCounters) {
+    this.employeeRepository = employeeRepository;
+    this.configStats = configStats;
+    this.headcountCounters = headcountCounters;
+    this.recompute = new SingleFlight<>(configStats.getTtl(), outcome -> { },
+        EmployeeStatsServiceImpl::copy);
+  }
+
+  /**
+   * Counts employees grouped by the given dimensions.
+   *
+   * @param groupBy dimension names; duplicates are ignored
+   * @return the headcount per group
+   * @throws IllegalArgumentException if a dimension is not supported
+   */
+  @Override
+  public EmployeeStats getStats(List<String> groupBy) {
+    List<EmployeeStatsDimension> dimensions = groupBy.stream()
+        .map(EmployeeStatsDimension::fromApiName)
+        .distinct()
+        .collect(Collectors.toList());
+    if (dimensions.isEmpty()) {
+      throw new IllegalArgumentException("At least one groupBy dimension is required");
+    }
+    if (dimensions.size() == 1 && headcountCounters.supports(dimensions.get(0))) {
+      return fromCounters(dimensions.get(0));
+    }
+    CachedStats cached = cache.get(dimensions);
+    if (cached != null && cached.expiresAt > System.nanoTime()) {
+      return copy(cached.stats);
+    }
+    return recompute.execute(dimensions, () -> {
+      EmployeeStats stats = query(dimensions);
+      cache.put(dimensions,
+          new CachedStats(stats, System.nanoTime() + configStats.getTtl().toNanos()));
+      return stats;
+    });
+  }
+
+  private EmployeeStats fromCounters(EmployeeStatsDimension dimension) {
+    List<EmployeeStatsBucket> buckets = headcountCounters.buckets(dimension);
+    long total = 0;
+    for (EmployeeStatsBucket bucket : buckets) {
+      total += bucket.getCount();
+    }
+    return new EmployeeStats(List.of(dimension.getApiName()), total, buckets);
+  }
+
+  private EmployeeStats query(List<EmployeeStatsDimension> dimensions) {
+    List<EmployeeStatsBucket> buckets = new ArrayList<>();
+    long total = 0;
+    for (Object[] row : employeeRepository.countGroupedBy(dimensions)) {
+      Map<String, String> keys = new LinkedHashMap<>();
+      for (int i = 0; i < dimensions.size(); i++) {
+        keys.put(dimensions.get(i).getApiName(), row[i] == null ? null : row[i].toString());
+      }
+      long count = ((Number) row[dimensions.size()]).longValue();
+      total += count;
+      buckets.add(new EmployeeStatsBucket(keys, count));
+    }
+    List<String> names = dimensions.stream()
+        .map(EmployeeStatsDimension::getApiName)
+        .collect(Collectors.toList());
+    return new EmployeeStats(names, total, buckets);
+  }
+
+  private static EmployeeStats copy(EmployeeStats stats) {
+    List<EmployeeStatsBucket> buckets = stats.getBuckets().stream()
+        .map(bucket -> new EmployeeStatsBucket(new LinkedHashMap<>(bucket.getKeys()),
+            bucket.getCount()))
+        .collect(Collectors.toList());
+    return new EmployeeStats(new ArrayList<>(stats.getGroupBy()), stats.getTotal(), buckets);
+  }
+
+  /**
+   * A computed headcount and the instant ({@link System#nanoTime()}) it expires.
+   */
+  private static final class CachedStats {
+    private final EmployeeStats stats;
+    private final long expiresAt;
+
+    private CachedStats(EmployeeStats stats, long expiresAt) {
+      this.stats = stats;
+      this.expiresAt = expiresAt;
+    }
+  }
+}
@@ -0,0 +1,250 @@
+package com.invex.jmc.employee.services.merkle;
+
+import com.invex.jmc.employee.config.ConfigMerkle;
+import com.invex.jmc.employee.model.repositories.EmployeeRepository;
+import com.invex.jmc.employee.services.events.EmployeeChangeEvent;
+import com.invex.jmc.employee.services.events.EmployeeSnapshot;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Incrementally maintained Merkle-style digest of the {@code employee} table.
+ *
+ * <p>Rows are spread over {@value #LEAVES} leaf buckets by the first
+ * {@value #LEAF_DEPTH} hexadecimal characters of their ID. Each row hashes to
+ * the first 8 bytes of {@code SHA-256("<id_employee>|<ts>")}, where {@code ts}
+ * is rounded to the nearest second, as MySQL stores it in a {@code datetime}
+ * column, and formatted as ISO-8601 ({@code 2025-11-14T09:00:19}).
+ * A bucket digest is the XOR of its row hashes, so a row can be added or
+ * removed in constant time without reading the rest of the bucket. Digests of
+ * the upper levels (16 children per node) are the XOR of their leaves.</p>
+ *
+ * <p>The digests are built when the application is ready, kept up to date from
+ * committed {@link EmployeeChangeEvent}s and rebuilt every
+ * {@code employee.merkle.rebuild-interval} to absorb changes made outside this
+ * service. A rebuild that a change committed during may or may not include it,
+ * so it is not installed: it is attempted again, and the current digests,
+ * which did receive the change, are kept if every attempt races (the first
+ * build is installed regardless, to be corrected by the next rebuild). Changes
+ * and the swap share one lock, so no change falls between the check and the
+ * swap.</p>
+ */
+@Slf4j
+@Component
+public class EmployeeMerkleTree {
+
+  /** Number of hexadecimal ID characters that select a leaf bucket. */
+  public static final int LEAF_DEPTH = 3;
+
+  /** Number of leaf buckets. */
+  public static final int LEAVES = 1 << (4 * LEAF_DEPTH);
+
+  private static final int REBUILD_ATTEMPTS = 3;
+
+  private final EmployeeRepository employeeRepository;
+  private final ConfigMerkle configMerkle;
+  private final TransactionTemplate transactionTemplate;
+  private final Object lock = new Object();
+  private volatile Leaves leaves;
+  private long changes;
+
+  /**
+   * Creates the tree; it stays unavailable until first built.
+   *
+   * @param employeeRepository repository used to build the digests
+   * @param configMerkle Merkle summary configuration
+   * @param transactionManager transaction manager used to stream the table
+   */
+  public EmployeeMerkleTree(EmployeeRepository employeeRepository, ConfigMerkle configMerkle,
+                            PlatformTransactionManager transactionManager) {
+    this.employeeRepository = employeeRepository;
+    this.configMerkle = configMerkle;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setReadOnly(true);
+  }
+
+  /**
+   * Indicates whether the digests are built.
+   *
+   * @return {@code true} if the tree can be queried
+   */
+  public boolean isReady() {
+    return leaves != null;
+  }
+
+  /**
+   * Returns the digest and row count of every node at the given depth.
+   *
+   * @param depth tree depth, from {@code 0} (a single root) to {@value #LEAF_DEPTH} (leaves)
+   * @return an array of {@code 16^depth} digests followed by as many counts
+   * @throws IllegalStateException if the tree is not built
+   */
+  public long[] level(int depth) {
+    Leaves current = leaves;
+    if (current == null) {
+      throw new IllegalStateException("Merkle summary is not built yet");
+    }
+    int nodes = 1 << (4 * depth);
+    int leavesPerNode = LEAVES / nodes;
+    long[] level = new long[2 * nodes];
+    for (int leaf = 0; leaf < LEAVES; leaf++) {
+      int node = leaf / leavesPerNode;
+      level[node] ^= current.digests.get(leaf);
+      level[nodes + node] += current.counts.get(leaf);
+    }
+    return level;
+  }
+
+  /**
+   * Builds the digests when the application starts.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void initialize() {
+    if (configMerkle.isEnabled()) {
+      rebuild();
+    }
+  }
+
+  /**
+   * Rebuilds the digests from the database.
+   */
+  @Scheduled(fixedDelayString = "#{@configMerkle.rebuildInterval.toMillis()}",
+      initialDelayString = "#{@configMerkle.rebuildInterval.toMillis()}")
+  public void reconcile() {
+    if (configMerkle.isEnabled()) {
+      rebuild();
+    }
+  }
+
+  /**
+   * Applies a committed change: the previous row hash is removed from its
+   * bucket and the new one added.
+   *
+   * @param event the change published by the employee service
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onEmployeeChange(EmployeeChangeEvent event) {
+    synchronized (lock) {
+      changes++;
+      Leaves current = leaves;
+      if (current == null) {
+        return;
+      }
+      if (event.getBefore() != null) {
+        current.toggle(event.getBefore(), -1);
+      }
+      if (event.getAfter() != null) {
+        current.toggle(event.getAfter(), 1);
+      }
+    }
+  }
+
+  private void rebuild() {
+    try {
+      for (int attempt = 1; attempt <= REBUILD_ATTEMPTS; attempt++) {
+        long started;
+        synchronized (lock) {
+          started = changes;
+        }
+        Leaves built = new Leaves();
+        transactionTemplate.executeWithoutResult(status -> {
+          try (Stream<Object[]> rows = employeeRepository.streamIdAndTs()) {
+            rows.forEach(row -> built.add((String) row[0], (LocalDateTime) row[1], 1));
+          }
+        });
+        synchronized (lock) {
+          if (changes == started || (leaves == null && attempt == REBUILD_ATTEMPTS)) {
+            leaves = built;
+            return;
+          }
+        }
+      }
+      log.debug("Kept the employee Merkle summary: every rebuild raced with a change");
+    } catch (RuntimeException e) {
+      log.error("Could not build the employee Merkle summary", e);
+    }
+  }
+
+  /**
+   * Returns the leaf bucket of an employee ID.
+   *
+   * <p>Non-hexadecimal characters are folded to their low 4 bits so that any
+   * ID maps to a bucket.</p>
+   *
+   * @param idEmployee the employee identifier
+   * @return the bucket index, between {@code 0} and {@code LEAVES - 1}
+   */
+  public static int bucketOf(String idEmployee) {
+    int bucket = 0;
+    for (int i = 0; i < LEAF_DEPTH; i++) {
+      char c = i < idEmployee.length() ? idEmployee.charAt(i) : '0';
+      int nibble = Character.digit(c, 16);
+      bucket = (bucket << 4) | (nibble >= 0 ? nibble : c & 0xF);
+    }
+    return bucket;
+  }
+
+  /**
+   * Hashes a row as published to consumers.
+   *
+   * @param idEmployee the employee identifier
+   * @param ts the employee timestamp; {@code null} is hashed as an empty string
+   * @return the first 8 bytes of the SHA-256 of {@code id|ts}
+   */
+  public static long rowHash(String idEmployee, LocalDateTime ts) {
+    String value = idEmployee + "|" + (ts == null ? "" : persisted(ts));
+    try {
+      byte[] sha = MessageDigest.getInstance("SHA-256")
+          .digest(value.getBytes(StandardCharsets.UTF_8));
+      return ByteBuffer.wrap(sha, 0, Long.BYTES).getLong();
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+
+  /**
+   * Returns a time as a {@code datetime} column stores it: MySQL rounds the
+   * fraction to the nearest second rather than truncating it.
+   *
+   * @param ts the time
+   * @return the time rounded to whole seconds
+   */
+  static LocalDateTime persisted(LocalDateTime ts) {
+    LocalDateTime seconds = ts.truncatedTo(ChronoUnit.SECONDS);
+    return ts.getNano() >= 500_000_000 ? seconds.plusSeconds(1) : seconds;
+  }
+
+  /**
+   * Digest and row count of every leaf bucket.
+   */
+  private static final class Leaves {
+    private final AtomicLongArray digests = new AtomicLongArray(LEAVES);
+    private final AtomicLongArray counts = new AtomicLongArray(LEAVES);
+
+    private void toggle(EmployeeSnapshot snapshot, int delta) {
+      add(snapshot.getIdEmployee(), snapshot.getTs(), delta);
+    }
+
+    private void add(String idEmployee, LocalDateTime ts, int delta) {
+      int bucket = bucketOf(idEmployee);
+      long hash = rowHash(idEmployee, ts);
+      digests.accumulateAndGet(bucket, hash, (current, value) -> current ^ value);
+      counts.addAndGet(bucket, delta);
+    }
+  }
+}
@@ -0,0 +1,22 @@
+package com.invex.jmc.employee.services.outbox;
+
+import com.invex.jmc.employee.model.entities.EmployeeOutboxEntity;
+import java.util.List;
+
+/**
+ * Destination of the employee changes relayed from the outbox.
+ *
+ * <p>The implementation is selected with {@code employee.outbox.publisher}.
+ * A batch is removed from the outbox only if {@link #publish(List)} returns
+ * normally; when it throws, the whole batch is retried on the next relay run,
+ * so consumers must tolerate duplicates (delivery is at-least-once).</p>
+ */
+public interface EmployeeChangePublisher {
+
+  /**
+   * Publishes a batch of changes.
+   *
+   * @param batch the changes in insertion order
+   */
+  void publish(List<EmployeeOutboxEntity> batch);
+}
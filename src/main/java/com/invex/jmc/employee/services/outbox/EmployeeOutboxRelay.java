@@ -0,0 +1,128 @@
+package com.invex.jmc.employee.services.outbox;
+
+import com.invex.jmc.employee.config.ConfigOutbox;
+import com.invex.jmc.employee.model.entities.EmployeeOutboxEntity;
+import com.invex.jmc.employee.model.repositories.EmployeeOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Background relay that drains the employee outbox to the configured
+ * {@link EmployeeChangePublisher}.
+ *
+ * <p>Every {@code employee.outbox.poll-interval} the relay locks up to
+ * {@code batch-size} of the oldest records, publishes them and deletes them in
+ * the same transaction, repeating while full batches are found (at most
+ * {@code max-batches-per-poll} times). If the publisher fails the transaction
+ * is rolled back and the batch is retried on the next run.</p>
+ *
+ * <p>The following metrics are published:</p>
+ * <ul>
+ *   <li>{@code employee.outbox.pending}: records waiting to be published.</li>
+ *   <li>{@code employee.outbox.lag}: age in seconds of the oldest pending record.</li>
+ *   <li>{@code employee.outbox.published}: records published.</li>
+ *   <li>{@code employee.outbox.failures}: batches that failed to publish.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class EmployeeOutboxRelay {
+
+  private final EmployeeOutboxRepository outboxRepository;
+  private final EmployeeChangePublisher publisher;
+  private final ConfigOutbox configOutbox;
+  private final TransactionTemplate transactionTemplate;
+  private final AtomicLong pending = new AtomicLong();
+  private final AtomicLong lagMillis = new AtomicLong();
+  private final Counter published;
+  private final Counter failures;
+
+  /**
+   * Creates the relay and registers its metrics.
+   *
+   * @param outboxRepository repository of the outbox records
+   * @param publisher destination of the relayed changes
+   * @param configOutbox outbox configuration
+   * @param transactionManager transaction manager used for each batch
+   * @param meterRegistry registry where the relay metrics are published
+   */
+  public EmployeeOutboxRelay(EmployeeOutboxRepository outboxRepository,
+                             EmployeeChangePublisher publisher, ConfigOutbox configOutbox,
+                             PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry) {
+    this.outboxRepository = outboxRepository;
+    this.publisher = publisher;
+    this.configOutbox = configOutbox;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    Gauge.builder("employee.outbox.pending", pending, AtomicLong::get)
+        .description("Employee changes waiting in the outbox")
+        .register(meterRegistry);
+    Gauge.builder("employee.outbox.lag", lagMillis, lag -> lag.get() / 1000.0)
+        .description("Age in seconds of the oldest employee change waiting in the outbox")
+        .baseUnit("seconds")
+        .register(meterRegistry);
+    this.published = Counter.builder("employee.outbox.published")
+        .description("Employee changes published from the outbox")
+        .register(meterRegistry);
+    this.failures = Counter.builder("employee.outbox.failures")
+        .description("Outbox batches that could not be published")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Drains the outbox and refreshes the lag metrics.
+   */
+  @Scheduled(fixedDelayString = "#{@configOutbox.pollInterval.toMillis()}")
+  public void relay() {
+    if (!configOutbox.isEnabled()) {
+      return;
+    }
+    try {
+      for (int i = 0; i < configOutbox.getMaxBatchesPerPoll(); i++) {
+        Integer relayed = transactionTemplate.execute(status -> relayBatch());
+        if (relayed == null || relayed < configOutbox.getBatchSize()) {
+          break;
+        }
+      }
+    } catch (RuntimeException e) {
+      failures.increment();
+      log.error("Could not publish employee changes, retrying on next run", e);
+    } finally {
+      refreshLag();
+    }
+  }
+
+  private int relayBatch() {
+    List<EmployeeOutboxEntity> batch = outboxRepository.findByOrderByIdOutboxAsc(
+        PageRequest.of(0, configOutbox.getBatchSize()));
+    if (batch.isEmpty()) {
+      return 0;
+    }
+    publisher.publish(batch);
+    outboxRepository.deleteAllInBatch(batch);
+    published.increment(batch.size());
+    return batch.size();
+  }
+
+  private void refreshLag() {
+    try {
+      pending.set(outboxRepository.count());
+      lagMillis.set(outboxRepository.findFirstByOrderByIdOutboxAsc()
+          .map(oldest -> Duration.between(oldest.getCreatedAt(), LocalDateTime.now()).toMillis())
+          .orElse(0L));
+    } catch (RuntimeException e) {
+      log.warn("Could not refresh the outbox lag metrics", e);
+    }
+  }
+}
@@ -0,0 +1,66 @@
+package com.invex.jmc.employee.services.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.invex.jmc.employee.config.ConfigOutbox;
+import com.invex.jmc.employee.model.entities.EmployeeOutboxEntity;
+import com.invex.jmc.employee.model.repositories.EmployeeOutboxRepository;
+import com.invex.jmc.employee.services.events.EmployeeChangeEvent;
+import java.time.LocalDateTime;
+import java.util.Map;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records every {@link EmployeeChangeEvent} in the {@code employee_outbox} table.
+ *
+ * <p>The listener runs synchronously in the thread, and therefore in the
+ * transaction, of the write that published the event: the change record is
+ * committed or rolled back together with the employee change.</p>
+ */
+@Component
+public class EmployeeOutboxWriter {
+
+  private final EmployeeOutboxRepository outboxRepository;
+  private final ConfigOutbox configOutbox;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * Creates the writer.
+   *
+   * @param outboxRepository repository of the outbox records
+   * @param configOutbox outbox configuration
+   * @param objectMapper mapper used to serialize the payload
+   */
+  public EmployeeOutboxWriter(EmployeeOutboxRepository outboxRepository,
+                              ConfigOutbox configOutbox, ObjectMapper objectMapper) {
+    this.outboxRepository = outboxRepository;
+    this.configOutbox = configOutbox;
+    this.objectMapper = objectMapper;
+  }
+
+  /**
+   * Appends the change to the outbox.
+   *
+   * @param event the change published by the employee service
+   */
+  @EventListener
+  public void onEmployeeChange(EmployeeChangeEvent event) {
+    if (!configOutbox.isEnabled()) {
+      return;
+    }
+    LocalDateTime now = LocalDateTime.now();
+    outboxRepository.save(new EmployeeOutboxEntity(null, event.getIdEmployee(),
+        event.getType().name(), payloadOf(event, now), now));
+  }
+
+  private String payloadOf(EmployeeChangeEvent event, LocalDateTime now) {
+    Map<String, Object> payload = event.toPayload();
+    payload.put("at", now);
+    try {
+      return objectMapper.writeValueAsString(payload);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Could not serialize employee change", e);
+    }
+  }
+}
@@ -0,0 +1,48 @@
+package com.invex.jmc.employee.services.outbox;
+
+import com.invex.jmc.employee.config.ConfigOutbox;
+import com.invex.jmc.employee.model.entities.EmployeeOutboxEntity;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link EmployeeChangePublisher} that appends every change as a JSON line to
+ * {@code employee.outbox.file-path}; intended for local runs and tests.
+ */
+@Component
+@ConditionalOnProperty(prefix = "employee.outbox", name = "publisher", havingValue = "file")
+public class FileEmployeeChangePublisher implements EmployeeChangePublisher {
+
+  private final Path file;
+
+  /**
+   * Creates the publisher for the configured file.
+   *
+   * @param configOutbox outbox configuration
+   */
+  public FileEmployeeChangePublisher(ConfigOutbox configOutbox) {
+    this.file = Paths.get(configOutbox.getFilePath());
+  }
+
+  @Override
+  public synchronized void publish(List<EmployeeOutboxEntity> batch) {
+    List<String> lines = batch.stream()
+        .map(EmployeeOutboxEntity::getPayload)
+        .collect(Collectors.toList());
+    try {
+      Files.write(file, lines, StandardCharsets.UTF_8,
+          StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not append employee changes to " + file, e);
+    }
+  }
+}
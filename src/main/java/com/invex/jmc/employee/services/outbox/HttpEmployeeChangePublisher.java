@@ -0,0 +1,49 @@
+package com.invex.jmc.employee.services.outbox;
+
+import com.invex.jmc.employee.config.ConfigOutbox;
+import com.invex.jmc.employee.model.entities.EmployeeOutboxEntity;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * {@link EmployeeChangePublisher} that posts each batch as a JSON array to
+ * {@code employee.outbox.http-url}.
+ *
+ * <p>Any non-2xx response fails the batch, which is then retried by the relay.</p>
+ */
+@Component
+@ConditionalOnProperty(prefix = "employee.outbox", name = "publisher", havingValue = "http")
+public class HttpEmployeeChangePublisher implements EmployeeChangePublisher {
+
+  private final RestTemplate restTemplate;
+  private final String url;
+
+  /**
+   * Creates the publisher for the configured endpoint.
+   *
+   * @param restTemplateBuilder builder of the HTTP client
+   * @param configOutbox outbox configuration
+   */
+  public HttpEmployeeChangePublisher(RestTemplateBuilder restTemplateBuilder,
+                                     ConfigOutbox configOutbox) {
+    this.restTemplate = restTemplateBuilder.build();
+    this.url = configOutbox.getHttpUrl();
+  }
+
+  @Override
+  public void publish(List<EmployeeOutboxEntity> batch) {
+    String body = batch.stream()
+        .map(EmployeeOutboxEntity::getPayload)
+        .collect(Collectors.joining(",", "[", "]"));
+    HttpHeaders headers = new HttpHeaders();
+    headers.setContentType(MediaType.APPLICATION_JSON);
+    restTemplate.postForEntity(url, new HttpEntity<>(body, headers), Void.class);
+  }
+}
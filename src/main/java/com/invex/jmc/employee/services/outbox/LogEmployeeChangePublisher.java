@@ -0,0 +1,22 @@
+package com.invex.jmc.employee.services.outbox;
+
+import com.invex.jmc.employee.model.entities.EmployeeOutboxEntity;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Default {@link EmployeeChangePublisher} that writes every change to the log.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "employee.outbox", name = "publisher", havingValue = "log",
+    matchIfMissing = true)
+public class LogEmployeeChangePublisher implements EmployeeChangePublisher {
+
+  @Override
+  public void publish(List<EmployeeOutboxEntity> batch) {
+    batch.forEach(change -> log.info("Employee change {}", change.getPayload()));
+  }
+}
@@ -0,0 +1,111 @@
+package com.invex.jmc.employee.services.stale;
+
+import java.time.Duration;
+
+/**
+ * Circuit breaker around the database reads of {@link StaleReadGuard}.
+ *
+ * <p>After {@code failure-threshold} consecutive degraded reads the circuit
+ * opens, and reads are answered from the stale results without calling the
+ * database. Once {@code open-duration} has passed, a single probe is let
+ * through (half-open): its success closes the circuit, and its failure opens it
+ * again.</p>
+ */
+public class DatabaseCircuitBreaker {
+
+  /**
+   * State of the circuit.
+   */
+  public enum State {
+    /** Reads go to the database. */
+    CLOSED,
+    /** Reads are answered from stale results. */
+    OPEN,
+    /** One probe read is on its way to the database. */
+    HALF_OPEN
+  }
+
+  private final int failureThreshold;
+  private final long openNanos;
+  private State state = State.CLOSED;
+  private int failures;
+  private long openedAt;
+
+  /**
+   * Creates a closed circuit.
+   *
+   * @param failureThreshold consecutive failures that open the circuit
+   * @param openDuration time the circuit stays open before a probe
+   */
+  public DatabaseCircuitBreaker(int failureThreshold, Duration openDuration) {
+    this.failureThreshold = Math.max(1, failureThreshold);
+    this.openNanos = openDuration.toNanos();
+  }
+
+  /**
+   * Indicates whether a read may go to the database.
+   *
+   * @return {@code true} if the circuit is closed, or if this read is the probe
+   *     of a circuit whose open period has ended
+   */
+  public synchronized boolean tryAcquire() {
+    if (state == State.CLOSED) {
+      return true;
+    }
+    if (state == State.OPEN && System.nanoTime() - openedAt >= openNanos) {
+      state = State.HALF_OPEN;
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Records a read the database answered, which closes the circuit.
+   */
+  public synchronized void onSuccess() {
+    failures = 0;
+    state = State.CLOSED;
+  }
+
+  /**
+   * Records a degraded read; opens the circuit when the threshold is reached or
+   * the probe failed.
+   */
+  public synchronized void onFailure() {
+    if (state == State.HALF_OPEN || ++failures >= failureThreshold) {
+      state = State.OPEN;
+      openedAt = System.nanoTime();
+    }
+  }
+
+  /**
+   * Records a read given up for a reason that says nothing about the database,
+   * such as the deadline chosen by the client. The failures in a row are kept,
+   * and a probe is handed back so that the next read probes again.
+   */
+  public synchronized void onAbandoned() {
+    if (state == State.HALF_OPEN) {
+      state = State.OPEN;
+    }
+  }
+
+  /**
+   * Returns the state of the circuit.
+   *
+   * @return the current state
+   */
+  public synchronized State getState() {
+    return state;
+  }
+
+  /**
+   * Returns the time until the next probe is let through.
+   *
+   * @return zero unless the circuit is open
+   */
+  public synchronized Duration retryAfter() {
+    return state == State.OPEN
+        ? Duration.ofNanos(Math.max(0, openNanos - (System.nanoTime() - openedAt)))
+        : Duration.ZERO;
+  }
+}
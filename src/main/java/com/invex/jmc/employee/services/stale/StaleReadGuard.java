@@ -0,0 +1,347 @@
+package com.invex.jmc.employee.services.stale;
+
+import com.invex.jmc.employee.config.ConfigStale;
+import com.invex.jmc.employee.exceptions.DatabaseUnavailableException;
+import com.invex.jmc.employee.exceptions.DeadlineExceededException;
+import com.invex.jmc.employee.services.events.EmployeeChangeEvent;
+import com.invex.jmc.employee.util.RequestDeadline;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Serves the last good result of a read while the database is degraded
+ * (stale-while-revalidate).
+ *
+ * <p>Every read still goes to the database first, bounded by
+ * {@code employee.stale.db-timeout} (through the request deadline, so the JDBC
+ * query and the pool wait are bounded too), and its result is remembered. When
+ * the read times out or the database cannot be reached, or the
+ * {@link DatabaseCircuitBreaker} is open, the remembered result is returned
+ * instead, marked stale, if it is younger than {@code max-staleness}. Without
+ * one the failure is reported as usual (or, with the circuit open, as a
+ * {@link DatabaseUnavailableException}). Errors that are not caused by the
+ * database being degraded, such as an unknown ID, are never masked.</p>
+ *
+ * <p>Reads served stale are refreshed by a background thread once the circuit
+ * lets reads through again. Its refreshes also act as the circuit's probes, so
+ * the circuit closes without waiting for client traffic. A committed change to
+ * an employee forgets its read by ID.</p>
+ *
+ * <p>A read bounded by a deadline the client chose, shorter than
+ * {@code db-timeout}, that runs out says nothing about the database, so it is
+ * not counted against the circuit. Otherwise a few requests with a tiny
+ * {@code X-Request-Timeout} would open it for every client.</p>
+ *
+ * <p>Publishes {@code employee.stale.served} and
+ * {@code employee.stale.unavailable}, tagged with the {@code endpoint}, plus
+ * {@code employee.stale.entries} and {@code employee.stale.circuit.open}.</p>
+ */
+@Slf4j
+@Component
+public class StaleReadGuard {
+
+  /** Reads of one employee by ID. */
+  public static final String BY_ID = "byId";
+
+  /** Reads of the employee list, complete or as a page. */
+  public static final String LIST = "list";
+
+  /** Searches of employees by name. */
+  public static final String SEARCH = "search";
+
+  private final ConfigStale configStale;
+  private final MeterRegistry meterRegistry;
+  private final DatabaseCircuitBreaker circuitBreaker;
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+  private final AtomicBoolean evicting = new AtomicBoolean();
+  private final int maxEntries;
+  private final Map<String, Refresh> pending = new ConcurrentHashMap<>();
+  private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+  private final ScheduledThreadPoolExecutor refresher;
+
+  /**
+   * Creates the guard and its refresh thread.
+   *
+   * @param configStale stale read configuration
+   * @param meterRegistry registry where the stale read metrics are published
+   */
+  public StaleReadGuard(ConfigStale configStale, MeterRegistry meterRegistry) {
+    this.configStale = configStale;
+    this.meterRegistry = meterRegistry;
+    this.circuitBreaker = new DatabaseCircuitBreaker(configStale.getFailureThreshold(),
+        configStale.getOpenDuration());
+    this.maxEntries = Math.max(1, configStale.getMaxEntries());
+    this.refresher = new ScheduledThreadPoolExecutor(1, runnable -> {
+      Thread thread = new Thread(runnable, "employee-stale-refresh");
+      thread.setDaemon(true);
+      return thread;
+    });
+    long interval = configStale.getRefreshInterval().toMillis();
+    this.refresher.scheduleWithFixedDelay(this::refresh, interval, interval,
+        TimeUnit.MILLISECONDS);
+    Gauge.builder("employee.stale.entries", this, StaleReadGuard::size)
+        .description("Read results remembered for stale serving")
+        .register(meterRegistry);
+    Gauge.builder("employee.stale.circuit.open", circuitBreaker,
+            breaker -> breaker.getState() == DatabaseCircuitBreaker.State.CLOSED ? 0 : 1)
+        .description("Whether reads are answered without calling the database")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Reads from the database, or serves the last good result when it is degraded.
+   *
+   * @param endpoint kind of read: {@link #BY_ID}, {@link #LIST} or {@link #SEARCH}
+   * @param key what identifies the read within its kind (ID, filter, name)
+   * @param loader the database read
+   * @param <T> type of the result
+   * @return the fresh or stale result
+   */
+  public <T> StaleResult<T> read(String endpoint, String key, Supplier<T> loader) {
+    if (!configStale.isEnabled()) {
+      return StaleResult.fresh(loader.get());
+    }
+    String cacheKey = endpoint + '\u0000' + key;
+    Optional<RequestDeadline> outer = RequestDeadline.current();
+    boolean clientBound = outer.isPresent()
+        && outer.get().remainingMillis() <= configStale.getDbTimeout().toMillis();
+    RuntimeException failure;
+    if (circuitBreaker.tryAcquire()) {
+      try {
+        T value = load(loader, clientBound);
+        circuitBreaker.onSuccess();
+        remember(cacheKey, value);
+        return StaleResult.fresh(value);
+      } catch (RuntimeException e) {
+        if (!isDegraded(e)) {
+          circuitBreaker.onSuccess();
+          throw e;
+        }
+        if (clientBound && outer.get().isExpired()) {
+          circuitBreaker.onAbandoned();
+        } else {
+          circuitBreaker.onFailure();
+        }
+        failure = e;
+      }
+    } else {
+      failure = new DatabaseUnavailableException(circuitBreaker.retryAfter());
+    }
+    Entry entry = lookup(cacheKey);
+    if (entry == null) {
+      counter("employee.stale.unavailable", endpoint).increment();
+      throw failure;
+    }
+    pending.put(cacheKey, new Refresh(endpoint, loader));
+    counter("employee.stale.served", endpoint).increment();
+    @SuppressWarnings("unchecked")
+    T value = (T) entry.value;
+    return StaleResult.stale(value, Duration.ofNanos(System.nanoTime() - entry.storedAt));
+  }
+
+  /**
+   * Forgets the read by ID of an employee once its change is committed.
+   *
+   * @param event the change published by the employee service
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onEmployeeChange(EmployeeChangeEvent event) {
+    String cacheKey = BY_ID + '\u0000' + event.getIdEmployee();
+    pending.remove(cacheKey);
+    entries.remove(cacheKey);
+  }
+
+  /**
+   * Refreshes the reads served stale, as long as the circuit lets them through.
+   */
+  void refresh() {
+    Iterator<Map.Entry<String, Refresh>> iterator = pending.entrySet().iterator();
+    int budget = Math.max(1, configStale.getRefreshBatch());
+    while (iterator.hasNext() && budget-- > 0 && circuitBreaker.tryAcquire()) {
+      Map.Entry<String, Refresh> next = iterator.next();
+      iterator.remove();
+      try {
+        Object value = load(next.getValue().loader, false);
+        circuitBreaker.onSuccess();
+        remember(next.getKey(), value);
+      } catch (RuntimeException e) {
+        if (isDegraded(e)) {
+          circuitBreaker.onFailure();
+          pending.putIfAbsent(next.getKey(), next.getValue());
+          return;
+        }
+        circuitBreaker.onSuccess();
+        entries.remove(next.getKey());
+        log.debug("Dropped stale {} read: {}", next.getValue().endpoint, e.getMessage());
+      }
+    }
+  }
+
+  /**
+   * Returns the number of results remembered.
+   *
+   * @return remembered results
+   */
+  public int size() {
+    return entries.size();
+  }
+
+  /**
+   * Returns the circuit breaker guarding the database reads.
+   *
+   * @return the circuit breaker
+   */
+  public DatabaseCircuitBreaker getCircuitBreaker() {
+    return circuitBreaker;
+  }
+
+  /**
+   * Stops the refresh thread.
+   */
+  @PreDestroy
+  public void shutdown() {
+    refresher.shutdownNow();
+  }
+
+  private <T> T load(Supplier<T> loader, boolean clientBound) {
+    if (clientBound) {
+      return loader.get();
+    }
+    Optional<RequestDeadline> outer = RequestDeadline.current();
+    RequestDeadline.start(configStale.getDbTimeout());
+    try {
+      return loader.get();
+    } finally {
+      if (outer.isPresent()) {
+        RequestDeadline.attach(outer.get());
+      } else {
+        RequestDeadline.clear();
+      }
+    }
+  }
+
+  private void remember(String cacheKey, Object value) {
+    entries.put(cacheKey, new Entry(value, System.nanoTime()));
+    if (entries.size() > maxEntries) {
+      evict();
+    }
+  }
+
+  private Entry lookup(String cacheKey) {
+    Entry entry = entries.get(cacheKey);
+    if (entry != null
+        && System.nanoTime() - entry.storedAt > configStale.getMaxStaleness().toNanos()) {
+      entries.remove(cacheKey, entry);
+      return null;
+    }
+    return entry;
+  }
+
+  /**
+   * Brings the results back under {@code max-entries}: the expired ones go
+   * first, then the least recently refreshed, down to 90% of the limit so that
+   * a full cache is not scanned on every read. One thread evicts at a time and
+   * the others carry on.
+   */
+  private void evict() {
+    if (!evicting.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      long now = System.nanoTime();
+      long maxAge = configStale.getMaxStaleness().toNanos();
+      entries.values().removeIf(entry -> now - entry.storedAt > maxAge);
+      int excess = entries.size() - (maxEntries - maxEntries / 10);
+      if (excess <= 0) {
+        return;
+      }
+      List<Map.Entry<String, Entry>> oldest = new ArrayList<>(entries.entrySet());
+      oldest.sort(Comparator.comparingLong(entry -> entry.getValue().storedAt));
+      for (Map.Entry<String, Entry> entry : oldest.subList(0, Math.min(excess, oldest.size()))) {
+        entries.remove(entry.getKey(), entry.getValue());
+      }
+    } finally {
+      evicting.set(false);
+    }
+  }
+
+  private Counter counter(String name, String endpoint) {
+    return counters.computeIfAbsent(name + ' ' + endpoint, key -> Counter.builder(name)
+        .description(name.endsWith("served")
+            ? "Reads answered with a stale result because the database is degraded"
+            : "Reads that failed with the database degraded and no recent result")
+        .tag("endpoint", endpoint)
+        .register(meterRegistry));
+  }
+
+  /**
+   * Indicates whether a failure means the database is slow or unreachable,
+   * rather than an error in the request.
+   *
+   * @param failure the failure of a read
+   * @return {@code true} if a stale result may be served instead
+   */
+  static boolean isDegraded(Throwable failure) {
+    for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+      if (cause instanceof DeadlineExceededException
+          || cause instanceof TransientDataAccessException
+          || cause instanceof DataAccessResourceFailureException
+          || cause instanceof CannotCreateTransactionException
+          || cause instanceof TransactionTimedOutException
+          || cause instanceof SQLTransientException
+          || cause instanceof SQLRecoverableException) {
+        return true;
+      }
+      if (cause.getCause() == cause) {
+        break;
+      }
+    }
+    return false;
+  }
+
+  private static final class Entry {
+
+    private final Object value;
+    private final long storedAt;
+
+    private Entry(Object value, long storedAt) {
+      this.value = value;
+      this.storedAt = storedAt;
+    }
+  }
+
+  private static final class Refresh {
+
+    private final String endpoint;
+    private final Supplier<?> loader;
+
+    private Refresh(String endpoint, Supplier<?> loader) {
+      this.endpoint = endpoint;
+      this.loader = loader;
+    }
+  }
+}
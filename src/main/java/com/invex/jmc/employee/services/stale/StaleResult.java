@@ -0,0 +1,63 @@
+package com.invex.jmc.employee.services.stale;
+
+import com.invex.jmc.employee.constants.ConstantsUtil;
+import java.time.Duration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Result of a read through {@link StaleReadGuard}: either fresh from the
+ * database or the last good result, with its age.
+ *
+ * @param <T> type of the result
+ */
+public final class StaleResult<T> {
+
+  private final T value;
+  private final Duration age;
+
+  private StaleResult(T value, Duration age) {
+    this.value = value;
+    this.age = age;
+  }
+
+  static <T> StaleResult<T> fresh(T value) {
+    return new StaleResult<>(value, null);
+  }
+
+  static <T> StaleResult<T> stale(T value, Duration age) {
+    return new StaleResult<>(value, age);
+  }
+
+  /**
+   * Returns the result.
+   *
+   * @return the value read
+   */
+  public T getValue() {
+    return value;
+  }
+
+  /**
+   * Indicates whether the result was served from the last good read.
+   *
+   * @return {@code true} if the database was not read
+   */
+  public boolean isStale() {
+    return age != null;
+  }
+
+  /**
+   * Adds {@code X-Stale: true} and {@code Age} to a stale response.
+   *
+   * @param builder the response being built
+   * @return the same builder
+   */
+  public ResponseEntity.BodyBuilder headers(ResponseEntity.BodyBuilder builder) {
+    if (age != null) {
+      builder.header(ConstantsUtil.STALE, "true")
+          .header(HttpHeaders.AGE, Long.toString(age.toSeconds()));
+    }
+    return builder;
+  }
+}
@@ -0,0 +1,263 @@
+package com.invex.jmc.employee.services.stats;
+
+import com.invex.jmc.employee.config.ConfigStats;
+import com.invex.jmc.employee.model.dto.response.EmployeeStatsBucket;
+import com.invex.jmc.employee.model.repositories.EmployeeRepository;
+import com.invex.jmc.employee.model.repositories.EmployeeStatsDimension;
+import com.invex.jmc.employee.services.events.EmployeeChangeEvent;
+import com.invex.jmc.employee.services.events.EmployeeSnapshot;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * In-memory headcount by status, job position and sex.
+ *
+ * <p>Each group is a {@link LongAdder}, so concurrent writers do not contend on
+ * a single counter and reading a group never touches the database. The
+ * counters are loaded once from the database when the application is ready,
+ * then kept up to date from the {@link EmployeeChangeEvent}s published by the
+ * write paths after their transaction commits.</p>
+ *
+ * <p>Changes made outside this service (another instance, manual SQL) are not
+ * seen, so the counters are rebuilt every
+ * {@code employee.stats.reconcile-interval}. The absolute difference found on
+ * each rebuild is published as {@code employee.stats.drift}.</p>
+ *
+ * <p>A reload that a change was applied during may or may not have counted it,
+ * so it is not installed: it is attempted again, and the current counters,
+ * which did receive the change, are kept if every attempt races (the first
+ * load is installed regardless, to be corrected by the next one). Changes hold
+ * the read side of a lock, so they still run concurrently, and the swap holds
+ * the write side, so no change falls between the check and the swap.</p>
+ */
+@Slf4j
+@Component
+public class EmployeeHeadcountCounters {
+
+  /** Dimensions maintained in memory. */
+  public static final Set<EmployeeStatsDimension> DIMENSIONS = Collections.unmodifiableSet(
+      EnumSet.of(EmployeeStatsDimension.STATUS, EmployeeStatsDimension.JOB_POSITION,
+          EmployeeStatsDimension.SEX));
+
+  /** Stands for a {@code null} group value, which concurrent maps cannot hold. */
+  private static final String NULL_KEY = "\u0000";
+
+  private static final int RELOAD_ATTEMPTS = 3;
+
+  private final EmployeeRepository employeeRepository;
+  private final ConfigStats configStats;
+  private final Counter drift;
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final AtomicLong changes = new AtomicLong();
+  private volatile Map<EmployeeStatsDimension, ConcurrentHashMap<String, LongAdder>> counters;
+
+  /**
+   * Creates the counters; they stay unavailable until first loaded.
+   *
+   * @param employeeRepository repository used to load and reconcile the counters
+   * @param configStats statistics configuration
+   * @param meterRegistry registry where the drift metric is published
+   */
+  public EmployeeHeadcountCounters(EmployeeRepository employeeRepository,
+                                   ConfigStats configStats, MeterRegistry meterRegistry) {
+    this.employeeRepository = employeeRepository;
+    this.configStats = configStats;
+    this.drift = Counter.builder("employee.stats.drift")
+        .description("Employees miscounted by the in-memory headcount, fixed on reconciliation")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Indicates whether the given dimension can be served from memory.
+   *
+   * @param dimension the grouping dimension
+   * @return {@code true} if the counters are loaded and maintain the dimension
+   */
+  public boolean supports(EmployeeStatsDimension dimension) {
+    return counters != null && DIMENSIONS.contains(dimension);
+  }
+
+  /**
+   * Returns the current headcount of every group of a dimension.
+   *
+   * @param dimension one of {@link #DIMENSIONS}
+   * @return one bucket per non-empty group
+   * @throws IllegalStateException if the counters are not loaded
+   */
+  public List<EmployeeStatsBucket> buckets(EmployeeStatsDimension dimension) {
+    Map<EmployeeStatsDimension, ConcurrentHashMap<String, LongAdder>> current = counters;
+    if (current == null) {
+      throw new IllegalStateException("Headcount counters are not loaded");
+    }
+    List<EmployeeStatsBucket> buckets = new ArrayList<>();
+    current.get(dimension).forEach((key, adder) -> {
+      long count = adder.sum();
+      if (count > 0) {
+        buckets.add(new EmployeeStatsBucket(
+            Collections.singletonMap(dimension.getApiName(), NULL_KEY.equals(key) ? null : key),
+            count));
+      }
+    });
+    return buckets;
+  }
+
+  /**
+   * Loads the counters when the application starts.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void initialize() {
+    if (configStats.isCountersEnabled()) {
+      reload();
+    }
+  }
+
+  /**
+   * Rebuilds the counters from the database to fix any drift.
+   */
+  @Scheduled(fixedDelayString = "#{@configStats.reconcileInterval.toMillis()}",
+      initialDelayString = "#{@configStats.reconcileInterval.toMillis()}")
+  public void reconcile() {
+    if (configStats.isCountersEnabled()) {
+      reload();
+    }
+  }
+
+  /**
+   * Applies a committed change: the previous state is subtracted and the new
+   * state added.
+   *
+   * @param event the change published by the employee service
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onEmployeeChange(EmployeeChangeEvent event) {
+    lock.readLock().lock();
+    try {
+      changes.incrementAndGet();
+      Map<EmployeeStatsDimension, ConcurrentHashMap<String, LongAdder>> current = counters;
+      if (current == null) {
+        return;
+      }
+      if (event.getBefore() != null) {
+        apply(current, event.getBefore(), -1);
+      }
+      if (event.getAfter() != null) {
+        apply(current, event.getAfter(), 1);
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private void apply(Map<EmployeeStatsDimension, ConcurrentHashMap<String, LongAdder>> current,
+                     EmployeeSnapshot snapshot, long delta) {
+    for (EmployeeStatsDimension dimension : DIMENSIONS) {
+      current.get(dimension)
+          .computeIfAbsent(keyOf(dimension, snapshot), key -> new LongAdder())
+          .add(delta);
+    }
+  }
+
+  private static String keyOf(EmployeeStatsDimension dimension, EmployeeSnapshot snapshot) {
+    String key;
+    switch (dimension) {
+      case STATUS:
+        key = String.valueOf(snapshot.getStatus());
+        break;
+      case JOB_POSITION:
+        key = snapshot.getJobPositionCode();
+        break;
+      case SEX:
+        key = snapshot.getSexCode();
+        break;
+      default:
+        throw new IllegalArgumentException("Dimension not maintained in memory: " + dimension);
+    }
+    return key == null ? NULL_KEY : key;
+  }
+
+  private void reload() {
+    try {
+      for (int attempt = 1; attempt <= RELOAD_ATTEMPTS; attempt++) {
+        long started = changes.get();
+        Map<EmployeeStatsDimension, ConcurrentHashMap<String, LongAdder>> loaded = load();
+        Map<EmployeeStatsDimension, ConcurrentHashMap<String, LongAdder>> previous;
+        lock.writeLock().lock();
+        try {
+          previous = counters;
+          if (changes.get() != started && (previous != null || attempt < RELOAD_ATTEMPTS)) {
+            continue;
+          }
+          counters = loaded;
+        } finally {
+          lock.writeLock().unlock();
+        }
+        if (previous != null) {
+          long difference = difference(previous, loaded);
+          if (difference > 0) {
+            log.warn("Headcount counters drifted by {}, reconciled from the database",
+                difference);
+            drift.increment(difference);
+          }
+        }
+        return;
+      }
+      log.debug("Kept the headcount counters: every reload raced with a change");
+    } catch (RuntimeException e) {
+      log.error("Could not load the headcount counters", e);
+    }
+  }
+
+  private Map<EmployeeStatsDimension, ConcurrentHashMap<String, LongAdder>> load() {
+    Map<EmployeeStatsDimension, ConcurrentHashMap<String, LongAdder>> loaded =
+        new EnumMap<>(EmployeeStatsDimension.class);
+    for (EmployeeStatsDimension dimension : DIMENSIONS) {
+      ConcurrentHashMap<String, LongAdder> groups = new ConcurrentHashMap<>();
+      for (Object[] row : employeeRepository.countGroupedBy(List.of(dimension))) {
+        LongAdder adder = new LongAdder();
+        adder.add(((Number) row[1]).longValue());
+        groups.put(row[0] == null ? NULL_KEY : row[0].toString(), adder);
+      }
+      loaded.put(dimension, groups);
+    }
+    return loaded;
+  }
+
+  private static long difference(
+      Map<EmployeeStatsDimension, ConcurrentHashMap<String, LongAdder>> previous,
+      Map<EmployeeStatsDimension, ConcurrentHashMap<String, LongAdder>> loaded) {
+    long difference = 0;
+    for (EmployeeStatsDimension dimension : DIMENSIONS) {
+      Map<String, LongAdder> before = previous.get(dimension);
+      Map<String, LongAdder> after = loaded.get(dimension);
+      for (Map.Entry<String, LongAdder> entry : before.entrySet()) {
+        LongAdder fresh = after.get(entry.getKey());
+        difference += Math.abs(entry.getValue().sum() - (fresh == null ? 0 : fresh.sum()));
+      }
+      for (Map.Entry<String, LongAdder> entry : after.entrySet()) {
+        if (!before.containsKey(entry.getKey())) {
+          difference += entry.getValue().sum();
+        }
+      }
+    }
+    return difference;
+  }
+}
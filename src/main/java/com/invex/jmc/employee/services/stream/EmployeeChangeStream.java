@@ -0,0 +1,306 @@
+package com.invex.jmc.employee.services.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.invex.jmc.employee.config.ConfigStream;
+import com.invex.jmc.employee.exceptions.StreamCapacityExceededException;
+import com.invex.jmc.employee.services.events.EmployeeChangeEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Server-Sent Events fan-out of committed employee changes.
+ *
+ * <p>Every subscriber owns a bounded buffer. Publishing only appends the event
+ * to each buffer and schedules the subscriber on the dispatch pool, so a
+ * writer never waits for a client. When a buffer is full its oldest event is
+ * dropped, and the subscriber later receives a {@code resync} event telling it
+ * to reload (for example through the delta sync endpoint) because it missed
+ * changes.</p>
+ *
+ * <p>Writing to a slow client blocks until its socket drains. The dispatch
+ * pool keeps {@code employee.stream.threads} threads and grows by one for each
+ * subscriber being written to, up to {@code max-connections}, so a client that
+ * stops reading holds only the thread of its own writes and never delays the
+ * others. A disconnected subscriber keeps its place under the cap until its
+ * last write returns, so the threads never outnumber the connections.
+ * Heartbeats are scheduled on a thread of their own.</p>
+ *
+ * <p>Frames sent to a subscriber:</p>
+ * <ul>
+ *   <li>{@code employee}: a change, with a sequential {@code id} and the JSON
+ *       description of {@link EmployeeChangeEvent#toPayload()}.</li>
+ *   <li>{@code resync}: events were dropped for this subscriber.</li>
+ *   <li>A comment frame every {@code employee.stream.heartbeat} while idle, so
+ *       that proxies keep the connection open.</li>
+ * </ul>
+ *
+ * <p>Metrics: {@code employee.stream.subscribers} and
+ * {@code employee.stream.dropped}.</p>
+ */
+@Slf4j
+@Component
+public class EmployeeChangeStream {
+
+  private static final Frame HEARTBEAT = new Frame(null, null, null);
+
+  private final ConfigStream configStream;
+  private final ObjectMapper objectMapper;
+  private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+  private final AtomicInteger connections = new AtomicInteger();
+  private final AtomicLong sequence = new AtomicLong();
+  private final ThreadPoolExecutor executor;
+  private final ScheduledThreadPoolExecutor scheduler;
+  private final Counter dropped;
+
+  /**
+   * Creates the feed, its dispatch threads and its heartbeat.
+   *
+   * @param configStream change feed configuration
+   * @param objectMapper mapper used to serialize each event once
+   * @param meterRegistry registry where the feed metrics are published
+   */
+  public EmployeeChangeStream(ConfigStream configStream, ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry) {
+    this.configStream = configStream;
+    this.objectMapper = objectMapper;
+    int threads = Math.max(1, configStream.getThreads());
+    this.executor = new ThreadPoolExecutor(threads,
+        Math.max(threads, configStream.getMaxConnections()), 1, TimeUnit.MINUTES,
+        new SynchronousQueue<>(), runnable -> {
+          Thread thread = new Thread(runnable, "employee-stream");
+          thread.setDaemon(true);
+          return thread;
+        });
+    this.scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+      Thread thread = new Thread(runnable, "employee-stream-heartbeat");
+      thread.setDaemon(true);
+      return thread;
+    });
+    long heartbeat = configStream.getHeartbeat().toMillis();
+    this.scheduler.scheduleWithFixedDelay(this::heartbeat, heartbeat, heartbeat,
+        TimeUnit.MILLISECONDS);
+    Gauge.builder("employee.stream.subscribers", connections, AtomicInteger::get)
+        .description("Clients subscribed to the employee change feed")
+        .register(meterRegistry);
+    this.dropped = Counter.builder("employee.stream.dropped")
+        .description("Change events dropped because a subscriber buffer was full")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Registers a new subscriber.
+   *
+   * @return the emitter bound to the HTTP response
+   * @throws StreamCapacityExceededException if the connection cap is reached
+   */
+  public SseEmitter subscribe() {
+    int current;
+    do {
+      current = connections.get();
+      if (current >= configStream.getMaxConnections()) {
+        throw new StreamCapacityExceededException(configStream.getMaxConnections());
+      }
+    } while (!connections.compareAndSet(current, current + 1));
+
+    SseEmitter emitter = createEmitter(configStream.getTimeout().toMillis());
+    Subscriber subscriber = new Subscriber(emitter);
+    subscribers.add(subscriber);
+    emitter.onCompletion(subscriber::close);
+    emitter.onTimeout(subscriber::close);
+    emitter.onError(error -> subscriber.close());
+    subscriber.offer(HEARTBEAT);
+    return emitter;
+  }
+
+  /**
+   * Creates the emitter of a new subscriber.
+   *
+   * @param timeout connection lifetime in milliseconds
+   * @return a new emitter
+   */
+  SseEmitter createEmitter(long timeout) {
+    return new SseEmitter(timeout);
+  }
+
+  /**
+   * Pushes a committed change to every subscriber.
+   *
+   * @param event the change published by the employee service
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onEmployeeChange(EmployeeChangeEvent event) {
+    if (subscribers.isEmpty()) {
+      return;
+    }
+    String json;
+    try {
+      json = objectMapper.writeValueAsString(event.toPayload());
+    } catch (JsonProcessingException e) {
+      log.error("Could not serialize employee change {}", event, e);
+      return;
+    }
+    Frame frame = new Frame(String.valueOf(sequence.incrementAndGet()), "employee", json);
+    subscribers.forEach(subscriber -> subscriber.offer(frame));
+  }
+
+  private void heartbeat() {
+    subscribers.forEach(Subscriber::heartbeat);
+  }
+
+  /**
+   * Closes every connection and stops the dispatch threads.
+   */
+  @PreDestroy
+  public void shutdown() {
+    subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    scheduler.shutdownNow();
+    executor.shutdownNow();
+  }
+
+  /**
+   * An event serialized once and shared by every subscriber; a frame without
+   * name is a heartbeat.
+   */
+  private static final class Frame {
+    private final String id;
+    private final String name;
+    private final String json;
+
+    private Frame(String id, String name, String json) {
+      this.id = id;
+      this.name = name;
+      this.json = json;
+    }
+
+    private SseEmitter.SseEventBuilder toEvent() {
+      return name == null
+          ? SseEmitter.event().comment("heartbeat")
+          : SseEmitter.event().id(id).name(name).data(json, MediaType.APPLICATION_JSON);
+    }
+  }
+
+  /**
+   * A connected client with its bounded, drop-oldest buffer.
+   */
+  private final class Subscriber {
+    private final SseEmitter emitter;
+    private final Deque<Frame> buffer = new ArrayDeque<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final AtomicBoolean released = new AtomicBoolean();
+    private boolean overflowed;
+
+    private Subscriber(SseEmitter emitter) {
+      this.emitter = emitter;
+    }
+
+    private void offer(Frame frame) {
+      synchronized (this) {
+        if (buffer.size() >= configStream.getBufferSize()) {
+          buffer.pollFirst();
+          overflowed = true;
+          dropped.increment();
+        }
+        buffer.addLast(frame);
+      }
+      schedule();
+    }
+
+    private void heartbeat() {
+      synchronized (this) {
+        if (!buffer.isEmpty()) {
+          return;
+        }
+        buffer.addLast(HEARTBEAT);
+      }
+      schedule();
+    }
+
+    private void schedule() {
+      if (!closed.get() && draining.compareAndSet(false, true)) {
+        try {
+          executor.execute(this::drain);
+        } catch (RuntimeException e) {
+          draining.set(false);
+          close();
+        }
+      }
+    }
+
+    private void drain() {
+      try {
+        while (!closed.get()) {
+          Frame frame;
+          boolean resync;
+          synchronized (this) {
+            frame = buffer.pollFirst();
+            resync = overflowed;
+            overflowed = false;
+          }
+          if (resync) {
+            emitter.send(SseEmitter.event().name("resync").data("events were dropped"));
+          }
+          if (frame == null) {
+            break;
+          }
+          emitter.send(frame.toEvent());
+        }
+      } catch (IOException | IllegalStateException e) {
+        log.debug("Employee change subscriber disconnected: {}", e.getMessage());
+        close();
+      } finally {
+        draining.set(false);
+      }
+      if (closed.get()) {
+        release();
+        return;
+      }
+      boolean pending;
+      synchronized (this) {
+        pending = !buffer.isEmpty() || overflowed;
+      }
+      if (pending) {
+        schedule();
+      }
+    }
+
+    private void close() {
+      if (closed.compareAndSet(false, true)) {
+        subscribers.remove(this);
+        synchronized (this) {
+          buffer.clear();
+        }
+        if (!draining.get()) {
+          release();
+        }
+      }
+    }
+
+    private void release() {
+      if (released.compareAndSet(false, true)) {
+        connections.decrementAndGet();
+      }
+    }
+  }
+}
@@ -0,0 +1,62 @@
+package com.invex.jmc.employee.util;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.function.Consumer;
+import org.springframework.core.Ordered;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Gives the changes of a transaction the time it commits.
+ *
+ * <p>The delta sync feed reads changes by timestamp and holds back only the
+ * last {@code employee.changes.settle-time}. A timestamp taken when a long
+ * transaction starts would become visible long after later timestamps had been
+ * returned, and the change would be skipped. {@link #stamp(Consumer)} therefore
+ * runs just before the commit, ahead of every other synchronization, so that
+ * the shards the transaction joined still commit what it writes.</p>
+ *
+ * <p>The time is truncated to whole seconds, the precision of the
+ * {@code datetime} columns, so that the value the application keeps is the
+ * value stored.</p>
+ */
+public final class CommitTime {
+
+  private CommitTime() {
+  }
+
+  /**
+   * Returns the current time at the precision of the timestamp columns.
+   *
+   * @return the current time, truncated to whole seconds
+   */
+  public static LocalDateTime now() {
+    return LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+  }
+
+  /**
+   * Runs the stamping of the changes with the commit time of the current
+   * transaction, or at once outside a transaction.
+   *
+   * @param stamp sets the time on the written rows and publishes their changes
+   */
+  public static void stamp(Consumer<LocalDateTime> stamp) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()
+        || !TransactionSynchronizationManager.isActualTransactionActive()) {
+      stamp.accept(now());
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+      }
+
+      @Override
+      public void beforeCommit(boolean readOnly) {
+        stamp.accept(now());
+      }
+    });
+  }
+}
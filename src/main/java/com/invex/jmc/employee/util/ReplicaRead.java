@@ -0,0 +1,48 @@
+package com.invex.jmc.employee.util;
+
+import java.util.function.Supplier;
+
+/**
+ * Marks the reads of the current thread that may be served by a read replica.
+ *
+ * <p>The hint does not open a transaction or take a connection; it is only
+ * read by the routing data source when a connection is requested, and has no
+ * effect unless replica routing is enabled. Set it around the query itself,
+ * for example inside a coalesced call, so that only the caller that actually
+ * queries is routed.</p>
+ */
+public final class ReplicaRead {
+
+  private static final ThreadLocal<Boolean> CURRENT = new ThreadLocal<>();
+
+  private ReplicaRead() {
+  }
+
+  /**
+   * Runs a read that may be served by a replica.
+   *
+   * @param read the read to run
+   * @param <T> type of the result
+   * @return the result of the read
+   */
+  public static <T> T run(Supplier<T> read) {
+    if (Boolean.TRUE.equals(CURRENT.get())) {
+      return read.get();
+    }
+    CURRENT.set(Boolean.TRUE);
+    try {
+      return read.get();
+    } finally {
+      CURRENT.remove();
+    }
+  }
+
+  /**
+   * Indicates whether the current thread is running a replica read.
+   *
+   * @return {@code true} inside {@link #run(Supplier)}
+   */
+  public static boolean isActive() {
+    return Boolean.TRUE.equals(CURRENT.get());
+  }
+}
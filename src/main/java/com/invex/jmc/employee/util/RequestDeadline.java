@@ -0,0 +1,90 @@
+package com.invex.jmc.employee.util;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Time budget of the request being served by the current thread.
+ *
+ * <p>The deadline is started when the request enters the API and cleared when
+ * it completes. Components that wait on external resources (connection pool,
+ * database, downstream services) read it through {@link #current()} to bound
+ * their waits by the time the caller has left.</p>
+ */
+public final class RequestDeadline {
+
+  private static final ThreadLocal<RequestDeadline> CURRENT = new ThreadLocal<>();
+
+  private final Duration budget;
+  private final long deadlineNanos;
+
+  private RequestDeadline(Duration budget) {
+    this.budget = budget;
+    this.deadlineNanos = System.nanoTime() + budget.toNanos();
+  }
+
+  /**
+   * Starts the deadline of the current thread's request.
+   *
+   * @param budget the time the request may take
+   * @return the started deadline
+   */
+  public static RequestDeadline start(Duration budget) {
+    RequestDeadline deadline = new RequestDeadline(budget);
+    CURRENT.set(deadline);
+    return deadline;
+  }
+
+  /**
+   * Returns the deadline of the current thread's request.
+   *
+   * @return the deadline, or an empty optional outside a request
+   */
+  public static Optional<RequestDeadline> current() {
+    return Optional.ofNullable(CURRENT.get());
+  }
+
+  /**
+   * Makes a deadline started on another thread the deadline of the current
+   * thread, for work handed over to an executor.
+   *
+   * @param deadline the deadline of the request the work belongs to
+   */
+  public static void attach(RequestDeadline deadline) {
+    CURRENT.set(deadline);
+  }
+
+  /**
+   * Removes the deadline of the current thread.
+   */
+  public static void clear() {
+    CURRENT.remove();
+  }
+
+  /**
+   * Returns the total budget the request started with.
+   *
+   * @return the budget
+   */
+  public Duration getBudget() {
+    return budget;
+  }
+
+  /**
+   * Returns the time left before the deadline.
+   *
+   * @return the remaining milliseconds; zero or negative once the deadline has passed
+   */
+  public long remainingMillis() {
+    return Math.floorDiv(deadlineNanos - System.nanoTime(), 1_000_000L);
+  }
+
+  /**
+   * Indicates whether the deadline has passed.
+   *
+   * @return {@code true} if no time is left
+   */
+  public boolean isExpired() {
+    return deadlineNanos - System.nanoTime() <= 0;
+  }
+}
@@ -0,0 +1,165 @@
+package com.invex.jmc.employee.util;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Coalesces concurrent executions of the same keyed operation into a single call.
+ *
+ * <p>The first caller for a key (the leader) runs the supplier; callers arriving
+ * while that execution is in flight wait for it and receive the same result or
+ * exception, errors included. Once the leader finishes the key is released, so
+ * later calls run again and never observe stale results.</p>
+ *
+ * <p>The shared result is never handed out itself: every caller, the leader
+ * included, receives its own copy made by the configured copy function, so one
+ * caller modifying its result cannot affect the others.</p>
+ *
+ * <p>In-flight calls are tracked in a {@link ConcurrentHashMap}, whose per-bin
+ * locking keeps unrelated keys from contending with each other. Followers wait
+ * at most the configured timeout, or less if their {@link RequestDeadline} has
+ * less time left; after that they run the supplier themselves so that a stuck
+ * leader never blocks them indefinitely.</p>
+ *
+ * <p>A leader that fails once its own deadline has passed, for example because
+ * its caller sent a short {@code X-Request-Timeout}, does not pass that failure
+ * on: its followers run the supplier themselves, within their own budgets.</p>
+ *
+ * @param <K> the key type identifying identical calls
+ * @param <V> the result type
+ */
+public class SingleFlight<K, V> {
+
+  /**
+   * Outcome of a call, reported to the {@link Listener}.
+   */
+  public enum Outcome {
+    /** The caller executed the supplier. */
+    LEADER,
+    /** The caller reused the result of an in-flight execution. */
+    COALESCED,
+    /**
+     * The caller executed the supplier itself, because it gave up waiting or
+     * the leader ran out of its own deadline.
+     */
+    TIMEOUT
+  }
+
+  /**
+   * Callback notified of every call outcome, typically to update metrics.
+   */
+  @FunctionalInterface
+  public interface Listener {
+    /**
+     * Invoked once per call.
+     *
+     * @param outcome how the call was served
+     */
+    void onCall(Outcome outcome);
+  }
+
+  private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+  private final Duration timeout;
+  private final Listener listener;
+  private final UnaryOperator<V> copy;
+
+  /**
+   * Creates a new single-flight group.
+   *
+   * @param timeout maximum time a follower waits for the leader
+   * @param listener callback notified of each call outcome
+   * @param copy returns an independent copy of a result; may be
+   *     {@link UnaryOperator#identity()} only for immutable results
+   */
+  public SingleFlight(Duration timeout, Listener listener, UnaryOperator<V> copy) {
+    this.timeout = timeout;
+    this.listener = listener;
+    this.copy = copy;
+  }
+
+  /**
+   * Executes the supplier for the given key, or joins an identical call already
+   * in flight.
+   *
+   * @param key identifies identical calls
+   * @param supplier the operation to run when no identical call is in flight
+   * @return a copy of the result of the shared execution
+   */
+  public V execute(K key, Supplier<V> supplier) {
+    Optional<RequestDeadline> deadline = RequestDeadline.current();
+    CompletableFuture<V> call = new CompletableFuture<>();
+    CompletableFuture<V> existing = inFlight.putIfAbsent(key, call);
+    if (existing == null) {
+      listener.onCall(Outcome.LEADER);
+      try {
+        V value = supplier.get();
+        call.complete(value);
+        return copy.apply(value);
+      } catch (Throwable e) {
+        call.completeExceptionally(deadline.map(RequestDeadline::isExpired).orElse(false)
+            ? new LeaderDeadlineExceeded(e)
+            : e);
+        throw e;
+      } finally {
+        inFlight.remove(key, call);
+      }
+    }
+    long wait = timeout.toNanos();
+    if (deadline.isPresent()) {
+      wait = Math.min(wait, TimeUnit.MILLISECONDS.toNanos(
+          Math.max(0, deadline.get().remainingMillis())));
+    }
+    try {
+      V value = existing.get(wait, TimeUnit.NANOSECONDS);
+      listener.onCall(Outcome.COALESCED);
+      return copy.apply(value);
+    } catch (TimeoutException e) {
+      listener.onCall(Outcome.TIMEOUT);
+      return supplier.get();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof LeaderDeadlineExceeded) {
+        listener.onCall(Outcome.TIMEOUT);
+        return supplier.get();
+      }
+      listener.onCall(Outcome.COALESCED);
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      }
+      throw new IllegalStateException(e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for in-flight call " + key, e);
+    }
+  }
+
+  /**
+   * Returns the number of keys currently being executed.
+   *
+   * @return in-flight key count
+   */
+  public int inFlightCount() {
+    return inFlight.size();
+  }
+
+  /**
+   * Failure of a leader whose own deadline had passed, which its followers do
+   * not share.
+   */
+  private static final class LeaderDeadlineExceeded extends RuntimeException {
+
+    private LeaderDeadlineExceeded(Throwable cause) {
+      super(cause);
+    }
+  }
+}
@@ -0,0 +1,168 @@
+package com.invex.jmc.employee;
+
+import com.invex.jmc.employee.config.bulkhead.BulkWriteBulkhead;
+import com.invex.jmc.employee.model.repositories.EmployeeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.RouterFunctions;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * p99 latency of interactive reads while bulk inserts saturate the service,
+ * with the bulk write bulkhead disabled and enabled.
+ *
+ * <p>{@link #BULK_CONCURRENCY} clients keep sending bulk requests. Each one
+ * holds a pooled connection for {@link #BULK_MILLIS}, standing in for a large
+ * {@code addEmployees} batch. Meanwhile {@link #READS} reads, {@link #READ_CONCURRENCY}
+ * at a time, each run one query. Without the bulkhead the bulk requests take
+ * the whole pool of {@link #POOL_SIZE}, and reads queue behind them. With it,
+ * bulk work is capped at {@link #BULK_CONNECTIONS} connections, and reads keep
+ * the rest; their p99 must drop to less than half.</p>
+ */
+class BulkheadLoadIT {
+
+  private static final int BULK_MILLIS = 200;
+  private static final int BULK_CONCURRENCY = 30;
+  private static final int BULK_CONNECTIONS = 3;
+  private static final int READS = 2_000;
+  private static final int READ_CONCURRENCY = 20;
+  private static final int POOL_SIZE = 10;
+
+  private final HttpClient http = HttpClient.newHttpClient();
+
+  @Test
+  void bulkheadKeepsReadsIsolatedFromBulkInserts() throws Exception {
+    Result shared = run("shared", false);
+    Result isolated = run("isolated", true);
+
+    assertTrue(isolated.peakBulkConnections() <= BULK_CONNECTIONS,
+      "Bulk inserts exceeded their connection budget: " + isolated);
+    assertEquals(0, shared.peakBulkConnections(),
+      "Bulk connections were counted with the bulkhead disabled: " + shared);
+    assertTrue(isolated.readP99Millis() * 2 < shared.readP99Millis(),
+      "Reads were not isolated: " + isolated + " vs " + shared);
+  }
+
+  private Result run(String name, boolean bulkhead) throws Exception {
+    try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+        InvexEmployeeApp.class, LoadEndpoints.class)
+        .profiles("test")
+        .properties("spring.datasource.url=jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1",
+          "spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+          "employee.bulkhead.enabled=" + bulkhead,
+          "employee.bulkhead.threads=" + 2 * BULK_CONNECTIONS,
+          "employee.bulkhead.connections=" + BULK_CONNECTIONS,
+          "employee.bulkhead.connection-wait=30s",
+          "eureka.client.enabled=false",
+          "spring.jpa.show-sql=false")
+        .run()) {
+      String base = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+      MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+
+      AtomicBoolean running = new AtomicBoolean(true);
+      AtomicInteger peak = new AtomicInteger();
+      Thread bulkLoad = new Thread(() -> bulkLoad(URI.create(base + "/load/bulk"), running));
+      Thread sampler = new Thread(() -> {
+        while (running.get()) {
+          peak.accumulateAndGet((int) meterRegistry.get("employee.bulkhead.connections.active")
+            .gauge().value(), Math::max);
+          Thread.onSpinWait();
+        }
+      });
+      bulkLoad.start();
+      sampler.start();
+      Thread.sleep(2L * BULK_MILLIS);
+
+      long[] latencies = reads(URI.create(base + "/load/read"));
+      running.set(false);
+      bulkLoad.join();
+      sampler.join();
+
+      Arrays.sort(latencies);
+      return new Result(name, latencies[(int) (latencies.length * 0.99)] / 1_000_000.0,
+        peak.get());
+    }
+  }
+
+  private void bulkLoad(URI uri, AtomicBoolean running) {
+    HttpRequest request = HttpRequest.newBuilder(uri)
+      .POST(HttpRequest.BodyPublishers.noBody()).build();
+    Semaphore inFlight = new Semaphore(BULK_CONCURRENCY);
+    while (running.get()) {
+      inFlight.acquireUninterruptibly();
+      http.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+        .whenComplete((response, error) -> inFlight.release());
+    }
+    inFlight.acquireUninterruptibly(BULK_CONCURRENCY);
+  }
+
+  private long[] reads(URI uri) {
+    HttpRequest request = HttpRequest.newBuilder(uri).build();
+    Semaphore inFlight = new Semaphore(READ_CONCURRENCY);
+    long[] latencies = new long[READS];
+    CompletableFuture<?>[] futures = new CompletableFuture<?>[READS];
+    for (int i = 0; i < READS; i++) {
+      inFlight.acquireUninterruptibly();
+      int index = i;
+      long sent = System.nanoTime();
+      futures[i] = http.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+        .whenComplete((response, error) -> {
+          inFlight.release();
+          latencies[index] = System.nanoTime() - sent;
+          assertEquals(200, response == null ? -1 : response.statusCode(), String.valueOf(error));
+        });
+    }
+    CompletableFuture.allOf(futures).join();
+    return latencies;
+  }
+
+  /**
+   * A bulk endpoint running on the bulkhead and a read endpoint running on the
+   * request thread.
+   */
+  static class LoadEndpoints {
+
+    @Bean
+    RouterFunction<ServerResponse> loadRoutes(BulkWriteBulkhead bulkWriteBulkhead,
+                                              DataSource dataSource,
+                                              EmployeeRepository employeeRepository) {
+      return RouterFunctions.route()
+        .POST("/load/bulk", request -> ServerResponse.async(bulkWriteBulkhead.submit(() -> {
+          try (Connection connection = dataSource.getConnection()) {
+            Thread.sleep(BULK_MILLIS);
+            return ServerResponse.ok().build();
+          } catch (Exception e) {
+            throw new IllegalStateException(e);
+          }
+        })))
+        .GET("/load/read", request -> ServerResponse.ok().body(employeeRepository.count()))
+        .build();
+    }
+  }
+
+  private record Result(String mode, double readP99Millis, int peakBulkConnections) {
+    @Override
+    public String toString() {
+      return String.format("%-8s read p99 %7.1f ms  peak bulk connections %d",
+        mode, readP99Millis, peakBulkConnections);
+    }
+  }
+}
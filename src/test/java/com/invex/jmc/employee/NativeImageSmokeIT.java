@@ -0,0 +1,150 @@
+package com.invex.jmc.employee;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Smoke test of the native image built with {@code mvn -Pnative verify}.
+ *
+ * <p>Starts {@code target/invex-employee} against an in-memory H2 database,
+ * waits for the health endpoint and lists the employees. The executable jar of
+ * the same build is then started the same way; the native image must reach a
+ * healthy instance sooner and, on Linux, with less resident memory. Skipped
+ * when the native binary has not been built.</p>
+ */
+class NativeImageSmokeIT {
+
+  private static final Path TARGET = Path.of("target");
+  private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(90);
+  private static final HttpClient HTTP = HttpClient.newBuilder()
+    .connectTimeout(Duration.ofSeconds(1))
+    .build();
+
+  @Test
+  void nativeBinaryServesRequestsOnH2() throws Exception {
+    Path binary = TARGET.resolve("invex-employee");
+    assumeTrue(Files.isExecutable(binary), "Native image not built (mvn -Pnative verify)");
+
+    Measurement nativeRun = measure("native", List.of(binary.toAbsolutePath().toString()));
+
+    Optional<Path> jar = executableJar();
+    if (jar.isPresent()) {
+      String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+      Measurement jvmRun = measure("jvm", List.of(java, "-jar", jar.get().toString()));
+      assertTrue(nativeRun.startupMillis() < jvmRun.startupMillis(),
+        () -> "Native image did not start faster: " + nativeRun + " / " + jvmRun);
+      if (nativeRun.residentKb() > 0 && jvmRun.residentKb() > 0) {
+        assertTrue(nativeRun.residentKb() < jvmRun.residentKb(),
+          () -> "Native image did not use less memory: " + nativeRun + " / " + jvmRun);
+      }
+    }
+  }
+
+  private static Measurement measure(String name, List<String> launcher) throws Exception {
+    int port = freePort();
+    List<String> command = new ArrayList<>(launcher);
+    command.add("--server.port=" + port);
+    command.add("--spring.datasource.url=jdbc:h2:mem:smoke;DB_CLOSE_DELAY=-1");
+    command.add("--spring.datasource.driver-class-name=org.h2.Driver");
+    command.add("--spring.datasource.username=sa");
+    command.add("--spring.datasource.password=");
+    command.add("--spring.jpa.hibernate.ddl-auto=create-drop");
+    command.add("--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect");
+    command.add("--eureka.client.enabled=false");
+    command.add("--logging.file.name=" + TARGET.resolve("smoke-" + name + ".log"));
+
+    long start = System.nanoTime();
+    Process process = new ProcessBuilder(command)
+      .redirectErrorStream(true)
+      .redirectOutput(TARGET.resolve("smoke-" + name + ".out").toFile())
+      .start();
+    try {
+      String base = "http://localhost:" + port;
+      awaitHealthy(process, base);
+      long startupMillis = (System.nanoTime() - start) / 1_000_000;
+
+      HttpRequest list = HttpRequest.newBuilder(URI.create(base + "/api/employees"))
+        .header("Accept", "application/json")
+        .header("uuid", UUID.randomUUID().toString())
+        .build();
+      HttpResponse<String> employees = HTTP.send(list, HttpResponse.BodyHandlers.ofString());
+      assertEquals(200, employees.statusCode(), employees.body());
+
+      return new Measurement(name, startupMillis, residentKb(process.pid()));
+    } finally {
+      process.destroy();
+      process.waitFor();
+    }
+  }
+
+  private static void awaitHealthy(Process process, String base) throws Exception {
+    HttpRequest health = HttpRequest.newBuilder(URI.create(base + "/actuator/health")).build();
+    long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+    while (System.nanoTime() < deadline) {
+      if (!process.isAlive()) {
+        fail("Process exited with " + process.exitValue() + " before becoming healthy");
+      }
+      try {
+        if (HTTP.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+          return;
+        }
+      } catch (IOException e) {
+        // not listening yet
+      }
+      Thread.sleep(20);
+    }
+    fail("Not healthy after " + STARTUP_TIMEOUT);
+  }
+
+  private static Optional<Path> executableJar() throws IOException {
+    try (Stream<Path> files = Files.list(TARGET)) {
+      return files.filter(file -> file.getFileName().toString().endsWith("-exec.jar"))
+        .findFirst();
+    }
+  }
+
+  private static long residentKb(long pid) throws IOException {
+    Path status = Path.of("/proc", String.valueOf(pid), "status");
+    if (!Files.exists(status)) {
+      return -1;
+    }
+    try (Stream<String> lines = Files.lines(status)) {
+      return lines.filter(line -> line.startsWith("VmRSS:"))
+        .map(line -> Long.parseLong(line.replaceAll("\\D", "")))
+        .findFirst()
+        .orElse(-1L);
+    }
+  }
+
+  private static int freePort() throws IOException {
+    try (ServerSocket socket = new ServerSocket(0)) {
+      return socket.getLocalPort();
+    }
+  }
+
+  private record Measurement(String name, long startupMillis, long residentKb) {
+    @Override
+    public String toString() {
+      return String.format("%-6s healthy in %6d ms, RSS %7d KB", name, startupMillis,
+          residentKb);
+    }
+  }
+}
@@ -0,0 +1,116 @@
+package com.invex.jmc.employee;
+
+import com.invex.jmc.employee.services.EmployeeService;
+import com.invex.jmc.employee.services.stats.EmployeeHeadcountCounters;
+import io.swagger.v3.oas.models.OpenAPI;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Startup time of the default configuration against the {@code faststart}
+ * profile, and the CDS training run of the container image.
+ *
+ * <p>Both configurations share an in-memory H2 database so that the schema
+ * created by the default run can be validated by the {@code faststart} run.
+ * After one warm-up start they are started alternately. The {@code faststart}
+ * profile must apply its configuration: lazy initialization (with the beans
+ * that run scheduled tasks still eager), no springdoc, none of the excluded
+ * auto-configurations and the schema validated rather than updated, and it
+ * must create fewer singletons. The median startup time of each configuration
+ * is published as a report entry but not asserted, since it depends on the
+ * machine. Gains from the CDS archive are only visible in the container image
+ * and are not measured here.</p>
+ *
+ * <p>The training run ({@code faststart,cds}) is started against an unreachable
+ * database and with a wrong Jasypt password, as during {@code docker build}.</p>
+ */
+class StartupTimeIT {
+
+  private static final int ROUNDS = 5;
+  private static final String[] PROPERTIES = {
+    "spring.datasource.url=jdbc:h2:mem:startup;DB_CLOSE_DELAY=-1",
+    "eureka.client.enabled=false",
+    "spring.jpa.show-sql=false"
+  };
+
+  @Test
+  void fastStartProfileStartsLazilyWithFewerBeans(TestReporter reporter) {
+    start("test").close();
+
+    long[] defaultMillis = new long[ROUNDS];
+    long[] fastMillis = new long[ROUNDS];
+    int defaultBeans = 0;
+    int fastBeans = 0;
+    for (int i = 0; i < ROUNDS; i++) {
+      long begin = System.nanoTime();
+      ConfigurableApplicationContext context = start("test");
+      defaultMillis[i] = (System.nanoTime() - begin) / 1_000_000;
+      defaultBeans = context.getBeanFactory().getSingletonNames().length;
+      context.close();
+
+      begin = System.nanoTime();
+      context = start("test", "faststart");
+      fastMillis[i] = (System.nanoTime() - begin) / 1_000_000;
+      fastBeans = context.getBeanFactory().getSingletonNames().length;
+      assertFastStartApplied(context);
+      context.close();
+    }
+
+    assertTrue(fastBeans < defaultBeans,
+      "faststart singletons " + fastBeans + ", default " + defaultBeans);
+    reporter.publishEntry("default median startup", median(defaultMillis) + " ms");
+    reporter.publishEntry("faststart median startup", median(fastMillis) + " ms");
+  }
+
+  private static void assertFastStartApplied(ConfigurableApplicationContext context) {
+    Environment environment = context.getEnvironment();
+    assertEquals(Boolean.TRUE,
+      environment.getProperty("spring.main.lazy-initialization", Boolean.class));
+    assertEquals("validate", environment.getProperty("spring.jpa.hibernate.ddl-auto"));
+    assertEquals(0, context.getBeanNamesForType(OpenAPI.class).length);
+    for (String excluded : environment.getProperty("spring.autoconfigure.exclude",
+        String[].class)) {
+      assertFalse(context.containsBeanDefinition(excluded), excluded);
+    }
+    assertFalse(context.getBeanFactory().containsSingleton(
+        context.getBeanNamesForType(EmployeeService.class)[0]));
+    assertTrue(context.getBeanFactory().containsSingleton(
+        context.getBeanNamesForType(EmployeeHeadcountCounters.class)[0]));
+  }
+
+  @Test
+  void cdsTrainingRunNeedsNoDatabaseNorSecrets() {
+    try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+        InvexEmployeeApp.class)
+        .profiles("faststart", "cds")
+        .properties("spring.datasource.url=jdbc:mysql://localhost:1/unreachable",
+          "jasypt.encryptor.password=wrong",
+          "employee.startup.exit-on-refresh=false")
+        .run()) {
+      assertTrue(context.isActive());
+      assertTrue(context.getBeanFactory().containsSingleton(
+          context.getBeanNamesForType(EmployeeService.class)[0]));
+    }
+  }
+
+  private static ConfigurableApplicationContext start(String... profiles) {
+    return new SpringApplicationBuilder(InvexEmployeeApp.class)
+      .profiles(profiles)
+      .properties(PROPERTIES)
+      .run();
+  }
+
+  private static long median(long[] values) {
+    long[] sorted = values.clone();
+    Arrays.sort(sorted);
+    return sorted[sorted.length / 2];
+  }
+}
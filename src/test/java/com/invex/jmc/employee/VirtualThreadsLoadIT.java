@@ -0,0 +1,180 @@
+package com.invex.jmc.employee;
+
+import com.invex.jmc.employee.model.repositories.EmployeeRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.boot.SpringBootVersion;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.RouterFunctions;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Platform against virtual request threads under load.
+ *
+ * <p>Each request blocks for {@link #BLOCKING_MILLIS} (standing in for a slow
+ * downstream call) and then runs one query through the Hikari pool. Both modes
+ * receive {@link #CONCURRENCY} concurrent requests; the platform mode is capped
+ * by the 200 Tomcat threads while the virtual mode is only capped by the pool
+ * for the query itself. Every request must be handled on a virtual thread in
+ * the {@code virtual} profile and on a platform thread otherwise, and the
+ * sampled peak of active connections must stay within the pool. Throughput
+ * and p99 latency of both modes are published as report entries but not
+ * asserted, since they depend on the machine.</p>
+ *
+ * <p>Only runs on the Spring Boot 3 build ({@code pom-sringboot-3.4.5.xml}) on
+ * Java 21.</p>
+ */
+class VirtualThreadsLoadIT {
+
+  private static final int BLOCKING_MILLIS = 20;
+  private static final int CONCURRENCY = 1000;
+  private static final int REQUESTS = 20_000;
+  private static final int WARMUP = 2_000;
+  private static final int POOL_SIZE = 10;
+  private static final String VIRTUAL_HEADER = "X-Virtual-Thread";
+  private static final Pattern VERSION = Pattern.compile("(\\d+)\\.(\\d+)");
+
+  private final HttpClient http = HttpClient.newHttpClient();
+
+  @Test
+  void virtualProfileServesRequestsOnVirtualThreadsWithinThePoolLimit(
+      TestReporter reporter) throws Exception {
+    assumeTrue(Runtime.version().feature() >= 21, "Virtual threads need Java 21");
+    assumeTrue(isAtLeast(SpringBootVersion.getVersion(), 3, 2),
+      "spring.threads.virtual.enabled needs Spring Boot 3.2");
+
+    reporter.publishEntry("platform", run("platform", false, "test").toString());
+    reporter.publishEntry("virtual", run("virtual", true, "test", "virtual").toString());
+  }
+
+  /**
+   * Tells whether a version such as {@code 3.4.5} or {@code 3.2.0-M1} is at
+   * least {@code major.minor}.
+   */
+  private static boolean isAtLeast(String version, int major, int minor) {
+    Matcher matcher = VERSION.matcher(String.valueOf(version));
+    if (!matcher.lookingAt()) {
+      return false;
+    }
+    int actualMajor = Integer.parseInt(matcher.group(1));
+    int actualMinor = Integer.parseInt(matcher.group(2));
+    return actualMajor > major || actualMajor == major && actualMinor >= minor;
+  }
+
+  private Result run(String name, boolean virtual, String... profiles) throws Exception {
+    try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+        InvexEmployeeApp.class, BlockingEndpoint.class)
+        .profiles(profiles)
+        .properties("spring.datasource.url=jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1",
+          "spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+          "server.tomcat.threads.max=200",
+          "eureka.client.enabled=false",
+          "spring.jpa.show-sql=false")
+        .run()) {
+      assertEquals(virtual, context.getEnvironment()
+        .getProperty("spring.threads.virtual.enabled", Boolean.class, false));
+      URI uri = URI.create("http://localhost:"
+          + context.getEnvironment().getProperty("local.server.port") + "/load/blocking");
+      HikariDataSource pool = context.getBean(DataSource.class).unwrap(HikariDataSource.class);
+
+      load(uri, WARMUP, virtual);
+      AtomicInteger peak = new AtomicInteger();
+      Thread sampler = new Thread(() -> {
+        while (!Thread.currentThread().isInterrupted()) {
+          peak.accumulateAndGet(pool.getHikariPoolMXBean().getActiveConnections(), Math::max);
+          Thread.onSpinWait();
+        }
+      });
+      sampler.setDaemon(true);
+      sampler.start();
+      long start = System.nanoTime();
+      long[] latencies = load(uri, REQUESTS, virtual);
+      double seconds = (System.nanoTime() - start) / 1e9;
+      sampler.interrupt();
+
+      assertTrue(peak.get() <= POOL_SIZE, "Active connections exceeded the pool: " + peak);
+      Arrays.sort(latencies);
+      return new Result(name, REQUESTS / seconds,
+        latencies[(int) (latencies.length * 0.99)] / 1_000_000.0, peak.get());
+    }
+  }
+
+  private long[] load(URI uri, int requests, boolean virtual) throws InterruptedException {
+    HttpRequest request = HttpRequest.newBuilder(uri).build();
+    Semaphore inFlight = new Semaphore(CONCURRENCY);
+    long[] latencies = new long[requests];
+    CompletableFuture<?>[] futures = new CompletableFuture<?>[requests];
+    AtomicInteger wrongThread = new AtomicInteger();
+    for (int i = 0; i < requests; i++) {
+      inFlight.acquire();
+      int index = i;
+      long sent = System.nanoTime();
+      futures[i] = http.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+        .whenComplete((response, error) -> {
+          inFlight.release();
+          latencies[index] = System.nanoTime() - sent;
+          assertEquals(200, response == null ? -1 : response.statusCode(), String.valueOf(error));
+          if (!String.valueOf(virtual).equals(
+              response.headers().firstValue(VIRTUAL_HEADER).orElse(null))) {
+            wrongThread.incrementAndGet();
+          }
+        });
+    }
+    CompletableFuture.allOf(futures).join();
+    assertEquals(0, wrongThread.get(),
+      "Requests not handled on a " + (virtual ? "virtual" : "platform") + " thread");
+    return latencies;
+  }
+
+  /**
+   * Endpoint blocking for {@link #BLOCKING_MILLIS} before querying the database.
+   * It tells in {@link #VIRTUAL_HEADER} whether it ran on a virtual thread;
+   * {@code Thread.isVirtual()} is looked up reflectively because the Boot 2.7
+   * build compiles the tests for Java 17.
+   */
+  static class BlockingEndpoint {
+
+    @Bean
+    RouterFunction<ServerResponse> blockingRoute(EmployeeRepository employeeRepository) {
+      return RouterFunctions.route()
+        .GET("/load/blocking", request -> {
+          Thread.sleep(BLOCKING_MILLIS);
+          return ServerResponse.ok()
+            .header(VIRTUAL_HEADER, String.valueOf(isVirtual(Thread.currentThread())))
+            .body(employeeRepository.count());
+        })
+        .build();
+    }
+
+    private static boolean isVirtual(Thread thread) throws ReflectiveOperationException {
+      return (Boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+    }
+  }
+
+  private record Result(String mode, double throughput, double p99Millis, int peakConnections) {
+    @Override
+    public String toString() {
+      return String.format("%-8s %8.0f req/s  p99 %7.1f ms  peak connections %d",
+        mode, throughput, p99Millis, peakConnections);
+    }
+  }
+}
@@ -0,0 +1,81 @@
+package com.invex.jmc.employee.config;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.invex.jmc.employee.model.dto.Employee;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH comparison of the encode and decode time of a 1000-employee list in
+ * every negotiated format.
+ *
+ * <p>Not part of the unit test run. Execute it from the IDE or with
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.invex.jmc.employee.config.BinaryFormatsBenchmark}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BinaryFormatsBenchmark {
+
+  @Param({"json", "smile", "cbor"})
+  private String format;
+
+  private ObjectMapper mapper;
+  private List<Employee> employees;
+  private byte[] payload;
+
+  /**
+   * Picks the mapper of the format and encodes the list once for decoding.
+   *
+   * @throws IOException if the list cannot be written
+   */
+  @Setup
+  public void setUp() throws IOException {
+    mapper = BinaryFormatsTest.mappers().get(format);
+    employees = BinaryFormatsTest.employees(1000);
+    payload = mapper.writeValueAsBytes(employees);
+  }
+
+  @Benchmark
+  public byte[] encode() throws IOException {
+    return mapper.writeValueAsBytes(employees);
+  }
+
+  @Benchmark
+  public List<Employee> decode() throws IOException {
+    return mapper.readValue(payload, new TypeReference<List<Employee>>() {
+    });
+  }
+
+  /**
+   * Runs the benchmark.
+   *
+   * @param args ignored
+   * @throws RunnerException if JMH fails
+   */
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(BinaryFormatsBenchmark.class.getSimpleName())
+        .build()).run();
+  }
+}
@@ -0,0 +1,122 @@
+package com.invex.jmc.employee.config;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.invex.jmc.employee.model.dto.Employee;
+import com.invex.jmc.employee.model.dto.JobPosition;
+import com.invex.jmc.employee.model.dto.Sex;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Payload size of an employee list in every negotiated format.
+ *
+ * <p>The Smile and CBOR converters are the ones Spring Boot registers when the
+ * Jackson data formats are on the classpath. Checks that they are present,
+ * that their payloads are smaller than JSON by a margin and that they decode
+ * back to the same list. Encode times are measured by
+ * {@link BinaryFormatsBenchmark}.</p>
+ */
+class BinaryFormatsTest {
+
+  private static final int EMPLOYEES = 1000;
+
+  private static List<Employee> employees;
+  private static Map<String, ObjectMapper> mappers;
+
+  @BeforeAll
+  static void setUp() {
+    mappers = mappers();
+    employees = employees(EMPLOYEES);
+  }
+
+  @Test
+  void binaryFormatsAreSmallerThanJsonAndRoundTrip() throws IOException {
+    Map<String, Integer> sizes = new LinkedHashMap<>();
+    for (Map.Entry<String, ObjectMapper> entry : mappers.entrySet()) {
+      ObjectMapper mapper = entry.getValue();
+      byte[] payload = mapper.writeValueAsBytes(employees);
+      sizes.put(entry.getKey(), payload.length);
+
+      List<Employee> decoded = mapper.readValue(payload, new TypeReference<List<Employee>>() {
+      });
+      assertEquals(EMPLOYEES, decoded.size());
+      assertEquals(employees.get(7).getIdEmployee(), decoded.get(7).getIdEmployee());
+      assertEquals(employees.get(7).getBirthDay(), decoded.get(7).getBirthDay());
+      assertEquals(employees.get(7).getJobPosition().getCode(),
+        decoded.get(7).getJobPosition().getCode());
+    }
+    double json = sizes.get("json");
+    assertTrue(sizes.get("smile") < json * 0.75, () -> "Smile/JSON bytes: " + sizes);
+    assertTrue(sizes.get("cbor") < json * 0.95, () -> "CBOR/JSON bytes: " + sizes);
+  }
+
+  /**
+   * Returns the object mapper of the JSON, Smile and CBOR converters that
+   * Spring Boot registers by default.
+   */
+  static Map<String, ObjectMapper> mappers() {
+    Map<String, ObjectMapper> mappers = new LinkedHashMap<>();
+    for (HttpMessageConverter<?> converter : new HttpMessageConverters().getConverters()) {
+      if (converter instanceof MappingJackson2SmileHttpMessageConverter smile) {
+        mappers.putIfAbsent("smile", smile.getObjectMapper());
+      } else if (converter instanceof MappingJackson2CborHttpMessageConverter cbor) {
+        mappers.putIfAbsent("cbor", cbor.getObjectMapper());
+      } else if (converter instanceof MappingJackson2HttpMessageConverter json) {
+        mappers.putIfAbsent("json", json.getObjectMapper());
+      }
+    }
+    assertEquals(Set.of("json", "smile", "cbor"), mappers.keySet());
+    return mappers;
+  }
+
+  /**
+   * Builds a list of employees sharing a few job positions and both sexes.
+   */
+  static List<Employee> employees(int count) {
+    String[][] jobs = {{"CTO", "Chief Technology Officer"}, {"DEV", "Software Developer"},
+      {"QAE", "Quality Assurance Engineer"}, {"HRM", "Human Resources Manager"}};
+    List<Employee> employees = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      Sex sex = new Sex();
+      sex.setIdSex(i % 2 == 0 ? "50284c0c-c0fd-11f0-9884-ae32cdf1c2ae"
+        : "502f8c1e-c0fd-11f0-9884-ae32cdf1c2ae");
+      sex.setCode(i % 2 == 0 ? "M" : "F");
+      sex.setDescription(i % 2 == 0 ? "Male" : "Female");
+      JobPosition jobPosition = new JobPosition();
+      jobPosition.setIdJobPosition("84d89fe9-c0fd-11f0-9884-ae32cdf1c2a" + (i % jobs.length));
+      jobPosition.setCode(jobs[i % jobs.length][0]);
+      jobPosition.setDescription(jobs[i % jobs.length][1]);
+      Employee employee = new Employee();
+      employee.setIdEmployee(UUID.randomUUID().toString());
+      employee.setFirstName("Juan" + i);
+      employee.setMiddleName("Carlos");
+      employee.setPaternalSurname("Moreno");
+      employee.setMaternalSurname("Garcia");
+      employee.setSex(sex);
+      employee.setJobPosition(jobPosition);
+      employee.setBirthDay(LocalDate.of(1970 + i % 30, 1 + i % 12, 1 + i % 28));
+      employee.setStatus(i % 5 != 0);
+      employee.setTs(LocalDateTime.of(2025, 11, 14, 9, 0, i % 60));
+      employees.add(employee);
+    }
+    return employees;
+  }
+}
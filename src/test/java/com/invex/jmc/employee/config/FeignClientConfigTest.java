@@ -0,0 +1,149 @@
+package com.invex.jmc.employee.config;
+
+import com.invex.jmc.employee.config.headers.interceptor.PropagateHeadersInterceptor;
+import feign.Feign;
+import feign.Request;
+import feign.RequestLine;
+import feign.RetryableException;
+import feign.Retryer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FeignClientConfigTest {
+
+  interface StubApi {
+    @RequestLine("GET /employees")
+    String employees();
+  }
+
+  private final FeignClientConfig feignClientConfig = new FeignClientConfig();
+  private final ConfigPropagateHeaders configPropagateHeaders =
+    new ConfigPropagateHeaders(List.of("uuid", "Accept-Language"));
+  private ConfigFeign config;
+  private MockWebServer server;
+  private ConnectionPool pool;
+
+  @BeforeEach
+  void setUp() {
+    config = new ConfigFeign();
+    server = new MockWebServer();
+    pool = feignClientConfig.feignConnectionPool(config);
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    RequestContextHolder.resetRequestAttributes();
+    pool.evictAll();
+    server.shutdown();
+  }
+
+  @Test
+  void interceptor_PropagatesConfiguredHeadersOnly() throws Exception {
+    server.start();
+    server.enqueue(new MockResponse().setBody("[]"));
+    MockHttpServletRequest incoming = new MockHttpServletRequest();
+    incoming.addHeader("uuid", "chispitas");
+    incoming.addHeader("Authorization", "Bearer secret");
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(incoming));
+
+    assertEquals("[]", client(Request.Options::new).employees());
+
+    RecordedRequest recorded = server.takeRequest();
+    assertEquals("chispitas", recorded.getHeader("uuid"));
+    assertEquals("es", recorded.getHeader("Accept-Language"));
+    assertNull(recorded.getHeader("Authorization"));
+  }
+
+  @Test
+  void client_ReusesPooledConnection() throws Exception {
+    server.start();
+    server.enqueue(new MockResponse().setBody("[]"));
+    server.enqueue(new MockResponse().setBody("[]"));
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    feignClientConfig.feignConnectionPoolMetrics(pool, config).bindTo(registry);
+
+    StubApi api = client(Request.Options::new);
+    api.employees();
+    api.employees();
+
+    assertEquals(0, server.takeRequest().getSequenceNumber());
+    assertEquals(1, server.takeRequest().getSequenceNumber());
+    assertEquals(1, pool.connectionCount());
+    assertEquals(1.0, registry.get("employee.feign.pool.connection.count")
+      .tag("state", "idle").gauge().value());
+    assertEquals(50.0, registry.get("employee.feign.pool.connection.limit").gauge().value());
+  }
+
+  @Test
+  void client_SpeaksHttp2WithPriorKnowledge() throws Exception {
+    config.setHttp2PriorKnowledge(true);
+    server.setProtocols(List.of(Protocol.H2_PRIOR_KNOWLEDGE));
+    server.start();
+    server.enqueue(new MockResponse().setBody("[]"));
+    server.enqueue(new MockResponse().setBody("[]"));
+
+    OkHttpClient okHttp = feignClientConfig.feignOkHttpClient(pool, config, List.of());
+    try (okhttp3.Response response = okHttp.newCall(
+        new okhttp3.Request.Builder().url(server.url("/employees")).build()).execute()) {
+      assertEquals(Protocol.H2_PRIOR_KNOWLEDGE, response.protocol());
+    }
+    assertEquals("[]", client(Request.Options::new).employees());
+    assertEquals(1, pool.connectionCount());
+  }
+
+  @Test
+  void client_AppliesPerTargetTimeout() throws Exception {
+    server.start();
+    server.enqueue(new MockResponse().setBody("[]").setHeadersDelay(2, TimeUnit.SECONDS));
+
+    StubApi api = client(() -> new Request.Options(1, TimeUnit.SECONDS,
+      200, TimeUnit.MILLISECONDS, true));
+
+    assertThrows(RetryableException.class, api::employees);
+  }
+
+  @Test
+  void fixHeaders_LeavesIncomingHeadersUntouched() {
+    HttpHeaders incoming = new HttpHeaders();
+    incoming.add("uuid", "chispitas");
+    incoming.add("Authorization", "Bearer secret");
+
+    Map<String, String> propagated = configPropagateHeaders.fixHeaders(incoming);
+
+    assertEquals(Map.of("uuid", "chispitas", "Accept-Language", "es"), propagated);
+    assertFalse(incoming.containsKey("Accept-Language"));
+  }
+
+  private StubApi client(Supplier<Request.Options> options) {
+    return Feign.builder()
+      .client(new feign.okhttp.OkHttpClient(
+        feignClientConfig.feignOkHttpClient(pool, config, List.of())))
+      .requestInterceptor(new PropagateHeadersInterceptor(configPropagateHeaders))
+      .options(options.get())
+      .retryer(Retryer.NEVER_RETRY)
+      .target(StubApi.class, "http://" + server.getHostName() + ":" + server.getPort());
+  }
+}
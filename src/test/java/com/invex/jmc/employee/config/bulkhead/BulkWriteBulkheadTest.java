@@ -0,0 +1,129 @@
+package com.invex.jmc.employee.config.bulkhead;
+
+import com.invex.jmc.employee.config.ConfigBulkhead;
+import com.invex.jmc.employee.config.deadline.DeadlineCounters;
+import com.invex.jmc.employee.exceptions.BulkheadFullException;
+import com.invex.jmc.employee.util.RequestDeadline;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BulkWriteBulkheadTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private ConfigBulkhead config;
+  private BulkWriteBulkhead bulkhead;
+  private HikariDataSource pool;
+  private final CountDownLatch release = new CountDownLatch(1);
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    config = new ConfigBulkhead();
+    config.setThreads(2);
+    config.setQueueCapacity(1);
+    config.setConnections(1);
+    config.setConnectionWait(Duration.ofMillis(200));
+    bulkhead = new BulkWriteBulkhead(config, new DeadlineCounters(meterRegistry), meterRegistry);
+    pool = new HikariDataSource();
+    pool.setJdbcUrl("jdbc:h2:mem:bulkhead;DB_CLOSE_DELAY=-1");
+    pool.setMaximumPoolSize(3);
+  }
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    RequestDeadline.clear();
+    bulkhead.shutdown();
+    pool.close();
+  }
+
+  @Test
+  void submit_RunsOnBulkThreadWithRequestDeadline() {
+    RequestDeadline deadline = RequestDeadline.start(Duration.ofSeconds(5));
+
+    assertTrue(bulkhead.submit(() -> BulkWriteBulkhead.isBulkThread()
+      && RequestDeadline.current().orElseThrow() == deadline).join());
+    assertFalse(BulkWriteBulkhead.isBulkThread());
+  }
+
+  @Test
+  void submit_RunsInlineWhenDisabled() {
+    config.setEnabled(false);
+
+    assertFalse(bulkhead.submit(BulkWriteBulkhead::isBulkThread).join());
+  }
+
+  @Test
+  void submit_RejectsWhenThreadsAndQueueAreBusy() {
+    for (int i = 0; i < 3; i++) {
+      bulkhead.submit(this::awaitRelease);
+    }
+
+    assertThrows(BulkheadFullException.class, () -> bulkhead.submit(this::awaitRelease));
+    assertEquals(1.0, meterRegistry.get("employee.bulkhead.rejected")
+      .tag("name", "bulk").counter().count());
+  }
+
+  @Test
+  void dataSource_KeepsBulkThreadsWithinTheirConnectionBudget() throws Exception {
+    BulkheadDataSource dataSource = new BulkheadDataSource(pool, () -> bulkhead);
+    CountDownLatch holding = new CountDownLatch(1);
+    CompletableFuture<Boolean> holder = bulkhead.submit(() -> {
+      try (Connection connection = dataSource.getConnection()) {
+        holding.countDown();
+        return awaitRelease();
+      } catch (SQLException e) {
+        throw new IllegalStateException(e);
+      }
+    });
+    assertTrue(holding.await(5, TimeUnit.SECONDS));
+
+    CompletableFuture<Boolean> starved = bulkhead.submit(() -> {
+      try (Connection connection = dataSource.getConnection()) {
+        return true;
+      } catch (SQLException e) {
+        throw new IllegalStateException(e);
+      }
+    });
+    CompletionException ex = assertThrows(CompletionException.class, starved::join);
+    assertInstanceOf(SQLTransientConnectionException.class, ex.getCause().getCause());
+
+    try (Connection interactive = dataSource.getConnection()) {
+      assertTrue(interactive.isValid(1));
+    }
+    assertEquals(1.0, meterRegistry.get("employee.bulkhead.connections.active")
+      .tag("name", "bulk").gauge().value());
+
+    release.countDown();
+    assertTrue(holder.join());
+    assertEquals(0.0, meterRegistry.get("employee.bulkhead.connections.active")
+      .tag("name", "bulk").gauge().value());
+  }
+
+  private boolean awaitRelease() {
+    try {
+      return release.await(10, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+}
@@ -0,0 +1,155 @@
+package com.invex.jmc.employee.config.concurrency;
+
+import com.invex.jmc.employee.config.ConfigConcurrency;
+import com.invex.jmc.employee.config.deadline.DeadlineInterceptor;
+import com.invex.jmc.employee.exceptions.ConcurrencyLimitExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GradientLimiterTest {
+
+  private ConfigConcurrency config;
+  private SimpleMeterRegistry meterRegistry;
+  private ConfigConcurrency.Limit settings;
+
+  @BeforeEach
+  void setUp() {
+    config = new ConfigConcurrency();
+    meterRegistry = new SimpleMeterRegistry();
+    settings = new ConfigConcurrency.Limit();
+    settings.setInitialLimit(10);
+    settings.setMinLimit(2);
+    settings.setMaxLimit(50);
+  }
+
+  @Test
+  void limit_GrowsWhileLatencyIsFlat() {
+    GradientLimiter limiter = new GradientLimiter("reads", settings, meterRegistry);
+
+    runWindows(limiter, 20, 10);
+
+    assertTrue(limiter.getLimit() > 10);
+    assertEquals(limiter.getLimit(), (int) meterRegistry.get("employee.concurrency.limit")
+      .tag("class", "reads").gauge().value());
+  }
+
+  @Test
+  void limit_ShrinksWhenLatencyRises() {
+    GradientLimiter limiter = new GradientLimiter("reads", settings, meterRegistry);
+    runWindows(limiter, 20, 10);
+    int grown = limiter.getLimit();
+
+    runWindows(limiter, 10, 100);
+
+    assertTrue(limiter.getLimit() < grown);
+    assertTrue(limiter.getLimit() >= settings.getMinLimit());
+  }
+
+  @Test
+  void limit_BacksOffOnTimeout() {
+    GradientLimiter limiter = new GradientLimiter("writes", settings, meterRegistry);
+
+    assertTrue(limiter.tryAcquire());
+    limiter.release(TimeUnit.SECONDS.toNanos(10), true);
+
+    assertEquals(9, limiter.getLimit());
+    assertEquals(0, limiter.getInFlight());
+  }
+
+  @Test
+  void tryAcquire_RejectsOverLimit() {
+    settings.setInitialLimit(2);
+    GradientLimiter limiter = new GradientLimiter("bulk", settings, meterRegistry);
+
+    assertTrue(limiter.tryAcquire());
+    assertTrue(limiter.tryAcquire());
+    assertFalse(limiter.tryAcquire());
+
+    assertEquals(1, limiter.getRejected());
+    assertEquals(2.0, meterRegistry.get("employee.concurrency.inflight")
+      .tag("class", "bulk").gauge().value());
+  }
+
+  @Test
+  void interceptor_RejectsWith503AndReleasesOnCompletion() {
+    config.getClasses().get(ConfigConcurrency.BULK).setInitialLimit(1);
+    ConcurrencyLimiters limiters = new ConcurrencyLimiters(config, meterRegistry);
+    ConcurrencyLimitInterceptor interceptor = new ConcurrencyLimitInterceptor(config, limiters);
+    MockHttpServletRequest first = request("POST", "/api/employees");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    assertTrue(interceptor.preHandle(first, response, null));
+    ConcurrencyLimitExceededException ex = assertThrows(ConcurrencyLimitExceededException.class,
+      () -> interceptor.preHandle(request("POST", "/api/employees"), response, null));
+    assertEquals(ConfigConcurrency.BULK, ex.getEndpointClass());
+    assertTrue(interceptor.preHandle(request("POST", "/api/employees/{id}"), response, null));
+
+    interceptor.afterCompletion(first, response, null, null);
+    assertTrue(interceptor.preHandle(request("POST", "/api/employees"), response, null));
+  }
+
+  @Test
+  void interceptor_OnlyServerDeadlinesCountAsDrops() {
+    ConcurrencyLimiters limiters = new ConcurrencyLimiters(config, meterRegistry);
+    ConcurrencyLimitInterceptor interceptor = new ConcurrencyLimitInterceptor(config, limiters);
+    GradientLimiter reads = limiters.forEndpoint("GET", "/api/employees/{id}").orElseThrow();
+    int initial = reads.getLimit();
+    MockHttpServletResponse timedOut = new MockHttpServletResponse();
+    timedOut.setStatus(504);
+
+    MockHttpServletRequest clientBudget = request("GET", "/api/employees/{id}");
+    clientBudget.setAttribute(DeadlineInterceptor.CLIENT_BUDGET, Boolean.TRUE);
+    interceptor.preHandle(clientBudget, timedOut, null);
+    interceptor.afterCompletion(clientBudget, timedOut, null, null);
+    assertEquals(initial, reads.getLimit());
+    assertEquals(0, reads.getInFlight());
+
+    MockHttpServletRequest serverBudget = request("GET", "/api/employees/{id}");
+    interceptor.preHandle(serverBudget, timedOut, null);
+    interceptor.afterCompletion(serverBudget, timedOut, null, null);
+    assertTrue(reads.getLimit() < initial);
+    assertEquals(0, reads.getInFlight());
+  }
+
+  @Test
+  void limiters_ClassifyEndpoints() {
+    ConcurrencyLimiters limiters = new ConcurrencyLimiters(config, meterRegistry);
+
+    assertEquals(ConfigConcurrency.READS,
+      limiters.forEndpoint("GET", "/api/employees/{id}").orElseThrow().getName());
+    assertEquals(ConfigConcurrency.WRITES,
+      limiters.forEndpoint("DELETE", "/api/employees/{id}").orElseThrow().getName());
+    assertEquals(ConfigConcurrency.BULK,
+      limiters.forEndpoint("POST", "/api/employees").orElseThrow().getName());
+    assertTrue(limiters.forEndpoint("GET", "/api/employees/stream").isEmpty());
+  }
+
+  private void runWindows(GradientLimiter limiter, int windows, long rttMillis) {
+    for (int w = 0; w < windows; w++) {
+      int acquired = 0;
+      while (limiter.getInFlight() < limiter.getLimit() && limiter.tryAcquire()) {
+        acquired++;
+      }
+      for (int i = 0; i < acquired; i++) {
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(rttMillis), false);
+      }
+    }
+  }
+
+  private MockHttpServletRequest request(String method, String pattern) {
+    MockHttpServletRequest request = new MockHttpServletRequest(method, pattern);
+    request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+    return request;
+  }
+}
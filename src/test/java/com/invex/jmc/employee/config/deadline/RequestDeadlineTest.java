@@ -0,0 +1,155 @@
+package com.invex.jmc.employee.config.deadline;
+
+import com.invex.jmc.employee.config.ConfigDeadline;
+import com.invex.jmc.employee.exceptions.DeadlineExceededException;
+import com.invex.jmc.employee.util.RequestDeadline;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RequestDeadlineTest {
+
+  private ConfigDeadline config;
+  private SimpleMeterRegistry meterRegistry;
+  private DeadlineCounters counters;
+  private HikariDataSource pool;
+  private DeadlineDataSource dataSource;
+
+  @BeforeEach
+  void setUp() {
+    config = new ConfigDeadline();
+    config.getEndpoints().put("GET /api/employees/search", Duration.ofSeconds(2));
+    meterRegistry = new SimpleMeterRegistry();
+    counters = new DeadlineCounters(meterRegistry);
+    pool = new HikariDataSource();
+    pool.setJdbcUrl("jdbc:h2:mem:deadline;DB_CLOSE_DELAY=-1");
+    pool.setMaximumPoolSize(1);
+    pool.setConnectionTimeout(30_000);
+    dataSource = new DeadlineDataSource(pool, () -> counters);
+  }
+
+  @AfterEach
+  void tearDown() {
+    RequestDeadline.clear();
+    pool.close();
+  }
+
+  @Test
+  void interceptor_UsesEndpointTimeoutShortenedByHeader() {
+    DeadlineInterceptor interceptor = new DeadlineInterceptor(config, counters);
+
+    interceptor.preHandle(request("/api/employees/search", null), new MockHttpServletResponse(),
+      null);
+    assertEquals(Duration.ofSeconds(2), RequestDeadline.current().orElseThrow().getBudget());
+
+    interceptor.preHandle(request("/api/employees/search", "500"), new MockHttpServletResponse(),
+      null);
+    assertEquals(Duration.ofMillis(500), RequestDeadline.current().orElseThrow().getBudget());
+
+    interceptor.preHandle(request("/api/employees", "60000"), new MockHttpServletResponse(), null);
+    assertEquals(config.getDefaultTimeout(), RequestDeadline.current().orElseThrow().getBudget());
+
+    interceptor.afterCompletion(null, null, null, null);
+    assertTrue(RequestDeadline.current().isEmpty());
+  }
+
+  @Test
+  void interceptor_RejectsSpentOrInvalidBudget() {
+    DeadlineInterceptor interceptor = new DeadlineInterceptor(config, counters);
+
+    assertThrows(DeadlineExceededException.class, () -> interceptor.preHandle(
+      request("/api/employees", "0"), new MockHttpServletResponse(), null));
+    assertThrows(IllegalArgumentException.class, () -> interceptor.preHandle(
+      request("/api/employees", "soon"), new MockHttpServletResponse(), null));
+    assertEquals(1.0, exceeded("request"));
+  }
+
+  @Test
+  void dataSource_RunsQueriesWithinBudget() throws Exception {
+    RequestDeadline.start(Duration.ofSeconds(5));
+    try (Connection connection = dataSource.getConnection();
+         Statement statement = connection.createStatement();
+         ResultSet resultSet = statement.executeQuery("SELECT 1")) {
+      assertTrue(resultSet.next());
+      assertEquals(0, statement.getQueryTimeout());
+    }
+  }
+
+  @Test
+  void dataSource_FailsFastOnceBudgetIsSpent() throws Exception {
+    RequestDeadline.start(Duration.ofMillis(50));
+    try (Connection connection = dataSource.getConnection();
+         Statement statement = connection.createStatement()) {
+      TimeUnit.MILLISECONDS.sleep(100);
+      DeadlineExceededException ex = assertThrows(DeadlineExceededException.class,
+        () -> statement.executeQuery("SELECT 1"));
+      assertEquals("query", ex.getStage());
+    }
+    assertEquals(1.0, exceeded("query"));
+  }
+
+  @Test
+  void dataSource_WaitsForConnectionOnlyWithinBudget() throws Exception {
+    try (Connection held = dataSource.getConnection()) {
+      RequestDeadline.start(Duration.ofMillis(300));
+      long start = System.nanoTime();
+      DeadlineExceededException ex = assertThrows(DeadlineExceededException.class,
+        dataSource::getConnection);
+      assertEquals("connection", ex.getStage());
+      assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 5_000);
+    }
+    assertEquals(1.0, exceeded("connection"));
+  }
+
+  @Test
+  void okHttpInterceptor_PropagatesRemainingBudget() throws Exception {
+    try (MockWebServer server = new MockWebServer()) {
+      server.enqueue(new MockResponse().setBody("[]"));
+      server.start();
+      OkHttpClient client = new OkHttpClient.Builder()
+        .addInterceptor(new DeadlineOkHttpInterceptor(config, counters))
+        .build();
+      okhttp3.Request request = new okhttp3.Request.Builder().url(server.url("/")).build();
+
+      RequestDeadline.start(Duration.ofSeconds(2));
+      client.newCall(request).execute().close();
+      long propagated = Long.parseLong(server.takeRequest().getHeader(config.getHeader()));
+      assertTrue(propagated > 0 && propagated <= 2_000);
+
+      RequestDeadline.start(Duration.ZERO);
+      assertThrows(DeadlineExceededException.class, () -> client.newCall(request).execute());
+      assertEquals(1.0, exceeded("feign"));
+    }
+  }
+
+  private MockHttpServletRequest request(String pattern, String timeout) {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", pattern);
+    request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+    if (timeout != null) {
+      request.addHeader(config.getHeader(), timeout);
+    }
+    return request;
+  }
+
+  private double exceeded(String stage) {
+    return meterRegistry.get("employee.deadline.exceeded").tag("stage", stage).counter().count();
+  }
+}
@@ -0,0 +1,210 @@
+package com.invex.jmc.employee.config.headers.quota;
+
+import com.invex.jmc.employee.config.headers.ConfigHeaders;
+import com.invex.jmc.employee.config.headers.interceptor.QuotaInterceptor;
+import com.invex.jmc.employee.exceptions.QuotaExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.DispatcherType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QuotaBucketsTest {
+
+  private ConfigHeaders configHeaders;
+  private ConfigHeaders.QuotaRule rule;
+  private SimpleMeterRegistry meterRegistry;
+  private QuotaBuckets quotaBuckets;
+
+  @BeforeEach
+  void setUp() {
+    rule = new ConfigHeaders.QuotaRule();
+    rule.setName("per-client");
+    rule.setHeader("X-Client-Id");
+    rule.setPrefixLength(8);
+    rule.setCapacity(3);
+    rule.setRefillPerSecond(1);
+    configHeaders = new ConfigHeaders();
+    configHeaders.setQuotas(List.of(rule));
+    meterRegistry = new SimpleMeterRegistry();
+    quotaBuckets = new QuotaBuckets(configHeaders, meterRegistry);
+  }
+
+  @Test
+  void bucket_AllowsBurstThenRefills() {
+    long now = 0;
+    TokenBucket bucket = new TokenBucket(3, 2, now);
+
+    assertEquals(2, bucket.tryConsume(now).getRemaining());
+    assertEquals(1, bucket.tryConsume(now).getRemaining());
+    assertEquals(0, bucket.tryConsume(now).getRemaining());
+    TokenBucket.Consumption refused = bucket.tryConsume(now);
+    assertFalse(refused.isAllowed());
+    assertEquals(TimeUnit.MILLISECONDS.toNanos(500), refused.getRetryAfterNanos());
+    assertEquals(TimeUnit.MILLISECONDS.toNanos(1500), refused.getResetNanos());
+
+    assertTrue(bucket.tryConsume(now + TimeUnit.MILLISECONDS.toNanos(500)).isAllowed());
+    assertTrue(bucket.isIdle(now + TimeUnit.SECONDS.toNanos(3), TimeUnit.SECONDS.toNanos(1)));
+  }
+
+  @Test
+  void bucket_GrantsExactlyCapacityUnderContention() throws Exception {
+    TokenBucket bucket = new TokenBucket(100, 0.001, System.nanoTime());
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<Integer>> results = new ArrayList<>();
+      for (int t = 0; t < 8; t++) {
+        results.add(executor.submit(() -> {
+          int granted = 0;
+          for (int i = 0; i < 50; i++) {
+            if (bucket.tryConsume(System.nanoTime()).isAllowed()) {
+              granted++;
+            }
+          }
+          return granted;
+        }));
+      }
+      int granted = 0;
+      for (Future<Integer> result : results) {
+        granted += result.get();
+      }
+      assertEquals(100, granted);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void interceptor_ThrottlesClientByIdPrefix() {
+    QuotaInterceptor interceptor = new QuotaInterceptor(configHeaders, quotaBuckets);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    for (int i = 0; i < 3; i++) {
+      assertTrue(interceptor.preHandle(request("batch000-" + i), response, null));
+    }
+    assertEquals("0", response.getHeader(QuotaInterceptor.RATE_LIMIT_REMAINING));
+    QuotaExceededException ex = assertThrows(QuotaExceededException.class,
+      () -> interceptor.preHandle(request("batch000-3"), new MockHttpServletResponse(), null));
+    assertEquals("per-client", ex.getRule());
+    assertTrue(ex.getRetryAfter().compareTo(Duration.ofSeconds(1)) <= 0);
+
+    assertTrue(interceptor.preHandle(request("online01-0"), response, null));
+    assertEquals("2", response.getHeader(QuotaInterceptor.RATE_LIMIT_REMAINING));
+    assertEquals(1.0, meterRegistry.get("employee.quota.throttled")
+      .tag("rule", "per-client").counter().count());
+  }
+
+  @Test
+  void interceptor_DoesNotChargeTheAsyncDispatch() {
+    QuotaInterceptor interceptor = new QuotaInterceptor(configHeaders, quotaBuckets);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    for (int i = 0; i < 3; i++) {
+      MockHttpServletRequest request = request("batch000-" + i);
+      assertTrue(interceptor.preHandle(request, response, null));
+      request.setDispatcherType(DispatcherType.ASYNC);
+      assertTrue(interceptor.preHandle(request, response, null));
+    }
+    assertEquals("0", response.getHeader(QuotaInterceptor.RATE_LIMIT_REMAINING));
+  }
+
+  @Test
+  void interceptor_KeysClientsWithoutHeaderByPrincipal() {
+    QuotaInterceptor interceptor = new QuotaInterceptor(configHeaders, quotaBuckets);
+
+    for (int i = 0; i < 3; i++) {
+      MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/employees");
+      request.setUserPrincipal(() -> "batch-loader");
+      assertTrue(interceptor.preHandle(request, new MockHttpServletResponse(), null));
+    }
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/employees");
+    request.setUserPrincipal(() -> "batch-loader");
+    assertThrows(QuotaExceededException.class,
+      () -> interceptor.preHandle(request, new MockHttpServletResponse(), null));
+    assertEquals(1, quotaBuckets.size());
+  }
+
+  @Test
+  void interceptor_KeysAnonymousClientsByRemoteAddress() {
+    QuotaInterceptor interceptor = new QuotaInterceptor(configHeaders, quotaBuckets);
+
+    for (int i = 0; i < 3; i++) {
+      assertTrue(interceptor.preHandle(anonymous("10.0.0.1"), new MockHttpServletResponse(),
+        null));
+    }
+    assertThrows(QuotaExceededException.class,
+      () -> interceptor.preHandle(anonymous("10.0.0.1"), new MockHttpServletResponse(), null));
+    assertTrue(interceptor.preHandle(anonymous("10.0.0.2"), new MockHttpServletResponse(),
+      null));
+    assertEquals(2, quotaBuckets.size());
+  }
+
+  @Test
+  void consume_SharesOverflowBucketOnceCapped() {
+    configHeaders.setQuotaMaxBuckets(2);
+    quotaBuckets.consume(rule, "client-1");
+    quotaBuckets.consume(rule, "client-2");
+
+    for (int i = 0; i < 3; i++) {
+      assertTrue(quotaBuckets.consume(rule, "new-" + i).isAllowed());
+    }
+    assertFalse(quotaBuckets.consume(rule, "new-3").isAllowed());
+    assertEquals(3, quotaBuckets.size());
+    assertTrue(quotaBuckets.consume(rule, "client-1").isAllowed());
+  }
+
+  @Test
+  void consume_AppliesClientOverride() {
+    ConfigHeaders.ClientQuota vip = new ConfigHeaders.ClientQuota();
+    vip.setCapacity(10);
+    vip.setRefillPerSecond(10);
+    rule.getClients().put("vip00000", vip);
+
+    assertEquals(10, quotaBuckets.consume(rule, "vip00000").getLimit());
+    assertEquals(3, quotaBuckets.consume(rule, "batch000").getLimit());
+  }
+
+  @Test
+  void evictIdle_DropsOnlyBucketsFullForTheIdleTimeout() throws Exception {
+    rule.setRefillPerSecond(1000);
+    quotaBuckets.consume(rule, "batch000");
+    quotaBuckets.consume(rule, "online01");
+    assertEquals(2, quotaBuckets.size());
+    TimeUnit.MILLISECONDS.sleep(20);
+
+    rule.setIdleTimeout(Duration.ofMinutes(10));
+    quotaBuckets.evictIdle();
+    assertEquals(2, quotaBuckets.size());
+
+    rule.setIdleTimeout(Duration.ofMillis(5));
+    quotaBuckets.evictIdle();
+    assertEquals(0, quotaBuckets.size());
+    assertEquals(0.0, meterRegistry.get("employee.quota.buckets").gauge().value());
+  }
+
+  private static MockHttpServletRequest anonymous(String remoteAddr) {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/employees");
+    request.setRemoteAddr(remoteAddr);
+    return request;
+  }
+
+  private MockHttpServletRequest request(String clientId) {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/employees");
+    request.addHeader("X-Client-Id", clientId);
+    return request;
+  }
+}
@@ -0,0 +1,143 @@
+package com.invex.jmc.employee.config.load;
+
+import com.invex.jmc.employee.config.ConfigLoad;
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.netflix.appinfo.EurekaInstanceConfig;
+import com.netflix.appinfo.InstanceInfo;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.ServiceInstanceListSuppliers;
+import org.springframework.cloud.netflix.eureka.EurekaServiceInstance;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Load signals published by two instances through their Eureka metadata, and
+ * read back by the balancer from an in-process registry stand-in.
+ */
+class LoadAwareLoadBalancerTest {
+
+  private ConfigLoad config;
+
+  @BeforeEach
+  void setUp() {
+    config = new ConfigLoad();
+  }
+
+  @Test
+  void balancer_PrefersInstancePublishingLowerLoad() {
+    Instance busy = new Instance("busy");
+    for (int i = 0; i < 10; i++) {
+      busy.signals.started();
+    }
+    busy.signals.completed(TimeUnit.MILLISECONDS.toNanos(400));
+    busy.acquire.record(Duration.ofMillis(50));
+    Instance idle = new Instance("idle");
+    idle.signals.started();
+    idle.signals.completed(TimeUnit.MILLISECONDS.toNanos(20));
+    assertTrue(busy.publisher.publish(System.currentTimeMillis()));
+    assertTrue(idle.publisher.publish(System.currentTimeMillis()));
+    assertEquals("9", busy.info.getMetadata().get(LoadMetadataPublisher.IN_FLIGHT));
+
+    LoadAwareLoadBalancer balancer = balancer(ServiceInstanceListSuppliers.from("employee",
+      new EurekaServiceInstance(busy.info), new EurekaServiceInstance(idle.info)));
+
+    for (int i = 0; i < 100; i++) {
+      ServiceInstance chosen = balancer.choose(new DefaultRequest<>()).block().getServer();
+      assertEquals("idle", chosen.getInstanceId());
+    }
+  }
+
+  @Test
+  void publisher_SkipsSmallChangesUntilMaxAge() {
+    Instance instance = new Instance("a");
+    long now = System.currentTimeMillis();
+    assertTrue(instance.publisher.publish(now));
+
+    instance.signals.started();
+    assertTrue(instance.publisher.publish(now + 1));
+    assertFalse(instance.publisher.publish(now + 2));
+    assertTrue(instance.publisher.publish(now + config.getMaxAge().toMillis() + 2));
+    assertEquals(Long.toString(now + config.getMaxAge().toMillis() + 2),
+      instance.info.getMetadata().get(LoadMetadataPublisher.UPDATED));
+  }
+
+  @Test
+  void score_IgnoresMissingOrStaleSignals() {
+    LoadAwareLoadBalancer balancer = balancer(ServiceInstanceListSuppliers.from("employee"));
+    long now = System.currentTimeMillis();
+    Map<String, String> signals = Map.of(LoadMetadataPublisher.IN_FLIGHT, "3",
+      LoadMetadataPublisher.POOL_WAIT, "5", LoadMetadataPublisher.P99, "15",
+      LoadMetadataPublisher.UPDATED, Long.toString(now));
+
+    assertEquals(80.0, balancer.score(instance("fresh", signals), now));
+    assertTrue(Double.isNaN(balancer.score(instance("stale", signals),
+      now + config.getStaleAfter().toMillis() + 1)));
+    assertTrue(Double.isNaN(balancer.score(instance("none", Map.of()), now)));
+    assertEquals("only", balancer.choose(List.of(instance("only", Map.of())), now)
+      .getServer().getInstanceId());
+  }
+
+  @Test
+  void histogram_EstimatesP99WithinBucketWidth() {
+    LatencyHistogram histogram = new LatencyHistogram(Duration.ofSeconds(10), 0);
+    for (int i = 1; i <= 1000; i++) {
+      histogram.record(TimeUnit.MILLISECONDS.toNanos(i), 0);
+    }
+
+    double p99 = histogram.percentileMillis(0.99, 0);
+    assertTrue(p99 >= 990 && p99 <= 990 * 1.1, String.valueOf(p99));
+    assertEquals(p99, histogram.percentileMillis(0.99, TimeUnit.SECONDS.toNanos(5)));
+    assertEquals(0.0, histogram.percentileMillis(0.99, TimeUnit.SECONDS.toNanos(10)));
+  }
+
+  private LoadAwareLoadBalancer balancer(ServiceInstanceListSupplier supplier) {
+    return new LoadAwareLoadBalancer(new StaticListableBeanFactory(Map.of("supplier", supplier))
+      .getBeanProvider(ServiceInstanceListSupplier.class), "employee", config.getStaleAfter());
+  }
+
+  private static ServiceInstance instance(String id, Map<String, String> metadata) {
+    return new DefaultServiceInstance(id, "employee", id, 8080, false, metadata);
+  }
+
+  /**
+   * One instance of the service: its signals, pool metrics and Eureka record.
+   */
+  private final class Instance {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Timer acquire = Timer.builder("hikaricp.connections.acquire")
+      .tag("pool", "HikariPool-1").register(meterRegistry);
+    private final LoadSignals signals = new LoadSignals(config, meterRegistry);
+    private final InstanceInfo info;
+    private final LoadMetadataPublisher publisher;
+
+    private Instance(String id) {
+      info = InstanceInfo.Builder.newBuilder()
+        .setAppName("employee")
+        .setInstanceId(id)
+        .setHostName(id)
+        .build();
+      ApplicationInfoManager manager = new ApplicationInfoManager(
+        mock(EurekaInstanceConfig.class), info);
+      publisher = new LoadMetadataPublisher(config, signals,
+        new StaticListableBeanFactory(Map.of("manager", manager))
+          .getBeanProvider(ApplicationInfoManager.class));
+    }
+  }
+}
@@ -0,0 +1,211 @@
+package com.invex.jmc.employee.config.replicas;
+
+import com.invex.jmc.employee.config.ConfigDeadline;
+import com.invex.jmc.employee.config.ConfigReplicas;
+import com.invex.jmc.employee.config.deadline.DeadlineCounters;
+import com.invex.jmc.employee.util.ReplicaRead;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Routing between two local H2 databases, a primary and a replica, each
+ * holding a row that names it.
+ */
+class ReadWriteRoutingDataSourceTest {
+
+  private static final String REPLICA_1 = "jdbc:h2:mem:replica1;DB_CLOSE_DELAY=-1";
+
+  private SimpleMeterRegistry meterRegistry;
+  private ConfigReplicas config;
+  private HikariDataSource primary;
+  private ReplicaPools replicaPools;
+  private ReadYourWrites readYourWrites;
+  private JdbcTemplate jdbcTemplate;
+  private TransactionTemplate readOnly;
+  private TransactionTemplate readWrite;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    config = new ConfigReplicas();
+    config.setEnabled(true);
+    primary = new HikariDataSource();
+    primary.setJdbcUrl("jdbc:h2:mem:primary;DB_CLOSE_DELAY=-1");
+    seed(primary, "primary");
+  }
+
+  @AfterEach
+  void tearDown() {
+    replicaPools.close();
+    primary.close();
+  }
+
+  @Test
+  void replicaReads_GoToReplica() {
+    route(replica("replica-1", REPLICA_1));
+    seed(new DriverManagerDataSource(REPLICA_1), "replica-1");
+
+    assertEquals("replica-1", ReplicaRead.run(this::source));
+    assertEquals("replica-1", ReplicaRead.run(() -> readOnly.execute(status -> source())));
+    assertEquals("primary", ReplicaRead.run(() -> readWrite.execute(status -> source())));
+    assertEquals("primary", readOnly.execute(status -> source()));
+    assertEquals("primary", source());
+    assertEquals(2.0, meterRegistry.get("employee.replicas.routed")
+      .tag("target", "replica-1").counter().count());
+  }
+
+  @Test
+  void readYourWrites_KeepsReadsOnPrimaryAfterAWrite() {
+    route(replica("replica-1", REPLICA_1));
+    seed(new DriverManagerDataSource(REPLICA_1), "replica-1");
+
+    readYourWrites.recordWrite(System.nanoTime());
+
+    assertEquals("primary", ReplicaRead.run(this::source));
+    assertEquals(1.0, meterRegistry.get("employee.replicas.fallback")
+      .tag("reason", ReplicaPools.READ_YOUR_WRITES).counter().count());
+    config.setReadYourWritesWindow(Duration.ZERO);
+    assertEquals("replica-1", ReplicaRead.run(this::source));
+  }
+
+  @Test
+  void readYourWrites_KeysClientsByHeaderOrPrincipal() {
+    route(replica("replica-1", REPLICA_1));
+    MockHttpServletRequest writer = new MockHttpServletRequest();
+    writer.addHeader("X-Client-Id", "client-a");
+    MockHttpServletRequest other = new MockHttpServletRequest();
+    other.addHeader("X-Client-Id", "client-b");
+    MockHttpServletRequest user = new MockHttpServletRequest();
+    user.setUserPrincipal(() -> "alice");
+    try {
+      RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(writer));
+      readYourWrites.recordWrite(System.nanoTime());
+      assertTrue(readYourWrites.requiresPrimary());
+      RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(other));
+      assertFalse(readYourWrites.requiresPrimary());
+
+      RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(user));
+      readYourWrites.recordWrite(System.nanoTime());
+      MockHttpServletRequest sameUser = new MockHttpServletRequest();
+      sameUser.setUserPrincipal(() -> "alice");
+      RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(sameUser));
+      assertTrue(readYourWrites.requiresPrimary());
+    } finally {
+      RequestContextHolder.resetRequestAttributes();
+    }
+  }
+
+  @Test
+  void readYourWrites_KeysAnonymousClientsByRemoteAddress() {
+    route(replica("replica-1", REPLICA_1));
+    MockHttpServletRequest writer = new MockHttpServletRequest();
+    writer.setRemoteAddr("10.0.0.1");
+    MockHttpServletRequest other = new MockHttpServletRequest();
+    other.setRemoteAddr("10.0.0.2");
+    try {
+      RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(writer));
+      readYourWrites.recordWrite(System.nanoTime());
+      assertTrue(readYourWrites.requiresPrimary());
+      RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(other));
+      assertFalse(readYourWrites.requiresPrimary());
+    } finally {
+      RequestContextHolder.resetRequestAttributes();
+    }
+  }
+
+  @Test
+  void unreachableReplica_FallsBackToPrimaryUntilHealthy() {
+    ConfigReplicas.Replica broken = replica("broken", "jdbc:h2:tcp://localhost:1/none");
+    broken.setConnectionTimeout(Duration.ofMillis(250));
+    route(broken);
+    ReplicaPools.ReplicaPool pool = replicaPools.getPools().get(0);
+
+    assertEquals("primary", ReplicaRead.run(this::source));
+    assertFalse(pool.isUp());
+    assertEquals("primary", ReplicaRead.run(this::source));
+    assertEquals(1.0, meterRegistry.get("employee.replicas.fallback")
+      .tag("reason", ReplicaPools.REPLICA_ERROR).counter().count());
+    assertEquals(1.0, meterRegistry.get("employee.replicas.fallback")
+      .tag("reason", ReplicaPools.NO_REPLICA).counter().count());
+    assertEquals(0.0, meterRegistry.get("employee.replicas.up")
+      .tag("replica", "broken").gauge().value());
+
+    replicaPools.checkHealth();
+    assertFalse(pool.isUp());
+  }
+
+  @Test
+  void healthCheck_BringsRecoveredReplicaBack() {
+    route(replica("replica-1", REPLICA_1),
+      replica("replica-2", "jdbc:h2:mem:replica2;DB_CLOSE_DELAY=-1"));
+    ReplicaPools.ReplicaPool first = replicaPools.getPools().get(0);
+    replicaPools.markDown(first, new SQLException("lost"));
+
+    for (int i = 0; i < 4; i++) {
+      assertEquals("replica-2", replicaPools.next().orElseThrow().getName());
+    }
+    replicaPools.checkHealth();
+
+    assertTrue(first.isUp());
+    assertEquals(Set.of("replica-1", "replica-2"), Set.of(
+      replicaPools.next().orElseThrow().getName(), replicaPools.next().orElseThrow().getName()));
+  }
+
+  private void route(ConfigReplicas.Replica... replicas) {
+    config.setReplicas(List.of(replicas));
+    replicaPools = new ReplicaPools(config, new ConfigDeadline(),
+      new StaticListableBeanFactory(Map.of("counters", new DeadlineCounters(meterRegistry)))
+        .getBeanProvider(DeadlineCounters.class), meterRegistry);
+    readYourWrites = new ReadYourWrites(config);
+    DataSource routing = new LazyConnectionDataSourceProxy(
+      new ReadWriteRoutingDataSource(primary, () -> replicaPools, () -> readYourWrites));
+    jdbcTemplate = new JdbcTemplate(routing);
+    DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+    readOnly = new TransactionTemplate(transactionManager);
+    readOnly.setReadOnly(true);
+    readWrite = new TransactionTemplate(transactionManager);
+  }
+
+  private String source() {
+    return jdbcTemplate.queryForObject("SELECT name FROM source", String.class);
+  }
+
+  private static ConfigReplicas.Replica replica(String name, String url) {
+    ConfigReplicas.Replica replica = new ConfigReplicas.Replica();
+    replica.setName(name);
+    replica.setUrl(url);
+    replica.setMaximumPoolSize(2);
+    replica.setMinimumIdle(0);
+    return replica;
+  }
+
+  private static void seed(DataSource dataSource, String name) {
+    JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+    jdbc.execute("CREATE TABLE IF NOT EXISTS source (name VARCHAR(20))");
+    jdbc.update("DELETE FROM source");
+    jdbc.update("INSERT INTO source VALUES (?)", name);
+  }
+}
@@ -0,0 +1,318 @@
+package com.invex.jmc.employee.config.sharding;
+
+import com.invex.jmc.employee.config.ConfigBulkhead;
+import com.invex.jmc.employee.config.ConfigDeadline;
+import com.invex.jmc.employee.config.bulkhead.BulkWriteBulkhead;
+import com.invex.jmc.employee.config.ConfigSharding;
+import com.invex.jmc.employee.config.deadline.DeadlineCounters;
+import com.invex.jmc.employee.model.entities.EmployeeEntity;
+import com.invex.jmc.employee.model.entities.JobPositionEntity;
+import com.invex.jmc.employee.model.entities.SexEntity;
+import com.invex.jmc.employee.model.repositories.EmployeeRepository;
+import com.invex.jmc.employee.model.repositories.EmployeeStatsDimension;
+import com.invex.jmc.employee.model.repositories.JobPositionRepository;
+import com.invex.jmc.employee.model.repositories.SexRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.repository.query.FluentQuery.FetchableFluentQuery;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * The sharded repository over three local H2 databases, with the catalogs
+ * copied from a mocked primary.
+ */
+class ShardedEmployeeRepositoryTest {
+
+  private static final int SHARDS = 3;
+  private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 8, 0);
+
+  private final SexEntity male = sex("sex-m", "M");
+  private final SexEntity female = sex("sex-f", "F");
+  private final JobPositionEntity developer = jobPosition("job-dev", "DEV");
+
+  private EmployeeShards shards;
+  private EmployeeRepository repository;
+  private List<EmployeeEntity> employees;
+
+  @BeforeEach
+  void setUp() {
+    ConfigSharding config = new ConfigSharding();
+    config.setEnabled(true);
+    config.setDdlAuto("create-drop");
+    config.setScatterThreads(SHARDS);
+    for (int i = 0; i < SHARDS; i++) {
+      ConfigSharding.Shard shard = new ConfigSharding.Shard();
+      shard.setName("shard-" + i);
+      shard.setUrl("jdbc:h2:mem:shard" + i + ";DB_CLOSE_DELAY=-1");
+      shard.setMaximumPoolSize(4);
+      shard.setMinimumIdle(0);
+      config.getShards().add(shard);
+    }
+    ConfigDeadline configDeadline = new ConfigDeadline();
+    configDeadline.setEnabled(false);
+    ConfigBulkhead configBulkhead = new ConfigBulkhead();
+    configBulkhead.setEnabled(false);
+    StaticListableBeanFactory beans = new StaticListableBeanFactory();
+    shards = new ShardingConfig().employeeShards(config, new JpaProperties(),
+      new HibernateProperties(), configDeadline, beans.getBeanProvider(DeadlineCounters.class),
+      configBulkhead, beans.getBeanProvider(BulkWriteBulkhead.class));
+    repository = ShardedEmployeeRepository.create(shards);
+
+    SexRepository sexRepository = mock(SexRepository.class);
+    when(sexRepository.findAll()).thenReturn(List.of(male, female));
+    JobPositionRepository jobPositionRepository = mock(JobPositionRepository.class);
+    when(jobPositionRepository.findAll()).thenReturn(List.of(developer));
+    new ShardCatalogReplicator(shards, sexRepository, jobPositionRepository).replicate();
+
+    employees = IntStream.range(0, 30).mapToObj(this::employee).toList();
+    repository.saveAll(employees);
+  }
+
+  @AfterEach
+  void tearDown() {
+    shards.close();
+  }
+
+  @Test
+  void saveAll_SpreadsEmployeesByIdHash() {
+    long total = 0;
+    for (EmployeeShard shard : shards.getShards()) {
+      List<EmployeeEntity> stored = shard.execute(true, () -> shard.getRepository().findAll());
+      assertFalse(stored.isEmpty(), shard.getName());
+      stored.forEach(employee -> assertEquals(shard, shards.shardOf(employee.getIdEmployee())));
+      total += stored.size();
+    }
+
+    assertEquals(employees.size(), total);
+    assertEquals(employees.size(), repository.count());
+    assertEquals(ids(employees.subList(0, 5)), ids(repository.saveAll(employees.subList(0, 5))));
+  }
+
+  @Test
+  void findById_ReadsFromTheShardOfTheEmployee() {
+    EmployeeEntity found = repository.findById("emp-07").orElseThrow();
+
+    assertEquals("First7", found.getFirstName());
+    assertEquals("F", found.getSex().getCode());
+    assertEquals("DEV", found.getJobPosition().getCode());
+    assertTrue(repository.existsById("emp-21"));
+    assertFalse(repository.findEmployeeByIdEmployee("missing").isPresent());
+  }
+
+  @Test
+  void findAll_MergesSortedPagesOfEveryShard() {
+    Sort sort = Sort.by("ts", "idEmployee");
+    Specification<EmployeeEntity> active = (root, query, builder) ->
+      builder.equal(root.get("status"), 1);
+    List<EmployeeEntity> expected = employees.stream()
+      .filter(employee -> employee.getStatus() == 1)
+      .sorted(Comparator.comparing(EmployeeEntity::getTs)
+        .thenComparing(EmployeeEntity::getIdEmployee))
+      .toList();
+
+    List<String> paged = new ArrayList<>();
+    for (int page = 0; page < 4; page++) {
+      Page<EmployeeEntity> result = repository.findAll(active, PageRequest.of(page, 6, sort));
+      assertEquals(expected.size(), result.getTotalElements());
+      paged.addAll(ids(result.getContent()));
+    }
+
+    assertEquals(ids(expected), paged);
+  }
+
+  @Test
+  void findChangedSince_MergesInTimestampOrder() {
+    List<EmployeeEntity> expected = employees.stream()
+      .sorted(Comparator.comparing(EmployeeEntity::getTs)
+        .thenComparing(EmployeeEntity::getIdEmployee))
+      .limit(8)
+      .toList();
+
+    assertEquals(ids(expected), ids(repository.findChangedSince(
+      BASE.minusDays(1), "", BASE.plusDays(1), PageRequest.of(0, 8))));
+  }
+
+  @Test
+  void searches_GatherEveryShard() {
+    assertTrue(repository.existsByFullName("First13", "Middle", "Paternal13", "Maternal"));
+    assertFalse(repository.existsByFullName("Nobody", "Middle", "Paternal", "Maternal"));
+    assertEquals(11, repository.searchByFullName("first1").size());
+    assertEquals(ids(employees).subList(10, 20),
+      ids(repository.findByIdEmployeeStartingWithOrderByIdEmployee("emp-1")));
+  }
+
+  @Test
+  void findBy_CombinesFluentQueriesOfEveryShard() {
+    EmployeeEntity probe = new EmployeeEntity();
+    probe.setMiddleName("Middle");
+    probe.setStatus(1);
+    Example<EmployeeEntity> active = Example.of(probe);
+    List<EmployeeEntity> expected = employees.stream()
+      .filter(employee -> employee.getStatus() == 1)
+      .sorted(Comparator.comparing(EmployeeEntity::getIdEmployee).reversed())
+      .toList();
+    Sort byIdDescending = Sort.by(Sort.Direction.DESC, "idEmployee");
+
+    assertEquals(ids(expected), ids(repository.findBy(active,
+      query -> query.sortBy(byIdDescending).all())));
+    assertEquals(ids(expected.subList(5, 10)), ids(repository.findBy(active,
+      query -> query.sortBy(byIdDescending).page(PageRequest.of(1, 5))).getContent()));
+    assertEquals(expected.get(0).getIdEmployee(), repository.findBy(active,
+      query -> query.sortBy(byIdDescending).firstValue()).getIdEmployee());
+    assertEquals(expected.size(), repository.findBy(active, FetchableFluentQuery::count));
+    assertTrue(repository.findBy(active, FetchableFluentQuery::exists));
+  }
+
+  @Test
+  void findOne_RejectsMatchesOnSeveralShards() {
+    EmployeeEntity probe = new EmployeeEntity();
+    probe.setFirstName("First7");
+    probe.setStatus(1);
+
+    assertEquals("emp-07", repository.findOne(Example.of(probe)).orElseThrow().getIdEmployee());
+    probe.setFirstName(null);
+    probe.setMiddleName("Middle");
+    assertThrows(IncorrectResultSizeDataAccessException.class,
+      () -> repository.findOne(Example.of(probe)));
+  }
+
+  @Test
+  void streams_RequireATransaction() {
+    assertThrows(InvalidDataAccessApiUsageException.class, repository::streamIdAndTs);
+
+    TransactionTemplate primary = new TransactionTemplate(new DataSourceTransactionManager(
+      new DriverManagerDataSource("jdbc:h2:mem:sharding-primary;DB_CLOSE_DELAY=-1")));
+    primary.setReadOnly(true);
+    assertEquals((long) employees.size(), primary.execute(status -> {
+      try (Stream<Object[]> rows = repository.streamIdAndTs()) {
+        return rows.count();
+      }
+    }));
+  }
+
+  @Test
+  void countGroupedBy_AddsTheCountsOfEveryShard() {
+    List<Object[]> rows = repository.countGroupedBy(List.of(EmployeeStatsDimension.STATUS));
+
+    assertEquals(2, rows.size());
+    for (Object[] row : rows) {
+      long expected = employees.stream()
+        .filter(employee -> String.valueOf(employee.getStatus()).equals(row[0].toString()))
+        .count();
+      assertEquals(expected, ((Number) row[1]).longValue());
+    }
+  }
+
+  @Test
+  void writes_CommitAndRollBackWithThePrimaryTransaction() {
+    TransactionTemplate primary = new TransactionTemplate(new DataSourceTransactionManager(
+      new DriverManagerDataSource("jdbc:h2:mem:sharding-primary;DB_CLOSE_DELAY=-1")));
+
+    assertThrows(IllegalStateException.class, () -> primary.executeWithoutResult(status -> {
+      repository.save(employee(100));
+      throw new IllegalStateException("rolled back");
+    }));
+    assertFalse(repository.existsById("emp-100"));
+
+    primary.executeWithoutResult(status -> repository.save(employee(101)));
+    assertTrue(repository.existsById("emp-101"));
+    assertEquals(employees.size() + 1, repository.count());
+  }
+
+  @Test
+  void writes_CommitEveryShardJoinedByThePrimaryTransaction() {
+    TransactionTemplate primary = new TransactionTemplate(new DataSourceTransactionManager(
+      new DriverManagerDataSource("jdbc:h2:mem:sharding-primary;DB_CLOSE_DELAY=-1")));
+    List<EmployeeEntity> added = IntStream.range(200, 212).mapToObj(this::employee).toList();
+    assertTrue(added.stream().map(employee -> shards.shardOf(employee.getIdEmployee()))
+      .distinct().count() > 1);
+    List<Long> countsAfterCommit = new ArrayList<>();
+
+    primary.executeWithoutResult(status -> {
+      repository.saveAll(added);
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          countsAfterCommit.add(repository.count());
+        }
+      });
+    });
+
+    assertEquals(List.of((long) (employees.size() + added.size())), countsAfterCommit);
+    for (EmployeeEntity employee : added) {
+      assertTrue(repository.existsById(employee.getIdEmployee()), employee.getIdEmployee());
+    }
+    assertEquals(employees.size() + added.size(), repository.count());
+
+    assertThrows(IllegalStateException.class, () -> primary.executeWithoutResult(status -> {
+      added.forEach(repository::delete);
+      throw new IllegalStateException("rolled back");
+    }));
+    assertEquals(employees.size() + added.size(), repository.count());
+  }
+
+  private EmployeeEntity employee(int index) {
+    EmployeeEntity employee = new EmployeeEntity();
+    employee.setIdEmployee(String.format("emp-%02d", index));
+    employee.setFirstName("First" + index);
+    employee.setMiddleName("Middle");
+    employee.setPaternalSurname("Paternal" + index);
+    employee.setMaternalSurname("Maternal");
+    employee.setSex(index % 2 == 0 ? male : female);
+    employee.setJobPosition(developer);
+    employee.setBirthDay(LocalDate.of(1990, 1, 1).plusDays(index));
+    employee.setStatus(index % 3 == 0 ? 0 : 1);
+    employee.setTs(BASE.plusMinutes(index % 7));
+    return employee;
+  }
+
+  private static List<String> ids(List<EmployeeEntity> employees) {
+    return employees.stream().map(EmployeeEntity::getIdEmployee).toList();
+  }
+
+  private static SexEntity sex(String id, String code) {
+    SexEntity sex = new SexEntity();
+    sex.setIdSex(id);
+    sex.setCode(code);
+    sex.setDescription(code);
+    return sex;
+  }
+
+  private static JobPositionEntity jobPosition(String id, String code) {
+    JobPositionEntity jobPosition = new JobPositionEntity();
+    jobPosition.setIdJobPosition(id);
+    jobPosition.setCode(code);
+    jobPosition.setDescription(code);
+    return jobPosition;
+  }
+}
@@ -7,6 +7,7 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.invex.jmc.employee.constants.ConstantsUtil;
 import com.invex.jmc.employee.model.dto.Employee;
+import com.invex.jmc.employee.model.dto.request.EmployeeFilter;
 import com.invex.jmc.employee.model.dto.request.EmployeeRequest;
 import com.invex.jmc.employee.model.dto.request.EmployeesRequest;
 import com.invex.jmc.employee.model.entities.EmployeeEntity;
@@ -23,6 +24,7 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.ActiveProfiles;
@@ -33,6 +35,8 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(SpringExtension.class)
@@ -98,11 +102,28 @@ class EmployeeControllerTest {
   @Test
   void getAllEmployees() {
     when(employeeService.getAllEmployee()).thenReturn(employeeList);
-    ResponseEntity<List<Employee>> responseEntity = employeeController.getAllEmployees(httpHeaders);
+    ResponseEntity<List<Employee>> responseEntity = employeeController.getAllEmployees(
+      new EmployeeFilter(), httpHeaders);
     assertNotNull(responseEntity.getBody());
     assertEquals(employeeList.size(), responseEntity.getBody().size());
   }
 
+  @Test
+  void getAllEmployees_Filtered() {
+    EmployeeFilter filter = new EmployeeFilter();
+    filter.setStatus(1);
+    filter.setSort("ts,desc");
+    filter.setPage(0);
+    filter.setSize(10);
+    when(employeeService.findEmployees(filter)).thenReturn(new PageImpl<>(employeeList));
+    ResponseEntity<List<Employee>> responseEntity = employeeController.getAllEmployees(filter,
+      httpHeaders);
+    assertNotNull(responseEntity.getBody());
+    assertEquals(employeeList.size(), responseEntity.getBody().size());
+    assertEquals(String.valueOf(employeeList.size()),
+      responseEntity.getHeaders().getFirst(ConstantsUtil.TOTAL_COUNT));
+  }
+
   @Test
   void getEmployeeById() {
     when(employeeService.getEmployeeById(idEmployee)).thenReturn(employee);
@@ -115,11 +136,25 @@ class EmployeeControllerTest {
   void addEmployees() {
     when(employeeService.addEmployees(employeesRequest)).thenReturn(employeeList);
     ResponseEntity<List<Employee>> responseEntity =
-      employeeController.addEmployees(employeesRequest,httpHeaders);
+      employeeController.addEmployees(employeesRequest,httpHeaders).join();
     assertNotNull(responseEntity.getBody());
     assertEquals(employeeList.size(), responseEntity.getBody().size());
   }
 
+  @Test
+  void addEmployees_ReplayedForSameUuid() {
+    when(employeeService.addEmployees(employeesRequest)).thenReturn(employeeList);
+    httpHeaders.set("uuid", "addEmployees-replay");
+    employeeController.addEmployees(employeesRequest, httpHeaders).join();
+    ResponseEntity<List<Employee>> replay =
+      employeeController.addEmployees(employeesRequest, httpHeaders).join();
+    verify(employeeService, times(1)).addEmployees(employeesRequest);
+    assertEquals("true", replay.getHeaders().getFirst(ConstantsUtil.IDEMPOTENT_REPLAYED));
+    assertNotNull(replay.getBody());
+    assertEquals(employeeList.size(), replay.getBody().size());
+    assertEquals(employeeList.get(0).getIdEmployee(), replay.getBody().get(0).getIdEmployee());
+  }
+
   @Test
   void updateEmployee() {
     when(employeeService.updateEmployee(idEmployee,employeeRequest)).thenReturn(employeeList.get(0));
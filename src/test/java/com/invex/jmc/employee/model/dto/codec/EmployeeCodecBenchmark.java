@@ -0,0 +1,97 @@
+package com.invex.jmc.employee.model.dto.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.invex.jmc.employee.model.dto.Employee;
+import com.invex.jmc.employee.model.dto.request.EmployeeRequest;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * JMH comparison of the hand-written codecs against Jackson's reflective bean
+ * serializer and deserializer.
+ *
+ * <p>Not part of the unit test run. Execute it from the IDE or with
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.invex.jmc.employee.model.dto.codec.EmployeeCodecBenchmark}
+ * and add {@code -prof gc} through JMH options to compare allocation rates.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeCodecBenchmark {
+
+  private ObjectMapper codec;
+  private ObjectMapper reflective;
+  private Employee employee;
+  private byte[] request;
+
+  /**
+   * Builds both mappers and the payloads.
+   *
+   * @throws IOException if the sample request cannot be written
+   */
+  @Setup
+  public void setUp() throws IOException {
+    codec = new Jackson2ObjectMapperBuilder().build();
+    reflective = new Jackson2ObjectMapperBuilder()
+        .mixIn(Employee.class, EmployeeCodecTest.ReflectiveEmployee.class)
+        .mixIn(EmployeeRequest.class, EmployeeCodecTest.ReflectiveEmployeeRequest.class)
+        .build();
+    employee = EmployeeCodecTest.employee();
+    request = ("{\"idEmployee\": \"262815c2-7898-4c9d-abd9-ce394b7d6256\", \"firstName\": \"Otro\","
+        + "\"middleName\": \"Carlos\", \"paternalSurname\": \"Moreno\","
+        + "\"maternalSurname\": \"Garcia\", \"idSex\": \"50284c0c-c0fd-11f0-9884-ae32cdf1c2ae\","
+        + "\"idJobPosition\": \"84d89a55-c0fd-11f0-9884-ae32cdf1c2ae\","
+        + "\"birthDay\": \"23/04/1971\", \"status\": 1}").getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  public byte[] serializeCodec() throws IOException {
+    return codec.writeValueAsBytes(employee);
+  }
+
+  @Benchmark
+  public byte[] serializeReflective() throws IOException {
+    return reflective.writeValueAsBytes(employee);
+  }
+
+  @Benchmark
+  public EmployeeRequest deserializeCodec() throws IOException {
+    return codec.readValue(request, EmployeeRequest.class);
+  }
+
+  @Benchmark
+  public EmployeeRequest deserializeReflective() throws IOException {
+    return reflective.readValue(request, EmployeeRequest.class);
+  }
+
+  /**
+   * Runs the benchmark.
+   *
+   * @param args ignored
+   * @throws RunnerException if JMH fails
+   */
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(EmployeeCodecBenchmark.class.getSimpleName())
+        .build()).run();
+  }
+}
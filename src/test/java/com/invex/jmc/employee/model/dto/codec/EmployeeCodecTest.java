@@ -0,0 +1,126 @@
+package com.invex.jmc.employee.model.dto.codec;
+
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.invex.jmc.employee.model.dto.Employee;
+import com.invex.jmc.employee.model.dto.JobPosition;
+import com.invex.jmc.employee.model.dto.Sex;
+import com.invex.jmc.employee.model.dto.request.EmployeeRequest;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EmployeeCodecTest {
+
+  private static final String REQUEST = """
+      {"idEmployee": "262815c2-7898-4c9d-abd9-ce394b7d6256", "firstName": "Otro",
+       "middleName": "Carlos", "paternalSurname": "Moreno", "maternalSurname": "Garcia",
+       "idSex": "50284c0c-c0fd-11f0-9884-ae32cdf1c2ae",
+       "idJobPosition": "84d89a55-c0fd-11f0-9884-ae32cdf1c2ae",
+       "birthDay": "23/04/1971", "status": 1, "unknown": {"nested": [1, 2]}}
+      """;
+
+  private final ObjectMapper codec = new Jackson2ObjectMapperBuilder().build();
+  private final ObjectMapper reflective = new Jackson2ObjectMapperBuilder()
+    .mixIn(Employee.class, ReflectiveEmployee.class)
+    .mixIn(EmployeeRequest.class, ReflectiveEmployeeRequest.class)
+    .build();
+
+  @Test
+  void serializerWritesTheSameDocumentAsTheBeanSerializer() throws IOException {
+    Employee employee = employee();
+
+    assertEquals(reflective.writeValueAsString(employee), codec.writeValueAsString(employee));
+  }
+
+  @Test
+  void serializerWritesNullsAndNoAgeWithoutBirthDay() throws IOException {
+    Employee employee = new Employee();
+    employee.setIdEmployee("262815c2-7898-4c9d-abd9-ce394b7d6256");
+
+    assertEquals("{\"idEmployee\":\"262815c2-7898-4c9d-abd9-ce394b7d6256\",\"firstName\":null,"
+      + "\"middleName\":null,\"paternalSurname\":null,\"maternalSurname\":null,\"sex\":null,"
+      + "\"jobPosition\":null,\"birthDay\":null,\"age\":null,\"status\":false,\"ts\":null}",
+      codec.writeValueAsString(employee));
+  }
+
+  @Test
+  void deserializerReadsTheSameRequestAsTheBeanDeserializer() throws IOException {
+    EmployeeRequest request = codec.readValue(REQUEST, EmployeeRequest.class);
+
+    assertEquals(reflective.readValue(REQUEST, EmployeeRequest.class), request);
+    assertEquals(LocalDate.of(1971, 4, 23), request.getBirthDay());
+    assertEquals(1, request.getStatus());
+  }
+
+  @Test
+  void deserializerAcceptsBooleanStatusAndMissingBirthDay() throws IOException {
+    EmployeeRequest request = codec.readValue("{\"status\": true}", EmployeeRequest.class);
+
+    assertEquals(1, request.getStatus());
+    assertNull(request.getBirthDay());
+  }
+
+  @Test
+  void deserializerRejectsAnInvalidBirthDay() {
+    JsonMappingException e = assertThrows(JsonMappingException.class,
+      () -> codec.readValue("{\"birthDay\": \"1971-04-23\"}", EmployeeRequest.class));
+
+    assertEquals("birthDay", e.getPath().get(0).getFieldName());
+  }
+
+  @Test
+  void deserializerRejectsANestedValueForAScalarField() {
+    JsonMappingException e = assertThrows(JsonMappingException.class,
+      () -> codec.readValue("{\"firstName\": {\"idSex\": \"x\"}, \"paternalSurname\": \"Moreno\"}",
+        EmployeeRequest.class));
+    assertEquals("firstName", e.getPath().get(0).getFieldName());
+
+    e = assertThrows(JsonMappingException.class,
+      () -> codec.readValue("{\"birthDay\": [\"23/04/1971\"]}", EmployeeRequest.class));
+    assertEquals("birthDay", e.getPath().get(0).getFieldName());
+  }
+
+  static Employee employee() {
+    Sex sex = new Sex();
+    sex.setIdSex("50284c0c-c0fd-11f0-9884-ae32cdf1c2ae");
+    sex.setCode("M");
+    sex.setDescription("Masculino");
+    JobPosition jobPosition = new JobPosition();
+    jobPosition.setIdJobPosition("84d89a55-c0fd-11f0-9884-ae32cdf1c2ae");
+    jobPosition.setCode("DEV");
+    jobPosition.setDescription("Desarrollador \"Senior\"");
+    Employee employee = new Employee();
+    employee.setIdEmployee("262815c2-7898-4c9d-abd9-ce394b7d6256");
+    employee.setFirstName("Juan");
+    employee.setMiddleName("Carlos");
+    employee.setPaternalSurname("Moreno");
+    employee.setMaternalSurname("García");
+    employee.setSex(sex);
+    employee.setJobPosition(jobPosition);
+    employee.setBirthDay(LocalDate.of(1971, 4, 23));
+    employee.setStatus(true);
+    employee.setTs(LocalDateTime.of(2025, 11, 14, 9, 30, 15));
+    return employee;
+  }
+
+  /** Restores the reflective bean serializer of {@link Employee}. */
+  @JsonSerialize(using = JsonSerializer.None.class)
+  abstract static class ReflectiveEmployee {
+  }
+
+  /** Restores the reflective bean deserializer of {@link EmployeeRequest}. */
+  @JsonDeserialize(using = JsonDeserializer.None.class)
+  abstract static class ReflectiveEmployeeRequest {
+  }
+}
@@ -0,0 +1,109 @@
+package com.invex.jmc.employee.model.repositories;
+
+import com.invex.jmc.employee.model.dto.request.EmployeeFilter;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifies with EXPLAIN that the employee list is read in sort order through
+ * one of the composite indexes of the {@code employee} table, for the filter
+ * and sort combinations they are declared for.
+ *
+ * <p>The statement explained is the one Hibernate generates for
+ * {@link EmployeeSpecifications#fromFilter} and
+ * {@link EmployeeRepository#findAll(org.springframework.data.jpa.domain.Specification,
+ * org.springframework.data.domain.Pageable)}, captured by {@link SqlCapture} and
+ * run again with the same parameters.</p>
+ */
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+  + "com.invex.jmc.employee.model.repositories.EmployeeRepositoryExplainTest$SqlCapture")
+@TestPropertySource("/invexPropertiesTest.properties")
+@ActiveProfiles("test")
+class EmployeeRepositoryExplainTest {
+
+  private static final int PAGE_SIZE = 50;
+
+  @Autowired
+  private EmployeeRepository employeeRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @ParameterizedTest(name = "{arguments}")
+  @CsvSource(delimiter = '|', nullValues = "-", value = {
+    "- | -   | -   | -          | -          | ts       | idx_employee_ts",
+    "1 | -   | -   | -          | -          | ts       | idx_employee_status_ts",
+    "1 | job | -   | -          | -          | ts       | idx_employee_status_job_ts",
+    "1 | -   | sex | -          | -          | ts       | idx_employee_status_sex_ts",
+    "- | job | -   | -          | -          | ts       | idx_employee_job_ts",
+    "- | -   | sex | -          | -          | ts       | idx_employee_sex_ts",
+    "- | job | sex | -          | -          | ts       | idx_employee_job_sex_ts",
+    "- | -   | -   | 1970-01-01 | 1990-12-31 | birthDay | idx_employee_birth_day",
+    "0 | -   | -   | 1980-01-01 | -          | birthDay | idx_employee_status_birth_day"
+  })
+  void filterAndSortCombinationUsesIndex(Integer status, String idJobPosition, String idSex,
+                                         LocalDate birthDayFrom, LocalDate birthDayTo,
+                                         String sort, String expectedIndex) {
+    EmployeeFilter filter = new EmployeeFilter();
+    filter.setStatus(status);
+    filter.setIdJobPosition(idJobPosition);
+    filter.setIdSex(idSex);
+    filter.setBirthDayFrom(birthDayFrom);
+    filter.setBirthDayTo(birthDayTo);
+    List<Object> parameters = Stream.of(status, idJobPosition, idSex, birthDayFrom, birthDayTo)
+      .filter(Objects::nonNull)
+      .collect(Collectors.toCollection(ArrayList::new));
+    parameters.add(PAGE_SIZE);
+
+    SqlCapture.STATEMENTS.clear();
+    employeeRepository.findAll(EmployeeSpecifications.fromFilter(filter),
+      PageRequest.of(0, PAGE_SIZE, EmployeeSpecifications.sortOf(sort)));
+    String sql = SqlCapture.STATEMENTS.stream()
+      .filter(statement -> statement.toLowerCase(Locale.ROOT).contains(" order by "))
+      .findFirst()
+      .orElseThrow();
+    assertEquals(parameters.size(), sql.chars().filter(c -> c == '?').count(), sql);
+
+    String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class,
+      parameters.toArray());
+    assertTrue(plan != null && plan.toUpperCase(Locale.ROOT)
+        .contains(expectedIndex.toUpperCase(Locale.ROOT)),
+      () -> "Expected " + expectedIndex + " in plan:\n" + plan);
+  }
+
+  /**
+   * Records every statement Hibernate prepares.
+   */
+  public static class SqlCapture implements StatementInspector {
+
+    static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+      STATEMENTS.add(sql);
+      return sql;
+    }
+  }
+}
@@ -0,0 +1,82 @@
+package com.invex.jmc.employee.services.batch;
+
+import com.invex.jmc.employee.config.ConfigBatchLoader;
+import com.invex.jmc.employee.model.entities.EmployeeEntity;
+import com.invex.jmc.employee.model.repositories.EmployeeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EmployeeBatchLoaderTest {
+
+  private EmployeeRepository employeeRepository;
+  private EmployeeBatchLoader employeeBatchLoader;
+
+  @BeforeEach
+  void setUp() {
+    employeeRepository = Mockito.mock(EmployeeRepository.class);
+    when(employeeRepository.findEmployeesByIdEmployeeIn(anyCollection())).thenAnswer(invocation -> {
+      Collection<String> ids = invocation.getArgument(0);
+      return ids.stream()
+        .filter(id -> !id.startsWith("missing"))
+        .map(id -> {
+          EmployeeEntity entity = new EmployeeEntity();
+          entity.setIdEmployee(id);
+          return entity;
+        })
+        .collect(Collectors.toList());
+    });
+    ConfigBatchLoader config = new ConfigBatchLoader();
+    config.setEnabled(true);
+    config.setWindow(Duration.ofMillis(50));
+    config.setMaxBatchSize(100);
+    employeeBatchLoader = new EmployeeBatchLoader(employeeRepository, config,
+      new SimpleMeterRegistry());
+  }
+
+  @AfterEach
+  void tearDown() {
+    employeeBatchLoader.shutdown();
+  }
+
+  @Test
+  void load_ConcurrentLookupsShareOneQuery() {
+    List<CompletableFuture<Optional<EmployeeEntity>>> futures = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      futures.add(employeeBatchLoader.load("id-" + i));
+    }
+    futures.add(employeeBatchLoader.load("id-0"));
+    futures.add(employeeBatchLoader.load("missing-1"));
+
+    for (int i = 0; i < 10; i++) {
+      assertEquals("id-" + i, futures.get(i).join().orElseThrow().getIdEmployee());
+    }
+    assertTrue(futures.get(10).join().isPresent());
+    assertFalse(futures.get(11).join().isPresent());
+    verify(employeeRepository, times(1)).findEmployeesByIdEmployeeIn(anyCollection());
+  }
+
+  @Test
+  void loadBlocking_ReturnsResolvedEmployee() {
+    Optional<EmployeeEntity> result = employeeBatchLoader.loadBlocking("id-42");
+    assertEquals("id-42", result.orElseThrow().getIdEmployee());
+  }
+}
@@ -0,0 +1,89 @@
+package com.invex.jmc.employee.services.batch;
+
+import com.invex.jmc.employee.config.ConfigCoalescing;
+import com.invex.jmc.employee.config.ConfigReplicas;
+import com.invex.jmc.employee.config.MapperConfig;
+import com.invex.jmc.employee.config.replicas.ReadYourWrites;
+import com.invex.jmc.employee.model.dto.Employee;
+import com.invex.jmc.employee.model.dto.Sex;
+import com.invex.jmc.employee.util.MapperUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.when;
+
+class EmployeeReadCoalescerTest {
+
+  private ConfigReplicas configReplicas;
+  private ReadYourWrites readYourWrites;
+  private EmployeeReadCoalescer coalescer;
+
+  @BeforeEach
+  void setUp() {
+    configReplicas = new ConfigReplicas();
+    configReplicas.setEnabled(true);
+    readYourWrites = Mockito.mock(ReadYourWrites.class);
+    coalescer = new EmployeeReadCoalescer(new ConfigCoalescing(), configReplicas, readYourWrites,
+      new MapperUtil(new MapperConfig().modelMapper()), new SimpleMeterRegistry());
+  }
+
+  @Test
+  void byId_ClientWithinItsReadYourWritesWindowIsNotCoalesced() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    CompletableFuture<Employee> replicaRead = CompletableFuture.supplyAsync(
+      () -> coalescer.byId("E1", () -> {
+        await(release);
+        return employee("from replica");
+      }));
+    TimeUnit.MILLISECONDS.sleep(100);
+    when(readYourWrites.requiresPrimary()).thenReturn(true);
+
+    try {
+      assertEquals("from primary",
+        coalescer.byId("E1", () -> employee("from primary")).getFirstName());
+    } finally {
+      release.countDown();
+    }
+    assertEquals("from replica", replicaRead.get(5, TimeUnit.SECONDS).getFirstName());
+  }
+
+  @Test
+  void byId_EveryCallerReceivesADeepCopy() {
+    Employee shared = employee("Juan");
+    Sex sex = new Sex();
+    sex.setCode("M");
+    shared.setSex(sex);
+
+    Employee first = coalescer.byId("E1", () -> shared);
+    first.getSex().setCode("F");
+
+    assertNotSame(shared, first);
+    assertEquals("Juan", first.getFirstName());
+    assertEquals("M", shared.getSex().getCode());
+    assertNull(coalescer.byId("E2", () -> null));
+  }
+
+  private static Employee employee(String firstName) {
+    Employee employee = new Employee();
+    employee.setIdEmployee("E1");
+    employee.setFirstName(firstName);
+    return employee;
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,260 @@
+package com.invex.jmc.employee.services.idempotency;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.invex.jmc.employee.config.ConfigIdempotency;
+import com.invex.jmc.employee.constants.ConstantsUtil;
+import com.invex.jmc.employee.exceptions.IdempotencyKeyReusedException;
+import com.invex.jmc.employee.exceptions.IdempotencyRequestInProgressException;
+import com.invex.jmc.employee.exceptions.IdempotencyStoreFullException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IdempotencyGuardTest {
+
+  private static final TypeReference<List<String>> BODY = new TypeReference<>() { };
+
+  private ConfigIdempotency config;
+  private InMemoryIdempotencyStore store;
+  private SimpleMeterRegistry meterRegistry;
+  private IdempotencyGuard guard;
+  private AtomicInteger executions;
+
+  @BeforeEach
+  void setUp() {
+    config = new ConfigIdempotency();
+    config.setMaxEntries(2);
+    config.setWaitTimeout(Duration.ofSeconds(5));
+    store = new InMemoryIdempotencyStore(config);
+    meterRegistry = new SimpleMeterRegistry();
+    guard = new IdempotencyGuard(store, config, new ObjectMapper(), meterRegistry);
+    executions = new AtomicInteger();
+  }
+
+  @Test
+  void execute_ReplaysStoredResponse() {
+    ResponseEntity<List<String>> first = guard.execute("key", Map.of("name", "Ana"), BODY,
+      create("first"));
+    ResponseEntity<List<String>> second = guard.execute("key", Map.of("name", "Ana"), BODY,
+      create("second"));
+
+    assertEquals(1, executions.get());
+    assertEquals(HttpStatus.CREATED, second.getStatusCode());
+    assertEquals(first.getBody(), second.getBody());
+    assertNull(first.getHeaders().getFirst(ConstantsUtil.IDEMPOTENT_REPLAYED));
+    assertEquals("true", second.getHeaders().getFirst(ConstantsUtil.IDEMPOTENT_REPLAYED));
+    assertEquals(1.0, count("executed"));
+    assertEquals(1.0, count("replayed"));
+  }
+
+  @Test
+  void execute_KeyReusedWithAnotherBodyIsRejected() {
+    guard.execute("key", Map.of("name", "Ana"), BODY, create("first"));
+
+    assertThrows(IdempotencyKeyReusedException.class,
+      () -> guard.execute("key", Map.of("name", "Luis"), BODY, create("second")));
+    assertEquals(1, executions.get());
+    assertEquals(1.0, count("reused"));
+  }
+
+  @Test
+  void execute_FailureReleasesKey() {
+    assertThrows(IllegalStateException.class, () -> guard.execute("key", "body", BODY, () -> {
+      throw new IllegalStateException("database down");
+    }));
+
+    ResponseEntity<List<String>> retry = guard.execute("key", "body", BODY, create("retry"));
+    assertEquals(List.of("retry"), retry.getBody());
+    assertEquals(1, executions.get());
+  }
+
+  @Test
+  void executeAsync_ResolvesReplaysWithoutStartingTheAction() {
+    ResponseEntity<List<String>> first = guard.executeAsync("key", "body", BODY,
+      () -> CompletableFuture.supplyAsync(create("first"))).join();
+    CompletableFuture<ResponseEntity<List<String>>> second = guard.executeAsync("key", "body",
+      BODY, () -> {
+        throw new AssertionError("A replay must not start the action");
+      });
+
+    assertTrue(second.isDone());
+    assertEquals(first.getBody(), second.join().getBody());
+    assertEquals("true", second.join().getHeaders().getFirst(ConstantsUtil.IDEMPOTENT_REPLAYED));
+    assertEquals(1, executions.get());
+  }
+
+  @Test
+  void executeAsync_FailureReleasesKey() {
+    CompletableFuture<ResponseEntity<List<String>>> failed = guard.executeAsync("key", "body",
+      BODY, () -> CompletableFuture.failedFuture(new IllegalStateException("database down")));
+    assertThrows(CompletionException.class, failed::join);
+
+    assertEquals(List.of("retry"), guard.executeAsync("key", "body", BODY,
+      () -> CompletableFuture.completedFuture(create("retry").get())).join().getBody());
+  }
+
+  @Test
+  void execute_ConcurrentRequestsWaitForTheFirst() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    List<CompletableFuture<ResponseEntity<List<String>>>> results = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      String value = "call-" + i;
+      results.add(CompletableFuture.supplyAsync(() -> guard.execute("key", "body", BODY, () -> {
+        await(release);
+        return create(value).get();
+      }), executor));
+    }
+    TimeUnit.MILLISECONDS.sleep(200);
+    release.countDown();
+
+    List<String> expected = results.get(0).get(5, TimeUnit.SECONDS).getBody();
+    for (CompletableFuture<ResponseEntity<List<String>>> result : results) {
+      assertEquals(expected, result.get(5, TimeUnit.SECONDS).getBody());
+    }
+    executor.shutdown();
+    assertEquals(1, executions.get());
+    assertEquals(7.0, count("replayed"));
+  }
+
+  @Test
+  void execute_GivesUpAfterWaitTimeout() throws Exception {
+    config.setWaitTimeout(Duration.ofMillis(50));
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    CompletableFuture<ResponseEntity<List<String>>> first = CompletableFuture.supplyAsync(
+      () -> guard.execute("key", "body", BODY, () -> {
+        started.countDown();
+        await(release);
+        return create("first").get();
+      }));
+    started.await(5, TimeUnit.SECONDS);
+
+    assertThrows(IdempotencyRequestInProgressException.class,
+      () -> guard.execute("key", "body", BODY, create("second")));
+    assertEquals(1.0, count("timeout"));
+    release.countDown();
+    assertEquals(List.of("first"), first.get(5, TimeUnit.SECONDS).getBody());
+    assertEquals(1, executions.get());
+  }
+
+  @Test
+  void execute_WithoutKeyAlwaysRuns() {
+    guard.execute(null, "body", BODY, create("first"));
+    guard.execute(" ", "body", BODY, create("second"));
+
+    assertEquals(2, executions.get());
+    assertEquals(0, store.size());
+  }
+
+  @Test
+  void inMemoryStore_EvictsOldestAndExpiredKeys() {
+    guard.execute("a", "body", BODY, create("a"));
+    guard.execute("b", "body", BODY, create("b"));
+    guard.execute("c", "body", BODY, create("c"));
+    assertEquals(2, store.size());
+    assertTrue(store.claim("a", "other", "t1", Duration.ofMinutes(1)).isEmpty());
+
+    assertTrue(store.complete("a", "t1", 201, "[]", Duration.ZERO));
+    assertTrue(store.claim("a", "other", "t2", Duration.ofMinutes(1)).isEmpty());
+  }
+
+  @Test
+  void inMemoryStore_NeverEvictsClaimsInProgress() {
+    assertTrue(store.claim("a", "body", "ta", Duration.ofMinutes(1)).isEmpty());
+    assertTrue(store.claim("b", "body", "tb", Duration.ofMinutes(1)).isEmpty());
+
+    assertThrows(IdempotencyStoreFullException.class,
+      () -> store.claim("c", "body", "tc", Duration.ofMinutes(1)));
+    assertEquals(IdempotencyRecord.State.IN_PROGRESS,
+      store.claim("a", "body", "other", Duration.ofMinutes(1)).orElseThrow().getState());
+
+    store.complete("a", "ta", 201, "[]", Duration.ofMinutes(1));
+    assertTrue(store.claim("c", "body", "tc", Duration.ofMinutes(1)).isEmpty());
+    assertEquals(IdempotencyRecord.State.IN_PROGRESS,
+      store.claim("b", "body", "other", Duration.ofMinutes(1)).orElseThrow().getState());
+    assertEquals(2, store.size());
+  }
+
+  @Test
+  void inMemoryStore_OnlyTheCurrentClaimCompletesOrReleasesTheKey() {
+    assertTrue(store.claim("key", "body", "first", Duration.ZERO).isEmpty());
+    assertTrue(store.claim("key", "body", "second", Duration.ofMinutes(1)).isEmpty());
+
+    assertFalse(store.renew("key", "first", Duration.ofMinutes(1)));
+    assertFalse(store.complete("key", "first", 201, "[\"first\"]", Duration.ofMinutes(1)));
+    store.release("key", "first");
+    IdempotencyRecord current = store.claim("key", "body", "third", Duration.ofMinutes(1))
+      .orElseThrow();
+    assertTrue(current.isClaimedBy("second"));
+
+    assertTrue(store.complete("key", "second", 201, "[\"second\"]", Duration.ofMinutes(1)));
+    assertEquals("[\"second\"]", store.claim("key", "body", "third", Duration.ofMinutes(1))
+      .orElseThrow().getBody());
+  }
+
+  @Test
+  void execute_RenewsTheLeaseWhileTheRequestRuns() throws Exception {
+    config.setLease(Duration.ofMillis(40));
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    CompletableFuture<ResponseEntity<List<String>>> first = CompletableFuture.supplyAsync(
+      () -> guard.execute("key", "body", BODY, () -> {
+        started.countDown();
+        await(release);
+        return create("first").get();
+      }));
+    started.await(5, TimeUnit.SECONDS);
+    TimeUnit.MILLISECONDS.sleep(200);
+
+    assertEquals(IdempotencyRecord.State.IN_PROGRESS,
+      store.claim("key", "body", "retry", Duration.ofMinutes(1)).orElseThrow().getState());
+    release.countDown();
+    assertEquals(List.of("first"), first.get(5, TimeUnit.SECONDS).getBody());
+    assertEquals(List.of("first"), guard.execute("key", "body", BODY, create("retry"))
+      .getBody());
+    assertEquals(1, executions.get());
+  }
+
+  private Supplier<ResponseEntity<List<String>>> create(String value) {
+    return () -> {
+      executions.incrementAndGet();
+      return ResponseEntity.status(HttpStatus.CREATED).body(List.of(value));
+    };
+  }
+
+  private double count(String outcome) {
+    return meterRegistry.get("employee.idempotency.requests").tag("outcome", outcome)
+      .counter().count();
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
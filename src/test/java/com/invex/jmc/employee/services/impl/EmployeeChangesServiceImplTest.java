@@ -0,0 +1,105 @@
+package com.invex.jmc.employee.services.impl;
+
+import com.invex.jmc.employee.config.ConfigChanges;
+import com.invex.jmc.employee.exceptions.ChangeCursorExpiredException;
+import com.invex.jmc.employee.model.dto.response.EmployeeChange;
+import com.invex.jmc.employee.model.dto.response.EmployeeChanges;
+import com.invex.jmc.employee.model.entities.EmployeeEntity;
+import com.invex.jmc.employee.model.entities.EmployeeTombstoneEntity;
+import com.invex.jmc.employee.model.repositories.EmployeeRepository;
+import com.invex.jmc.employee.model.repositories.EmployeeTombstoneRepository;
+import com.invex.jmc.employee.services.changes.ChangeCursor;
+import com.invex.jmc.employee.util.MapperUtil;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.Pageable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EmployeeChangesServiceImplTest {
+
+  private final LocalDateTime base = LocalDateTime.now().minusHours(1)
+    .truncatedTo(ChronoUnit.SECONDS);
+  private EmployeeRepository employeeRepository;
+  private EmployeeTombstoneRepository tombstoneRepository;
+  private EmployeeChangesServiceImpl changesService;
+
+  @BeforeEach
+  void setUp() {
+    employeeRepository = mock(EmployeeRepository.class);
+    tombstoneRepository = mock(EmployeeTombstoneRepository.class);
+    changesService = new EmployeeChangesServiceImpl(employeeRepository, tombstoneRepository,
+      new MapperUtil(new ModelMapper()), new ConfigChanges());
+  }
+
+  @Test
+  void getChangesSince_MergesUpsertsAndTombstonesInOrder() {
+    when(employeeRepository.findChangedSince(any(), anyString(), any(), any(Pageable.class)))
+      .thenReturn(List.of(employee("a", 1), employee("c", 3)));
+    when(tombstoneRepository.findDeletedSince(any(), anyString(), any(), any(Pageable.class)))
+      .thenReturn(List.of(new EmployeeTombstoneEntity("b", base.plusSeconds(2))));
+
+    EmployeeChanges changes = changesService.getChangesSince(null, 2);
+
+    assertEquals(List.of("a", "b"), changes.getChanges().stream()
+      .map(EmployeeChange::getIdEmployee).collect(Collectors.toList()));
+    assertEquals(EmployeeChange.Type.DELETE, changes.getChanges().get(1).getType());
+    assertNull(changes.getChanges().get(1).getEmployee());
+    assertTrue(changes.isHasMore());
+    ChangeCursor next = ChangeCursor.decode(changes.getCursor());
+    assertEquals(base.plusSeconds(2), next.getTime());
+    assertEquals("b", next.getIdEmployee());
+  }
+
+  @Test
+  void getChangesSince_AdvancesCursorWhenCaughtUp() {
+    when(employeeRepository.findChangedSince(any(), anyString(), any(), any(Pageable.class)))
+      .thenReturn(List.of(employee("a", 1)));
+    when(tombstoneRepository.findDeletedSince(any(), anyString(), any(), any(Pageable.class)))
+      .thenReturn(List.of());
+    String since = new ChangeCursor(base, "").encode();
+
+    EmployeeChanges changes = changesService.getChangesSince(since, null);
+
+    assertEquals(1, changes.getChanges().size());
+    assertFalse(changes.isHasMore());
+    LocalDateTime next = ChangeCursor.decode(changes.getCursor()).getTime();
+    assertTrue(next.isAfter(base.plusSeconds(1)));
+    assertEquals(0, next.getNano());
+    assertTrue(next.isBefore(LocalDateTime.now().minus(new ConfigChanges().getSettleTime())
+      .plusSeconds(1)));
+  }
+
+  @Test
+  void getChangesSince_ExpiredCursor() {
+    String since = new ChangeCursor(LocalDateTime.now().minusDays(30), "a").encode();
+    assertThrows(ChangeCursorExpiredException.class,
+      () -> changesService.getChangesSince(since, null));
+  }
+
+  @Test
+  void getChangesSince_MalformedCursor() {
+    assertThrows(IllegalArgumentException.class,
+      () -> changesService.getChangesSince("not-a-cursor", null));
+  }
+
+  private EmployeeEntity employee(String id, long second) {
+    EmployeeEntity entity = new EmployeeEntity();
+    entity.setIdEmployee(id);
+    entity.setTs(base.plusSeconds(second));
+    return entity;
+  }
+}
@@ -33,9 +33,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -57,7 +55,6 @@ import static org.mockito.Mockito.when;
 @ActiveProfiles("test")
 class EmployeeServiceImplTest {
 
-  DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
   @Value("${idEmployee}")
   String idEmployee;
   @Value("${employees.list}")
@@ -217,7 +214,7 @@ class EmployeeServiceImplTest {
     employeeEntity.setFirstName(employeeRequest.getFirstName());
     employeeEntity.setMaternalSurname(employeeRequest.getMaternalSurname());
     employeeEntity.setPaternalSurname(employeeRequest.getPaternalSurname());
-    employeeEntity.setBirthDay(LocalDate.parse(employeeRequest.getBirthDay(), formatter));
+    employeeEntity.setBirthDay(employeeRequest.getBirthDay());
     employeeEntity.setStatus(1);
     employeeEntity.setTs(LocalDateTime.now());
     employeeEntity.setSex(sexEntity);
@@ -261,7 +258,7 @@ class EmployeeServiceImplTest {
     employeeEntity.setFirstName(employeeRequest.getFirstName());
     employeeEntity.setMaternalSurname(employeeRequest.getMaternalSurname());
     employeeEntity.setPaternalSurname(employeeRequest.getPaternalSurname());
-    employeeEntity.setBirthDay(LocalDate.parse(employeeRequest.getBirthDay(), formatter));
+    employeeEntity.setBirthDay(employeeRequest.getBirthDay());
     employeeEntity.setStatus(1);
     employeeEntity.setTs(LocalDateTime.now());
     employeeEntity.setSex(sexEntity);
@@ -314,7 +311,7 @@ class EmployeeServiceImplTest {
     employeeEntity.setFirstName(employeeRequest.getFirstName());
     employeeEntity.setMaternalSurname(employeeRequest.getMaternalSurname());
     employeeEntity.setPaternalSurname(employeeRequest.getPaternalSurname());
-    employeeEntity.setBirthDay(LocalDate.parse(employeeRequest.getBirthDay(), formatter));
+    employeeEntity.setBirthDay(employeeRequest.getBirthDay());
     employeeEntity.setStatus(1);
     employeeEntity.setTs(LocalDateTime.now());
     employeeEntity.setSex(sexEntity);
@@ -0,0 +1,95 @@
+package com.invex.jmc.employee.services.impl;
+
+import com.invex.jmc.employee.config.ConfigStats;
+import com.invex.jmc.employee.model.dto.response.EmployeeStats;
+import com.invex.jmc.employee.model.repositories.EmployeeRepository;
+import com.invex.jmc.employee.model.repositories.EmployeeStatsDimension;
+import com.invex.jmc.employee.services.stats.EmployeeHeadcountCounters;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EmployeeStatsServiceImplTest {
+
+  private EmployeeRepository employeeRepository;
+  private ConfigStats configStats;
+  private EmployeeHeadcountCounters headcountCounters;
+  private EmployeeStatsServiceImpl statsService;
+
+  @BeforeEach
+  void setUp() {
+    employeeRepository = mock(EmployeeRepository.class);
+    configStats = new ConfigStats();
+    configStats.setTtl(Duration.ofMinutes(1));
+    headcountCounters = new EmployeeHeadcountCounters(employeeRepository, configStats,
+        new SimpleMeterRegistry());
+    statsService = new EmployeeStatsServiceImpl(employeeRepository, configStats,
+        headcountCounters);
+  }
+
+  @Test
+  void getStats_BuildsBucketsAndTotal() {
+    List<EmployeeStatsDimension> dimensions =
+        List.of(EmployeeStatsDimension.JOB_POSITION, EmployeeStatsDimension.SEX);
+    when(employeeRepository.countGroupedBy(dimensions)).thenReturn(List.of(
+        new Object[] {"DEV", "M", 3L},
+        new Object[] {"DEV", "F", 2},
+        new Object[] {null, "F", 1L}));
+
+    EmployeeStats stats = statsService.getStats(List.of("jobPosition", "sex", "sex"));
+
+    assertEquals(List.of("jobPosition", "sex"), stats.getGroupBy());
+    assertEquals(6, stats.getTotal());
+    assertEquals(3, stats.getBuckets().size());
+    assertEquals("DEV", stats.getBuckets().get(0).getKeys().get("jobPosition"));
+    assertEquals(2, stats.getBuckets().get(1).getCount());
+  }
+
+  @Test
+  void getStats_ServedFromCacheWithinTtl() {
+    List<EmployeeStatsDimension> dimensions = List.of(EmployeeStatsDimension.STATUS);
+    when(employeeRepository.countGroupedBy(dimensions))
+        .thenReturn(List.<Object[]>of(new Object[] {1, 10L}));
+
+    EmployeeStats first = statsService.getStats(List.of("status"));
+    first.getBuckets().get(0).getKeys().put("status", "0");
+    EmployeeStats second = statsService.getStats(List.of("status"));
+
+    assertNotSame(first, second);
+    assertEquals("1", second.getBuckets().get(0).getKeys().get("status"));
+    assertEquals(10, second.getTotal());
+    verify(employeeRepository, times(1)).countGroupedBy(dimensions);
+  }
+
+  @Test
+  void getStats_SingleDimensionServedFromCounters() {
+    List<EmployeeStatsDimension> dimensions = List.of(EmployeeStatsDimension.SEX);
+    when(employeeRepository.countGroupedBy(anyList())).thenReturn(List.of());
+    when(employeeRepository.countGroupedBy(dimensions))
+        .thenReturn(List.of(new Object[] {"F", 4L}, new Object[] {"M", 5L}));
+    headcountCounters.initialize();
+
+    EmployeeStats stats = statsService.getStats(List.of("sex"));
+    statsService.getStats(List.of("sex"));
+
+    assertEquals(9, stats.getTotal());
+    verify(employeeRepository, times(1)).countGroupedBy(dimensions);
+  }
+
+  @Test
+  void getStats_UnknownDimension() {
+    List<String> groupBy = List.of("salary");
+    assertThrows(IllegalArgumentException.class, () -> statsService.getStats(groupBy));
+  }
+}
@@ -0,0 +1,119 @@
+package com.invex.jmc.employee.services.merkle;
+
+import com.invex.jmc.employee.config.ConfigMerkle;
+import com.invex.jmc.employee.model.repositories.EmployeeRepository;
+import com.invex.jmc.employee.services.events.EmployeeChangeEvent;
+import com.invex.jmc.employee.services.events.EmployeeSnapshot;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EmployeeMerkleTreeTest {
+
+  private static final LocalDateTime TS = LocalDateTime.of(2025, 11, 14, 9, 0, 19);
+  private static final String ID_A = "262815c2-7898-4c9d-abd9-ce394b7d6256";
+  private static final String ID_B = "f0a1c3d4-0000-4c9d-abd9-ce394b7d6256";
+
+  private EmployeeRepository employeeRepository;
+  private EmployeeMerkleTree merkleTree;
+
+  @BeforeEach
+  void setUp() {
+    employeeRepository = mock(EmployeeRepository.class);
+    when(employeeRepository.streamIdAndTs()).thenAnswer(invocation -> Stream.of(
+      new Object[] {ID_A, TS}, new Object[] {ID_B, TS}));
+    merkleTree = new EmployeeMerkleTree(employeeRepository, new ConfigMerkle(),
+      mock(PlatformTransactionManager.class));
+  }
+
+  @Test
+  void bucketOf_UsesFirstHexCharacters() {
+    assertEquals(0x262, EmployeeMerkleTree.bucketOf(ID_A));
+    assertEquals(0xf0a, EmployeeMerkleTree.bucketOf(ID_B));
+    assertEquals(0xabc, EmployeeMerkleTree.bucketOf("ABC"));
+  }
+
+  @Test
+  void rowHash_IgnoresSubSecondPrecision() {
+    assertEquals(EmployeeMerkleTree.rowHash(ID_A, TS),
+      EmployeeMerkleTree.rowHash(ID_A, TS.plusNanos(123_456_789)));
+    assertNotEquals(EmployeeMerkleTree.rowHash(ID_A, TS),
+      EmployeeMerkleTree.rowHash(ID_A, TS.plusSeconds(1)));
+  }
+
+  @Test
+  void rowHash_RoundsToTheSecondAsStored() {
+    assertEquals(EmployeeMerkleTree.rowHash(ID_A, TS.plusSeconds(1)),
+      EmployeeMerkleTree.rowHash(ID_A, TS.plusNanos(500_000_000)));
+    assertEquals(EmployeeMerkleTree.rowHash(ID_A, TS),
+      EmployeeMerkleTree.rowHash(ID_A, TS.plusNanos(499_999_999)));
+  }
+
+  @Test
+  void level_AggregatesLeavesPerDepth() {
+    assertFalse(merkleTree.isReady());
+    merkleTree.initialize();
+    assertTrue(merkleTree.isReady());
+
+    long[] root = merkleTree.level(0);
+    assertEquals(EmployeeMerkleTree.rowHash(ID_A, TS) ^ EmployeeMerkleTree.rowHash(ID_B, TS),
+      root[0]);
+    assertEquals(2, root[1]);
+
+    long[] depth1 = merkleTree.level(1);
+    assertEquals(32, depth1.length);
+    assertEquals(EmployeeMerkleTree.rowHash(ID_A, TS), depth1[0x2]);
+    assertEquals(1, depth1[16 + 0xf]);
+  }
+
+  @Test
+  void onEmployeeChange_UpdatesOnlyTheChangedBucket() {
+    merkleTree.initialize();
+    long[] before = merkleTree.level(EmployeeMerkleTree.LEAF_DEPTH);
+    EmployeeSnapshot original = new EmployeeSnapshot(ID_A, 1, "CTO", "M", TS);
+    EmployeeSnapshot updated = new EmployeeSnapshot(ID_A, 1, "CTO", "M", TS.plusMinutes(5));
+
+    merkleTree.onEmployeeChange(EmployeeChangeEvent.updated(original, updated));
+    long[] after = merkleTree.level(EmployeeMerkleTree.LEAF_DEPTH);
+
+    assertNotEquals(before[0x262], after[0x262]);
+    assertEquals(before[0xf0a], after[0xf0a]);
+    assertEquals(before[EmployeeMerkleTree.LEAVES + 0x262],
+      after[EmployeeMerkleTree.LEAVES + 0x262]);
+
+    merkleTree.onEmployeeChange(EmployeeChangeEvent.updated(updated, original));
+    assertArrayEquals(before, merkleTree.level(EmployeeMerkleTree.LEAF_DEPTH));
+  }
+
+  @Test
+  void reconcile_DiscardsRebuildThatRacedWithAChange() {
+    merkleTree.initialize();
+    EmployeeSnapshot original = new EmployeeSnapshot(ID_A, 1, "CTO", "M", TS);
+    EmployeeSnapshot updated = new EmployeeSnapshot(ID_A, 1, "CTO", "M", TS.plusMinutes(5));
+    AtomicInteger streams = new AtomicInteger();
+    when(employeeRepository.streamIdAndTs()).thenAnswer(invocation -> {
+      if (streams.incrementAndGet() == 1) {
+        merkleTree.onEmployeeChange(EmployeeChangeEvent.updated(original, updated));
+        return Stream.of(new Object[] {ID_A, TS}, new Object[] {ID_B, TS});
+      }
+      return Stream.of(new Object[] {ID_A, TS.plusMinutes(5)}, new Object[] {ID_B, TS});
+    });
+
+    merkleTree.reconcile();
+
+    assertEquals(2, streams.get());
+    assertEquals(EmployeeMerkleTree.rowHash(ID_A, TS.plusMinutes(5))
+      ^ EmployeeMerkleTree.rowHash(ID_B, TS), merkleTree.level(0)[0]);
+  }
+}
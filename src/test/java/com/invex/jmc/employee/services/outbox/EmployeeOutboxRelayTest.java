@@ -0,0 +1,83 @@
+package com.invex.jmc.employee.services.outbox;
+
+import com.invex.jmc.employee.config.ConfigOutbox;
+import com.invex.jmc.employee.model.entities.EmployeeOutboxEntity;
+import com.invex.jmc.employee.model.repositories.EmployeeOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EmployeeOutboxRelayTest {
+
+  private EmployeeOutboxRepository outboxRepository;
+  private EmployeeChangePublisher publisher;
+  private SimpleMeterRegistry meterRegistry;
+  private EmployeeOutboxRelay relay;
+
+  @BeforeEach
+  void setUp() {
+    outboxRepository = mock(EmployeeOutboxRepository.class);
+    publisher = mock(EmployeeChangePublisher.class);
+    meterRegistry = new SimpleMeterRegistry();
+    ConfigOutbox configOutbox = new ConfigOutbox();
+    configOutbox.setBatchSize(2);
+    relay = new EmployeeOutboxRelay(outboxRepository, publisher, configOutbox,
+      mock(PlatformTransactionManager.class), meterRegistry);
+  }
+
+  @Test
+  void relay_PublishesAndDeletesBatchesUntilOutboxIsDrained() {
+    List<EmployeeOutboxEntity> full = List.of(record(1), record(2));
+    List<EmployeeOutboxEntity> partial = List.of(record(3));
+    when(outboxRepository.findByOrderByIdOutboxAsc(any(Pageable.class)))
+      .thenReturn(full, partial);
+    when(outboxRepository.findFirstByOrderByIdOutboxAsc()).thenReturn(Optional.empty());
+
+    relay.relay();
+
+    verify(publisher).publish(full);
+    verify(publisher).publish(partial);
+    verify(outboxRepository).deleteAllInBatch(full);
+    verify(outboxRepository).deleteAllInBatch(partial);
+    assertEquals(3.0, meterRegistry.get("employee.outbox.published").counter().count());
+  }
+
+  @Test
+  void relay_KeepsBatchWhenPublisherFails() {
+    List<EmployeeOutboxEntity> batch = List.of(record(1));
+    when(outboxRepository.findByOrderByIdOutboxAsc(any(Pageable.class))).thenReturn(batch);
+    when(outboxRepository.count()).thenReturn(1L);
+    when(outboxRepository.findFirstByOrderByIdOutboxAsc())
+      .thenReturn(Optional.of(batch.get(0)));
+    doThrow(new IllegalStateException("sink down")).when(publisher).publish(anyList());
+
+    relay.relay();
+
+    verify(outboxRepository, never()).deleteAllInBatch(anyList());
+    verify(publisher, times(1)).publish(batch);
+    assertEquals(1.0, meterRegistry.get("employee.outbox.failures").counter().count());
+    assertEquals(1.0, meterRegistry.get("employee.outbox.pending").gauge().value());
+    assertTrue(meterRegistry.get("employee.outbox.lag").gauge().value() >= 60);
+  }
+
+  private static EmployeeOutboxEntity record(long id) {
+    return new EmployeeOutboxEntity(id, "employee-" + id, "CREATED", "{}",
+      LocalDateTime.now().minusMinutes(1));
+  }
+}
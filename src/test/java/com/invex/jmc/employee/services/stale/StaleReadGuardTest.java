@@ -0,0 +1,206 @@
+package com.invex.jmc.employee.services.stale;
+
+import com.invex.jmc.employee.config.ConfigStale;
+import com.invex.jmc.employee.constants.ConstantsUtil;
+import com.invex.jmc.employee.exceptions.DatabaseUnavailableException;
+import com.invex.jmc.employee.exceptions.EmployeeNotFoundException;
+import com.invex.jmc.employee.util.RequestDeadline;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StaleReadGuardTest {
+
+  private ConfigStale config;
+  private SimpleMeterRegistry meterRegistry;
+  private StaleReadGuard guard;
+  private final AtomicInteger calls = new AtomicInteger();
+
+  @BeforeEach
+  void setUp() {
+    config = new ConfigStale();
+    config.setFailureThreshold(2);
+    config.setOpenDuration(Duration.ofMinutes(1));
+    config.setRefreshInterval(Duration.ofHours(1));
+    meterRegistry = new SimpleMeterRegistry();
+    guard = new StaleReadGuard(config, meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    guard.shutdown();
+  }
+
+  @Test
+  void read_ServesLastGoodResultWhenDatabaseTimesOut() {
+    assertFalse(guard.read(StaleReadGuard.BY_ID, "E1", () -> "Ana").isStale());
+
+    StaleResult<String> result = guard.read(StaleReadGuard.BY_ID, "E1", timeout());
+
+    assertTrue(result.isStale());
+    assertEquals("Ana", result.getValue());
+    ResponseEntity<String> response = result.headers(ResponseEntity.ok()).body(result.getValue());
+    assertEquals("true", response.getHeaders().getFirst(ConstantsUtil.STALE));
+    assertEquals("0", response.getHeaders().getFirst(HttpHeaders.AGE));
+    assertEquals(1.0, meterRegistry.get("employee.stale.served")
+      .tag("endpoint", StaleReadGuard.BY_ID).counter().count());
+  }
+
+  @Test
+  void read_FailsWithoutResultToServe() {
+    assertThrows(QueryTimeoutException.class,
+      () -> guard.read(StaleReadGuard.SEARCH, "Ana", timeout()));
+
+    assertEquals(1.0, meterRegistry.get("employee.stale.unavailable")
+      .tag("endpoint", StaleReadGuard.SEARCH).counter().count());
+  }
+
+  @Test
+  void read_DoesNotMaskRequestErrors() {
+    guard.read(StaleReadGuard.BY_ID, "E1", () -> "Ana");
+
+    assertThrows(EmployeeNotFoundException.class, () -> guard.read(StaleReadGuard.BY_ID, "E1",
+      () -> {
+        throw new EmployeeNotFoundException("E1");
+      }));
+    assertEquals(DatabaseCircuitBreaker.State.CLOSED, guard.getCircuitBreaker().getState());
+  }
+
+  @Test
+  void read_SkipsDatabaseWhileCircuitIsOpen() {
+    guard.read(StaleReadGuard.LIST, "all", () -> "page");
+    guard.read(StaleReadGuard.LIST, "all", timeout());
+    guard.read(StaleReadGuard.LIST, "all", timeout());
+    assertEquals(DatabaseCircuitBreaker.State.OPEN, guard.getCircuitBreaker().getState());
+
+    StaleResult<String> result = guard.read(StaleReadGuard.LIST, "all", counting("new"));
+
+    assertTrue(result.isStale());
+    assertEquals(0, calls.get());
+    DatabaseUnavailableException ex = assertThrows(DatabaseUnavailableException.class,
+      () -> guard.read(StaleReadGuard.LIST, "other", counting("new")));
+    assertTrue(ex.getRetryAfter().compareTo(Duration.ZERO) > 0);
+    assertEquals(1.0, meterRegistry.get("employee.stale.circuit.open").gauge().value());
+  }
+
+  @Test
+  void read_ClientDeadlineDoesNotOpenCircuit() throws Exception {
+    guard.read(StaleReadGuard.BY_ID, "E1", () -> "Ana");
+    RequestDeadline.start(Duration.ofMillis(1));
+    try {
+      TimeUnit.MILLISECONDS.sleep(5);
+      for (int i = 0; i < 5; i++) {
+        assertTrue(guard.read(StaleReadGuard.BY_ID, "E1", timeout()).isStale());
+      }
+    } finally {
+      RequestDeadline.clear();
+    }
+
+    assertEquals(DatabaseCircuitBreaker.State.CLOSED, guard.getCircuitBreaker().getState());
+    guard.read(StaleReadGuard.BY_ID, "E1", timeout());
+    guard.read(StaleReadGuard.BY_ID, "E1", timeout());
+    assertEquals(DatabaseCircuitBreaker.State.OPEN, guard.getCircuitBreaker().getState());
+  }
+
+  @Test
+  void circuitBreaker_AbandonedProbeLetsTheNextReadProbe() {
+    DatabaseCircuitBreaker breaker = new DatabaseCircuitBreaker(1, Duration.ZERO);
+    breaker.onFailure();
+    assertTrue(breaker.tryAcquire());
+    assertEquals(DatabaseCircuitBreaker.State.HALF_OPEN, breaker.getState());
+
+    breaker.onAbandoned();
+
+    assertEquals(DatabaseCircuitBreaker.State.OPEN, breaker.getState());
+    assertTrue(breaker.tryAcquire());
+  }
+
+  @Test
+  void read_KeepsAtMostMaxEntries() {
+    config.setMaxEntries(10);
+    StaleReadGuard bounded = new StaleReadGuard(config, new SimpleMeterRegistry());
+    try {
+      for (int i = 0; i < 100; i++) {
+        bounded.read(StaleReadGuard.BY_ID, "E" + i, () -> "Ana");
+      }
+
+      assertTrue(bounded.size() <= 10);
+      assertEquals("Ana", bounded.read(StaleReadGuard.BY_ID, "E99", timeout()).getValue());
+    } finally {
+      bounded.shutdown();
+    }
+  }
+
+  @Test
+  void read_RespectsMaxStaleness() throws Exception {
+    config.setMaxStaleness(Duration.ofMillis(10));
+    guard.read(StaleReadGuard.BY_ID, "E1", () -> "Ana");
+    TimeUnit.MILLISECONDS.sleep(20);
+
+    assertThrows(QueryTimeoutException.class,
+      () -> guard.read(StaleReadGuard.BY_ID, "E1", timeout()));
+    assertEquals(0, guard.size());
+  }
+
+  @Test
+  void refresh_UpdatesStaleResultsOnceDatabaseRecovers() {
+    guard.read(StaleReadGuard.BY_ID, "E1", () -> "Ana");
+    StaleResult<String> stale = guard.read(StaleReadGuard.BY_ID, "E1", new Supplier<>() {
+      private boolean recovered;
+
+      @Override
+      public String get() {
+        if (!recovered) {
+          recovered = true;
+          throw new QueryTimeoutException("slow");
+        }
+        return "Ana Maria";
+      }
+    });
+    assertTrue(stale.isStale());
+
+    guard.refresh();
+
+    assertEquals(DatabaseCircuitBreaker.State.CLOSED, guard.getCircuitBreaker().getState());
+    StaleResult<String> refreshed = guard.read(StaleReadGuard.BY_ID, "E1", timeout());
+    assertEquals("Ana Maria", refreshed.getValue());
+  }
+
+  @Test
+  void read_CallsDatabaseDirectlyWhenDisabled() {
+    config.setEnabled(false);
+
+    assertThrows(QueryTimeoutException.class,
+      () -> guard.read(StaleReadGuard.BY_ID, "E1", timeout()));
+    assertNull(guard.read(StaleReadGuard.BY_ID, "E1", () -> null).getValue());
+    assertEquals(0, guard.size());
+  }
+
+  private Supplier<String> timeout() {
+    return () -> {
+      throw new QueryTimeoutException("Query timed out");
+    };
+  }
+
+  private Supplier<String> counting(String value) {
+    return () -> {
+      calls.incrementAndGet();
+      return value;
+    };
+  }
+}
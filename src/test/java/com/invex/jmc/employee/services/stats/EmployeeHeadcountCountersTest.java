@@ -0,0 +1,112 @@
+package com.invex.jmc.employee.services.stats;
+
+import com.invex.jmc.employee.config.ConfigStats;
+import com.invex.jmc.employee.model.dto.response.EmployeeStatsBucket;
+import com.invex.jmc.employee.model.repositories.EmployeeRepository;
+import com.invex.jmc.employee.model.repositories.EmployeeStatsDimension;
+import com.invex.jmc.employee.services.events.EmployeeChangeEvent;
+import com.invex.jmc.employee.services.events.EmployeeSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EmployeeHeadcountCountersTest {
+
+  private EmployeeRepository employeeRepository;
+  private SimpleMeterRegistry meterRegistry;
+  private EmployeeHeadcountCounters counters;
+
+  @BeforeEach
+  void setUp() {
+    employeeRepository = mock(EmployeeRepository.class);
+    meterRegistry = new SimpleMeterRegistry();
+    counters = new EmployeeHeadcountCounters(employeeRepository, new ConfigStats(), meterRegistry);
+    when(employeeRepository.countGroupedBy(List.of(EmployeeStatsDimension.STATUS)))
+        .thenReturn(List.of(new Object[] {1, 2L}));
+    when(employeeRepository.countGroupedBy(List.of(EmployeeStatsDimension.JOB_POSITION)))
+        .thenReturn(List.of(new Object[] {"DEV", 2L}));
+    when(employeeRepository.countGroupedBy(List.of(EmployeeStatsDimension.SEX)))
+        .thenReturn(List.of(new Object[] {"M", 1L}, new Object[] {"F", 1L}));
+  }
+
+  @Test
+  void supports_OnlyOnceLoaded() {
+    assertFalse(counters.supports(EmployeeStatsDimension.STATUS));
+    counters.initialize();
+    assertTrue(counters.supports(EmployeeStatsDimension.STATUS));
+    assertFalse(counters.supports(EmployeeStatsDimension.AGE_BAND));
+  }
+
+  @Test
+  void onEmployeeChange_AppliesCreateUpdateAndDelete() {
+    counters.initialize();
+    EmployeeSnapshot created = snapshot("3", 1, "DEV", "F");
+    EmployeeSnapshot promoted = snapshot("3", 1, "CTO", "F");
+
+    counters.onEmployeeChange(EmployeeChangeEvent.created(created));
+    counters.onEmployeeChange(EmployeeChangeEvent.updated(created, promoted));
+
+    assertEquals(Map.of("DEV", 2L, "CTO", 1L), counts(EmployeeStatsDimension.JOB_POSITION));
+    assertEquals(Map.of("1", 3L), counts(EmployeeStatsDimension.STATUS));
+
+    counters.onEmployeeChange(EmployeeChangeEvent.deleted(promoted));
+
+    assertEquals(Map.of("DEV", 2L), counts(EmployeeStatsDimension.JOB_POSITION));
+    assertEquals(Map.of("M", 1L, "F", 1L), counts(EmployeeStatsDimension.SEX));
+  }
+
+  @Test
+  void reconcile_FixesDrift() {
+    counters.initialize();
+    counters.onEmployeeChange(EmployeeChangeEvent.created(snapshot("3", 0, "DEV", "M")));
+
+    counters.reconcile();
+
+    assertEquals(Map.of("1", 2L), counts(EmployeeStatsDimension.STATUS));
+    assertEquals(3.0, meterRegistry.get("employee.stats.drift").counter().count());
+  }
+
+  @Test
+  void reconcile_DiscardsReloadThatRacedWithAChange() {
+    counters.initialize();
+    AtomicInteger loads = new AtomicInteger();
+    when(employeeRepository.countGroupedBy(List.of(EmployeeStatsDimension.STATUS)))
+        .thenAnswer(invocation -> {
+          if (loads.incrementAndGet() == 1) {
+            counters.onEmployeeChange(EmployeeChangeEvent.created(snapshot("3", 1, "DEV", "M")));
+            return List.<Object[]>of(new Object[] {1, 2L});
+          }
+          return List.<Object[]>of(new Object[] {1, 3L});
+        });
+    when(employeeRepository.countGroupedBy(List.of(EmployeeStatsDimension.JOB_POSITION)))
+        .thenReturn(List.of(new Object[] {"DEV", 3L}));
+    when(employeeRepository.countGroupedBy(List.of(EmployeeStatsDimension.SEX)))
+        .thenReturn(List.of(new Object[] {"M", 2L}, new Object[] {"F", 1L}));
+
+    counters.reconcile();
+
+    assertEquals(2, loads.get());
+    assertEquals(Map.of("1", 3L), counts(EmployeeStatsDimension.STATUS));
+    assertEquals(0.0, meterRegistry.get("employee.stats.drift").counter().count());
+  }
+
+  private Map<String, Long> counts(EmployeeStatsDimension dimension) {
+    return counters.buckets(dimension).stream().collect(Collectors.toMap(
+        bucket -> bucket.getKeys().get(dimension.getApiName()), EmployeeStatsBucket::getCount));
+  }
+
+  private static EmployeeSnapshot snapshot(String id, int status, String job, String sex) {
+    return new EmployeeSnapshot(id, status, job, sex, LocalDateTime.now());
+  }
+}
@@ -0,0 +1,151 @@
+package com.invex.jmc.employee.services.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.invex.jmc.employee.config.ConfigStream;
+import com.invex.jmc.employee.exceptions.StreamCapacityExceededException;
+import com.invex.jmc.employee.services.events.EmployeeChangeEvent;
+import com.invex.jmc.employee.services.events.EmployeeSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EmployeeChangeStreamTest {
+
+  private final CountDownLatch release = new CountDownLatch(1);
+  private final CountDownLatch firstSend = new CountDownLatch(1);
+  private final List<String> sent = new CopyOnWriteArrayList<>();
+  private SimpleMeterRegistry meterRegistry;
+  private EmployeeChangeStream stream;
+
+  @BeforeEach
+  void setUp() {
+    ConfigStream config = new ConfigStream();
+    config.setMaxConnections(1);
+    config.setBufferSize(2);
+    config.setThreads(1);
+    config.setHeartbeat(Duration.ofMinutes(1));
+    meterRegistry = new SimpleMeterRegistry();
+    ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    stream = new EmployeeChangeStream(config, objectMapper, meterRegistry) {
+      @Override
+      SseEmitter createEmitter(long timeout) {
+        return new SlowEmitter();
+      }
+    };
+  }
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    stream.shutdown();
+  }
+
+  @Test
+  void subscribe_RejectsConnectionsOverTheCap() {
+    stream.subscribe();
+    assertThrows(StreamCapacityExceededException.class, () -> stream.subscribe());
+  }
+
+  @Test
+  void onEmployeeChange_DropsOldestAndSignalsResync() throws InterruptedException {
+    stream.subscribe();
+    assertTrue(firstSend.await(5, TimeUnit.SECONDS));
+
+    for (int i = 1; i <= 5; i++) {
+      stream.onEmployeeChange(EmployeeChangeEvent.created(
+        new EmployeeSnapshot("id-" + i, 1, "CTO", "M", LocalDateTime.now())));
+    }
+    assertEquals(3.0, meterRegistry.get("employee.stream.dropped").counter().count());
+
+    release.countDown();
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (sent.size() < 4 && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertEquals(List.of("heartbeat", "resync", "employee:4", "employee:5"), sent);
+  }
+
+  @Test
+  void onEmployeeChange_SlowSubscriberDoesNotHoldUpTheOthers() throws InterruptedException {
+    ConfigStream config = new ConfigStream();
+    config.setMaxConnections(2);
+    config.setThreads(1);
+    config.setHeartbeat(Duration.ofMinutes(1));
+    List<String> fast = new CopyOnWriteArrayList<>();
+    EmployeeChangeStream shared = new EmployeeChangeStream(config,
+      new ObjectMapper().registerModule(new JavaTimeModule()), new SimpleMeterRegistry()) {
+      private boolean first = true;
+
+      @Override
+      SseEmitter createEmitter(long timeout) {
+        if (first) {
+          first = false;
+          return new SlowEmitter();
+        }
+        return new SseEmitter() {
+          @Override
+          public void send(SseEventBuilder builder) {
+            fast.add(String.valueOf(builder.build().iterator().next().getData()));
+          }
+        };
+      }
+    };
+    try {
+      shared.subscribe();
+      assertTrue(firstSend.await(5, TimeUnit.SECONDS));
+      shared.subscribe();
+
+      shared.onEmployeeChange(EmployeeChangeEvent.created(
+        new EmployeeSnapshot("id-1", 1, "CTO", "M", LocalDateTime.now())));
+
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+      while (fast.size() < 2 && System.nanoTime() < deadline) {
+        Thread.sleep(10);
+      }
+      assertEquals(2, fast.size());
+      assertEquals(List.of("heartbeat"), sent);
+    } finally {
+      release.countDown();
+      shared.shutdown();
+    }
+  }
+
+  /**
+   * Emitter that records the frames and blocks on the first one, like a slow client.
+   */
+  private class SlowEmitter extends SseEmitter {
+    @Override
+    public void send(SseEventBuilder builder) throws IOException {
+      String frame = builder.build().stream()
+        .map(part -> String.valueOf(part.getData()))
+        .reduce("", String::concat);
+      if (frame.startsWith(":heartbeat")) {
+        sent.add("heartbeat");
+      } else if (frame.contains("event:resync")) {
+        sent.add("resync");
+      } else {
+        sent.add("employee:" + frame.substring(3, frame.indexOf('\n')));
+      }
+      firstSend.countDown();
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+}
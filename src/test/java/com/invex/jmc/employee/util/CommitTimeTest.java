@@ -0,0 +1,67 @@
+package com.invex.jmc.employee.util;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CommitTimeTest {
+
+  private final TransactionTemplate transaction = new TransactionTemplate(
+    new DataSourceTransactionManager(
+      new DriverManagerDataSource("jdbc:h2:mem:commit-time;DB_CLOSE_DELAY=-1")));
+
+  @Test
+  void stamp_RunsBeforeTheOtherSynchronizationsOfTheCommit() {
+    List<String> calls = new ArrayList<>();
+    List<LocalDateTime> stamps = new ArrayList<>();
+
+    transaction.executeWithoutResult(status -> {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void beforeCommit(boolean readOnly) {
+          calls.add("joined shard");
+        }
+      });
+      CommitTime.stamp(ts -> {
+        calls.add("stamp");
+        stamps.add(ts);
+      });
+      assertTrue(calls.isEmpty());
+    });
+
+    assertEquals(List.of("stamp", "joined shard"), calls);
+    assertEquals(0, stamps.get(0).getNano());
+  }
+
+  @Test
+  void stamp_SkippedOnRollback() {
+    List<LocalDateTime> stamps = new ArrayList<>();
+
+    assertThrows(IllegalStateException.class, () -> transaction.executeWithoutResult(status -> {
+      CommitTime.stamp(stamps::add);
+      throw new IllegalStateException("rolled back");
+    }));
+
+    assertTrue(stamps.isEmpty());
+  }
+
+  @Test
+  void stamp_RunsAtOnceOutsideATransaction() {
+    List<LocalDateTime> stamps = new ArrayList<>();
+
+    CommitTime.stamp(stamps::add);
+
+    assertEquals(1, stamps.size());
+  }
+}
@@ -0,0 +1,200 @@
+package com.invex.jmc.employee.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SingleFlightTest {
+
+  @Test
+  void execute_ConcurrentCallsShareOneExecution() throws Exception {
+    AtomicInteger executions = new AtomicInteger();
+    AtomicInteger coalesced = new AtomicInteger();
+    CountDownLatch release = new CountDownLatch(1);
+    SingleFlight<String, String> singleFlight = new SingleFlight<>(Duration.ofSeconds(5),
+      outcome -> {
+        if (outcome == SingleFlight.Outcome.COALESCED) {
+          coalesced.incrementAndGet();
+        }
+      }, UnaryOperator.identity());
+
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    List<CompletableFuture<String>> results = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      results.add(CompletableFuture.supplyAsync(() -> singleFlight.execute("key", () -> {
+        executions.incrementAndGet();
+        await(release);
+        return "value";
+      }), executor));
+    }
+    while (singleFlight.inFlightCount() == 0) {
+      Thread.onSpinWait();
+    }
+    TimeUnit.MILLISECONDS.sleep(100);
+    release.countDown();
+
+    for (CompletableFuture<String> result : results) {
+      assertEquals("value", result.get(5, TimeUnit.SECONDS));
+    }
+    executor.shutdown();
+    assertEquals(1, executions.get());
+    assertEquals(7, coalesced.get());
+    assertEquals(0, singleFlight.inFlightCount());
+  }
+
+  @Test
+  void execute_LeaderExceptionIsPropagated() {
+    SingleFlight<String, String> singleFlight = new SingleFlight<>(Duration.ofSeconds(1),
+      outcome -> { }, UnaryOperator.identity());
+    assertThrows(IllegalArgumentException.class, () -> singleFlight.execute("key", () -> {
+      throw new IllegalArgumentException("boom");
+    }));
+    assertEquals("again", singleFlight.execute("key", () -> "again"));
+  }
+
+  @Test
+  void execute_LeaderErrorReachesFollowers() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    SingleFlight<String, String> singleFlight = new SingleFlight<>(Duration.ofSeconds(5),
+      outcome -> { }, UnaryOperator.identity());
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    List<Future<?>> results = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      results.add(executor.submit(() -> singleFlight.execute("key", () -> {
+        await(release);
+        throw new AssertionError("boom");
+      })));
+    }
+    while (singleFlight.inFlightCount() == 0) {
+      Thread.onSpinWait();
+    }
+    TimeUnit.MILLISECONDS.sleep(100);
+    release.countDown();
+
+    for (Future<?> result : results) {
+      ExecutionException failure = assertThrows(ExecutionException.class,
+        () -> result.get(5, TimeUnit.SECONDS));
+      assertInstanceOf(AssertionError.class, failure.getCause());
+    }
+    executor.shutdown();
+    assertEquals(0, singleFlight.inFlightCount());
+  }
+
+  @Test
+  void execute_EveryCallerReceivesItsOwnCopy() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    SingleFlight<String, List<String>> singleFlight = new SingleFlight<>(Duration.ofSeconds(5),
+      outcome -> { }, ArrayList::new);
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    List<CompletableFuture<List<String>>> results = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      results.add(CompletableFuture.supplyAsync(() -> singleFlight.execute("key", () -> {
+        await(release);
+        return new ArrayList<>(List.of("value"));
+      }), executor));
+    }
+    while (singleFlight.inFlightCount() == 0) {
+      Thread.onSpinWait();
+    }
+    TimeUnit.MILLISECONDS.sleep(100);
+    release.countDown();
+
+    List<List<String>> values = new ArrayList<>();
+    for (CompletableFuture<List<String>> result : results) {
+      values.add(result.get(5, TimeUnit.SECONDS));
+    }
+    executor.shutdown();
+    values.get(0).add("modified");
+    for (List<String> value : values.subList(1, values.size())) {
+      assertNotSame(values.get(0), value);
+      assertEquals(List.of("value"), value);
+    }
+  }
+
+  @Test
+  void execute_FollowerRunsItselfWhenLeaderDeadlinePassed() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    SingleFlight<String, String> singleFlight = new SingleFlight<>(Duration.ofSeconds(5),
+      outcome -> { }, UnaryOperator.identity());
+
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    Future<String> leader = executor.submit(() -> {
+      RequestDeadline.start(Duration.ofMillis(1));
+      try {
+        return singleFlight.execute("key", () -> {
+          await(release);
+          throw new IllegalStateException("leader deadline");
+        });
+      } finally {
+        RequestDeadline.clear();
+      }
+    });
+    while (singleFlight.inFlightCount() == 0) {
+      Thread.onSpinWait();
+    }
+    Future<String> follower = executor.submit(() -> singleFlight.execute("key", () -> "own"));
+    TimeUnit.MILLISECONDS.sleep(100);
+    release.countDown();
+
+    ExecutionException failure = assertThrows(ExecutionException.class,
+      () -> leader.get(5, TimeUnit.SECONDS));
+    assertInstanceOf(IllegalStateException.class, failure.getCause());
+    assertEquals("own", follower.get(5, TimeUnit.SECONDS));
+    executor.shutdown();
+  }
+
+  @Test
+  void execute_FollowerWaitsNoLongerThanItsDeadline() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    List<SingleFlight.Outcome> outcomes = new CopyOnWriteArrayList<>();
+    SingleFlight<String, String> singleFlight = new SingleFlight<>(Duration.ofSeconds(30),
+      outcomes::add, UnaryOperator.identity());
+
+    ExecutorService executor = Executors.newFixedThreadPool(1);
+    Future<String> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+      await(release);
+      return "leader";
+    }));
+    while (singleFlight.inFlightCount() == 0) {
+      Thread.onSpinWait();
+    }
+    RequestDeadline.start(Duration.ofMillis(50));
+    try {
+      assertEquals("own", singleFlight.execute("key", () -> "own"));
+    } finally {
+      RequestDeadline.clear();
+      release.countDown();
+    }
+
+    assertEquals("leader", leader.get(5, TimeUnit.SECONDS));
+    executor.shutdown();
+    assertEquals(List.of(SingleFlight.Outcome.LEADER, SingleFlight.Outcome.TIMEOUT), outcomes);
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}